@@ -419,51 +419,6 @@ public final class ArrayMinMaxFinder {
         result.setExactAll(indexOfMin, min, indexOfMax, max);
     }
 
-    private void charRangeMin(char[] data, ExtendedMinMaxInfo result, int p, int length) {
-        int min = Integer.MAX_VALUE;
-        long indexOfMin = -1;
-        for (int i = p, to = p + length; i < to; i++) {
-            final int v = data[i];
-            if (v < min) {
-                min = v;
-                indexOfMin = i;
-            }
-        }
-        result.setExactMin(indexOfMin, min);
-    }
-
-    private void charRangeMax(char[] data, ExtendedMinMaxInfo result, int p, int length) {
-        int max = Integer.MIN_VALUE;
-        long indexOfMax = -1;
-        for (int i = p, to = p + length; i < to; i++) {
-            final int v = data[i];
-            if (v > max) {
-                max = v;
-                indexOfMax = i;
-            }
-        }
-        result.setExactMax(indexOfMax, max);
-    }
-
-    private void charRangeMinMax(char[] data, ExtendedMinMaxInfo result, int p, int length) {
-        int min = Integer.MAX_VALUE;
-        int max = Integer.MIN_VALUE;
-        long indexOfMin = -1;
-        long indexOfMax = -1;
-        for (int i = p, to = p + length; i < to; i++) {
-            final int v = data[i];
-            if (v < min) {
-                min = v;
-                indexOfMin = i;
-            }
-            if (v > max) {
-                max = v;
-                indexOfMax = i;
-            }
-        }
-        result.setExactAll(indexOfMin, min, indexOfMax, max);
-    }
-
     /*Repeat.AutoGeneratedStart !! Auto-generated: NOT EDIT !! */
 
     private void minMaxForBytes(ByteArray data, int rangeIndex, boolean needMin, boolean needMax) {
@@ -547,51 +502,6 @@ public final class ArrayMinMaxFinder {
         result.setExactAll(indexOfMin, min, indexOfMax, max);
     }
 
-    private void byteRangeMin(byte[] data, ExtendedMinMaxInfo result, int p, int length) {
-        int min = Integer.MAX_VALUE;
-        long indexOfMin = -1;
-        for (int i = p, to = p + length; i < to; i++) {
-            final int v = (data[i]) & 0xFF;
-            if (v < min) {
-                min = v;
-                indexOfMin = i;
-            }
-        }
-        result.setExactMin(indexOfMin, min);
-    }
-
-    private void byteRangeMax(byte[] data, ExtendedMinMaxInfo result, int p, int length) {
-        int max = Integer.MIN_VALUE;
-        long indexOfMax = -1;
-        for (int i = p, to = p + length; i < to; i++) {
-            final int v = (data[i]) & 0xFF;
-            if (v > max) {
-                max = v;
-                indexOfMax = i;
-            }
-        }
-        result.setExactMax(indexOfMax, max);
-    }
-
-    private void byteRangeMinMax(byte[] data, ExtendedMinMaxInfo result, int p, int length) {
-        int min = Integer.MAX_VALUE;
-        int max = Integer.MIN_VALUE;
-        long indexOfMin = -1;
-        long indexOfMax = -1;
-        for (int i = p, to = p + length; i < to; i++) {
-            final int v = (data[i]) & 0xFF;
-            if (v < min) {
-                min = v;
-                indexOfMin = i;
-            }
-            if (v > max) {
-                max = v;
-                indexOfMax = i;
-            }
-        }
-        result.setExactAll(indexOfMin, min, indexOfMax, max);
-    }
-
     private void minMaxForShorts(ShortArray data, int rangeIndex, boolean needMin, boolean needMax) {
         final long from = splitters[rangeIndex];
         final long to = splitters[rangeIndex + 1];
@@ -673,51 +583,6 @@ public final class ArrayMinMaxFinder {
         result.setExactAll(indexOfMin, min, indexOfMax, max);
     }
 
-    private void shortRangeMin(short[] data, ExtendedMinMaxInfo result, int p, int length) {
-        int min = Integer.MAX_VALUE;
-        long indexOfMin = -1;
-        for (int i = p, to = p + length; i < to; i++) {
-            final int v = (data[i]) & 0xFFFF;
-            if (v < min) {
-                min = v;
-                indexOfMin = i;
-            }
-        }
-        result.setExactMin(indexOfMin, min);
-    }
-
-    private void shortRangeMax(short[] data, ExtendedMinMaxInfo result, int p, int length) {
-        int max = Integer.MIN_VALUE;
-        long indexOfMax = -1;
-        for (int i = p, to = p + length; i < to; i++) {
-            final int v = (data[i]) & 0xFFFF;
-            if (v > max) {
-                max = v;
-                indexOfMax = i;
-            }
-        }
-        result.setExactMax(indexOfMax, max);
-    }
-
-    private void shortRangeMinMax(short[] data, ExtendedMinMaxInfo result, int p, int length) {
-        int min = Integer.MAX_VALUE;
-        int max = Integer.MIN_VALUE;
-        long indexOfMin = -1;
-        long indexOfMax = -1;
-        for (int i = p, to = p + length; i < to; i++) {
-            final int v = (data[i]) & 0xFFFF;
-            if (v < min) {
-                min = v;
-                indexOfMin = i;
-            }
-            if (v > max) {
-                max = v;
-                indexOfMax = i;
-            }
-        }
-        result.setExactAll(indexOfMin, min, indexOfMax, max);
-    }
-
     private void minMaxForInts(IntArray data, int rangeIndex, boolean needMin, boolean needMax) {
         final long from = splitters[rangeIndex];
         final long to = splitters[rangeIndex + 1];
@@ -799,51 +664,6 @@ public final class ArrayMinMaxFinder {
         result.setExactAll(indexOfMin, min, indexOfMax, max);
     }
 
-    private void intRangeMin(int[] data, ExtendedMinMaxInfo result, int p, int length) {
-        int min = Integer.MAX_VALUE;
-        long indexOfMin = -1;
-        for (int i = p, to = p + length; i < to; i++) {
-            final int v = data[i];
-            if (v < min) {
-                min = v;
-                indexOfMin = i;
-            }
-        }
-        result.setExactMin(indexOfMin, min);
-    }
-
-    private void intRangeMax(int[] data, ExtendedMinMaxInfo result, int p, int length) {
-        int max = Integer.MIN_VALUE;
-        long indexOfMax = -1;
-        for (int i = p, to = p + length; i < to; i++) {
-            final int v = data[i];
-            if (v > max) {
-                max = v;
-                indexOfMax = i;
-            }
-        }
-        result.setExactMax(indexOfMax, max);
-    }
-
-    private void intRangeMinMax(int[] data, ExtendedMinMaxInfo result, int p, int length) {
-        int min = Integer.MAX_VALUE;
-        int max = Integer.MIN_VALUE;
-        long indexOfMin = -1;
-        long indexOfMax = -1;
-        for (int i = p, to = p + length; i < to; i++) {
-            final int v = data[i];
-            if (v < min) {
-                min = v;
-                indexOfMin = i;
-            }
-            if (v > max) {
-                max = v;
-                indexOfMax = i;
-            }
-        }
-        result.setExactAll(indexOfMin, min, indexOfMax, max);
-    }
-
     private void minMaxForLongs(LongArray data, int rangeIndex, boolean needMin, boolean needMax) {
         final long from = splitters[rangeIndex];
         final long to = splitters[rangeIndex + 1];
@@ -925,51 +745,6 @@ public final class ArrayMinMaxFinder {
         result.setExactAll(indexOfMin, min, indexOfMax, max);
     }
 
-    private void longRangeMin(long[] data, ExtendedMinMaxInfo result, int p, int length) {
-        long min = Long.MAX_VALUE;
-        long indexOfMin = -1;
-        for (int i = p, to = p + length; i < to; i++) {
-            final long v = data[i];
-            if (v < min) {
-                min = v;
-                indexOfMin = i;
-            }
-        }
-        result.setExactMin(indexOfMin, min);
-    }
-
-    private void longRangeMax(long[] data, ExtendedMinMaxInfo result, int p, int length) {
-        long max = Long.MIN_VALUE;
-        long indexOfMax = -1;
-        for (int i = p, to = p + length; i < to; i++) {
-            final long v = data[i];
-            if (v > max) {
-                max = v;
-                indexOfMax = i;
-            }
-        }
-        result.setExactMax(indexOfMax, max);
-    }
-
-    private void longRangeMinMax(long[] data, ExtendedMinMaxInfo result, int p, int length) {
-        long min = Long.MAX_VALUE;
-        long max = Long.MIN_VALUE;
-        long indexOfMin = -1;
-        long indexOfMax = -1;
-        for (int i = p, to = p + length; i < to; i++) {
-            final long v = data[i];
-            if (v < min) {
-                min = v;
-                indexOfMin = i;
-            }
-            if (v > max) {
-                max = v;
-                indexOfMax = i;
-            }
-        }
-        result.setExactAll(indexOfMin, min, indexOfMax, max);
-    }
-
     private void minMaxForFloats(FloatArray data, int rangeIndex, boolean needMin, boolean needMax) {
         final long from = splitters[rangeIndex];
         final long to = splitters[rangeIndex + 1];
@@ -1051,51 +826,6 @@ public final class ArrayMinMaxFinder {
         result.setAll(indexOfMin, min, indexOfMax, max);
     }
 
-    private void floatRangeMin(float[] data, ExtendedMinMaxInfo result, int p, int length) {
-        float min = Float.POSITIVE_INFINITY;
-        long indexOfMin = -1;
-        for (int i = p, to = p + length; i < to; i++) {
-            final float v = data[i];
-            if (v < min) {
-                min = v;
-                indexOfMin = i;
-            }
-        }
-        result.setMin(indexOfMin, min);
-    }
-
-    private void floatRangeMax(float[] data, ExtendedMinMaxInfo result, int p, int length) {
-        float max = Float.NEGATIVE_INFINITY;
-        long indexOfMax = -1;
-        for (int i = p, to = p + length; i < to; i++) {
-            final float v = data[i];
-            if (v > max) {
-                max = v;
-                indexOfMax = i;
-            }
-        }
-        result.setMax(indexOfMax, max);
-    }
-
-    private void floatRangeMinMax(float[] data, ExtendedMinMaxInfo result, int p, int length) {
-        float min = Float.POSITIVE_INFINITY;
-        float max = Float.NEGATIVE_INFINITY;
-        long indexOfMin = -1;
-        long indexOfMax = -1;
-        for (int i = p, to = p + length; i < to; i++) {
-            final float v = data[i];
-            if (v < min) {
-                min = v;
-                indexOfMin = i;
-            }
-            if (v > max) {
-                max = v;
-                indexOfMax = i;
-            }
-        }
-        result.setAll(indexOfMin, min, indexOfMax, max);
-    }
-
     private void minMaxForDoubles(DoubleArray data, int rangeIndex, boolean needMin, boolean needMax) {
         final long from = splitters[rangeIndex];
         final long to = splitters[rangeIndex + 1];
@@ -1177,46 +907,627 @@ public final class ArrayMinMaxFinder {
         result.setAll(indexOfMin, min, indexOfMax, max);
     }
 
+    /*Repeat.AutoGeneratedEnd*/
+
+    /*Repeat() char   ==> byte,,short,,int,,long;;
+               int\s+v\s*=\s*(.*?);     ==> int v = ($1) & 0xFF;,,int v = ($1) & 0xFFFF;,,int v = $1;,,long v = $1;;
+               (Integer.MAX_VALUE)      ==> $1,,$1,,$1,,Long.MAX_VALUE;;
+               (Integer.MIN_VALUE)      ==> $1,,$1,,$1,,Long.MIN_VALUE;;
+               int\s+(min|max)          ==> int $1,,int $1,,int $1,,long $1 */
+
+    private void charRangeMin(char[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
+        int min = Integer.MAX_VALUE;
+        for (int i = p; i < to; i++) {
+            final int v = data[i];
+            min = Math.min(min, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        long indexOfMin = -1;
+        if (min != Integer.MAX_VALUE) {
+            for (int i = p; i < to; i++) {
+                final int v = data[i];
+                if (v == min) {
+                    indexOfMin = i;
+                    break;
+                }
+            }
+        }
+        result.setExactMin(indexOfMin, min);
+    }
+
+    private void charRangeMax(char[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
+        int max = Integer.MIN_VALUE;
+        for (int i = p; i < to; i++) {
+            final int v = data[i];
+            max = Math.max(max, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        long indexOfMax = -1;
+        if (max != Integer.MIN_VALUE) {
+            for (int i = p; i < to; i++) {
+                final int v = data[i];
+                if (v == max) {
+                    indexOfMax = i;
+                    break;
+                }
+            }
+        }
+        result.setExactMax(indexOfMax, max);
+    }
+
+    private void charRangeMinMax(char[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = p; i < to; i++) {
+            final int v = data[i];
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        long indexOfMin = -1;
+        if (min != Integer.MAX_VALUE) {
+            for (int i = p; i < to; i++) {
+                final int v = data[i];
+                if (v == min) {
+                    indexOfMin = i;
+                    break;
+                }
+            }
+        }
+        long indexOfMax = -1;
+        if (max != Integer.MIN_VALUE) {
+            for (int i = p; i < to; i++) {
+                final int v = data[i];
+                if (v == max) {
+                    indexOfMax = i;
+                    break;
+                }
+            }
+        }
+        result.setExactAll(indexOfMin, min, indexOfMax, max);
+    }
+
+    /*Repeat.AutoGeneratedStart !! Auto-generated: NOT EDIT !! */
+
+    private void byteRangeMin(byte[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
+        int min = Integer.MAX_VALUE;
+        for (int i = p; i < to; i++) {
+            final int v = (data[i]) & 0xFF;
+            min = Math.min(min, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        long indexOfMin = -1;
+        if (min != Integer.MAX_VALUE) {
+            for (int i = p; i < to; i++) {
+                final int v = (data[i]) & 0xFF;
+                if (v == min) {
+                    indexOfMin = i;
+                    break;
+                }
+            }
+        }
+        result.setExactMin(indexOfMin, min);
+    }
+
+    private void byteRangeMax(byte[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
+        int max = Integer.MIN_VALUE;
+        for (int i = p; i < to; i++) {
+            final int v = (data[i]) & 0xFF;
+            max = Math.max(max, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        long indexOfMax = -1;
+        if (max != Integer.MIN_VALUE) {
+            for (int i = p; i < to; i++) {
+                final int v = (data[i]) & 0xFF;
+                if (v == max) {
+                    indexOfMax = i;
+                    break;
+                }
+            }
+        }
+        result.setExactMax(indexOfMax, max);
+    }
+
+    private void byteRangeMinMax(byte[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = p; i < to; i++) {
+            final int v = (data[i]) & 0xFF;
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        long indexOfMin = -1;
+        if (min != Integer.MAX_VALUE) {
+            for (int i = p; i < to; i++) {
+                final int v = (data[i]) & 0xFF;
+                if (v == min) {
+                    indexOfMin = i;
+                    break;
+                }
+            }
+        }
+        long indexOfMax = -1;
+        if (max != Integer.MIN_VALUE) {
+            for (int i = p; i < to; i++) {
+                final int v = (data[i]) & 0xFF;
+                if (v == max) {
+                    indexOfMax = i;
+                    break;
+                }
+            }
+        }
+        result.setExactAll(indexOfMin, min, indexOfMax, max);
+    }
+
+    private void shortRangeMin(short[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
+        int min = Integer.MAX_VALUE;
+        for (int i = p; i < to; i++) {
+            final int v = (data[i]) & 0xFFFF;
+            min = Math.min(min, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        long indexOfMin = -1;
+        if (min != Integer.MAX_VALUE) {
+            for (int i = p; i < to; i++) {
+                final int v = (data[i]) & 0xFFFF;
+                if (v == min) {
+                    indexOfMin = i;
+                    break;
+                }
+            }
+        }
+        result.setExactMin(indexOfMin, min);
+    }
+
+    private void shortRangeMax(short[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
+        int max = Integer.MIN_VALUE;
+        for (int i = p; i < to; i++) {
+            final int v = (data[i]) & 0xFFFF;
+            max = Math.max(max, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        long indexOfMax = -1;
+        if (max != Integer.MIN_VALUE) {
+            for (int i = p; i < to; i++) {
+                final int v = (data[i]) & 0xFFFF;
+                if (v == max) {
+                    indexOfMax = i;
+                    break;
+                }
+            }
+        }
+        result.setExactMax(indexOfMax, max);
+    }
+
+    private void shortRangeMinMax(short[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = p; i < to; i++) {
+            final int v = (data[i]) & 0xFFFF;
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        long indexOfMin = -1;
+        if (min != Integer.MAX_VALUE) {
+            for (int i = p; i < to; i++) {
+                final int v = (data[i]) & 0xFFFF;
+                if (v == min) {
+                    indexOfMin = i;
+                    break;
+                }
+            }
+        }
+        long indexOfMax = -1;
+        if (max != Integer.MIN_VALUE) {
+            for (int i = p; i < to; i++) {
+                final int v = (data[i]) & 0xFFFF;
+                if (v == max) {
+                    indexOfMax = i;
+                    break;
+                }
+            }
+        }
+        result.setExactAll(indexOfMin, min, indexOfMax, max);
+    }
+
+    private void intRangeMin(int[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
+        int min = Integer.MAX_VALUE;
+        for (int i = p; i < to; i++) {
+            final int v = data[i];
+            min = Math.min(min, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        long indexOfMin = -1;
+        if (min != Integer.MAX_VALUE) {
+            for (int i = p; i < to; i++) {
+                final int v = data[i];
+                if (v == min) {
+                    indexOfMin = i;
+                    break;
+                }
+            }
+        }
+        result.setExactMin(indexOfMin, min);
+    }
+
+    private void intRangeMax(int[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
+        int max = Integer.MIN_VALUE;
+        for (int i = p; i < to; i++) {
+            final int v = data[i];
+            max = Math.max(max, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        long indexOfMax = -1;
+        if (max != Integer.MIN_VALUE) {
+            for (int i = p; i < to; i++) {
+                final int v = data[i];
+                if (v == max) {
+                    indexOfMax = i;
+                    break;
+                }
+            }
+        }
+        result.setExactMax(indexOfMax, max);
+    }
+
+    private void intRangeMinMax(int[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = p; i < to; i++) {
+            final int v = data[i];
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        long indexOfMin = -1;
+        if (min != Integer.MAX_VALUE) {
+            for (int i = p; i < to; i++) {
+                final int v = data[i];
+                if (v == min) {
+                    indexOfMin = i;
+                    break;
+                }
+            }
+        }
+        long indexOfMax = -1;
+        if (max != Integer.MIN_VALUE) {
+            for (int i = p; i < to; i++) {
+                final int v = data[i];
+                if (v == max) {
+                    indexOfMax = i;
+                    break;
+                }
+            }
+        }
+        result.setExactAll(indexOfMin, min, indexOfMax, max);
+    }
+
+    private void longRangeMin(long[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
+        long min = Long.MAX_VALUE;
+        for (int i = p; i < to; i++) {
+            final long v = data[i]
+            min = Math.min(min, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        long indexOfMin = -1;
+        if (min != Long.MAX_VALUE) {
+            for (int i = p; i < to; i++) {
+                final long v = data[i]
+                if (v == min) {
+                    indexOfMin = i;
+                    break;
+                }
+            }
+        }
+        result.setExactMin(indexOfMin, min);
+    }
+
+    private void longRangeMax(long[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
+        long max = Long.MIN_VALUE;
+        for (int i = p; i < to; i++) {
+            final long v = data[i]
+            max = Math.max(max, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        long indexOfMax = -1;
+        if (max != Long.MIN_VALUE) {
+            for (int i = p; i < to; i++) {
+                final long v = data[i]
+                if (v == max) {
+                    indexOfMax = i;
+                    break;
+                }
+            }
+        }
+        result.setExactMax(indexOfMax, max);
+    }
+
+    private void longRangeMinMax(long[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = p; i < to; i++) {
+            final long v = data[i]
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        long indexOfMin = -1;
+        if (min != Long.MAX_VALUE) {
+            for (int i = p; i < to; i++) {
+                final long v = data[i]
+                if (v == min) {
+                    indexOfMin = i;
+                    break;
+                }
+            }
+        }
+        long indexOfMax = -1;
+        if (max != Long.MIN_VALUE) {
+            for (int i = p; i < to; i++) {
+                final long v = data[i]
+                if (v == max) {
+                    indexOfMax = i;
+                    break;
+                }
+            }
+        }
+        result.setExactAll(indexOfMin, min, indexOfMax, max);
+    }
+
+    /*Repeat.AutoGeneratedEnd*/
+
+    /*Repeat() float ==> double;;
+               Float  ==> Double */
+
+    private void floatRangeMin(float[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
+        float min = Float.POSITIVE_INFINITY;
+        for (int i = p; i < to; i++) {
+            final float v = data[i];
+            min = Math.min(min, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        if (min != min) {
+            // - NaN found: Math.min is not suitable
+            min = Float.POSITIVE_INFINITY;
+            for (int i = p; i < to; i++) {
+                final float v = data[i];
+                if (v < min) {
+                    min = v;
+                }
+            }
+        }
+        long indexOfMin = -1;
+        if (min != Float.POSITIVE_INFINITY) {
+            for (int i = p; i < to; i++) {
+                final float v = data[i];
+                if (v == min) {
+                    min = v;
+                    // - +0.0 or -0.0, like in the first found element
+                    indexOfMin = i;
+                    break;
+                }
+            }
+        }
+        result.setMin(indexOfMin, min);
+    }
+
+    private void floatRangeMax(float[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
+        float max = Float.NEGATIVE_INFINITY;
+        for (int i = p; i < to; i++) {
+            final float v = data[i];
+            max = Math.max(max, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        if (max != max) {
+            // - NaN found: Math.max is not suitable
+            max = Float.NEGATIVE_INFINITY;
+            for (int i = p; i < to; i++) {
+                final float v = data[i];
+                if (v > max) {
+                    max = v;
+                }
+            }
+        }
+        long indexOfMax = -1;
+        if (max != Float.NEGATIVE_INFINITY) {
+            for (int i = p; i < to; i++) {
+                final float v = data[i];
+                if (v == max) {
+                    max = v;
+                    // - +0.0 or -0.0, like in the first found element
+                    indexOfMax = i;
+                    break;
+                }
+            }
+        }
+        result.setMax(indexOfMax, max);
+    }
+
+    private void floatRangeMinMax(float[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
+        float min = Float.POSITIVE_INFINITY;
+        float max = Float.NEGATIVE_INFINITY;
+        for (int i = p; i < to; i++) {
+            final float v = data[i];
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        if (min != min || max != max) {
+            // - NaN found: Math.min/max are not suitable
+            min = Float.POSITIVE_INFINITY;
+            max = Float.NEGATIVE_INFINITY;
+            for (int i = p; i < to; i++) {
+                final float v = data[i];
+                if (v < min) {
+                    min = v;
+                }
+                if (v > max) {
+                    max = v;
+                }
+            }
+        }
+        long indexOfMin = -1;
+        if (min != Float.POSITIVE_INFINITY) {
+            for (int i = p; i < to; i++) {
+                final float v = data[i];
+                if (v == min) {
+                    min = v;
+                    // - +0.0 or -0.0, like in the first found element
+                    indexOfMin = i;
+                    break;
+                }
+            }
+        }
+        long indexOfMax = -1;
+        if (max != Float.NEGATIVE_INFINITY) {
+            for (int i = p; i < to; i++) {
+                final float v = data[i];
+                if (v == max) {
+                    max = v;
+                    // - +0.0 or -0.0, like in the first found element
+                    indexOfMax = i;
+                    break;
+                }
+            }
+        }
+        result.setAll(indexOfMin, min, indexOfMax, max);
+    }
+
+    /*Repeat.AutoGeneratedStart !! Auto-generated: NOT EDIT !! */
+
     private void doubleRangeMin(double[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
         double min = Double.POSITIVE_INFINITY;
-        long indexOfMin = -1;
-        for (int i = p, to = p + length; i < to; i++) {
+        for (int i = p; i < to; i++) {
             final double v = data[i];
-            if (v < min) {
-                min = v;
-                indexOfMin = i;
+            min = Math.min(min, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        if (min != min) {
+            // - NaN found: Math.min is not suitable
+            min = Double.POSITIVE_INFINITY;
+            for (int i = p; i < to; i++) {
+                final double v = data[i];
+                if (v < min) {
+                    min = v;
+                }
+            }
+        }
+        long indexOfMin = -1;
+        if (min != Double.POSITIVE_INFINITY) {
+            for (int i = p; i < to; i++) {
+                final double v = data[i];
+                if (v == min) {
+                    min = v;
+                    // - +0.0 or -0.0, like in the first found element
+                    indexOfMin = i;
+                    break;
+                }
             }
         }
         result.setMin(indexOfMin, min);
     }
 
     private void doubleRangeMax(double[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
         double max = Double.NEGATIVE_INFINITY;
-        long indexOfMax = -1;
-        for (int i = p, to = p + length; i < to; i++) {
+        for (int i = p; i < to; i++) {
             final double v = data[i];
-            if (v > max) {
-                max = v;
-                indexOfMax = i;
+            max = Math.max(max, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        if (max != max) {
+            // - NaN found: Math.max is not suitable
+            max = Double.NEGATIVE_INFINITY;
+            for (int i = p; i < to; i++) {
+                final double v = data[i];
+                if (v > max) {
+                    max = v;
+                }
+            }
+        }
+        long indexOfMax = -1;
+        if (max != Double.NEGATIVE_INFINITY) {
+            for (int i = p; i < to; i++) {
+                final double v = data[i];
+                if (v == max) {
+                    max = v;
+                    // - +0.0 or -0.0, like in the first found element
+                    indexOfMax = i;
+                    break;
+                }
             }
         }
         result.setMax(indexOfMax, max);
     }
 
     private void doubleRangeMinMax(double[] data, ExtendedMinMaxInfo result, int p, int length) {
+        final int to = p + length;
         double min = Double.POSITIVE_INFINITY;
         double max = Double.NEGATIVE_INFINITY;
-        long indexOfMin = -1;
-        long indexOfMax = -1;
-        for (int i = p, to = p + length; i < to; i++) {
+        for (int i = p; i < to; i++) {
             final double v = data[i];
-            if (v < min) {
-                min = v;
-                indexOfMin = i;
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        // - the first pass: simple loop without branches and indexes, which is vectorized by JIT compiler
+        if (min != min || max != max) {
+            // - NaN found: Math.min/max are not suitable
+            min = Double.POSITIVE_INFINITY;
+            max = Double.NEGATIVE_INFINITY;
+            for (int i = p; i < to; i++) {
+                final double v = data[i];
+                if (v < min) {
+                    min = v;
+                }
+                if (v > max) {
+                    max = v;
+                }
             }
-            if (v > max) {
-                max = v;
-                indexOfMax = i;
+        }
+        long indexOfMin = -1;
+        if (min != Double.POSITIVE_INFINITY) {
+            for (int i = p; i < to; i++) {
+                final double v = data[i];
+                if (v == min) {
+                    min = v;
+                    // - +0.0 or -0.0, like in the first found element
+                    indexOfMin = i;
+                    break;
+                }
+            }
+        }
+        long indexOfMax = -1;
+        if (max != Double.NEGATIVE_INFINITY) {
+            for (int i = p; i < to; i++) {
+                final double v = data[i];
+                if (v == max) {
+                    max = v;
+                    // - +0.0 or -0.0, like in the first found element
+                    indexOfMax = i;
+                    break;
+                }
             }
         }
         result.setAll(indexOfMin, min, indexOfMax, max);
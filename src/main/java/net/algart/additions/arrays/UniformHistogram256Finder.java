@@ -37,6 +37,7 @@ public final class UniformHistogram256Finder {
     private final int bufferLength;
     private final long[][] threadHistograms;
     private final boolean[][] threadMaskBuffers;
+    private final int[][] threadCounters;
     private final long[] splitters;
 
     private long[] resultHistogram = null;
@@ -56,6 +57,8 @@ public final class UniformHistogram256Finder {
         this.threadHistograms = new long[numberOfTasks][256];
         // - too large for bits, but this case is very unusual and not important
         this.threadMaskBuffers = new boolean[numberOfTasks][bufferLength];
+        this.threadCounters = new int[numberOfTasks][4 * 256];
+        // - 4 interleaved counters for every bar; they are added to threadHistograms after every range
         this.splitters = new long[numberOfTasks + 1];
     }
 
@@ -244,6 +247,15 @@ public final class UniformHistogram256Finder {
         }
     }
 
+    private static void addCounters(long[] histogram, int[] counters) {
+        for (int k = 0; k < histogram.length; k++) {
+            final int i = k << 2;
+            histogram[k] += (long) counters[i] + (long) counters[i + 1]
+                    + (long) counters[i + 2] + (long) counters[i + 3];
+        }
+        Arrays.fill(counters, 0);
+    }
+
     /*Repeat() Char   ==> Bit,,Byte,,Short,,Int,,Long,,Float,,Double;;
                char   ==> boolean,,byte,,short,,int,,long,,float,,double;;
                v >> 8 ==> v ? 1 : 0,,v & 0xFF,,(v & 0xFFFF) >> 8,,
@@ -264,14 +276,16 @@ public final class UniformHistogram256Finder {
             if (data instanceof DirectAccessible && (da = (DirectAccessible) data).hasJavaArray()) {
                 final int offset = da.javaArrayOffset();
                 final char[] array = (char[]) da.javaArray();
+                final int[] counters = threadCounters[rangeIndex];
                 final int intTo = (int) to;
                 assert intTo == to;
                 for (int p = (int) from; p < to; ) {
                     final int length = Math.min(bufferLength, intTo - p);
                     mask.getData(p, maskBuffer, 0, length);
-                    charRange(array, histogram, maskBuffer, offset + p, length);
+                    charRange(array, counters, maskBuffer, offset + p, length);
                     p += length;
                 }
+                addCounters(histogram, counters);
             } else {
                 for (long p = from; p < to; ) {
                     final int length = (int) Math.min(bufferLength, to - p);
@@ -284,10 +298,12 @@ public final class UniformHistogram256Finder {
             if (data instanceof DirectAccessible && (da = (DirectAccessible) data).hasJavaArray()) {
                 final int offset = da.javaArrayOffset();
                 final char[] array = (char[]) da.javaArray();
+                final int[] counters = threadCounters[rangeIndex];
                 final int intTo = (int) to;
                 final int intFrom = (int) from;
                 assert intFrom == from && intTo == to;
-                charRange(array, histogram, offset + intFrom, intTo - intFrom);
+                charRange(array, counters, offset + intFrom, intTo - intFrom);
+                addCounters(histogram, counters);
             } else {
                 charRange(data, histogram, from, to - from);
             }
@@ -304,12 +320,12 @@ public final class UniformHistogram256Finder {
         }
     }
 
-    private static void charRange(char[] data, long[] histogram, boolean[] mask, int p, int length) {
+    private static void charRange(char[] data, int[] counters, boolean[] mask, int p, int length) {
         for (int k = 0; k < length; k++) {
             if (mask[k]) {
                 final char v = data[p + k];
                 final int index = v >> 8;
-                histogram[index]++;
+                counters[(index << 2) + (k & 3)]++;
             }
         }
     }
@@ -322,11 +338,13 @@ public final class UniformHistogram256Finder {
         }
     }
 
-    private static void charRange(char[] data, long[] histogram, int p, int length) {
+    private static void charRange(char[] data, int[] counters, int p, int length) {
         for (int i = p, to = p + length; i < to; i++) {
             final char v = data[i];
             final int index = v >> 8;
-            histogram[index]++;
+            counters[(index << 2) + (i & 3)]++;
+            // - 4 interleaved counters for every bar: consecutive equal values
+            // do not produce a chain of dependent increments of the same memory cell
         }
     }
 
@@ -342,14 +360,16 @@ public final class UniformHistogram256Finder {
             if (data instanceof DirectAccessible && (da = (DirectAccessible) data).hasJavaArray()) {
                 final int offset = da.javaArrayOffset();
                 final boolean[] array = (boolean[]) da.javaArray();
+                final int[] counters = threadCounters[rangeIndex];
                 final int intTo = (int) to;
                 assert intTo == to;
                 for (int p = (int) from; p < to; ) {
                     final int length = Math.min(bufferLength, intTo - p);
                     mask.getData(p, maskBuffer, 0, length);
-                    booleanRange(array, histogram, maskBuffer, offset + p, length);
+                    booleanRange(array, counters, maskBuffer, offset + p, length);
                     p += length;
                 }
+                addCounters(histogram, counters);
             } else {
                 for (long p = from; p < to; ) {
                     final int length = (int) Math.min(bufferLength, to - p);
@@ -362,10 +382,12 @@ public final class UniformHistogram256Finder {
             if (data instanceof DirectAccessible && (da = (DirectAccessible) data).hasJavaArray()) {
                 final int offset = da.javaArrayOffset();
                 final boolean[] array = (boolean[]) da.javaArray();
+                final int[] counters = threadCounters[rangeIndex];
                 final int intTo = (int) to;
                 final int intFrom = (int) from;
                 assert intFrom == from && intTo == to;
-                booleanRange(array, histogram, offset + intFrom, intTo - intFrom);
+                booleanRange(array, counters, offset + intFrom, intTo - intFrom);
+                addCounters(histogram, counters);
             } else {
                 booleanRange(data, histogram, from, to - from);
             }
@@ -382,12 +404,12 @@ public final class UniformHistogram256Finder {
         }
     }
 
-    private static void booleanRange(boolean[] data, long[] histogram, boolean[] mask, int p, int length) {
+    private static void booleanRange(boolean[] data, int[] counters, boolean[] mask, int p, int length) {
         for (int k = 0; k < length; k++) {
             if (mask[k]) {
                 final boolean v = data[p + k];
                 final int index = v ? 1 : 0;
-                histogram[index]++;
+                counters[(index << 2) + (k & 3)]++;
             }
         }
     }
@@ -400,11 +422,13 @@ public final class UniformHistogram256Finder {
         }
     }
 
-    private static void booleanRange(boolean[] data, long[] histogram, int p, int length) {
+    private static void booleanRange(boolean[] data, int[] counters, int p, int length) {
         for (int i = p, to = p + length; i < to; i++) {
             final boolean v = data[i];
             final int index = v ? 1 : 0;
-            histogram[index]++;
+            counters[(index << 2) + (i & 3)]++;
+            // - 4 interleaved counters for every bar: consecutive equal values
+            // do not produce a chain of dependent increments of the same memory cell
         }
     }
 
@@ -418,14 +442,16 @@ public final class UniformHistogram256Finder {
             if (data instanceof DirectAccessible && (da = (DirectAccessible) data).hasJavaArray()) {
                 final int offset = da.javaArrayOffset();
                 final byte[] array = (byte[]) da.javaArray();
+                final int[] counters = threadCounters[rangeIndex];
                 final int intTo = (int) to;
                 assert intTo == to;
                 for (int p = (int) from; p < to; ) {
                     final int length = Math.min(bufferLength, intTo - p);
                     mask.getData(p, maskBuffer, 0, length);
-                    byteRange(array, histogram, maskBuffer, offset + p, length);
+                    byteRange(array, counters, maskBuffer, offset + p, length);
                     p += length;
                 }
+                addCounters(histogram, counters);
             } else {
                 for (long p = from; p < to; ) {
                     final int length = (int) Math.min(bufferLength, to - p);
@@ -438,10 +464,12 @@ public final class UniformHistogram256Finder {
             if (data instanceof DirectAccessible && (da = (DirectAccessible) data).hasJavaArray()) {
                 final int offset = da.javaArrayOffset();
                 final byte[] array = (byte[]) da.javaArray();
+                final int[] counters = threadCounters[rangeIndex];
                 final int intTo = (int) to;
                 final int intFrom = (int) from;
                 assert intFrom == from && intTo == to;
-                byteRange(array, histogram, offset + intFrom, intTo - intFrom);
+                byteRange(array, counters, offset + intFrom, intTo - intFrom);
+                addCounters(histogram, counters);
             } else {
                 byteRange(data, histogram, from, to - from);
             }
@@ -458,12 +486,12 @@ public final class UniformHistogram256Finder {
         }
     }
 
-    private static void byteRange(byte[] data, long[] histogram, boolean[] mask, int p, int length) {
+    private static void byteRange(byte[] data, int[] counters, boolean[] mask, int p, int length) {
         for (int k = 0; k < length; k++) {
             if (mask[k]) {
                 final byte v = data[p + k];
                 final int index = v & 0xFF;
-                histogram[index]++;
+                counters[(index << 2) + (k & 3)]++;
             }
         }
     }
@@ -476,11 +504,13 @@ public final class UniformHistogram256Finder {
         }
     }
 
-    private static void byteRange(byte[] data, long[] histogram, int p, int length) {
+    private static void byteRange(byte[] data, int[] counters, int p, int length) {
         for (int i = p, to = p + length; i < to; i++) {
             final byte v = data[i];
             final int index = v & 0xFF;
-            histogram[index]++;
+            counters[(index << 2) + (i & 3)]++;
+            // - 4 interleaved counters for every bar: consecutive equal values
+            // do not produce a chain of dependent increments of the same memory cell
         }
     }
 
@@ -494,14 +524,16 @@ public final class UniformHistogram256Finder {
             if (data instanceof DirectAccessible && (da = (DirectAccessible) data).hasJavaArray()) {
                 final int offset = da.javaArrayOffset();
                 final short[] array = (short[]) da.javaArray();
+                final int[] counters = threadCounters[rangeIndex];
                 final int intTo = (int) to;
                 assert intTo == to;
                 for (int p = (int) from; p < to; ) {
                     final int length = Math.min(bufferLength, intTo - p);
                     mask.getData(p, maskBuffer, 0, length);
-                    shortRange(array, histogram, maskBuffer, offset + p, length);
+                    shortRange(array, counters, maskBuffer, offset + p, length);
                     p += length;
                 }
+                addCounters(histogram, counters);
             } else {
                 for (long p = from; p < to; ) {
                     final int length = (int) Math.min(bufferLength, to - p);
@@ -514,10 +546,12 @@ public final class UniformHistogram256Finder {
             if (data instanceof DirectAccessible && (da = (DirectAccessible) data).hasJavaArray()) {
                 final int offset = da.javaArrayOffset();
                 final short[] array = (short[]) da.javaArray();
+                final int[] counters = threadCounters[rangeIndex];
                 final int intTo = (int) to;
                 final int intFrom = (int) from;
                 assert intFrom == from && intTo == to;
-                shortRange(array, histogram, offset + intFrom, intTo - intFrom);
+                shortRange(array, counters, offset + intFrom, intTo - intFrom);
+                addCounters(histogram, counters);
             } else {
                 shortRange(data, histogram, from, to - from);
             }
@@ -534,12 +568,12 @@ public final class UniformHistogram256Finder {
         }
     }
 
-    private static void shortRange(short[] data, long[] histogram, boolean[] mask, int p, int length) {
+    private static void shortRange(short[] data, int[] counters, boolean[] mask, int p, int length) {
         for (int k = 0; k < length; k++) {
             if (mask[k]) {
                 final short v = data[p + k];
                 final int index = (v & 0xFFFF) >> 8;
-                histogram[index]++;
+                counters[(index << 2) + (k & 3)]++;
             }
         }
     }
@@ -552,11 +586,13 @@ public final class UniformHistogram256Finder {
         }
     }
 
-    private static void shortRange(short[] data, long[] histogram, int p, int length) {
+    private static void shortRange(short[] data, int[] counters, int p, int length) {
         for (int i = p, to = p + length; i < to; i++) {
             final short v = data[i];
             final int index = (v & 0xFFFF) >> 8;
-            histogram[index]++;
+            counters[(index << 2) + (i & 3)]++;
+            // - 4 interleaved counters for every bar: consecutive equal values
+            // do not produce a chain of dependent increments of the same memory cell
         }
     }
 
@@ -570,14 +606,16 @@ public final class UniformHistogram256Finder {
             if (data instanceof DirectAccessible && (da = (DirectAccessible) data).hasJavaArray()) {
                 final int offset = da.javaArrayOffset();
                 final int[] array = (int[]) da.javaArray();
+                final int[] counters = threadCounters[rangeIndex];
                 final int intTo = (int) to;
                 assert intTo == to;
                 for (int p = (int) from; p < to; ) {
                     final int length = Math.min(bufferLength, intTo - p);
                     mask.getData(p, maskBuffer, 0, length);
-                    intRange(array, histogram, maskBuffer, offset + p, length);
+                    intRange(array, counters, maskBuffer, offset + p, length);
                     p += length;
                 }
+                addCounters(histogram, counters);
             } else {
                 for (long p = from; p < to; ) {
                     final int length = (int) Math.min(bufferLength, to - p);
@@ -590,10 +628,12 @@ public final class UniformHistogram256Finder {
             if (data instanceof DirectAccessible && (da = (DirectAccessible) data).hasJavaArray()) {
                 final int offset = da.javaArrayOffset();
                 final int[] array = (int[]) da.javaArray();
+                final int[] counters = threadCounters[rangeIndex];
                 final int intTo = (int) to;
                 final int intFrom = (int) from;
                 assert intFrom == from && intTo == to;
-                intRange(array, histogram, offset + intFrom, intTo - intFrom);
+                intRange(array, counters, offset + intFrom, intTo - intFrom);
+                addCounters(histogram, counters);
             } else {
                 intRange(data, histogram, from, to - from);
             }
@@ -610,12 +650,12 @@ public final class UniformHistogram256Finder {
         }
     }
 
-    private static void intRange(int[] data, long[] histogram, boolean[] mask, int p, int length) {
+    private static void intRange(int[] data, int[] counters, boolean[] mask, int p, int length) {
         for (int k = 0; k < length; k++) {
             if (mask[k]) {
                 final int v = data[p + k];
                 final int index = v < 0 ? 0 : v >>> 23;
-                histogram[index]++;
+                counters[(index << 2) + (k & 3)]++;
             }
         }
     }
@@ -628,11 +668,13 @@ public final class UniformHistogram256Finder {
         }
     }
 
-    private static void intRange(int[] data, long[] histogram, int p, int length) {
+    private static void intRange(int[] data, int[] counters, int p, int length) {
         for (int i = p, to = p + length; i < to; i++) {
             final int v = data[i];
             final int index = v < 0 ? 0 : v >>> 23;
-            histogram[index]++;
+            counters[(index << 2) + (i & 3)]++;
+            // - 4 interleaved counters for every bar: consecutive equal values
+            // do not produce a chain of dependent increments of the same memory cell
         }
     }
 
@@ -646,14 +688,16 @@ public final class UniformHistogram256Finder {
             if (data instanceof DirectAccessible && (da = (DirectAccessible) data).hasJavaArray()) {
                 final int offset = da.javaArrayOffset();
                 final long[] array = (long[]) da.javaArray();
+                final int[] counters = threadCounters[rangeIndex];
                 final int intTo = (int) to;
                 assert intTo == to;
                 for (int p = (int) from; p < to; ) {
                     final int length = Math.min(bufferLength, intTo - p);
                     mask.getData(p, maskBuffer, 0, length);
-                    longRange(array, histogram, maskBuffer, offset + p, length);
+                    longRange(array, counters, maskBuffer, offset + p, length);
                     p += length;
                 }
+                addCounters(histogram, counters);
             } else {
                 for (long p = from; p < to; ) {
                     final int length = (int) Math.min(bufferLength, to - p);
@@ -666,10 +710,12 @@ public final class UniformHistogram256Finder {
             if (data instanceof DirectAccessible && (da = (DirectAccessible) data).hasJavaArray()) {
                 final int offset = da.javaArrayOffset();
                 final long[] array = (long[]) da.javaArray();
+                final int[] counters = threadCounters[rangeIndex];
                 final int intTo = (int) to;
                 final int intFrom = (int) from;
                 assert intFrom == from && intTo == to;
-                longRange(array, histogram, offset + intFrom, intTo - intFrom);
+                longRange(array, counters, offset + intFrom, intTo - intFrom);
+                addCounters(histogram, counters);
             } else {
                 longRange(data, histogram, from, to - from);
             }
@@ -686,12 +732,12 @@ public final class UniformHistogram256Finder {
         }
     }
 
-    private static void longRange(long[] data, long[] histogram, boolean[] mask, int p, int length) {
+    private static void longRange(long[] data, int[] counters, boolean[] mask, int p, int length) {
         for (int k = 0; k < length; k++) {
             if (mask[k]) {
                 final long v = data[p + k];
                 final int index = v < 0 ? 0 : (int) (v >>> 47);
-                histogram[index]++;
+                counters[(index << 2) + (k & 3)]++;
             }
         }
     }
@@ -704,11 +750,13 @@ public final class UniformHistogram256Finder {
         }
     }
 
-    private static void longRange(long[] data, long[] histogram, int p, int length) {
+    private static void longRange(long[] data, int[] counters, int p, int length) {
         for (int i = p, to = p + length; i < to; i++) {
             final long v = data[i];
             final int index = v < 0 ? 0 : (int) (v >>> 47);
-            histogram[index]++;
+            counters[(index << 2) + (i & 3)]++;
+            // - 4 interleaved counters for every bar: consecutive equal values
+            // do not produce a chain of dependent increments of the same memory cell
         }
     }
 
@@ -722,14 +770,16 @@ public final class UniformHistogram256Finder {
             if (data instanceof DirectAccessible && (da = (DirectAccessible) data).hasJavaArray()) {
                 final int offset = da.javaArrayOffset();
                 final float[] array = (float[]) da.javaArray();
+                final int[] counters = threadCounters[rangeIndex];
                 final int intTo = (int) to;
                 assert intTo == to;
                 for (int p = (int) from; p < to; ) {
                     final int length = Math.min(bufferLength, intTo - p);
                     mask.getData(p, maskBuffer, 0, length);
-                    floatRange(array, histogram, maskBuffer, offset + p, length);
+                    floatRange(array, counters, maskBuffer, offset + p, length);
                     p += length;
                 }
+                addCounters(histogram, counters);
             } else {
                 for (long p = from; p < to; ) {
                     final int length = (int) Math.min(bufferLength, to - p);
@@ -742,10 +792,12 @@ public final class UniformHistogram256Finder {
             if (data instanceof DirectAccessible && (da = (DirectAccessible) data).hasJavaArray()) {
                 final int offset = da.javaArrayOffset();
                 final float[] array = (float[]) da.javaArray();
+                final int[] counters = threadCounters[rangeIndex];
                 final int intTo = (int) to;
                 final int intFrom = (int) from;
                 assert intFrom == from && intTo == to;
-                floatRange(array, histogram, offset + intFrom, intTo - intFrom);
+                floatRange(array, counters, offset + intFrom, intTo - intFrom);
+                addCounters(histogram, counters);
             } else {
                 floatRange(data, histogram, from, to - from);
             }
@@ -762,12 +814,12 @@ public final class UniformHistogram256Finder {
         }
     }
 
-    private static void floatRange(float[] data, long[] histogram, boolean[] mask, int p, int length) {
+    private static void floatRange(float[] data, int[] counters, boolean[] mask, int p, int length) {
         for (int k = 0; k < length; k++) {
             if (mask[k]) {
                 final float v = data[p + k];
                 final int index = v < 0.0 ? 0 : v > 0.999999 ? 255 : (int) (v * 256.0);
-                histogram[index]++;
+                counters[(index << 2) + (k & 3)]++;
             }
         }
     }
@@ -780,11 +832,13 @@ public final class UniformHistogram256Finder {
         }
     }
 
-    private static void floatRange(float[] data, long[] histogram, int p, int length) {
+    private static void floatRange(float[] data, int[] counters, int p, int length) {
         for (int i = p, to = p + length; i < to; i++) {
             final float v = data[i];
             final int index = v < 0.0 ? 0 : v > 0.999999 ? 255 : (int) (v * 256.0);
-            histogram[index]++;
+            counters[(index << 2) + (i & 3)]++;
+            // - 4 interleaved counters for every bar: consecutive equal values
+            // do not produce a chain of dependent increments of the same memory cell
         }
     }
 
@@ -798,14 +852,16 @@ public final class UniformHistogram256Finder {
             if (data instanceof DirectAccessible && (da = (DirectAccessible) data).hasJavaArray()) {
                 final int offset = da.javaArrayOffset();
                 final double[] array = (double[]) da.javaArray();
+                final int[] counters = threadCounters[rangeIndex];
                 final int intTo = (int) to;
                 assert intTo == to;
                 for (int p = (int) from; p < to; ) {
                     final int length = Math.min(bufferLength, intTo - p);
                     mask.getData(p, maskBuffer, 0, length);
-                    doubleRange(array, histogram, maskBuffer, offset + p, length);
+                    doubleRange(array, counters, maskBuffer, offset + p, length);
                     p += length;
                 }
+                addCounters(histogram, counters);
             } else {
                 for (long p = from; p < to; ) {
                     final int length = (int) Math.min(bufferLength, to - p);
@@ -818,10 +874,12 @@ public final class UniformHistogram256Finder {
             if (data instanceof DirectAccessible && (da = (DirectAccessible) data).hasJavaArray()) {
                 final int offset = da.javaArrayOffset();
                 final double[] array = (double[]) da.javaArray();
+                final int[] counters = threadCounters[rangeIndex];
                 final int intTo = (int) to;
                 final int intFrom = (int) from;
                 assert intFrom == from && intTo == to;
-                doubleRange(array, histogram, offset + intFrom, intTo - intFrom);
+                doubleRange(array, counters, offset + intFrom, intTo - intFrom);
+                addCounters(histogram, counters);
             } else {
                 doubleRange(data, histogram, from, to - from);
             }
@@ -838,12 +896,12 @@ public final class UniformHistogram256Finder {
         }
     }
 
-    private static void doubleRange(double[] data, long[] histogram, boolean[] mask, int p, int length) {
+    private static void doubleRange(double[] data, int[] counters, boolean[] mask, int p, int length) {
         for (int k = 0; k < length; k++) {
             if (mask[k]) {
                 final double v = data[p + k];
                 final int index = v < 0.0 ? 0 : v > 0.999999 ? 255 : (int) (v * 256.0);
-                histogram[index]++;
+                counters[(index << 2) + (k & 3)]++;
             }
         }
     }
@@ -856,11 +914,13 @@ public final class UniformHistogram256Finder {
         }
     }
 
-    private static void doubleRange(double[] data, long[] histogram, int p, int length) {
+    private static void doubleRange(double[] data, int[] counters, int p, int length) {
         for (int i = p, to = p + length; i < to; i++) {
             final double v = data[i];
             final int index = v < 0.0 ? 0 : v > 0.999999 ? 255 : (int) (v * 256.0);
-            histogram[index]++;
+            counters[(index << 2) + (i & 3)]++;
+            // - 4 interleaved counters for every bar: consecutive equal values
+            // do not produce a chain of dependent increments of the same memory cell
         }
     }
 
@@ -999,6 +999,20 @@ public abstract class ExecutionBlock extends PropertyChecker implements AutoClos
     public void onChangeParameter(String name) {
     }
 
+    /**
+     * Function invoked when several parameters have been changed.
+     * Equivalent to calling {@link #onChangeParameter(String)} for all specified names,
+     * but may be overridden for better performance: see {@link Executor#onChangeParameters(Collection)}.
+     *
+     * @param names names of the changed parameters.
+     */
+    public void onChangeParameters(Collection<String> names) {
+        Objects.requireNonNull(names, "Null names");
+        for (String name : names) {
+            onChangeParameter(name);
+        }
+    }
+
     /**
      * Function called before {@link #execute(ExecutionMode)}, but,
      * if there is a loop, called only before <b>first iteration</b> of the loop.
@@ -1055,6 +1069,35 @@ public abstract class ExecutionBlock extends PropertyChecker implements AutoClos
         return closed;
     }
 
+    /**
+     * Returns <code>true</code> if this executor may be reused by another copy of the same chain
+     * after the chain, that used it, is freed (see {@link net.algart.executors.api.chains.Chain#cleanCopy()}).
+     * In this case, instead of {@link #close()}, the chain calls {@link #prepareForReuse()} and stores
+     * the executor; a new copy of the chain restores its parameters to the state after creation,
+     * sets all its ports and parameters like for a newly created executor and
+     * calls {@link #reset()} before the first execution.
+     *
+     * <p>So, an executor may return <code>true</code> only if {@link #reset()} restores
+     * all its internal state to the initial one, and if the result does not depend on anything,
+     * set by its constructor or by the executor factory besides the parameters.
+     * Default implementation returns <code>false</code>.</p>
+     *
+     * <p>Note: this method is checked both before storing the executor and before reusing it.</p>
+     *
+     * @return whether this executor can be reused instead of creating new one.
+     */
+    public boolean isReusable() {
+        return false;
+    }
+
+    /**
+     * Called instead of {@link #close()} when the {@link #isReusable() reusable} executor is stored for future
+     * reuse. Default implementation calls {@link #freeAllPortData()}.
+     */
+    public void prepareForReuse() {
+        freeAllPortData();
+    }
+
     /**
      * If this function returns <code>true</code>, it means that calculations
      * are not finished and should be repeated (for example, all the chain should be restarted and executed again).
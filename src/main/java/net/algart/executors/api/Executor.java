@@ -42,6 +42,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
@@ -81,8 +82,8 @@ public abstract class Executor extends ExecutionBlock {
     // such names are detected with debug logging instead
 
 
-    private static final Map<String, Map<String, ParameterSetter>> EXECUTOR_CLASS_SETTERS = new HashMap<>();
-    private static final Map<String, Map<String, ValueType>> EXECUTOR_CLASS_PARAMETER_TYPES = new HashMap<>();
+    private static final Map<String, ClassParameterSetters> EXECUTOR_CLASS_SETTERS = new ConcurrentHashMap<>();
+    // - compiled once per executor class; the map is concurrent to avoid locking in every constructor
     static final Set<String> NON_SETTERS = new HashSet<>(Arrays.asList(
             "setDefaultInputPort",
             "setDefaultOutputPort",
@@ -114,6 +115,7 @@ public abstract class Executor extends ExecutionBlock {
     private boolean onChangeParametersAutomatic = true;
     private final Map<String, ParameterSetter> parameterSetters;
     private final Map<String, ValueType> parameterTypes;
+    private final boolean standardOnChangeParameter;
 
     private String defaultInputPortName = DEFAULT_INPUT_PORT;
     private String defaultOutputPortName = DEFAULT_OUTPUT_PORT;
@@ -137,22 +139,14 @@ public abstract class Executor extends ExecutionBlock {
         if (loggingEnabled()) {
             logDebug(() -> "Creating executor " + className);
         }
-        synchronized (EXECUTOR_CLASS_SETTERS) {
-            Map<String, ParameterSetter> setters = EXECUTOR_CLASS_SETTERS.get(className);
-            Map<String, ValueType> parameterTypes = EXECUTOR_CLASS_PARAMETER_TYPES.get(className);
-            if (setters == null) {
-                assert parameterTypes == null;
-                setters = ParameterSetter.findSetters(this);
-                parameterTypes = new TreeMap<>();
-                for (Map.Entry<String, ParameterSetter> entry : setters.entrySet()) {
-                    parameterTypes.put(entry.getKey(), entry.getValue().getValueType());
-                }
-                EXECUTOR_CLASS_SETTERS.put(className, setters);
-                EXECUTOR_CLASS_PARAMETER_TYPES.put(className, parameterTypes);
-            }
-            this.parameterSetters = setters;
-            this.parameterTypes = parameterTypes;
+        ClassParameterSetters classSetters = EXECUTOR_CLASS_SETTERS.get(className);
+        if (classSetters == null) {
+            classSetters = EXECUTOR_CLASS_SETTERS.computeIfAbsent(className, k -> ClassParameterSetters.of(this));
+            // - quick check without locking the map
         }
+        this.parameterSetters = classSetters.setters;
+        this.parameterTypes = classSetters.parameterTypes;
+        this.standardOnChangeParameter = classSetters.standardOnChangeParameter;
     }
 
     @Override
@@ -627,6 +621,33 @@ public abstract class Executor extends ExecutionBlock {
         }
     }
 
+    /**
+     * This implementation is equivalent to the loop of calls of {@link #onChangeParameter(String)},
+     * but, if this class does not override {@link #onChangeParameter(String)},
+     * it directly calls the compiled setters of all parameters without additional overhead.
+     *
+     * @param names names of the changed parameters.
+     */
+    @Override
+    public void onChangeParameters(Collection<String> names) {
+        Objects.requireNonNull(names, "Null names");
+        if (!standardOnChangeParameter || !onChangeParametersAutomatic || LOGGABLE_TRACE) {
+            super.onChangeParameters(names);
+            return;
+        }
+        for (String name : names) {
+            Objects.requireNonNull(name, "Null parameter name");
+            final ParameterSetter setter = parameterSetters.get(name);
+            if (setter != null && !deprecatedParameter(name)
+                    && !onChangeParametersAutomaticDisabledParameters.contains(name)) {
+                setter.set(this);
+            } else {
+                onChangeParameter(name);
+                // - rare case: deprecated, disabled or unknown parameter
+            }
+        }
+    }
+
     public final void disableOnChangeParametersAutomatic() {
         this.onChangeParametersAutomatic = false;
     }
@@ -971,4 +992,25 @@ public abstract class Executor extends ExecutionBlock {
             return String.format(Locale.US, "time: %s%n", new Date()) + memoryInfo();
         }
     }
+
+    private record ClassParameterSetters(
+            Map<String, ParameterSetter> setters,
+            Map<String, ValueType> parameterTypes,
+            boolean standardOnChangeParameter) {
+        static ClassParameterSetters of(Executor executor) {
+            final Map<String, ParameterSetter> setters = ParameterSetter.findSetters(executor);
+            final Map<String, ValueType> parameterTypes = new TreeMap<>();
+            for (Map.Entry<String, ParameterSetter> entry : setters.entrySet()) {
+                parameterTypes.put(entry.getKey(), entry.getValue().getValueType());
+            }
+            final boolean standardOnChangeParameter;
+            try {
+                standardOnChangeParameter = executor.getClass().getMethod("onChangeParameter", String.class)
+                        .getDeclaringClass() == Executor.class;
+            } catch (NoSuchMethodException e) {
+                throw new AssertionError("No public onChangeParameter method in " + executor.getClass(), e);
+            }
+            return new ClassParameterSetters(setters, parameterTypes, standardOnChangeParameter);
+        }
+    }
 }
@@ -29,15 +29,30 @@ import net.algart.executors.api.parameters.ValueType;
 import net.algart.executors.api.parameters.Parameters;
 
 import java.awt.*;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 
+/**
+ * Setter of one parameter of the executor, corresponding to some public <code>setXxx</code> method.
+ *
+ * <p>Setters are found once per executor class (see {@link Executor} constructor) and are compiled
+ * into {@link MethodHandle}: unlike <code>Method.invoke</code>, calling a method handle does not require
+ * checking access rights, boxing primitive arguments and creating an array of arguments.
+ * The handle of a setter with a primitive argument has the type <code>(Executor, primitive)void</code>,
+ * the handles of all other setters have the type <code>(Executor, Object)void</code>.</p>
+ */
 abstract class ParameterSetter {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
     final Method method;
+    final MethodHandle handle;
+    // - null if the method is not accessible for public lookup (for example, declared in a non-public class)
     private final int priority;
     final String parameterName;
     final Class<?> parameterType;
@@ -46,6 +61,7 @@ abstract class ParameterSetter {
         assert method != null;
         assert parameterType != null;
         this.method = method;
+        this.handle = compile(method, parameterType.isPrimitive() ? parameterType : Object.class);
         this.priority = priority;
         this.parameterType = parameterType;
         final String parameterName = method.getName().substring("set".length());
@@ -57,27 +73,34 @@ abstract class ParameterSetter {
 
     abstract ValueType getValueType();
 
-    void set(Executor executor) {
-        try {
-            final Object value = getValue(executor.parameters());
+    final void set(Executor executor) {
+        if (handle == null) {
+            throw new AssertionError("Cannot call method \"" + method + "\" for executor " + executor);
+        }
+        final Parameters parameters = executor.parameters();
+        if (Executor.LOG.isLoggable(System.Logger.Level.TRACE)) {
+            final Object value = getValue(parameters);
             Executor.LOG.log(System.Logger.Level.TRACE, () -> "    Setting property " + parameterName
                     + " to " + value + " by " + getClass().getSimpleName());
-            method.invoke(executor, value);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError("Cannot call method \"" + method + "\" for executor " + executor);
-        } catch (InvocationTargetException e) {
-            final Throwable cause = e.getTargetException();
-            if (cause instanceof RuntimeException) {
-                throw (RuntimeException) cause;
-            } else if (cause instanceof Error) {
-                throw (Error) cause;
-            } else {
-                throw new AssertionError("Setter method \"" + method
-                        + "\" throws unexpected checked exception", e);
-            }
+        }
+        try {
+            invoke(executor, parameters);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new AssertionError("Setter method \"" + method
+                    + "\" throws unexpected checked exception", e);
         }
     }
 
+    /**
+     * Calls the setter with the value from the given parameters.
+     * Overridden for primitive types to avoid boxing.
+     */
+    void invoke(Executor executor, Parameters parameters) throws Throwable {
+        handle.invokeExact(executor, getValue(parameters));
+    }
+
     static Map<String, ParameterSetter> findSetters(Executor executor) {
         Objects.requireNonNull(executor, "Null executor");
         final Map<String, ParameterSetter> result = new LinkedHashMap<>();
@@ -100,6 +123,18 @@ abstract class ParameterSetter {
         return result;
     }
 
+    private static MethodHandle compile(Method method, Class<?> argumentType) {
+        final MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            return null;
+            // - set() will throw an exception, as well as Method.invoke would do
+        }
+        return handle.asType(MethodType.methodType(void.class, Executor.class, argumentType));
+        // - note: the result of "fluent" setters (returning this) is dropped
+    }
+
     private static ParameterSetter getInstanceOrNull(Method method) {
         Objects.requireNonNull(method);
         final String name = method.getName();
@@ -154,6 +189,11 @@ abstract class ParameterSetter {
             return properties.getBoolean(parameterName);
         }
 
+        @Override
+        void invoke(Executor executor, Parameters parameters) throws Throwable {
+            handle.invokeExact(executor, parameters.getBoolean(parameterName));
+        }
+
         @Override
         ValueType getValueType() {
             return ValueType.BOOLEAN;
@@ -170,6 +210,11 @@ abstract class ParameterSetter {
             return properties.getInteger(parameterName);
         }
 
+        @Override
+        void invoke(Executor executor, Parameters parameters) throws Throwable {
+            handle.invokeExact(executor, parameters.getInteger(parameterName));
+        }
+
         @Override
         ValueType getValueType() {
             return ValueType.INT;
@@ -186,6 +231,11 @@ abstract class ParameterSetter {
             return properties.getLong(parameterName);
         }
 
+        @Override
+        void invoke(Executor executor, Parameters parameters) throws Throwable {
+            handle.invokeExact(executor, parameters.getLong(parameterName));
+        }
+
         @Override
         ValueType getValueType() {
             return ValueType.LONG;
@@ -202,6 +252,11 @@ abstract class ParameterSetter {
             return (float) properties.getDouble(parameterName);
         }
 
+        @Override
+        void invoke(Executor executor, Parameters parameters) throws Throwable {
+            handle.invokeExact(executor, (float) parameters.getDouble(parameterName));
+        }
+
         @Override
         ValueType getValueType() {
             return ValueType.FLOAT;
@@ -218,6 +273,11 @@ abstract class ParameterSetter {
             return properties.getDouble(parameterName);
         }
 
+        @Override
+        void invoke(Executor executor, Parameters parameters) throws Throwable {
+            handle.invokeExact(executor, parameters.getDouble(parameterName));
+        }
+
         @Override
         ValueType getValueType() {
             return ValueType.DOUBLE;
@@ -363,6 +423,7 @@ abstract class ParameterSetter {
         @SuppressWarnings("rawtypes")
         private final Class<? extends Enum> enumClass;
         private final Method valueOfNameCustomMethod;
+        private final MethodHandle valueOfNameCustomHandle;
 
         EnumSetter(Method method, Class<?> enumClass) {
             super(method, enumClass, 10);
@@ -381,25 +442,31 @@ abstract class ParameterSetter {
             } catch (NoSuchMethodException ignored) {
             }
             this.valueOfNameCustomMethod = valueOfNameCustomMethod;
+            MethodHandle valueOfNameCustomHandle = null;
+            if (valueOfNameCustomMethod != null) {
+                try {
+                    valueOfNameCustomHandle = LOOKUP.unreflect(valueOfNameCustomMethod)
+                            .asType(MethodType.methodType(Object.class, String.class));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Method " + valueOfNameCustomMethod + " is not accessible", e);
+                }
+            }
+            this.valueOfNameCustomHandle = valueOfNameCustomHandle;
         }
 
         @Override
         @SuppressWarnings("unchecked")
         Object getValue(Parameters properties) {
             final String enumName = properties.getString(parameterName);
-            if (valueOfNameCustomMethod != null) {
+            if (valueOfNameCustomHandle != null) {
                 try {
-                    return valueOfNameCustomMethod.invoke(null, enumName);
-                } catch (IllegalAccessException e) {
-                    throw new IllegalArgumentException("Cannot use " + valueOfNameCustomMethod + " in " + method, e);
-                } catch (InvocationTargetException e) {
-                    if (e.getCause() instanceof IllegalArgumentException) {
-                        throw new NoValidParameterException(
-                                "Cannot find enum " + enumName + " while calling " + method, e.getCause());
-                    } else {
-                        throw new IllegalArgumentException(
-                                "Cannot use " + valueOfNameCustomMethod + " in " + method, e);
-                    }
+                    return (Object) valueOfNameCustomHandle.invokeExact(enumName);
+                } catch (IllegalArgumentException e) {
+                    throw new NoValidParameterException(
+                            "Cannot find enum " + enumName + " while calling " + method, e);
+                } catch (Throwable e) {
+                    throw new IllegalArgumentException(
+                            "Cannot use " + valueOfNameCustomMethod + " in " + method, e);
                 }
             }
             try {
@@ -37,10 +37,10 @@ import net.algart.executors.api.system.ExecutorFactory;
 import net.algart.executors.api.system.ExecutorSpecification;
 import net.algart.executors.api.system.CreateMode;
 import net.algart.executors.modules.core.common.TimingStatistics;
-import net.algart.json.Jsons;
 
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
@@ -75,6 +75,8 @@ public final class Chain implements AutoCloseable {
     private volatile boolean multithreading = false;
     private volatile boolean executeAll = false;
     private volatile boolean ignoreExceptions = false;
+    private volatile boolean freeDataEarly = false;
+    private volatile ExecutorService threadPool = null;
     private volatile boolean timingByExecutorsEnabled = false;
     // - This flag enables executors, called from the chain, to collect statistics about their timing.
     // By default, disabled: measuring time while multithreading execution cannot be correct;
@@ -87,11 +89,16 @@ public final class Chain implements AutoCloseable {
     private volatile List<ChainBlock> allInputs = null;
     private volatile List<ChainBlock> allOutputs = null;
     private volatile List<ChainBlock> allData = null;
+    private volatile ChainExecutionPlan executionPlan = null;
+    private final ExecutorRecycler executorRecycler;
+    // - recycler, shared by all clean copies of the same chain; null for chains, which are not copies
+    private volatile ExecutorRecycler recyclerForCopies = null;
 
     private final Object chainLock = new Object();
     // - We must not execute the same chain from different threads:
     // setting and passing input data and parameter will interfere.
     final Object blocksInteractionLock = new Object();
+    private final Object recyclerLock = new Object();
     final AtomicInteger executionIndex = new AtomicInteger(0);
     volatile boolean needToRepeat = false;
     private volatile Executor caller = null;
@@ -101,6 +108,7 @@ public final class Chain implements AutoCloseable {
         this.executionContext = executionContext;
         this.id = Objects.requireNonNull(id, "Null chain ID");
         this.executorFactory = Objects.requireNonNull(executorFactory, "Null executor factory");
+        this.executorRecycler = null;
     }
 
     private Chain(Chain chain) {
@@ -121,8 +129,10 @@ public final class Chain implements AutoCloseable {
 
         this.currentDirectory = chain.currentDirectory;
         this.multithreading = chain.multithreading;
+        this.threadPool = chain.threadPool;
         this.executeAll = chain.executeAll;
         this.ignoreExceptions = chain.ignoreExceptions;
+        this.freeDataEarly = chain.freeDataEarly;
         this.timingByExecutorsEnabled = chain.timingByExecutorsEnabled;
 
         this.mainSettingsBuilder = chain.mainSettingsBuilder;
@@ -132,10 +142,13 @@ public final class Chain implements AutoCloseable {
         this.allInputs = null;
         this.allOutputs = null;
         this.allData = null;
+        this.executionPlan = null;
         // - like in default constructor: they will be automatically recalculated and cached (see getAllInputs etc.)
         this.needToRepeat = false;
         this.caller = null;
         // - like in default constructor; should be set again when necessary
+        this.executorRecycler = chain.recyclerForCopies();
+        // - reusable executors, released by one copy, may be used by other copies of the same chain
 
         chain.allBlocks.values().forEach(chainBlock -> this.addBlock(chainBlock.cleanCopy(this)));
         // - also fills this.allPorts
@@ -289,6 +302,28 @@ public final class Chain implements AutoCloseable {
         return this;
     }
 
+    public ExecutorService getThreadPool() {
+        return threadPool;
+    }
+
+    /**
+     * Sets the thread pool, used for parallel execution of independent blocks in multithreading mode.
+     * If it is <code>null</code> (default value), a common pool is used; its parallelism
+     * is specified by the system property <code>net.algart.executors.api.chains.parallelism</code>
+     * (by default, it is the number of available processors).
+     * Has no effect if {@link #isMultithreading()} returns <code>false</code>.
+     *
+     * <p>The thread that calls {@link #executeNecessary} always takes part in the execution,
+     * so, the chain works correctly even with an empty or saturated pool.</p>
+     *
+     * @param threadPool new thread pool; can be <code>null</code>.
+     * @return a reference to this object.
+     */
+    public Chain setThreadPool(ExecutorService threadPool) {
+        this.threadPool = threadPool;
+        return this;
+    }
+
     public boolean isExecuteAll() {
         return executeAll;
     }
@@ -307,6 +342,39 @@ public final class Chain implements AutoCloseable {
         return this;
     }
 
+    public boolean isFreeDataEarly() {
+        return freeDataEarly;
+    }
+
+    /**
+     * Sets the flag, that allows to free intermediate data while executing the chain, as soon as
+     * they become unnecessary: the data of the input ports of every block (and of the corresponding ports
+     * of its executor) are freed immediately after executing the block, and the data of the output ports &mdash;
+     * when they are copied to all connected input ports.
+     * So, the peak memory usage is determined by the data, which are "alive" at the same time,
+     * instead of the sum of all intermediate results.
+     *
+     * <p>The data of the standard output blocks and of the blocks with read-only executors are not
+     * freed early; they are freed by {@link #freeData()} as usual.</p>
+     *
+     * <p>By default, this flag is <code>false</code>: all the data stay available after
+     * {@link #executeNecessary} until {@link #freeData()} call, for example, for debugging needs.
+     * You may set it to <code>true</code> if you call {@link #freeData()} after every execution in any case.
+     * Sub-chains, executed by {@link net.algart.executors.api.chains.core.InterpretChain}, always use this mode,
+     * unless the system property "net.algart.executors.api.chains.freeDataEarly" is <code>false</code>
+     * and this flag was not set explicitly.</p>
+     *
+     * <p>Conditional inputs, which are skipped in the current execution, are not counted as consumers:
+     * an output port is freed when all other connected inputs have received their data.</p>
+     *
+     * @param freeDataEarly whether the intermediate data should be freed while execution.
+     * @return a reference to this object.
+     */
+    public Chain setFreeDataEarly(boolean freeDataEarly) {
+        this.freeDataEarly = freeDataEarly;
+        return this;
+    }
+
     public boolean isTimingByExecutorsEnabled() {
         return timingByExecutorsEnabled;
     }
@@ -383,6 +451,7 @@ public final class Chain implements AutoCloseable {
         if (!allLinks.add(link)) {
             throw new IllegalArgumentException("Duplicate link: " + link);
         }
+        this.executionPlan = null;
         if (srcPort.block.isExecutedAtRunTime() && destPort.block.isExecutedAtRunTime()) {
             // - ignore links from/to disabled or non-runtime blocks
             ((ChainOutputPort) srcPort).addConnection((ChainInputPort) destPort);
@@ -463,8 +532,13 @@ public final class Chain implements AutoCloseable {
     public void reinitializeAll() throws IllegalStateException {
         synchronized (chainLock) {
             this.contextId = CURRENT_CONTEXT_ID.getAndIncrement();
-            checkRecursiveDependencies();
+            if (executionPlan == null) {
+                checkRecursiveDependencies();
+                // - no sense to check this again if the structure of the chain was not changed
+            }
             allBlocks.values().forEach(block -> block.reinitialize(false));
+            executionPlan();
+            // - compiles the execution plan if it was not compiled yet: now all executors are created
         }
     }
 
@@ -588,7 +662,7 @@ public final class Chain implements AutoCloseable {
 
     public void checkRecursiveDependencies() {
         synchronized (chainLock) {
-            prepareExecution(true);
+            prepareExecution((ChainExecutionPlan) null);
             allBlocks.values().forEach(ChainBlock::checkRecursiveDependencies);
         }
     }
@@ -599,7 +673,8 @@ public final class Chain implements AutoCloseable {
 
     public void executeNecessary(ExecutionBlock executor) {
         synchronized (chainLock) {
-            prepareExecution(true);
+            final ChainExecutionPlan plan = executionPlan();
+            prepareExecution(plan);
             final Collection<ChainBlock> all = allBlocks.values();
             all.forEach(ChainBlock::reset);
             for (; ; ) {
@@ -611,11 +686,17 @@ public final class Chain implements AutoCloseable {
                                 // So, if it wants to receive ALL results, we should use ALL outputs of this chain.
                                 getAllOutputs() :
                                 getAllNecessaryOutputs(executor);
-                ChainBlock.executeWithAllDependentInputs(blocksToExecute, multithreading);
+                if (multithreading) {
+                    ChainScheduler.execute(this, plan, blocksToExecute);
+                } else {
+                    for (ChainBlock block : plan.executionOrder(blocksToExecute)) {
+                        block.executeWithAllDependentInputs(plan);
+                    }
+                }
                 if (!this.needToRepeat) {
                     break;
                 }
-                prepareExecution(false);
+                prepareExecution(plan);
                 // - but not calling reset() again!
             }
         }
@@ -630,6 +711,12 @@ public final class Chain implements AutoCloseable {
     public void freeResources() {
         synchronized (chainLock) {
             allBlocks.values().forEach(ChainBlock::freeResources);
+            executionPlan = null;
+            final ExecutorRecycler recyclerForCopies = this.recyclerForCopies;
+            if (recyclerForCopies != null) {
+                this.recyclerForCopies = null;
+                recyclerForCopies.close();
+            }
         }
     }
 
@@ -652,7 +739,15 @@ public final class Chain implements AutoCloseable {
         return mainSettingsBuilder;
     }
 
-    public String setSettings(JsonObject selectedChainSettings) {
+    /**
+     * Passes the given settings to the main settings block of this chain.
+     * The settings are passed as a parsed JSON (see {@link SScalar#setToJson(JsonObject)}):
+     * they are not serialized into a string unless some client really needs it.
+     *
+     * @param selectedChainSettings settings for this chain; may be <code>null</code>, then this method does nothing.
+     * @return the scalar, containing the passed settings, or <code>null</code> if the argument is <code>null</code>.
+     */
+    public SScalar setSettings(JsonObject selectedChainSettings) {
         if (selectedChainSettings == null) {
             return null;
         }
@@ -677,9 +772,9 @@ public final class Chain implements AutoCloseable {
                 // function UseChainSettings, but also with a simple UseSettings
             }
         }
-        final String prettyString = Jsons.toPrettyString(selectedChainSettings);
-        settingsBlock.setActualInputData(Executor.SETTINGS, SScalar.of(prettyString));
-        return prettyString;
+        final SScalar settings = SScalar.ofJson(selectedChainSettings);
+        settingsBlock.setActualInputData(Executor.SETTINGS, settings);
+        return settings;
     }
 
     public void assignSettings(SettingsBuilder mainSettingsBuilder) {
@@ -791,17 +886,50 @@ public final class Chain implements AutoCloseable {
         }
     }
 
-    private void prepareExecution(boolean firstIteration) {
+    private void prepareExecution(ChainExecutionPlan plan) {
         synchronized (chainLock) {
             executionIndex.set(0);
-            ChainBlock.prepareExecution(allBlocks.values());
+            for (ChainBlock block : allBlocks.values()) {
+                block.prepareExecution(plan);
+            }
         }
     }
 
+    ExecutorRecycler executorRecycler() {
+        return executorRecycler;
+    }
+
+    ChainExecutionPlan executionPlan() {
+        var executionPlan = this.executionPlan;
+        if (executionPlan == null) {
+            executionPlan = ChainExecutionPlan.compile(this);
+            if (executionPlan.isComplete()) {
+                // - if some executors are not created yet, the plan is not reliable and must not be cached
+                this.executionPlan = executionPlan;
+            }
+        }
+        return executionPlan;
+    }
+
+    private ExecutorRecycler recyclerForCopies() {
+        ExecutorRecycler result = this.recyclerForCopies;
+        if (result == null) {
+            synchronized (recyclerLock) {
+                // - not chainLock: this chain may be executed now in another thread
+                result = this.recyclerForCopies;
+                if (result == null) {
+                    this.recyclerForCopies = result = new ExecutorRecycler();
+                }
+            }
+        }
+        return result;
+    }
+
     private void clearCache() {
         this.allData = null;
         this.allInputs = null;
         this.allOutputs = null;
+        this.executionPlan = null;
     }
 
     private static double averageTime(ChainBlock chainBlock) {
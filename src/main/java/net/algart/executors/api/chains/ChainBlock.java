@@ -93,6 +93,8 @@ public final class ChainBlock {
     private String standardInputOutputPortName = null;
 
     volatile ExecutionBlock executor = null;
+    private Parameters executorDefaultParameters = null;
+    // - parameters of the reusable executor immediately after its creation: restored before reusing
 
     private final Object lock = new Object();
 
@@ -157,6 +159,7 @@ public final class ChainBlock {
         this.standardInputOutputPortName = block.standardInputOutputPortName;
 
         this.executor = null;
+        this.executorDefaultParameters = null;
         // - IMPORTANT: executor must not be shallow-cloned here!
         // Executors almost always are not thread-safe: they store some information in output ports.
         // If the same executor instance does this in parallel in different threads
@@ -517,26 +520,22 @@ public final class ChainBlock {
                 // This execution algorithm does not use them, but they can become necessary
                 // for some external clients.
                 if (this.executor == null) {
+                    final ExecutorRecycler recycler = chain.executorRecycler();
+                    final ExecutorRecycler.Entry reused = recycler == null ? null : recycler.poll(id);
                     final ExecutionBlock executor;
-                    try {
-                        final ExecutorFactory factory = chain.executorFactory();
-                        executor = factory.newExecutor(executorId, CreateMode.NO_REQUEST);
-                    } catch (ClassNotFoundException | ExecutorExpectedException e) {
-                        throw new IllegalStateException("Cannot initialize block with executor ID " + executorId
-                                + (this.blockSpecification == null ?
-                                "" :
-                                " (name=" + ExecutorSpecification.quote(blockSpecification.getExecutorName())
-                                        + ", category=" + ExecutorSpecification.quote(
-                                        blockSpecification.getExecutorCategory())
-                                        + ")")
-                                + (e instanceof ClassNotFoundException ?
-                                " - Java class not found: " + e.getMessage() :
-                                " - non-registered ID \"" + executorId + "\""),
-                                e);
-                    }
-                    // - calling constructor; maybe, some ports are created here
-                    if (executor == null) {
-                        throw new AssertionError("Invalid executor factory (created null executor)");
+                    if (reused != null) {
+                        executor = reused.executor();
+                        executor.setParameters(reused.defaultParameters());
+                        this.executorDefaultParameters = reused.defaultParameters();
+                    } else {
+                        executor = newExecutor();
+                        // - calling constructor; maybe, some ports are created here
+                        if (executor == null) {
+                            throw new AssertionError("Invalid executor factory (created null executor)");
+                        }
+                        this.executorDefaultParameters = recycler != null && executor.isReusable() ?
+                                executor.parameters().snapshot() :
+                                null;
                     }
 
                     // Deprecated restriction:
@@ -555,7 +554,7 @@ public final class ChainBlock {
                         executor.setContextPath(path.toAbsolutePath().toString());
                     }
                     updateSystemSettings(executor);
-                    updateParameters(executor);
+                    updateParameters(executor, reused != null);
                     if (executor instanceof Executor e) {
                         e.setTimingEnabled(chain.isTimingByExecutorsEnabled());
                     }
@@ -567,6 +566,25 @@ public final class ChainBlock {
         }
     }
 
+    private ExecutionBlock newExecutor() {
+        try {
+            final ExecutorFactory factory = chain.executorFactory();
+            return factory.newExecutor(executorId, CreateMode.NO_REQUEST);
+        } catch (ClassNotFoundException | ExecutorExpectedException e) {
+            throw new IllegalStateException("Cannot initialize block with executor ID " + executorId
+                    + (this.blockSpecification == null ?
+                    "" :
+                    " (name=" + ExecutorSpecification.quote(blockSpecification.getExecutorName())
+                            + ", category=" + ExecutorSpecification.quote(
+                            blockSpecification.getExecutorCategory())
+                            + ")")
+                    + (e instanceof ClassNotFoundException ?
+                    " - Java class not found: " + e.getMessage() :
+                    " - non-registered ID \"" + executorId + "\""),
+                    e);
+        }
+    }
+
     public void reset() {
         synchronized (lock) {
             if (isExecutedAtRunTime()) {
@@ -584,6 +602,10 @@ public final class ChainBlock {
 
     // This method does not access executor, unlike reset() method
     public void prepareExecution() {
+        prepareExecution((ChainExecutionPlan) null);
+    }
+
+    void prepareExecution(ChainExecutionPlan plan) {
         synchronized (lock) {
             ready = false;
             dataFreed = false;
@@ -591,7 +613,12 @@ public final class ChainBlock {
             readyAlwaysNecessaryInputs = false;
             numberOfExecutionsForAssertion.set(0);
             for (ChainOutputPort chainOutputPort : outputPorts.values()) {
-                chainOutputPort.resetConnectedInputsInformation();
+                final ChainExecutionPlan.Consumers consumers = plan == null ? null : plan.consumers(chainOutputPort);
+                if (consumers != null) {
+                    chainOutputPort.resetConnectedInputsInformation(consumers);
+                } else {
+                    chainOutputPort.resetConnectedInputsInformation();
+                }
             }
         }
     }
@@ -655,6 +682,10 @@ public final class ChainBlock {
     }
 
     public void executeWithAllDependentInputs() {
+        executeWithAllDependentInputs(chain.executionPlan());
+    }
+
+    void executeWithAllDependentInputs(ChainExecutionPlan plan) {
         if (ready) {
             return;
         }
@@ -663,58 +694,27 @@ public final class ChainBlock {
         }
 
 //        debugInformation("A");
-        final List<ChainInputPort> necessaryAlways = new ArrayList<>();
-        final List<ChainInputPort> necessarySometimes = new ArrayList<>();
-        checkConnectedInputs(necessaryAlways, necessarySometimes);
+        final ChainExecutionPlan.BlockInputs inputs = plan.inputs(this);
+        final List<ChainInputPort> necessaryAlways = inputs.necessaryAlways();
+        final List<ChainInputPort> necessarySometimes = inputs.necessarySometimes();
         streamOfInputs(necessaryAlways).forEach(chainInputPort -> {
             if (!ready) {
                 // - no sense to continue if another thread has already finished processing this block
-                chainInputPort.connectedSourceBlock().executeWithAllDependentInputs();
+                chainInputPort.connectedSourceBlock().executeWithAllDependentInputs(plan);
             }
         });
         List<ChainInputPort> actualInputPorts = necessaryAlways;
         if (!necessarySometimes.isEmpty()) {
-            final List<ChainInputPort> necessaryNow;
-            synchronized (lock) {
-                if (!readyAlwaysNecessaryInputs) {
-                    // - Important! While multithreading, it could become ready while executing
-                    // connected blocks above, as a result of some parallel execution.
-                    // In this case, we must not call copyFromConnectedPort() again:
-                    // it will lead to IllegalStateException in reduceCountOfConnectedInputs() call.
-                    copyFromConnectedPorts(necessaryAlways);
-                    copyInputPortsToExecutor(necessaryAlways);
-                    readyAlwaysNecessaryInputs = true;
-                }
-                necessaryNow = allNecessaryNow(necessarySometimes);
-            }
+            final List<ChainInputPort> necessaryNow = copyAlwaysNecessaryInputs(necessaryAlways, necessarySometimes);
             streamOfInputs(necessaryNow).forEach(chainInputPort -> {
                 if (!ready) {
                     // - no sense to continue if another thread already finished processing this block
-                    chainInputPort.connectedSourceBlock().executeWithAllDependentInputs();
+                    chainInputPort.connectedSourceBlock().executeWithAllDependentInputs(plan);
                 }
             });
             actualInputPorts = necessaryNow;
         }
-        synchronized (lock) {
-            if (ready) {
-                // - Important! While multithreading, it could become ready while executing
-                // connected blocks above, as a result of some parallel execution.
-                // In this case, we must not call execute(), and also we must not call copyFromConnectedPort() again:
-                // it will lead to IllegalStateException in reduceCountOfConnectedInputs() call.
-                return;
-            }
-            if (numberOfExecutionsForAssertion.incrementAndGet() > 1) {
-                throw new AssertionError("Cannot be called more than once: " + this);
-            }
-            final long t1 = timing.currentTime();
-            copyFromConnectedPorts(actualInputPorts);
-//            debugInformation("C");
-            final long t2 = timing.currentTime();
-            execute();
-            final long t3 = timing.currentTime();
-            timing.updatePassingData(t2 - t1);
-            timing.updateSummary(t3 - t1);
-        }
+        executeWithActualInputs(actualInputPorts, necessarySometimes);
     }
 
     public void freeData() {
@@ -740,7 +740,15 @@ public final class ChainBlock {
             if (executor != null) {
                 this.executor = null;
                 // - for a case of recursive calls
-                executor.close();
+                final ExecutorRecycler recycler = chain.executorRecycler();
+                final Parameters defaultParameters = this.executorDefaultParameters;
+                if (recycler != null && defaultParameters != null) {
+                    this.executorDefaultParameters = null;
+                    recycler.offer(id, new ExecutorRecycler.Entry(executor, defaultParameters));
+                    // - closes the executor if it cannot be reused
+                } else {
+                    executor.close();
+                }
             }
             closed = true;
         }
@@ -874,6 +882,96 @@ public final class ChainBlock {
         copyInputPortsToExecutor(inputPorts.values());
     }
 
+    // Called after executing all source blocks of necessaryAlways ports;
+    // returns the list of conditional inputs, which are really necessary now
+    List<ChainInputPort> copyAlwaysNecessaryInputs(
+            List<ChainInputPort> necessaryAlways,
+            List<ChainInputPort> necessarySometimes) {
+        synchronized (lock) {
+            if (!readyAlwaysNecessaryInputs) {
+                // - Important! While multithreading, it could become ready while executing
+                // connected blocks above, as a result of some parallel execution.
+                // In this case, we must not call copyFromConnectedPort() again:
+                // it will lead to IllegalStateException in reduceCountOfConnectedInputs() call.
+                copyFromConnectedPorts(necessaryAlways);
+                copyInputPortsToExecutor(necessaryAlways);
+                readyAlwaysNecessaryInputs = true;
+            }
+            return allNecessaryNow(necessarySometimes);
+        }
+    }
+
+    // Called after executing all source blocks of actualInputPorts;
+    // conditional inputs, which are not among actualInputPorts, will never be used by this block
+    void executeWithActualInputs(
+            Collection<ChainInputPort> actualInputPorts,
+            Collection<ChainInputPort> necessarySometimes) {
+        synchronized (lock) {
+            if (ready) {
+                // - Important! While multithreading, it could become ready while executing
+                // connected blocks above, as a result of some parallel execution.
+                // In this case, we must not call execute(), and also we must not call copyFromConnectedPort() again:
+                // it will lead to IllegalStateException in reduceCountOfConnectedInputs() call.
+                return;
+            }
+            if (numberOfExecutionsForAssertion.incrementAndGet() > 1) {
+                throw new AssertionError("Cannot be called more than once: " + this);
+            }
+            final long t1 = timing.currentTime();
+            copyFromConnectedPorts(actualInputPorts);
+//            debugInformation("C");
+            final long t2 = timing.currentTime();
+            execute();
+            if (chain.isFreeDataEarly()) {
+                freeUnnecessaryData();
+                releaseSkippedInputs(actualInputPorts, necessarySometimes);
+            }
+            final long t3 = timing.currentTime();
+            timing.updatePassingData(t2 - t1);
+            timing.updateSummary(t3 - t1);
+        }
+    }
+
+    private void freeUnnecessaryData() {
+        synchronized (chain.blocksInteractionLock) {
+            // - the data of output ports can be accessed by connected blocks in parallel threads
+            if (!isStandardOutput() && !getExecutor().isReadOnlyInput()) {
+                // - read-only executors receive shallow copies of data of other blocks: we must not free them
+                for (ChainInputPort inputPort : inputPorts.values()) {
+                    if (inputPort.isConnected()) {
+                        inputPort.removeData();
+                        // - note: this also frees the data of the executor port, which refers to the same object
+                    }
+                }
+            }
+            for (ChainOutputPort outputPort : outputPorts.values()) {
+                outputPort.removeDataIfUnused();
+            }
+        }
+    }
+
+    private void releaseSkippedInputs(
+            Collection<ChainInputPort> actualInputPorts,
+            Collection<ChainInputPort> necessarySometimes) {
+        synchronized (chain.blocksInteractionLock) {
+            for (ChainInputPort inputPort : necessarySometimes) {
+                if (actualInputPorts.contains(inputPort)) {
+                    continue;
+                }
+                // - this conditional input was not necessary: copyFromConnectedPort() was not called for it,
+                // so we should reduce the counter here, in other case the source data will stay alive
+                // until the end of the chain
+                final ChainOutputPort connectedSource = inputPort.connectedOutputPort();
+                connectedSource.reduceCountOfConnectedInputs();
+                if (connectedSource.block.isReady()) {
+                    connectedSource.removeDataIfUnused();
+                }
+                // - if the source is not executed yet, it will free this data itself after execution
+                // (see freeUnnecessaryData) or will pass them to the last actual consumer by exchanging
+            }
+        }
+    }
+
     private String friendlyName(boolean useCaption) {
         final String executorName = executorSpecification != null ? executorSpecification.getName() :
                 blockSpecification != null ? blockSpecification.getExecutorName() : null;
@@ -944,7 +1042,7 @@ public final class ChainBlock {
         }
     }
 
-    private void checkConnectedInputs(List<ChainInputPort> necessaryAlways, List<ChainInputPort> necessarySometimes) {
+    void checkConnectedInputs(List<ChainInputPort> necessaryAlways, List<ChainInputPort> necessarySometimes) {
         synchronized (lock) {
             assert isExecutedAtRunTime() : "this method should be used for executable blocks only";
             necessaryAlways.clear();
@@ -1076,7 +1174,7 @@ public final class ChainBlock {
         }
     }
 
-    private void updateParameters(ExecutionBlock executor) {
+    private void updateParameters(ExecutionBlock executor, boolean reused) {
         final Parameters executorParameters = executor.parameters();
         for (ChainParameter p : this.parameters.values()) {
             final String parameterName = resolveParameterAlias(executor, p.getName(),
@@ -1084,8 +1182,15 @@ public final class ChainBlock {
             executorParameters.put(parameterName, p.getValue());
         }
         // - before calling onChangeParameter, we should be sure that ALL parameters are set
-        for (String name : this.parameters.keySet()) {
-            executor.onChangeParameter(resolveParameterAlias(executor, name, null));
+        if (reused) {
+            // - some parameters could be changed by the previous owner, for example, via virtual input ports
+            executor.onChangeParameters(List.copyOf(executorParameters.keySet()));
+        } else {
+            final List<String> names = new ArrayList<>(this.parameters.size());
+            for (String name : this.parameters.keySet()) {
+                names.add(resolveParameterAlias(executor, name, null));
+            }
+            executor.onChangeParameters(names);
         }
     }
 
@@ -0,0 +1,169 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.algart.executors.api.chains;
+
+import net.algart.executors.api.system.RecursiveDependenceException;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable execution plan of the chain, compiled once after creating the executors of all its blocks
+ * and replayed by every {@link Chain#executeNecessary} call.
+ *
+ * <p>The plan contains:</p>
+ * <ul>
+ *     <li>for every run-time block: the lists of its connected input ports, which are always necessary
+ *     and which are necessary only sometimes (depending on the executor state, see
+ *     {@link ChainInputPort#necessary()});</li>
+ *     <li>for every output port: the run-time input ports, consuming its data, and whether some of them
+ *     belong to read-only executors;</li>
+ *     <li>for every requested set of blocks: the pruned list of blocks, necessary for calculating them
+ *     via always-necessary inputs, in the topological order (every block follows all its sources).
+ *     These lists are built on demand and cached.</li>
+ * </ul>
+ *
+ * <p>Note that we suppose that whether {@link ChainInputPort#necessary()} returns <code>null</code>
+ * does not depend on the executor state: this is true for all executors, which implement
+ * {@link net.algart.executors.api.ExecutionBlock#checkInputNecessary}.
+ * Blocks, which are necessary only sometimes, are still found dynamically while execution.</p>
+ *
+ * <p>The plan must be recompiled after any change of the chain structure.</p>
+ */
+final class ChainExecutionPlan {
+    record BlockInputs(List<ChainInputPort> necessaryAlways, List<ChainInputPort> necessarySometimes) {
+    }
+
+    record Consumers(int count, boolean hasReadOnlyExecutors) {
+    }
+
+    private final Map<ChainBlock, BlockInputs> inputs;
+    private final Map<ChainOutputPort, Consumers> consumers;
+    private final boolean complete;
+    private final Map<List<ChainBlock>, List<ChainBlock>> executionOrders = new ConcurrentHashMap<>();
+
+    private ChainExecutionPlan(Chain chain) {
+        final Map<ChainBlock, BlockInputs> inputs = new IdentityHashMap<>();
+        final Map<ChainOutputPort, Consumers> consumers = new IdentityHashMap<>();
+        boolean complete = true;
+        for (ChainBlock block : chain.getAllBlocks().values()) {
+            if (!block.isExecutedAtRunTime()) {
+                continue;
+            }
+            complete &= block.executor != null;
+            final List<ChainInputPort> necessaryAlways = new ArrayList<>();
+            final List<ChainInputPort> necessarySometimes = new ArrayList<>();
+            block.checkConnectedInputs(necessaryAlways, necessarySometimes);
+            inputs.put(block, new BlockInputs(List.copyOf(necessaryAlways), List.copyOf(necessarySometimes)));
+            for (ChainOutputPort outputPort : block.outputPorts.values()) {
+                int count = 0;
+                boolean hasReadOnlyExecutors = false;
+                for (ChainInputPort inputPort : outputPort.connected.values()) {
+                    if (inputPort.block.isExecutedAtRunTime()) {
+                        final var executor = inputPort.block.executor;
+                        hasReadOnlyExecutors |= executor != null && executor.isReadOnlyInput();
+                        count++;
+                    }
+                }
+                consumers.put(outputPort, new Consumers(count, hasReadOnlyExecutors));
+            }
+        }
+        this.inputs = Collections.unmodifiableMap(inputs);
+        this.consumers = Collections.unmodifiableMap(consumers);
+        this.complete = complete;
+    }
+
+    static ChainExecutionPlan compile(Chain chain) {
+        Objects.requireNonNull(chain, "Null chain");
+        return new ChainExecutionPlan(chain);
+    }
+
+    /**
+     * Returns <code>true</code> if the executors of all run-time blocks were created before compiling this plan.
+     * In another case, the plan is not reliable (we cannot ask executors about their inputs)
+     * and should not be cached.
+     *
+     * @return whether this plan can be cached.
+     */
+    boolean isComplete() {
+        return complete;
+    }
+
+    BlockInputs inputs(ChainBlock block) {
+        final BlockInputs result = inputs.get(block);
+        if (result == null) {
+            throw new IllegalArgumentException("Block is not executed at run time or does not belong "
+                    + "to the chain of this plan: " + block);
+        }
+        return result;
+    }
+
+    Consumers consumers(ChainOutputPort outputPort) {
+        return consumers.get(outputPort);
+    }
+
+    List<ChainBlock> executionOrder(Collection<ChainBlock> blocks) {
+        Objects.requireNonNull(blocks, "Null blocks");
+        final List<ChainBlock> key = List.copyOf(blocks);
+        List<ChainBlock> result = executionOrders.get(key);
+        if (result == null) {
+            result = buildExecutionOrder(key);
+            executionOrders.putIfAbsent(key, result);
+        }
+        return result;
+    }
+
+    private List<ChainBlock> buildExecutionOrder(List<ChainBlock> blocks) {
+        final List<ChainBlock> result = new ArrayList<>();
+        final Set<ChainBlock> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<ChainBlock> visiting = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ChainBlock block : blocks) {
+            addWithSources(block, result, visited, visiting);
+        }
+        return List.copyOf(result);
+    }
+
+    // Post-order: the same order as in the recursive ChainBlock.executeWithAllDependentInputs
+    private void addWithSources(
+            ChainBlock block,
+            List<ChainBlock> result,
+            Set<ChainBlock> visited,
+            Set<ChainBlock> visiting) {
+        final BlockInputs blockInputs = inputs.get(block);
+        if (blockInputs == null || visited.contains(block)) {
+            // - not a run-time block
+            return;
+        }
+        if (!visiting.add(block)) {
+            throw new RecursiveDependenceException("Recursive dependence in the chain: cannot calculate " + block);
+        }
+        for (ChainInputPort inputPort : blockInputs.necessaryAlways) {
+            addWithSources(inputPort.connectedSourceBlock(), result, visited, visiting);
+        }
+        visiting.remove(block);
+        visited.add(block);
+        result.add(block);
+    }
+}
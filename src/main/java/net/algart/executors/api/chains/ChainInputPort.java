@@ -168,6 +168,10 @@ public final class ChainInputPort extends ChainPort<ChainOutputPort> {
                 // be read from "standard-output" ports.
 //                System.out.println("!!! Exchange with " + block.getExecutor().getClass().getSimpleName());
                 this.data.exchange(connectedSource.getData());
+                if (chain.isFreeDataEarly()) {
+                    connectedSource.removeData();
+                    // - it contains the previous data of this port, usually already freed
+                }
             } else {
                 final boolean shallowCopy = OPTIMIZE_COPYING_DATA
                         && block.getExecutor().isReadOnlyInput() && hasConnectedReadOnlyExecutors;
@@ -179,7 +183,14 @@ public final class ChainInputPort extends ChainPort<ChainOutputPort> {
                 // returns dynamic result, depending on the executor settings.
 //                System.out.println("!!! Copying to " + block.getExecutor().getClass()
 //                        + (shallowCopy ? ": reference only" : ": deep"));
-                this.data.setTo(connectedSource.getData(), !shallowCopy);
+                if (shallowCopy) {
+                    this.data.setTo(connectedSource.getData(), false);
+                } else if (OPTIMIZE_COPYING_DATA) {
+                    this.data.setToShared(connectedSource.getData());
+                    // - copy-on-write: the data will be really cloned only if this executor will modify them
+                } else {
+                    this.data.setTo(connectedSource.getData(), true);
+                }
                 // Note: even for read-only-input executors, we cannot just copy a reference this.data:
                 // it can lead to errors as a result of exchanging contents (data.exchange).
             }
@@ -112,6 +112,11 @@ public final class ChainOutputPort extends ChainPort<ChainInputPort> {
         this.countOfConnectedInputs.set(count);
     }
 
+    void resetConnectedInputsInformation(ChainExecutionPlan.Consumers consumers) {
+        this.hasConnectedReadOnlyExecutors = consumers.hasReadOnlyExecutors();
+        this.countOfConnectedInputs.set(consumers.count());
+    }
+
     public int reduceCountOfConnectedInputs() {
         final int result = countOfConnectedInputs.decrementAndGet();
         if (result < 0) {
@@ -132,6 +137,16 @@ public final class ChainOutputPort extends ChainPort<ChainInputPort> {
         return hasConnectedReadOnlyExecutors;
     }
 
+    /**
+     * Frees data of this port if they are not needed for any connected input port anymore
+     * and the port does not contain the results of the chain.
+     */
+    void removeDataIfUnused() {
+        if (countOfConnectedInputs.get() == 0 && !hasConnectedReadOnlyExecutors && !isStandardOutput()) {
+            removeData();
+        }
+    }
+
     public boolean isStandardOutput() {
         return this.block.isStandardOutput();
     }
@@ -0,0 +1,307 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.algart.executors.api.chains;
+
+import net.algart.arrays.Arrays;
+import net.algart.contexts.InterruptionException;
+import net.algart.executors.api.system.RecursiveDependenceException;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Dependency-counting scheduler, used for multithreading execution of the chain.
+ *
+ * <p>Unlike the recursive {@link ChainBlock#executeWithAllDependentInputs()}, this class does not block
+ * any thread while waiting for the source blocks. It finds all blocks, necessary for calculating
+ * the requested ones, counts the number of unfinished source blocks for each of them and
+ * places blocks without unfinished sources into the ready queue. The ready blocks are executed
+ * by the calling thread and by the helper tasks, submitted to the chain thread pool;
+ * when a block is finished, the counters of its dependent blocks are decremented.</p>
+ *
+ * <p>Conditional inputs (see {@link ChainInputPort#necessary()}) are processed in two stages, like
+ * in the recursive algorithm: the block is scheduled first when all its always-necessary inputs are ready;
+ * then we ask the executor which conditional inputs are really necessary and schedule their sources.</p>
+ *
+ * <p>Each instance is used for one pass of {@link Chain#executeNecessary} and must not be reused.</p>
+ */
+final class ChainScheduler {
+    static final int DEFAULT_PARALLELISM = Math.max(1, Arrays.SystemSettings.getIntProperty(
+            "net.algart.executors.api.chains.parallelism",
+            Arrays.SystemSettings.cpuCount()));
+
+    private static final class DefaultThreadPoolHolder {
+        private static final ForkJoinPool POOL = new ForkJoinPool(
+                DEFAULT_PARALLELISM,
+                ForkJoinPool.defaultForkJoinWorkerThreadFactory,
+                null,
+                true);
+        // - asyncMode = true: helper tasks are never joined, so FIFO order is preferable
+    }
+
+    private final Chain chain;
+    private final ChainExecutionPlan plan;
+    private final ExecutorService threadPool;
+    private final int maxNumberOfHelpers;
+
+    private final Object lock = new Object();
+    private final Map<ChainBlock, Node> nodes = new HashMap<>();
+    private final Deque<Node> readyQueue = new ArrayDeque<>();
+    private int numberOfUnfinished = 0;
+    private int numberOfRunning = 0;
+    private int numberOfHelpers = 0;
+    private Throwable failure = null;
+
+    private ChainScheduler(Chain chain, ChainExecutionPlan plan) {
+        this.chain = Objects.requireNonNull(chain, "Null chain");
+        this.plan = Objects.requireNonNull(plan, "Null execution plan");
+        final ExecutorService threadPool = chain.getThreadPool();
+        this.threadPool = threadPool != null ? threadPool : defaultThreadPool();
+        this.maxNumberOfHelpers = this.threadPool instanceof ForkJoinPool forkJoinPool ?
+                forkJoinPool.getParallelism() :
+                DEFAULT_PARALLELISM;
+    }
+
+    static ExecutorService defaultThreadPool() {
+        return DefaultThreadPoolHolder.POOL;
+    }
+
+    static void execute(Chain chain, ChainExecutionPlan plan, Collection<ChainBlock> blocks) {
+        new ChainScheduler(chain, plan).execute(blocks);
+    }
+
+    private void execute(Collection<ChainBlock> blocks) {
+        Objects.requireNonNull(blocks, "Null blocks");
+        synchronized (lock) {
+            for (ChainBlock block : plan.executionOrder(blocks)) {
+                // - sources precede the blocks, depending on them: demand() will not need recursion here
+                demand(block, null);
+            }
+        }
+        requestHelpers();
+        runReadyBlocks(true);
+        final Throwable failure;
+        synchronized (lock) {
+            failure = this.failure;
+        }
+        if (failure != null) {
+            await(() -> numberOfRunning == 0);
+            // - we must not return while some helpers are still working with this chain
+            if (failure instanceof RuntimeException e) {
+                throw e;
+            }
+            if (failure instanceof Error e) {
+                throw e;
+            }
+            throw new ChainRunningException("Unexpected exception while executing " + chain, failure);
+        }
+    }
+
+    // Must be called under the lock
+    private void demand(ChainBlock block, Node dependent) {
+        if (block.isReady() || !block.isExecutedAtRunTime()) {
+            return;
+        }
+        Node node = nodes.get(block);
+        if (node == null) {
+            node = new Node(block);
+            nodes.put(block, node);
+            numberOfUnfinished++;
+            node.visiting = true;
+            for (ChainInputPort inputPort : node.necessaryAlways) {
+                demand(inputPort.connectedSourceBlock(), node);
+            }
+            node.visiting = false;
+            if (node.numberOfUnfinishedSources == 0) {
+                enqueue(node);
+            }
+        } else if (node.visiting) {
+            throw new RecursiveDependenceException("Recursive dependence in the chain: cannot calculate " + block);
+        }
+        if (dependent != null && !node.finished) {
+            // - note: the same source block can be demanded by several inputs of the dependent one;
+            // in this case, it is added to dependents several times, that is correct
+            node.dependents.add(dependent);
+            dependent.numberOfUnfinishedSources++;
+        }
+    }
+
+    private void runReadyBlocks(boolean waitForCompletion) {
+        for (; ; ) {
+            final Node node;
+            synchronized (lock) {
+                if (failure != null || numberOfUnfinished == 0) {
+                    return;
+                }
+                node = readyQueue.poll();
+                if (node == null && !waitForCompletion) {
+                    return;
+                }
+                if (node != null) {
+                    numberOfRunning++;
+                }
+            }
+            if (node == null) {
+                await(() -> failure != null || numberOfUnfinished == 0 || !readyQueue.isEmpty());
+                continue;
+            }
+            try {
+                process(node);
+            } catch (Throwable e) {
+                synchronized (lock) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            } finally {
+                synchronized (lock) {
+                    numberOfRunning--;
+                    lock.notifyAll();
+                }
+            }
+            requestHelpers();
+        }
+    }
+
+    private void process(Node node) {
+        final ChainBlock block = node.block;
+        if (node.actualInputPorts == null) {
+            if (node.necessarySometimes.isEmpty()) {
+                node.actualInputPorts = node.necessaryAlways;
+            } else {
+                final List<ChainInputPort> necessaryNow = block.copyAlwaysNecessaryInputs(
+                        node.necessaryAlways, node.necessarySometimes);
+                synchronized (lock) {
+                    node.actualInputPorts = necessaryNow;
+                    for (ChainInputPort inputPort : necessaryNow) {
+                        demand(inputPort.connectedSourceBlock(), node);
+                    }
+                    if (node.numberOfUnfinishedSources > 0) {
+                        return;
+                        // - this node will be enqueued again by the last finished source
+                    }
+                }
+            }
+        }
+        block.executeWithActualInputs(node.actualInputPorts, node.necessarySometimes);
+        synchronized (lock) {
+            node.finished = true;
+            numberOfUnfinished--;
+            for (Node dependent : node.dependents) {
+                if (--dependent.numberOfUnfinishedSources == 0) {
+                    enqueue(dependent);
+                }
+            }
+            lock.notifyAll();
+        }
+    }
+
+    // Must be called under the lock
+    private void enqueue(Node node) {
+        readyQueue.add(node);
+        lock.notifyAll();
+    }
+
+    private void requestHelpers() {
+        int count;
+        synchronized (lock) {
+            count = Math.min(readyQueue.size(), maxNumberOfHelpers - numberOfHelpers);
+            if (failure != null || count <= 0) {
+                return;
+            }
+            numberOfHelpers += count;
+        }
+        for (; count > 0; count--) {
+            try {
+                threadPool.execute(this::help);
+            } catch (RejectedExecutionException e) {
+                synchronized (lock) {
+                    numberOfHelpers -= count;
+                }
+                // - not a problem: the calling thread will execute all ready blocks itself
+                return;
+            }
+        }
+    }
+
+    private void help() {
+        try {
+            runReadyBlocks(false);
+        } finally {
+            synchronized (lock) {
+                numberOfHelpers--;
+            }
+        }
+    }
+
+    private void await(BooleanSupplier condition) {
+        try {
+            ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                // - allows ForkJoinPool to compensate the blocked worker while executing sub-chains
+                @Override
+                public boolean block() throws InterruptedException {
+                    synchronized (lock) {
+                        if (!condition.getAsBoolean()) {
+                            lock.wait();
+                        }
+                        return condition.getAsBoolean();
+                    }
+                }
+
+                @Override
+                public boolean isReleasable() {
+                    synchronized (lock) {
+                        return condition.getAsBoolean();
+                    }
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptionException(e);
+        }
+    }
+
+    private final class Node {
+        final ChainBlock block;
+        final List<ChainInputPort> necessaryAlways;
+        final List<ChainInputPort> necessarySometimes;
+        final List<Node> dependents = new ArrayList<>();
+        List<ChainInputPort> actualInputPorts = null;
+        // - null until all always-necessary inputs are ready
+        int numberOfUnfinishedSources = 0;
+        boolean visiting = false;
+        boolean finished = false;
+
+        Node(ChainBlock block) {
+            this.block = block;
+            final ChainExecutionPlan.BlockInputs inputs = plan.inputs(block);
+            this.necessaryAlways = inputs.necessaryAlways();
+            this.necessarySometimes = inputs.necessarySometimes();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.algart.executors.api.chains;
+
+import net.algart.arrays.Arrays;
+import net.algart.executors.api.ExecutionBlock;
+import net.algart.executors.api.parameters.Parameters;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Storage of {@link ExecutionBlock#isReusable() reusable} executors, released by clean copies of the same chain
+ * (see {@link Chain#cleanCopy()}), which can be used by other copies instead of creating new executors.
+ *
+ * <p>The executors are stored separately for every block ID. Together with every executor,
+ * we store its parameters, which it had immediately after creation: they are restored before reusing.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+final class ExecutorRecycler implements AutoCloseable {
+    static final int MAX_NUMBER_OF_STORED_EXECUTORS_PER_BLOCK = Math.max(0, Arrays.SystemSettings.getIntProperty(
+            "net.algart.executors.api.chains.maxNumberOfReusedExecutorsPerBlock", 8));
+
+    record Entry(ExecutionBlock executor, Parameters defaultParameters) {
+        Entry {
+            Objects.requireNonNull(executor, "Null executor");
+            Objects.requireNonNull(defaultParameters, "Null default parameters");
+        }
+    }
+
+    private final Map<String, Deque<Entry>> stored = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> counters = new ConcurrentHashMap<>();
+    private volatile boolean closed = false;
+
+    /**
+     * Retrieves a stored executor for the block with the given ID, or returns <code>null</code> if there are
+     * no suitable executors.
+     *
+     * @param blockId ID of the chain block.
+     * @return the stored executor with its default parameters or <code>null</code>.
+     */
+    Entry poll(String blockId) {
+        Objects.requireNonNull(blockId, "Null blockId");
+        final Deque<Entry> deque = stored.get(blockId);
+        if (deque == null) {
+            return null;
+        }
+        for (Entry entry; (entry = deque.pollFirst()) != null; ) {
+            counters.get(blockId).decrementAndGet();
+            if (entry.executor.isReusable() && !entry.executor.isClosed()) {
+                // - for example, a chain executor can become non-reusable when its chain is re-registered
+                return entry;
+            }
+            entry.executor.close();
+        }
+        return null;
+    }
+
+    /**
+     * Stores the executor for future reuse, if it is {@link ExecutionBlock#isReusable() reusable}
+     * and if there is a space for it. In another case, the executor is closed.
+     *
+     * @param blockId ID of the chain block, which used this executor.
+     * @param entry   the executor and its default parameters.
+     */
+    void offer(String blockId, Entry entry) {
+        Objects.requireNonNull(blockId, "Null blockId");
+        Objects.requireNonNull(entry, "Null entry");
+        final ExecutionBlock executor = entry.executor;
+        if (closed || !executor.isReusable() || executor.isClosed()) {
+            executor.close();
+            return;
+        }
+        final AtomicInteger counter = counters.computeIfAbsent(blockId, k -> new AtomicInteger(0));
+        if (counter.incrementAndGet() > MAX_NUMBER_OF_STORED_EXECUTORS_PER_BLOCK) {
+            counter.decrementAndGet();
+            executor.close();
+            return;
+        }
+        executor.prepareForReuse();
+        stored.computeIfAbsent(blockId, k -> new ConcurrentLinkedDeque<>()).addFirst(entry);
+        if (closed) {
+            // - close() was called in parallel thread: it may be not noticed the added executor
+            closeAllStored();
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        closeAllStored();
+    }
+
+    @Override
+    public String toString() {
+        return "recycler of " + counters.values().stream().mapToInt(AtomicInteger::get).sum()
+                + " reusable executors for " + stored.size() + " blocks" + (closed ? " (closed)" : "");
+    }
+
+    private void closeAllStored() {
+        stored.forEach((blockId, deque) -> {
+            for (Entry entry; (entry = deque.pollFirst()) != null; ) {
+                counters.get(blockId).decrementAndGet();
+                entry.executor.close();
+            }
+        });
+    }
+}
@@ -35,16 +35,20 @@ import java.util.Objects;
 
 public abstract class ChainExecutor extends Executor {
     private volatile Chain chain = null;
+    private volatile Chain registeredWorker = null;
 
     public Chain chain() {
         Chain chain = this.chain;
         if (chain == null) {
-            chain = registeredChain(getSessionId(), getExecutorId());
+            final Chain registeredWorker = registeredWorker(getSessionId(), getExecutorId());
+            chain = registeredWorker.cleanCopy();
+            this.registeredWorker = registeredWorker;
             this.chain = chain;
             // - the order is important for multithreading
         }
         return chain;
     }
+
     public ExecutorFactory executorFactory() {
         //noinspection resource
         return chain().executorFactory();
@@ -60,6 +64,37 @@ public abstract class ChainExecutor extends Executor {
         return chain().newCombine();
     }
 
+    /**
+     * Returns <code>true</code> if the chain, executed by this executor, is still registered
+     * in {@link UseChain#chainLoader()}. In this case, this executor can be reused together with its chain
+     * and all executors of its blocks, which are already created:
+     * this is important for sub-chains, called from other chains many times.
+     *
+     * @return whether this executor can be reused.
+     */
+    @Override
+    public boolean isReusable() {
+        final Chain registeredWorker = this.registeredWorker;
+        if (registeredWorker == null) {
+            return true;
+        }
+        try {
+            return registeredWorker(getSessionId(), getExecutorId()) == registeredWorker;
+        } catch (RuntimeException e) {
+            // - for example, the session was cleared
+            return false;
+        }
+    }
+
+    @Override
+    public void prepareForReuse() {
+        super.prepareForReuse();
+        final Chain chain = this.chain;
+        if (chain != null) {
+            chain.freeData();
+        }
+    }
+
     @Override
     public void close() {
         Chain chain = this.chain;
@@ -79,11 +114,15 @@ public abstract class ChainExecutor extends Executor {
     public static Chain registeredChain(String sessionId, String executorId) {
         Objects.requireNonNull(sessionId, "Cannot find chain worker: session ID is not set");
         Objects.requireNonNull(executorId, "Cannot find chain worker: executor ID is not set");
-        Chain chain = UseChain.chainLoader().registeredWorker(sessionId, executorId);
-        chain = chain.cleanCopy();
+        return registeredWorker(sessionId, executorId).cleanCopy();
         // - every instance of this executor has its own space for data, as activations of usual procedures
         // (necessary for recursion)
-        return chain;
+    }
+
+    private static Chain registeredWorker(String sessionId, String executorId) {
+        Objects.requireNonNull(sessionId, "Cannot find chain worker: session ID is not set");
+        Objects.requireNonNull(executorId, "Cannot find chain worker: executor ID is not set");
+        return UseChain.chainLoader().registeredWorker(sessionId, executorId);
     }
 
     /**
@@ -0,0 +1,297 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.algart.executors.api.chains.core;
+
+import net.algart.executors.api.chains.Chain;
+import net.algart.executors.api.parameters.Parameters;
+import net.algart.executors.api.system.CreateMode;
+import net.algart.executors.api.system.ExecutorFactory;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of ready-to-use executors of the same chain, registered in {@link UseChain#chainLoader()}.
+ *
+ * <p>Every {@link ChainExecutor} works with its own clean copy of the registered chain
+ * (see {@link ChainExecutor#registeredChain(String, String)}), and the executors of all blocks of that copy
+ * are created while the first execution. Both operations are relatively slow for large chains.
+ * This class keeps up to {@link #capacity()} executors, which were already created and
+ * whose chains were already {@link Chain#reinitializeAll() reinitialized}, and hands them out
+ * to the clients, so that the same chain can serve several requests in parallel threads
+ * without paying for copying and instantiation on every call.</p>
+ *
+ * <p>Typical usage:</p>
+ * <pre>
+ *     try (ChainPool.Lease lease = pool.lease()) {
+ *         ChainExecutor executor = lease.executor();
+ *         executor.putMat(inputMat);
+ *         executor.execute();
+ *         result = executor.getMat().toBufferedImage();
+ *     }
+ * </pre>
+ *
+ * <p>{@link #acquire()} never blocks: if there are no idle executors, a new one is created.
+ * When the executor is {@link #release(ChainExecutor) released}, its port data are freed,
+ * its parameters are restored to the state after creation, and it returns to the pool
+ * if the pool contains less than {@link #capacity()} idle executors; in another case it is closed.
+ * So, you must read all necessary results <i>before</i> releasing the executor.
+ * Every acquired executor must be released exactly once: releasing an executor, which is not
+ * acquired at this moment (for example, the second release of the same executor),
+ * leads to <code>IllegalStateException</code>.</p>
+ *
+ * <p>The pool refers to its executors weakly. If the client acquires an executor and never releases it,
+ * the executor is not closed by the pool, but the pool does not prevent it from being garbage-collected.</p>
+ *
+ * <p>This class is thread-safe, but every acquired executor must be used by one thread at a time.</p>
+ */
+public final class ChainPool implements AutoCloseable {
+    private final ExecutorFactory executorFactory;
+    private final String chainId;
+    private final CreateMode createMode;
+    private final int capacity;
+
+    private final Deque<ChainExecutor> idle = new ConcurrentLinkedDeque<>();
+    private final Map<ChainExecutor, Parameters> defaultParameters =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    // - parameters of all alive executors, created by this pool, immediately after their creation;
+    // weak keys: executors, which were acquired but never released, must not stay in memory forever
+    private final Set<ChainExecutor> leased = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+    // - executors, acquired by clients and not released yet
+    private final AtomicInteger numberOfIdle = new AtomicInteger(0);
+    private final AtomicLong numberOfCreated = new AtomicLong(0);
+    private final AtomicLong numberOfReused = new AtomicLong(0);
+    private volatile boolean closed = false;
+
+    private ChainPool(ExecutorFactory executorFactory, String chainId, CreateMode createMode, int capacity) {
+        this.executorFactory = Objects.requireNonNull(executorFactory, "Null executor factory");
+        this.chainId = Objects.requireNonNull(chainId, "Null chain ID");
+        this.createMode = Objects.requireNonNull(createMode, "Null createMode");
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative capacity " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    public static ChainPool newInstance(
+            ExecutorFactory executorFactory,
+            String chainId,
+            CreateMode createMode,
+            int capacity) {
+        return new ChainPool(executorFactory, chainId, createMode, capacity);
+    }
+
+    public static ChainPool newInstance(String sessionId, String chainId, int capacity) {
+        return newInstance(ExecutorFactory.newFactory(sessionId), chainId, CreateMode.REQUEST_ALL, capacity);
+    }
+
+    public static ChainPool newSharedInstance(String chainId, int capacity) {
+        return newInstance(ExecutorFactory.newSharedFactory(), chainId, CreateMode.REQUEST_ALL, capacity);
+    }
+
+    public ExecutorFactory executorFactory() {
+        return executorFactory;
+    }
+
+    public String chainId() {
+        return chainId;
+    }
+
+    public CreateMode createMode() {
+        return createMode;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int numberOfIdle() {
+        return numberOfIdle.get();
+    }
+
+    public long numberOfCreated() {
+        return numberOfCreated.get();
+    }
+
+    public long numberOfReused() {
+        return numberOfReused.get();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Creates new executors until the pool contains {@link #capacity()} idle executors.
+     * It is not necessary to call this method, but it allows to avoid delays while the first requests.
+     *
+     * @return a reference to this object.
+     */
+    public ChainPool warmUp() {
+        while (!closed && numberOfIdle.get() < capacity) {
+            release(newExecutor());
+        }
+        return this;
+    }
+
+    /**
+     * Returns an idle executor from the pool or creates new one if the pool is empty.
+     * The result must be returned back by {@link #release(ChainExecutor)} method after usage.
+     *
+     * @return the executor of the chain with already created and initialized executors of all its blocks.
+     * @throws IllegalStateException if this pool is closed.
+     */
+    public ChainExecutor acquire() {
+        checkClosed();
+        final ChainExecutor result = idle.pollFirst();
+        // - LIFO order: the most recently used executor is probably "hotter"
+        if (result != null) {
+            numberOfIdle.decrementAndGet();
+            numberOfReused.incrementAndGet();
+            leased.add(result);
+            return result;
+        }
+        return newExecutor();
+    }
+
+    /**
+     * Returns the executor, previously returned by {@link #acquire()}, back to the pool.
+     * All data in its ports are freed; after this, the caller must not use this executor.
+     *
+     * @param executor the executor, acquired from this pool.
+     * @throws IllegalArgumentException if the executor was not created by this pool.
+     * @throws IllegalStateException    if the executor is not acquired now (for example, it was already released).
+     */
+    public void release(ChainExecutor executor) {
+        Objects.requireNonNull(executor, "Null executor");
+        final Parameters defaultParameters = this.defaultParameters.get(executor);
+        if (defaultParameters == null) {
+            throw new IllegalArgumentException("The executor " + executor + " was not created by this pool");
+        }
+        if (!leased.remove(executor)) {
+            throw new IllegalStateException("The executor " + executor + " is not acquired from this pool "
+                    + "(probably it was already released)");
+        }
+        if (executor.isClosed()) {
+            this.defaultParameters.remove(executor);
+            return;
+        }
+        executor.freeAllPortData();
+        executor.setParameters(defaultParameters);
+        if (!closed && numberOfIdle.incrementAndGet() <= capacity) {
+            idle.addFirst(executor);
+            if (closed) {
+                // - close() was called in parallel thread: it may be not noticed the added executor
+                closeAllIdle();
+            }
+        } else {
+            numberOfIdle.decrementAndGet();
+            closeExecutor(executor);
+        }
+    }
+
+    public Lease lease() {
+        return new Lease(acquire());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        closeAllIdle();
+    }
+
+    @Override
+    public String toString() {
+        return "pool of chain executors for chain ID " + chainId
+                + " (" + numberOfIdle.get() + "/" + capacity + " idle, "
+                + numberOfCreated.get() + " created, " + numberOfReused.get() + " reused"
+                + (closed ? ", closed" : "") + ")";
+    }
+
+    private ChainExecutor newExecutor() {
+        final ChainExecutor result = executorFactory.newExecutor(ChainExecutor.class, chainId, createMode);
+        final Chain chain = result.chain();
+        // - creates a clean copy of the registered chain
+        chain.reinitializeAll();
+        // - creates the executors of all chain blocks
+        defaultParameters.put(result, result.parameters().snapshot());
+        leased.add(result);
+        numberOfCreated.incrementAndGet();
+        return result;
+    }
+
+    private void closeAllIdle() {
+        for (ChainExecutor e; (e = idle.pollFirst()) != null; ) {
+            numberOfIdle.decrementAndGet();
+            closeExecutor(e);
+        }
+    }
+
+    private void closeExecutor(ChainExecutor executor) {
+        defaultParameters.remove(executor);
+        executor.close();
+    }
+
+    private void checkClosed() {
+        if (closed) {
+            throw new IllegalStateException("The chain pool is closed: " + this);
+        }
+    }
+
+    /**
+     * Executor, acquired from the pool; {@link #close()} method returns it back to the pool.
+     */
+    public final class Lease implements AutoCloseable {
+        private final ChainExecutor executor;
+        private boolean released = false;
+
+        private Lease(ChainExecutor executor) {
+            this.executor = executor;
+        }
+
+        public ChainExecutor executor() {
+            if (released) {
+                throw new IllegalStateException("The executor was already released to the pool");
+            }
+            return executor;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                release(executor);
+            }
+        }
+    }
+}
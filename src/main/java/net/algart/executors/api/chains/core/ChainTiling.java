@@ -0,0 +1,435 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.api.chains.core;
+
+import net.algart.arrays.*;
+import net.algart.executors.api.chains.Chain;
+import net.algart.executors.api.chains.ChainBlock;
+import net.algart.executors.api.chains.ChainInputPort;
+import net.algart.executors.api.chains.IncompatibleChainException;
+import net.algart.executors.api.data.Data;
+import net.algart.executors.api.data.DataType;
+import net.algart.executors.api.data.Port;
+import net.algart.executors.api.data.SMat;
+import net.algart.executors.api.system.ExecutorSpecification;
+import net.algart.multimatrix.MultiMatrix;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Execution of a chain by tiles: processing of a large 2D image, which is too large
+ * to be passed through all blocks of the chain as a whole matrix.
+ *
+ * <p>The source images are split into rectangular tiles {@link #tileSize()}&times;{@link #tileSize()};
+ * every tile, extended by {@link #overlap()} pixels at all sides (the source is continued
+ * outside its bounds according to {@link #continuationMode()}), is cloned into a usual Java memory,
+ * passed to the chain and executed, and the central part of every matrix result is copied into
+ * the corresponding area of the resulting matrix. So, only one tile is processed by the chain
+ * at every moment, and the sources and the results may be stored in any memory model,
+ * for example, mapped to disk files by {@link LargeMemoryModel}.</p>
+ *
+ * <p>If the chain has several matrix inputs, all of them are tiled in the same way: they must have
+ * identical dimensions. Other (non-matrix) inputs and parameters are the same for all tiles.</p>
+ *
+ * <p>This is possible only if all blocks of the chain are <i>tile-safe</i>:
+ * see {@link ExecutorSpecification#isTileSafe()} and {@link ExecutorSpecification.Options.Tiling}.
+ * The overlap is the maximal sum of overlaps of the blocks along any path from an input to an output
+ * of the chain: it is an upper estimate of the neighbourhood, which can affect the result pixel.</p>
+ *
+ * <p>Typical usage:</p>
+ * <pre>
+ *     try (ChainPool.Lease lease = pool.lease()) {
+ *         MultiMatrix result = ChainTiling.newInstance(lease.executor())
+ *                 .setTileSize(2048)
+ *                 .process(hugeImage);
+ *     }
+ * </pre>
+ *
+ * <p>Also, {@link InterpretChain} executes the chain by tiles itself, if the parameter
+ * {@link UseChain#TILE_SIZE_NAME} is positive.</p>
+ *
+ * <p>This class is not thread-safe, but <b>is thread-compatible</b>
+ * (can be synchronized manually, if multithreading access is necessary).</p>
+ */
+public final class ChainTiling {
+    public static final int DEFAULT_TILE_SIZE = 4096;
+
+    private final ChainExecutor executor;
+    private final int overlap;
+    private int tileSize = DEFAULT_TILE_SIZE;
+    private String inputPortName;
+    private String outputPortName;
+    private Matrix.ContinuationMode continuationMode = Matrix.ContinuationMode.MIRROR_CYCLIC;
+    private MemoryModel resultMemoryModel = Arrays.SMM;
+    private long numberOfProcessedTiles = 0;
+
+    private ChainTiling(ChainExecutor executor) {
+        this.executor = Objects.requireNonNull(executor, "Null executor");
+        this.overlap = requiredOverlap(executor.chain());
+        this.inputPortName = executor.defaultInputPortName();
+        this.outputPortName = executor.defaultOutputPortName();
+    }
+
+    /**
+     * Creates new instance for processing by the given chain executor.
+     *
+     * @param executor the executor of the chain.
+     * @return new tiling execution.
+     * @throws IncompatibleChainException if some blocks of the chain are not tile-safe.
+     */
+    public static ChainTiling newInstance(ChainExecutor executor) {
+        return new ChainTiling(executor);
+    }
+
+    public static boolean isTileSafe(Chain chain) {
+        return notTileSafeBlocks(chain).isEmpty();
+    }
+
+    /**
+     * Returns the overlap, which is enough for processing the chain by tiles.
+     *
+     * <p>The result is the maximal sum of {@link ExecutorSpecification#tilingOverlap() overlaps}
+     * of the blocks along a path in the graph of the chain. For example, if the chain contains
+     * two parallel branches with overlaps 5+5 and 20, which are combined by some elementwise block,
+     * the required overlap is 20, not 30.</p>
+     *
+     * @param chain the chain.
+     * @return the overlap along the longest path of the chain.
+     * @throws IncompatibleChainException if some blocks of the chain are not tile-safe
+     *                                    or if the chain contains cyclic dependencies.
+     */
+    public static int requiredOverlap(Chain chain) {
+        final List<ChainBlock> notTileSafe = notTileSafeBlocks(chain);
+        if (!notTileSafe.isEmpty()) {
+            throw new IncompatibleChainException("Chain " + chain.name() + " cannot be executed by tiles: "
+                    + notTileSafe.size() + " blocks are not tile-safe, for example, "
+                    + notTileSafe.get(0).friendlyName());
+        }
+        final Map<ChainBlock, Long> overlaps = new HashMap<>();
+        long result = 0;
+        for (ChainBlock block : chain.getAllBlocks().values()) {
+            result = Math.max(result, overlapTo(chain, block, overlaps, new HashSet<>()));
+        }
+        if (result > Integer.MAX_VALUE) {
+            throw new IncompatibleChainException("Too large summary overlap " + result
+                    + " of blocks of chain " + chain.name());
+        }
+        return (int) result;
+    }
+
+    public ChainExecutor executor() {
+        return executor;
+    }
+
+    public int overlap() {
+        return overlap;
+    }
+
+    public int tileSize() {
+        return tileSize;
+    }
+
+    public ChainTiling setTileSize(int tileSize) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Zero or negative tile size " + tileSize);
+        }
+        this.tileSize = tileSize;
+        return this;
+    }
+
+    public String inputPortName() {
+        return inputPortName;
+    }
+
+    public ChainTiling setInputPortName(String inputPortName) {
+        this.inputPortName = Objects.requireNonNull(inputPortName, "Null input port name");
+        return this;
+    }
+
+    public String outputPortName() {
+        return outputPortName;
+    }
+
+    public ChainTiling setOutputPortName(String outputPortName) {
+        this.outputPortName = Objects.requireNonNull(outputPortName, "Null output port name");
+        return this;
+    }
+
+    public Matrix.ContinuationMode continuationMode() {
+        return continuationMode;
+    }
+
+    public ChainTiling setContinuationMode(Matrix.ContinuationMode continuationMode) {
+        this.continuationMode = Objects.requireNonNull(continuationMode, "Null continuation mode");
+        return this;
+    }
+
+    public MemoryModel resultMemoryModel() {
+        return resultMemoryModel;
+    }
+
+    public ChainTiling setResultMemoryModel(MemoryModel resultMemoryModel) {
+        this.resultMemoryModel = Objects.requireNonNull(resultMemoryModel, "Null result memory model");
+        return this;
+    }
+
+    public long numberOfProcessedTiles() {
+        return numberOfProcessedTiles;
+    }
+
+    /**
+     * Processes the source 2D image, passed to the input port {@link #inputPortName()}, by tiles
+     * and returns the stitched result (the data of the output port {@link #outputPortName()}),
+     * allocated by {@link #resultMemoryModel()}.
+     * Equivalent to <code>{@link #process(Map) process}(Map.of(inputPortName(), source))</code>
+     * with extracting the result for {@link #outputPortName()}.
+     *
+     * @param source the source image; usually it is a lazy or disk-mapped multi-matrix.
+     * @return the result of the chain for the whole image.
+     * @throws IllegalArgumentException if the source is not 2-dimensional or is empty.
+     * @throws IllegalStateException    if the chain does not return a matrix of the same sizes as the tile
+     *                                  or if the executor has other matrix inputs.
+     */
+    public MultiMatrix process(MultiMatrix source) {
+        Objects.requireNonNull(source, "Null source");
+        final MultiMatrix result = process(Map.of(inputPortName, source)).get(outputPortName);
+        if (result == null) {
+            throw new IllegalStateException("Chain did not return a matrix in the port \"" + outputPortName + "\"");
+        }
+        return result;
+    }
+
+    /**
+     * Processes the source 2D images, passed to the input ports with the names, specified by the map keys,
+     * by tiles and returns the stitched results for all output ports, which contain matrices,
+     * allocated by {@link #resultMemoryModel()}.
+     * Other (non-matrix) input ports and parameters of the executor, if necessary,
+     * must be set before calling this method; they are the same for all tiles.
+     * Matrix input ports of the executor, that are not tiled, must not contain data.
+     *
+     * @param sources the source images for the matrix input ports; all they must have identical dimensions.
+     * @return the results of the chain for the whole image (the keys are names of output ports).
+     * @throws IllegalArgumentException if the sources are not 2-dimensional, are empty
+     *                                  or have different dimensions.
+     * @throws IllegalStateException    if the chain does not return matrices of the same sizes as the tile
+     *                                  or if some matrix input ports of the executor are initialized,
+     *                                  but not tiled.
+     */
+    public Map<String, MultiMatrix> process(Map<String, MultiMatrix> sources) {
+        Objects.requireNonNull(sources, "Null sources");
+        for (Port port : executor.inputPorts()) {
+            if (port.getDataType() == DataType.MAT && !sources.containsKey(port.getName())
+                    && port.hasData()) {
+                throw new IllegalStateException("Matrix input port \"" + port.getName() + "\" of "
+                        + executor + " contains data, but it is not tiled: all matrix inputs "
+                        + "must be passed to the tiling execution");
+            }
+        }
+        return process(sources, tiles -> {
+            tiles.forEach((name, tile) -> executor.putMat(name, SMat.of(tile)));
+            executor.execute();
+            final Map<String, MultiMatrix> result = new LinkedHashMap<>();
+            for (Port port : executor.outputPorts()) {
+                if (port.getData() instanceof SMat mat && mat.isInitialized()) {
+                    result.put(port.getName(), mat.toMultiMatrix());
+                }
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "tiling execution of " + executor + " (tile " + tileSize + "x" + tileSize
+                + ", overlap " + overlap + ", " + numberOfProcessedTiles + " tiles processed)";
+    }
+
+    /**
+     * Executes the chain of {@link #executor()} directly by tiles: for every tile, sets the tiles of all
+     * the sources to the corresponding standard inputs of the chain and executes it.
+     * Other inputs, parameters and settings of the chain must be set before calling this method.
+     * The results are the stitched matrices of the standard outputs; other outputs of the chain
+     * contain the results for the last tile.
+     *
+     * <p>Used by {@link InterpretChain}, which cannot call {@link ChainExecutor#execute()} for every tile
+     * of itself.</p>
+     */
+    Map<String, MultiMatrix> processChain(Map<String, MultiMatrix> sources) {
+        final Chain chain = executor.chain();
+        return process(sources, tiles -> {
+            final Map<String, Data> inputs = new LinkedHashMap<>();
+            tiles.forEach((name, tile) -> inputs.put(name, SMat.of(tile)));
+            chain.setInputData(inputs);
+            chain.executeNecessary(executor);
+            final Map<String, MultiMatrix> result = new LinkedHashMap<>();
+            for (ChainBlock block : chain.getAllOutputs()) {
+                if (block.reqStandardOutputPort().getData() instanceof SMat mat && mat.isInitialized()) {
+                    result.put(block.getStandardInputOutputName(), mat.toMultiMatrix());
+                }
+            }
+            return result;
+        });
+    }
+
+    private Map<String, MultiMatrix> process(
+            Map<String, MultiMatrix> sources,
+            Function<Map<String, MultiMatrix>, Map<String, MultiMatrix>> tileProcessor) {
+        if (sources.isEmpty()) {
+            throw new IllegalArgumentException("No sources to process by tiles");
+        }
+        long[] dimensions = null;
+        for (Map.Entry<String, MultiMatrix> entry : sources.entrySet()) {
+            final MultiMatrix source = Objects.requireNonNull(entry.getValue(),
+                    "Null source for the port \"" + entry.getKey() + "\"");
+            if (source.dimCount() != 2) {
+                throw new IllegalArgumentException("Only 2-dimensional images can be processed by tiles, but "
+                        + source + " is passed to the port \"" + entry.getKey() + "\"");
+            }
+            if (dimensions == null) {
+                dimensions = source.dimensions();
+            } else if (!java.util.Arrays.equals(dimensions, source.dimensions())) {
+                throw new IllegalArgumentException("Sources processed by tiles have different dimensions: "
+                        + sources);
+            }
+        }
+        final long dimX = dimensions[0];
+        final long dimY = dimensions[1];
+        if (dimX == 0 || dimY == 0) {
+            throw new IllegalArgumentException("Empty sources " + sources);
+        }
+        Map<String, List<Matrix<? extends UpdatablePArray>>> result = null;
+        for (long y = 0; y < dimY; y += tileSize) {
+            for (long x = 0; x < dimX; x += tileSize) {
+                final long sizeX = Math.min(tileSize, dimX - x);
+                final long sizeY = Math.min(tileSize, dimY - y);
+                final long[] from = {x - overlap, y - overlap};
+                final long[] to = {x + sizeX + overlap, y + sizeY + overlap};
+                final long[] tileDimensions = {to[0] - from[0], to[1] - from[1]};
+                final Map<String, MultiMatrix> tiles = new LinkedHashMap<>();
+                for (Map.Entry<String, MultiMatrix> entry : sources.entrySet()) {
+                    final List<Matrix<? extends PArray>> channels = new ArrayList<>();
+                    for (Matrix<? extends PArray> m : entry.getValue().allChannels()) {
+                        channels.add(m.subMatrix(from, to, continuationMode));
+                    }
+                    tiles.put(entry.getKey(), MultiMatrix.of(channels).clone());
+                    // - actualizing the tile in usual Java memory: the source may be lazy or mapped to a disk file
+                }
+                final Map<String, MultiMatrix> tileResults = tileProcessor.apply(tiles);
+                if (result == null) {
+                    result = new LinkedHashMap<>();
+                    for (Map.Entry<String, MultiMatrix> entry : tileResults.entrySet()) {
+                        final MultiMatrix tileResult = entry.getValue();
+                        final List<Matrix<? extends UpdatablePArray>> channels = new ArrayList<>();
+                        for (int k = 0; k < tileResult.numberOfChannels(); k++) {
+                            channels.add(resultMemoryModel.newMatrix(
+                                    UpdatablePArray.class, tileResult.elementType(), dimX, dimY));
+                        }
+                        result.put(entry.getKey(), channels);
+                    }
+                }
+                for (Map.Entry<String, List<Matrix<? extends UpdatablePArray>>> entry : result.entrySet()) {
+                    final String name = entry.getKey();
+                    final List<Matrix<? extends UpdatablePArray>> channels = entry.getValue();
+                    final MultiMatrix tileResult = tileResults.get(name);
+                    if (tileResult == null) {
+                        throw new IllegalStateException("Chain did not return a matrix in the port \""
+                                + name + "\" for some tile");
+                    }
+                    if (!java.util.Arrays.equals(tileResult.dimensions(), tileDimensions)) {
+                        throw new IllegalStateException("Chain changed dimensions of the tile "
+                                + tileDimensions[0] + "x" + tileDimensions[1] + " to " + tileResult
+                                + " in the port \"" + name + "\": it cannot be executed by tiles");
+                    }
+                    if (tileResult.numberOfChannels() != channels.size()
+                            || tileResult.elementType() != channels.get(0).elementType()) {
+                        throw new IllegalStateException("Chain returned " + tileResult
+                                + " for a tile in the port \"" + name + "\", but the previous tiles have "
+                                + channels.size() + " channels of " + channels.get(0).elementType() + " elements");
+                    }
+                    for (int k = 0; k < channels.size(); k++) {
+                        Matrices.copy(null,
+                                channels.get(k).subMatrix(x, y, x + sizeX, y + sizeY),
+                                tileResult.channel(k).subMatrix(
+                                        overlap, overlap, overlap + sizeX, overlap + sizeY));
+                    }
+                }
+                numberOfProcessedTiles++;
+            }
+        }
+        final Map<String, MultiMatrix> results = new LinkedHashMap<>();
+        result.forEach((name, channels) -> results.put(name, MultiMatrix.of(channels)));
+        return results;
+    }
+
+    // Maximal sum of overlaps along the paths, finishing at this block (inclusive)
+    private static long overlapTo(
+            Chain chain,
+            ChainBlock block,
+            Map<ChainBlock, Long> overlaps,
+            Set<ChainBlock> visiting) {
+        final Long known = overlaps.get(block);
+        if (known != null) {
+            return known;
+        }
+        if (!visiting.add(block)) {
+            throw new IncompatibleChainException("Chain " + chain.name()
+                    + " cannot be executed by tiles: it contains cyclic dependencies, for example, at "
+                    + block.friendlyName());
+        }
+        long maxSourceOverlap = 0;
+        for (ChainInputPort inputPort : block.getAllInputPorts()) {
+            if (inputPort.isConnected()) {
+                maxSourceOverlap = Math.max(maxSourceOverlap,
+                        overlapTo(chain, inputPort.connectedSourceBlock(), overlaps, visiting));
+            }
+        }
+        visiting.remove(block);
+        final long result = maxSourceOverlap
+                + (isExecutedByTiles(block) ? block.getExecutorSpecification().tilingOverlap() : 0);
+        overlaps.put(block, result);
+        return result;
+    }
+
+    private static List<ChainBlock> notTileSafeBlocks(Chain chain) {
+        Objects.requireNonNull(chain, "Null chain");
+        final List<ChainBlock> result = new ArrayList<>();
+        for (ChainBlock block : chain.getAllBlocks().values()) {
+            if (isExecutedByTiles(block)) {
+                final ExecutorSpecification specification = block.getExecutorSpecification();
+                if (specification == null || !specification.isTileSafe()) {
+                    result.add(block);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean isExecutedByTiles(ChainBlock block) {
+        return block.isEnabled() && block.isExecutedAtRunTime()
+                && !block.isStandardInput() && !block.isStandardOutput() && !block.isStandardData();
+    }
+}
@@ -29,7 +29,9 @@ import net.algart.executors.api.Executor;
 import net.algart.executors.api.ReadOnlyExecutionInput;
 import net.algart.executors.api.chains.Chain;
 import net.algart.executors.api.chains.ChainBlock;
+import net.algart.executors.api.data.Data;
 import net.algart.executors.api.data.Port;
+import net.algart.executors.api.data.SMat;
 import net.algart.executors.api.data.SScalar;
 import net.algart.executors.api.settings.*;
 import net.algart.executors.api.settings.core.UseSettings;
@@ -37,14 +39,20 @@ import net.algart.executors.api.system.ExecutorSpecification;
 import net.algart.executors.modules.core.common.FunctionTiming;
 import net.algart.executors.modules.core.common.TimingStatistics;
 import net.algart.json.Jsons;
+import net.algart.multimatrix.MultiMatrix;
 
 import java.lang.System.Logger.Level;
 import java.nio.file.Path;
-import java.util.Collection;
-import java.util.Locale;
+import java.util.*;
 
 public class InterpretChain extends ChainExecutor implements ReadOnlyExecutionInput {
     public static final String SETTINGS = SettingsSpecification.SETTINGS;
+    public static final boolean FREE_DATA_EARLY = net.algart.arrays.Arrays.SystemSettings.getBooleanProperty(
+            "net.algart.executors.api.chains.freeDataEarly", true);
+    // - if true, the intermediate data of sub-chains are freed while execution (see Chain.setFreeDataEarly).
+    // It is safe: nobody can see the intermediate data of a sub-chain, because we read only its standard
+    // outputs (they are never freed early) and free all other data after execution in any case (see process()).
+    // If false, the sub-chain still frees data early when this mode was enabled in the Chain object itself.
 
     private final FunctionTiming timing = FunctionTiming.newDisabledInstance();
 
@@ -64,9 +72,12 @@ public class InterpretChain extends ChainExecutor implements ReadOnlyExecutionIn
         t2 = System.nanoTime();
         status().setExecutorSimpleClassName(chain.name() == null ? "chain" : chain.name());
         final JsonObject inputSettings = !hasInputPort(SETTINGS) ? Jsons.newEmptyJson() :
-                Jsons.toJson(getInputScalar(SETTINGS, true).getValue(), true);
+                getInputScalar(SETTINGS, true).toJsonObject();
+        // - usually parsed only once: the settings scalar is often created by another chain or combiner
         chain.reinitializeAll();
         chain.setCaller(this);
+        chain.setFreeDataEarly(chain.isFreeDataEarly() || FREE_DATA_EARLY);
+        // - never clear this flag if it was set by the owner of the chain
         final Level timingLogLevel = ofLogLevel(parameters().getString(
                 UseChain.TIMING_LOG_LEVEL_NAME, UseChain.TIMING_LOG_LEVEL_DEFAULT));
         final int timingNumberOfCalls = LOG.isLoggable(timingLogLevel) ?
@@ -75,6 +86,7 @@ public class InterpretChain extends ChainExecutor implements ReadOnlyExecutionIn
                 0;
         final int timingNumberOfPercentiles = parameters().getInteger(
                 UseChain.TIMING_NUMBER_OF_PERCENTILES_NAME, UseChain.TIMING_NUMBER_OF_PERCENTILES_DEFAULT);
+        final int tileSize = parameters().getInteger(UseChain.TILE_SIZE_NAME, UseChain.TILE_SIZE_DEFAULT);
         final TimingStatistics.Settings timingConfiguration = new TimingStatistics.Settings();
         timingConfiguration.setUniformPercentileLevels(timingNumberOfPercentiles);
         chain.setTimingSettings(timingNumberOfCalls, timingConfiguration);
@@ -86,13 +98,29 @@ public class InterpretChain extends ChainExecutor implements ReadOnlyExecutionIn
             // (the created chain cannot be a container: it is freed every time)
             chain.setParameters(parameters());
             t3 = timingNumberOfCalls > 0 ? System.nanoTime() : 0;
-            chain.readInputPortsFromExecutor(this);
+            final Map<String, MultiMatrix> tiledInputs = tileSize > 0 ? matrixInputs(chain) : Map.of();
+            if (tiledInputs.isEmpty()) {
+                chain.readInputPortsFromExecutor(this);
+            } else {
+                chain.setInputData(otherInputs(chain, tiledInputs.keySet()));
+                // - tiled inputs are passed to the chain by ChainTiling tile by tile
+            }
             t4 = timingNumberOfCalls > 0 ? System.nanoTime() : 0;
             setChainSettings(chain, inputSettings);
             t5 = timingNumberOfCalls > 0 ? System.nanoTime() : 0;
-            chain.executeNecessary(this);
-            t6 = timingNumberOfCalls > 0 ? System.nanoTime() : 0;
-            chain.writeOutputPortsToExecutor(this);
+            if (tiledInputs.isEmpty()) {
+                chain.executeNecessary(this);
+                t6 = timingNumberOfCalls > 0 ? System.nanoTime() : 0;
+                chain.writeOutputPortsToExecutor(this);
+            } else {
+                final Map<String, MultiMatrix> results = ChainTiling.newInstance(this)
+                        .setTileSize(tileSize)
+                        .processChain(tiledInputs);
+                t6 = timingNumberOfCalls > 0 ? System.nanoTime() : 0;
+                chain.writeOutputPortsToExecutor(this);
+                // - non-matrix outputs: the results for the last tile
+                results.forEach((name, result) -> getMat(name).setTo(result));
+            }
             t7 = timingNumberOfCalls > 0 ? System.nanoTime() : 0;
         } finally {
             chain.freeData();
@@ -173,10 +201,10 @@ public class InterpretChain extends ChainExecutor implements ReadOnlyExecutionIn
                 settingsBuilder.build(this);
         final JsonObject overriddenSettings = settingsBuilder.overrideSettings(executorSettings, parentSettings);
 
-        final String settingsString = chain.setSettings(overriddenSettings);
+        final SScalar settings = chain.setSettings(overriddenSettings);
         if (hasOutputPort(SETTINGS)) {
             // - we check the port to be on the safe side; in a correctly created chain, it must exist
-            getScalar(SETTINGS).setTo(settingsString);
+            getScalar(SETTINGS).setTo(settings);
         }
         if (hasOutputPort(UseSettings.SETTINGS_ID_OUTPUT_NAME)) {
             // - we check the port to be on the safe side; in a correctly created chain, it must exist
@@ -190,7 +218,7 @@ public class InterpretChain extends ChainExecutor implements ReadOnlyExecutionIn
                     extractSubSettings ? "extracted sub-settings" : "json-settings",
                     settingsBuilder.name(),
                     quoteContextName(this),
-                    settingsString,
+                    settings.getValue(),
                     LOGGABLE_TRACE ?
                             "\nOriginal settings (from parameters):\n"
                                     + Jsons.toPrettyString(executorSettings)
@@ -204,8 +232,30 @@ public class InterpretChain extends ChainExecutor implements ReadOnlyExecutionIn
                     chain.name(),
                     settingsBuilder.name(),
                     quoteContextName(this),
-                    settingsString));
+                    settings.getValue()));
+        }
+    }
+
+    private Map<String, MultiMatrix> matrixInputs(Chain chain) {
+        final Map<String, MultiMatrix> result = new LinkedHashMap<>();
+        for (ChainBlock block : chain.getAllInputs()) {
+            final String name = block.getStandardInputOutputName();
+            if (hasInputPort(name) && getInputData(name, true) instanceof SMat mat && mat.isInitialized()) {
+                result.put(name, mat.toMultiMatrix());
+            }
         }
+        return result;
+    }
+
+    private Map<String, Data> otherInputs(Chain chain, Set<String> excludedNames) {
+        final Map<String, Data> result = new LinkedHashMap<>();
+        for (ChainBlock block : chain.getAllInputs()) {
+            final String name = block.getStandardInputOutputName();
+            if (hasInputPort(name) && !excludedNames.contains(name)) {
+                result.put(name, getInputData(name, true));
+            }
+        }
+        return result;
     }
 
     private static String quoteContextName(Executor e) {
@@ -91,6 +91,15 @@ public final class UseChain extends FileOperation {
             + "M=2 means finding only minimum and maximum. M=1 means finding only 50% percentile (median).\n"
             + "Minimal value M=0, then percentiles are not analysed at all.";
     public static final int TIMING_NUMBER_OF_PERCENTILES_DEFAULT = 5;
+    public static final String TILE_SIZE_NAME = "_sch___tileSize";
+    public static final String TILE_SIZE_CAPTION = "Tile size";
+    public static final String TILE_SIZE_DESCRIPTION = "If positive, the matrix inputs of this function "
+            + "are split into square tiles of this size, extended by the overlap, which is necessary "
+            + "for all blocks of the chain, and the chain is executed for every tile separately; "
+            + "the matrix results are stitched together. All matrix inputs must have identical sizes.\n"
+            + "Zero value disables tiling: the chain processes the whole matrices.\n"
+            + "This parameter exists only if all blocks of the chain are tile-safe.";
+    public static final int TILE_SIZE_DEFAULT = 0;
     public static final String VISIBLE_RESULT_PARAMETER_NAME = "_sch___visibleResult";
     public static final String VISIBLE_RESULT_PARAMETER_CAPTION = "Visible result";
 
@@ -550,6 +559,16 @@ public final class UseChain extends FileOperation {
         result.addControl(createTimingLogLevelControl(TIMING_LOG_LEVEL_NAME));
         result.addControl(createTimingNumberOfCallsControl(TIMING_NUMBER_OF_CALLS_NAME));
         result.addControl(createTimingNumberOfPercentilesControl(TIMING_NUMBER_OF_PERCENTILES_NAME));
+        if (ChainTiling.isTileSafe(chain)) {
+            result.addControl(new ControlSpecification()
+                    .setName(TILE_SIZE_NAME)
+                    .setCaption(TILE_SIZE_CAPTION)
+                    .setDescription(TILE_SIZE_DESCRIPTION)
+                    .setValueType(ValueType.INT)
+                    .setEditionType(EditionType.VALUE)
+                    .setDefaultJsonValue(Jsons.intValue(TILE_SIZE_DEFAULT))
+                    .setAdvanced(true));
+        }
         addChainSettings(result, chain);
         final ControlSpecification visibleResult = createVisibleResultControl(
                 result, VISIBLE_RESULT_PARAMETER_NAME);
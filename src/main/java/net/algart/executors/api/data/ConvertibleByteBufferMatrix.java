@@ -33,13 +33,35 @@ public class ConvertibleByteBufferMatrix extends SMat.Convertible {
      * BGR/BGRA order is supposed for color matrices.
      */
     final ByteBuffer byteBuffer;
+    private volatile boolean owned;
+    // - true if byteBuffer is owned by this object exclusively: it may be returned to DirectByteBufferPool
 
     public ConvertibleByteBufferMatrix(ByteBuffer byteBuffer) {
+        this(byteBuffer, false);
+    }
+
+    private ConvertibleByteBufferMatrix(ByteBuffer byteBuffer, boolean owned) {
         this.byteBuffer = Objects.requireNonNull(byteBuffer, "Null byteBuffer");
+        this.owned = owned;
+    }
+
+    /**
+     * Creates new object, which owns the passed buffer exclusively: when it is {@link #dispose() disposed},
+     * the buffer is returned into {@link DirectByteBufferPool}, unless it was shared with other objects
+     * or passed to external code by {@link SMat#getByteBuffer()}.
+     * The caller must not use the buffer after this call (excepting access via the created object).
+     *
+     * @param byteBuffer the buffer, probably allocated by {@link DirectByteBufferPool#allocate(int)}.
+     * @return new object.
+     */
+    public static ConvertibleByteBufferMatrix ofOwnedBuffer(ByteBuffer byteBuffer) {
+        return new ConvertibleByteBufferMatrix(byteBuffer, true);
     }
 
     @Override
     public SMat.Convertible copy() {
+        disownPooledMemory();
+        // - this object will be shared without counting owners
         return this;
     }
 
@@ -55,6 +77,14 @@ public class ConvertibleByteBufferMatrix extends SMat.Convertible {
 
     @Override
     public void dispose() {
+        final boolean owned;
+        synchronized (this) {
+            owned = this.owned;
+            this.owned = false;
+        }
+        if (owned) {
+            DirectByteBufferPool.release(byteBuffer);
+        }
     }
 
     @Override
@@ -66,4 +96,10 @@ public class ConvertibleByteBufferMatrix extends SMat.Convertible {
     ByteBuffer getCachedByteBuffer(SMat thisMatrix) {
         return byteBuffer;
     }
+
+    @Override
+    void disownPooledMemory() {
+        this.owned = false;
+        super.disownPooledMemory();
+    }
 }
@@ -28,24 +28,36 @@ import net.algart.arrays.*;
 import net.algart.multimatrix.MultiMatrix;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
 import java.util.Objects;
 
 public class ConvertibleMultiMatrix extends SMat.Convertible {
     final MultiMatrix multiMatrix;
     final SMat.ChannelOrder channelOrder;
+    final boolean lazy;
+    // - if true, multiMatrix is a lazy view (like a result of asFunc), which is cloned when it is really needed
+    private volatile MultiMatrix materialized = null;
 
     public ConvertibleMultiMatrix(MultiMatrix multiMatrix) {
         this(multiMatrix, SMat.ChannelOrder.STANDARD);
     }
 
     ConvertibleMultiMatrix(MultiMatrix multiMatrix, SMat.ChannelOrder channelOrder) {
+        this(multiMatrix, channelOrder, false);
+    }
+
+    ConvertibleMultiMatrix(MultiMatrix multiMatrix, SMat.ChannelOrder channelOrder, boolean lazy) {
         this.multiMatrix = Objects.requireNonNull(multiMatrix, "Null multiMatrix");
         this.channelOrder = Objects.requireNonNull(channelOrder, "Null channelOrder");
+        this.lazy = lazy;
     }
 
 
     @Override
     public SMat.Convertible copy() {
+        disownPooledMemory();
+        // - this object will be shared without counting owners
         return this;
     }
 
@@ -65,7 +77,7 @@ public class ConvertibleMultiMatrix extends SMat.Convertible {
     }
 
     public byte[] toByteArray(SMat thisMatrix) {
-        if (thisMatrix.getDepth().elementType() != byte.class) {
+        if (thisMatrix.getDepth().elementType() != byte.class || hasCachedByteBuffer()) {
             return super.toByteArray(thisMatrix);
         }
         if (multiMatrix.numberOfChannels() == 1) {
@@ -81,11 +93,12 @@ public class ConvertibleMultiMatrix extends SMat.Convertible {
 
     @Override
     public void dispose() {
+        releasePooledMemory();
     }
 
     @Override
     public String toString() {
-        return "reference to " + multiMatrix;
+        return "reference to " + (lazy ? "lazy " : "") + multiMatrix;
     }
 
     public static ByteBuffer toByteBuffer(Matrix<? extends PArray> interleavedChannels) {
@@ -103,21 +116,86 @@ public class ConvertibleMultiMatrix extends SMat.Convertible {
         Array array = interleavedChannels.array();
         if (!(BufferMemoryModel.isBufferArray(array) && BufferMemoryModel.getBufferOffset(array) == 0)) {
             // Important: if offset != 0, it is a subarray, and we must create its copy before storing in SMat!
-            array = array.updatableClone(BufferMemoryModel.getInstance());
+            array = cloneToDirectBuffer(array);
         }
         assert BufferMemoryModel.isBufferArray(array);
         return BufferMemoryModel.getByteBuffer(array);
     }
 
+    // Equivalent to array.updatableClone(BufferMemoryModel.getInstance()), but uses DirectByteBufferPool
+    static Array cloneToDirectBuffer(Array array) {
+        final Class<?> elementType = array.elementType();
+        final int bytesPerElement = (int) (Arrays.bitsPerElement(elementType) / 8);
+        if (!DirectByteBufferPool.ENABLED || elementType == boolean.class
+                || array.length() > Integer.MAX_VALUE / bytesPerElement) {
+            return array.updatableClone(BufferMemoryModel.getInstance());
+        }
+        final ByteBuffer byteBuffer = DirectByteBufferPool.allocate((int) array.length() * bytesPerElement);
+        byteBuffer.order(ByteOrder.nativeOrder());
+        // - the same order as in BufferMemoryModel.getInstance()
+        final UpdatableArray result = BufferMemoryModel.asUpdatableArray(byteBuffer, elementType);
+        Arrays.copy(null, result, array);
+        return result;
+    }
+
+    @Override
+    ByteBuffer toPooledByteBuffer(SMat thisMatrix) {
+        final Class<?> elementType = multiMatrix.elementType();
+        if (elementType == boolean.class) {
+            return null;
+            // - bit matrices are packed in another way: see SMat.toInterleavedBGR
+        }
+        final List<Matrix<? extends PArray>> channels = channelOrder == SMat.ChannelOrder.ORDER_IN_PACKED_BYTE_BUFFER ?
+                multiMatrix.allChannels() :
+                multiMatrix.allChannelsInBGRAOrder();
+        final long[] dimensions = multiMatrix.dimensions();
+        final long[] interleavedDimensions = new long[dimensions.length + 1];
+        interleavedDimensions[0] = channels.size();
+        System.arraycopy(dimensions, 0, interleavedDimensions, 1, dimensions.length);
+        final long size = Arrays.longMul(interleavedDimensions);
+        final int bytesPerElement = (int) (Arrays.bitsPerElement(elementType) / 8);
+        if (size < 0 || size > Integer.MAX_VALUE / bytesPerElement) {
+            return null;
+        }
+        final ByteBuffer result = DirectByteBufferPool.allocate((int) size * bytesPerElement);
+        result.order(ByteOrder.nativeOrder());
+        final UpdatablePArray array = (UpdatablePArray) BufferMemoryModel.asUpdatableArray(result, elementType);
+        Matrices.interleave(null, array.matrix(interleavedDimensions), channels);
+        return result;
+    }
+
     @Override
     MultiMatrix getCachedMultiMatrix(
             SMat thisMat,
             boolean autoConvertUnsupportedDepth,
             SMat.ChannelOrder channelOrder) {
-        if (channelOrder == this.channelOrder) {
+        final MultiMatrix multiMatrix = actualMultiMatrix();
+        if (channelOrder == this.channelOrder || thisMat.isChannelsOrderCompatibleWithMultiMatrix()) {
 //            System.out.println("!!! quick returning " + this);
             return multiMatrix;
         }
-        return super.getCachedMultiMatrix(thisMat, autoConvertUnsupportedDepth, channelOrder);
+        // - for 3 or 4 channels, the orders differ only in the order of channels: no need to interleave
+        return channelOrder == SMat.ChannelOrder.STANDARD ?
+                MultiMatrix.ofBGRA(multiMatrix.allChannels()) :
+                MultiMatrix.of(multiMatrix.allChannelsInBGRAOrder());
+    }
+
+    @Override
+    boolean isConvertedTo(MultiMatrix multiMatrix) {
+        return ((multiMatrix == this.multiMatrix || (lazy && multiMatrix == materialized))
+                && channelOrder == SMat.ChannelOrder.STANDARD)
+                || super.isConvertedTo(multiMatrix);
+    }
+
+    // Note: toByteBuffer and toByteArray do not need this method: they read the lazy view only once
+    MultiMatrix actualMultiMatrix() {
+        if (!lazy) {
+            return multiMatrix;
+        }
+        MultiMatrix result = materialized;
+        if (result == null) {
+            materialized = result = multiMatrix.clone();
+        }
+        return result;
     }
 }
@@ -116,6 +116,24 @@ public abstract class Data implements Cloneable {
      */
     public abstract void setTo(Data other, boolean cloneData);
 
+    /**
+     * Copies content of <code>other</code> to this object, like {@link #setTo(Data)}, but, if possible,
+     * does not clone the data: both objects share the same content until one of them
+     * needs to modify it (copy-on-write). The shared content is reference-counted,
+     * so the last of the owners can modify it without copying.
+     *
+     * <p>This method modifies the state of <code>other</code> object also, so you must not call it
+     * while <code>other</code> is accessed from another thread.
+     * After this call, both objects may be freely used in different threads.</p>
+     *
+     * <p>Default implementation just calls <code>setTo(other, true)</code>.</p>
+     *
+     * @param other some other data of the same type.
+     */
+    public void setToShared(Data other) {
+        setTo(other, true);
+    }
+
     /**
      * Completely exchange content of this and another object of the same type.
      * Note: this method works very quickly, unlike <code>setTo</code> methods (it never performs data copying).
@@ -0,0 +1,167 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.api.data;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of direct byte buffers, used by {@link SMat} and {@link SNumbers} conversions instead of
+ * <code>ByteBuffer.allocateDirect</code>.
+ *
+ * <p>The buffers are grouped into size classes by their exact capacity: the code, working with
+ * the buffers of {@link SMat}, relies on <code>ByteBuffer.capacity()</code>. It is enough for
+ * typical usage, when the chain processes a sequence of images (like video frames) with the same sizes.
+ * The buffer is returned to the pool only by its owner, which is sure that nobody uses it:
+ * usually it happens while {@link Data#freeResources() freeing resources} of {@link SMat}
+ * (in particular, in <code>Chain.freeData()</code>).
+ *
+ * <p>The pool is disabled by default: see {@link #ENABLED}. Note that the buffer, returned by
+ * {@link SMat#getByteBuffer()}, is never returned to the pool: it is available to external code,
+ * and we cannot know when that code stops using it.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class DirectByteBufferPool {
+    public static final boolean ENABLED = net.algart.arrays.Arrays.SystemSettings.getBooleanProperty(
+            "net.algart.executors.api.data.directByteBufferPool", false);
+    public static final long MAX_POOLED_BYTES = Math.max(0, net.algart.arrays.Arrays.SystemSettings.getIntProperty(
+            "net.algart.executors.api.data.directByteBufferPool.maxMegabytes", 256)) * 1048576L;
+    // - total capacity of free buffers, stored in the pool
+    public static final int MIN_POOLED_CAPACITY = 65536;
+    // - smaller buffers are allocated quickly enough and are not pooled
+
+    private static final Map<Integer, ConcurrentLinkedDeque<ByteBuffer>> FREE_BUFFERS = new ConcurrentHashMap<>();
+    private static final AtomicLong POOLED_BYTES = new AtomicLong();
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong RELEASES = new AtomicLong();
+    private static final AtomicLong REJECTED_RELEASES = new AtomicLong();
+
+    private DirectByteBufferPool() {
+    }
+
+    /**
+     * Analog of <code>ByteBuffer.allocateDirect(capacity)</code>, which reuses a buffer from the pool,
+     * if it is possible. The returned buffer has BIG_ENDIAN byte order, zero position and the limit,
+     * equal to the capacity.
+     *
+     * <p>Note: unlike <code>allocateDirect</code>, <b>the content of the reused buffer is not zeroed</b>:
+     * the caller must fill all its content.
+     *
+     * @param capacity the new buffer's capacity, in bytes.
+     * @return the new or reused direct buffer.
+     * @throws IllegalArgumentException if the <code>capacity</code> is negative.
+     */
+    public static ByteBuffer allocate(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative capacity " + capacity);
+        }
+        if (ENABLED && capacity >= MIN_POOLED_CAPACITY) {
+            final ConcurrentLinkedDeque<ByteBuffer> free = FREE_BUFFERS.get(capacity);
+            final ByteBuffer result = free == null ? null : free.pollFirst();
+            if (result != null) {
+                POOLED_BYTES.addAndGet(-capacity);
+                HITS.incrementAndGet();
+                return result.clear().order(ByteOrder.BIG_ENDIAN);
+            }
+            MISSES.incrementAndGet();
+        }
+        return ByteBuffer.allocateDirect(capacity);
+    }
+
+    /**
+     * Returns the buffer into the pool. Must be called only by the owner of the buffer,
+     * that allocated it by {@link #allocate(int)} (or <code>ByteBuffer.allocateDirect</code>)
+     * and is sure that nobody (including other threads) uses this buffer or its views.
+     * Never call this method for buffers from unknown sources like native code or mapped files.
+     *
+     * @param byteBuffer the buffer which will not be used more by the caller.
+     * @return <code>true</code> if the buffer was stored in the pool.
+     */
+    public static boolean release(ByteBuffer byteBuffer) {
+        if (!ENABLED || byteBuffer == null) {
+            return false;
+        }
+        final int capacity = byteBuffer.capacity();
+        if (!byteBuffer.isDirect() || byteBuffer.isReadOnly() || capacity < MIN_POOLED_CAPACITY) {
+            return false;
+        }
+        if (POOLED_BYTES.addAndGet(capacity) > MAX_POOLED_BYTES) {
+            POOLED_BYTES.addAndGet(-capacity);
+            REJECTED_RELEASES.incrementAndGet();
+            return false;
+            // - it will be freed by the garbage collector
+        }
+        FREE_BUFFERS.computeIfAbsent(capacity, k -> new ConcurrentLinkedDeque<>()).addFirst(byteBuffer);
+        RELEASES.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Removes all free buffers from the pool: they will be freed by the garbage collector.
+     */
+    public static void clear() {
+        for (ConcurrentLinkedDeque<ByteBuffer> free : FREE_BUFFERS.values()) {
+            for (ByteBuffer byteBuffer; (byteBuffer = free.pollFirst()) != null; ) {
+                POOLED_BYTES.addAndGet(-byteBuffer.capacity());
+            }
+        }
+    }
+
+    public static long numberOfHits() {
+        return HITS.get();
+    }
+
+    public static long numberOfMisses() {
+        return MISSES.get();
+    }
+
+    public static long numberOfReleases() {
+        return RELEASES.get();
+    }
+
+    public static long numberOfRejectedReleases() {
+        return REJECTED_RELEASES.get();
+    }
+
+    public static long pooledBytes() {
+        return POOLED_BYTES.get();
+    }
+
+    public static String statistics() {
+        return "direct byte buffer pool " + (ENABLED ? "" : "(disabled) ")
+                + "hits: " + numberOfHits()
+                + ", misses: " + numberOfMisses()
+                + ", releases: " + numberOfReleases()
+                + ", rejected releases: " + numberOfRejectedReleases()
+                + ", pooled: " + pooledBytes() + "/" + MAX_POOLED_BYTES + " bytes";
+    }
+}
@@ -65,6 +65,8 @@ public final class SMat extends Data {
      */
     public static abstract class Convertible {
         private volatile ByteBuffer cachedByteBuffer = null;
+        private volatile boolean cachedByteBufferOwned = false;
+        // - true if cachedByteBuffer was built by toPooledByteBuffer: it may be returned to DirectByteBufferPool
         private volatile MultiMatrix cachedMultiMatrix = null;
 
         /**
@@ -103,15 +105,68 @@ public final class SMat extends Data {
          */
         public abstract void dispose();
 
+        // May be overridden: builds the same buffer as toByteBuffer, but in DirectByteBufferPool memory,
+        // or returns null if it is not supported
+        ByteBuffer toPooledByteBuffer(SMat thisMatrix) {
+            return null;
+        }
+
+        // Called when this object becomes shared between several SMat without counting owners:
+        // in this case we cannot know when its memory may be reused
+        void disownPooledMemory() {
+            cachedByteBufferOwned = false;
+        }
+
+        // Should be called by dispose() of subclasses, that override toPooledByteBuffer
+        final void releasePooledMemory() {
+            final ByteBuffer byteBuffer;
+            synchronized (this) {
+                if (!cachedByteBufferOwned) {
+                    return;
+                }
+                byteBuffer = cachedByteBuffer;
+                cachedByteBufferOwned = false;
+                cachedByteBuffer = null;
+            }
+            DirectByteBufferPool.release(byteBuffer);
+        }
+
+        boolean hasCachedByteBuffer() {
+            return cachedByteBuffer != null;
+        }
+
+        /**
+         * Returns <code>true</code> if the given multi-matrix is the same object that is returned by
+         * {@link SMat#toMultiMatrix()} for this content, i.e. it is already known to this object
+         * and does not require any conversion.
+         */
+        boolean isConvertedTo(MultiMatrix multiMatrix) {
+            return multiMatrix != null && multiMatrix == cachedMultiMatrix;
+        }
+
         ByteBuffer getCachedByteBuffer(SMat thisMatrix) {
             assert thisMatrix != null;
             ByteBuffer result = this.cachedByteBuffer;
             if (result != null) {
 //                System.out.println("!!! use cached " + result);
                 return result;
-            } else {
-                return this.cachedByteBuffer = toByteBuffer(thisMatrix);
             }
+            if (DirectByteBufferPool.ENABLED) {
+                result = toPooledByteBuffer(thisMatrix);
+                if (result != null) {
+                    synchronized (this) {
+                        if (this.cachedByteBuffer == null) {
+                            this.cachedByteBuffer = result;
+                            this.cachedByteBufferOwned = true;
+                            return result;
+                        }
+                    }
+                    // - some other thread was faster: we are the only owner of our result
+                    DirectByteBufferPool.release(result);
+                    return this.cachedByteBuffer;
+                }
+            }
+            return this.cachedByteBuffer = toByteBuffer(thisMatrix);
         }
 
         MultiMatrix getCachedMultiMatrix(
@@ -129,7 +184,18 @@ public final class SMat extends Data {
 //                System.out.println("!!! use cached " + cachedMultiMatrix);
                 return result;
             }
-            final Matrix<? extends PArray> m = thisMat.toInterleavedBGR(autoConvertUnsupportedDepth);
+            if (OPTIMIZE_COPYING && channelOrder == ChannelOrder.ORDER_IN_PACKED_BYTE_BUFFER
+                    && thisMat.depth.isAlgARTCompatible()) {
+                // - packed order differs from the standard one only in the order of channels:
+                // we can reuse (and cache) the standard form instead of separating the channels again
+                final MultiMatrix standard = getCachedMultiMatrix(
+                        thisMat, autoConvertUnsupportedDepth, ChannelOrder.STANDARD);
+                return thisMat.isChannelsOrderCompatibleWithMultiMatrix() ?
+                        standard :
+                        MultiMatrix.of(standard.allChannelsInBGRAOrder());
+            }
+            final Matrix<? extends PArray> m = thisMat.toInterleavedBGR(autoConvertUnsupportedDepth, false, false);
+            // - the matrix below is built as a copy: our byte buffer does not escape
             assert m != null : "toInterleavedMatrix cannot be null for initialized SMat";
             if (m.dim(0) == 1) {
                 Matrix<? extends PArray> matrix = m.array().matrix(removeFirstElement(m.dimensions()));
@@ -292,6 +358,8 @@ public final class SMat extends Data {
     private Depth depth;
     private int numberOfChannels;
     private Convertible pointer;
+    private SharedContentCounter pointerSharing = null;
+    // - non-null if the pointer was shared by setToShared method: the last owner disposes it
 
     @UsedForExternalCommunication
     public SMat() {
@@ -375,16 +443,19 @@ public final class SMat extends Data {
      * Returns content of this matrix in a form of <code>ByteBuffer</code>.
      *
      * <p>Note: it is considered to be <b>immutable</b>, and you <b>must not write anything to this buffer</b>.
+     * The returned buffer is never returned into {@link DirectByteBufferPool}: we cannot know
+     * when the caller stops using it, so it stays valid even after freeing resources of this matrix.
      *
      * @return content of this matrix.
      */
     @UsedForExternalCommunication
     public ByteBuffer getByteBuffer() {
-        return pointer.getCachedByteBuffer(this);
+        return escapingByteBuffer();
     }
 
     public byte[] getByteArray() {
-        ByteBuffer bb = getByteBuffer();
+        ByteBuffer bb = pointer.getCachedByteBuffer(this);
+        // - we copy the content below: the buffer does not escape
         if (bb == null) {
             return null;
         }
@@ -408,6 +479,7 @@ public final class SMat extends Data {
         this.setDimensions(dimensions);
         this.depth = depth;
         this.numberOfChannels = numberOfChannels;
+        releasePointerSharing();
         this.pointer = pointer;
         this.setInitializedAndResetFlags(true);
         return this;
@@ -425,7 +497,9 @@ public final class SMat extends Data {
                 dimensions,
                 depth,
                 numberOfChannels,
-                new ConvertibleByteBufferMatrix(cloneByteBuffer ? cloneByteBuffer(byteBuffer) : byteBuffer));
+                cloneByteBuffer ?
+                        ConvertibleByteBufferMatrix.ofOwnedBuffer(cloneByteBuffer(byteBuffer)) :
+                        new ConvertibleByteBufferMatrix(byteBuffer));
     }
 
     public SMat setAll(
@@ -519,10 +593,25 @@ public final class SMat extends Data {
         this.dimensions = mat.dimensions.clone();
         this.depth = mat.depth;
         this.numberOfChannels = mat.numberOfChannels;
+        releasePointerSharing();
+        if (mat.pointer != null && !cloneData) {
+            mat.pointer.disownPooledMemory();
+            // - the same content will be used by 2 objects without counting owners: it must not be recycled
+        }
         this.pointer = mat.pointer != null && cloneData ? mat.pointer.copy() : mat.pointer;
         return this;
     }
 
+    private void setToSharedPointer(SMat mat) {
+        this.flags = mat.flags;
+        setInitialized(mat.isInitialized());
+        this.dimensions = mat.dimensions.clone();
+        this.depth = mat.depth;
+        this.numberOfChannels = mat.numberOfChannels;
+        releasePointerSharing();
+        this.pointer = mat.pointer;
+    }
+
     public SMat setToOrRemove(BufferedImage bufferedImage) {
         if (bufferedImage == null) {
             remove();
@@ -569,6 +658,61 @@ public final class SMat extends Data {
         return setToInterleavedBGR(interleave);
     }
 
+    /**
+     * Sets this matrix to the lazy multi-matrix, for example, to a result of
+     * {@link MultiMatrix#asFunc(net.algart.math.functions.Func)} without cloning.
+     * The matrix is not calculated by this method: it is calculated (cloned) only once,
+     * when it is really required by {@link #toMultiMatrix()} or similar method.
+     * However, {@link #toLazyMultiMatrix(boolean)} returns this lazy view without calculations,
+     * so, the sequence of elementwise operations, that use that method, is calculated in a single pass.
+     *
+     * <p>Note: the lazy matrix must not depend on any data that can be modified later.
+     * It may depend on other matrices, returned by {@link #toLazyMultiMatrix(boolean)}: their memory
+     * is never returned into {@link DirectByteBufferPool}, so the lazy view stays correct even after
+     * freeing the source {@link SMat} objects (for example, in {@link
+     * net.algart.executors.api.chains.Chain#setFreeDataEarly(boolean) "free data early"} mode).
+     *
+     * @param lazyMultiMatrix some multi-matrix, probably lazy.
+     * @return a reference to this object.
+     */
+    public SMat setToLazy(MultiMatrix lazyMultiMatrix) {
+        Objects.requireNonNull(lazyMultiMatrix, "Null multi-matrix");
+        setNumberOfChannels(lazyMultiMatrix.numberOfChannels());
+        setDimensions(lazyMultiMatrix.dimensions());
+        setDepth(SMat.Depth.of(lazyMultiMatrix.elementType()));
+        setPointer(new ConvertibleMultiMatrix(lazyMultiMatrix, ChannelOrder.STANDARD, true));
+        setInitializedAndResetFlags(true);
+        return this;
+    }
+
+    public boolean isLazy() {
+        return pointer instanceof ConvertibleMultiMatrix convertible && convertible.lazy;
+    }
+
+    /**
+     * Equivalent to {@link #setTo(MultiMatrix)}, but if <code>multiMatrix</code> is the same object that
+     * was returned by {@link #toMultiMatrix()} method of the <code>origin</code> matrix,
+     * this method shares the content of <code>origin</code> (see {@link #setToShared(Data)})
+     * together with all its cached conversions, in particular, its interleaved <code>ByteBuffer</code>.
+     * It is useful when some operation returns one of its source matrices without changes.
+     * Note: <code>multiMatrix</code> must not be modified after obtaining it from <code>origin</code>.
+     *
+     * @param multiMatrix some multi-matrix.
+     * @param origin      the matrix, from which <code>multiMatrix</code> was probably obtained;
+     *                    may be <code>null</code>.
+     * @return a reference to this object.
+     */
+    public SMat setTo(MultiMatrix multiMatrix, SMat origin) {
+        Objects.requireNonNull(multiMatrix, "Null multi-matrix");
+        if (origin != null && origin != this && origin.isInitialized()
+                && origin.pointer != null && origin.pointer.isConvertedTo(multiMatrix)) {
+            setToShared(origin);
+            setInitializedAndResetFlags(true);
+            return this;
+        }
+        return setTo(multiMatrix);
+    }
+
     /**
      * Loads data from AlgART matrix in the same elements order. The first dimension <code>dim(0)</code>
      * is the number of channels.
@@ -591,15 +735,20 @@ public final class SMat extends Data {
                     + MAX_NUMBER_OF_CHANNELS + ": " + interleavedBGRMatrix);
         }
         Array array = interleavedBGRMatrix.array();
-        if (!(BufferMemoryModel.isBufferArray(array) && BufferMemoryModel.getBufferOffset(array) == 0)) {
+        final boolean cloned = !(BufferMemoryModel.isBufferArray(array)
+                && BufferMemoryModel.getBufferOffset(array) == 0);
+        if (cloned) {
             // Important: if offset != 0, it is a subarray, and we must create its copy before storing in SMat!
-            array = array.updatableClone(BufferMemoryModel.getInstance());
+            array = ConvertibleMultiMatrix.cloneToDirectBuffer(array);
         }
         assert BufferMemoryModel.isBufferArray(array);
         setNumberOfChannels((int) numberOfChannels);
         setDimensions(removeFirstElement(interleavedBGRMatrix.dimensions()));
         setDepth(SMat.Depth.of(interleavedBGRMatrix.elementType()));
-        setByteBuffer(BufferMemoryModel.getByteBuffer(array));
+        final ByteBuffer byteBuffer = BufferMemoryModel.getByteBuffer(array);
+        setPointer(cloned ?
+                ConvertibleByteBufferMatrix.ofOwnedBuffer(byteBuffer) :
+                new ConvertibleByteBufferMatrix(byteBuffer));
         setInitializedAndResetFlags(true);
 //        System.out.println("Returning data: " + interleavedBGRMatrix.array() + ": "
 //            + Arrays.toString(interleavedBGRMatrix.array(),",",1000));
@@ -616,6 +765,28 @@ public final class SMat extends Data {
         setTo((SMat) other, cloneData);
     }
 
+    /**
+     * Makes this object equivalent to <code>other</code> without copying the content:
+     * both objects will refer to the same {@link Convertible} instance (which is immutable by its contract),
+     * including all its cached conversions. The content is {@link Convertible#dispose() disposed}
+     * only when it is freed by the last of its owners.
+     *
+     * @param other some other data of the same type.
+     */
+    @Override
+    public void setToShared(Data other) {
+        if (!(other instanceof SMat otherMat) || otherMat.pointer == null) {
+            setTo(other, true);
+            return;
+        }
+        if (otherMat == this) {
+            return;
+        }
+        setToSharedPointer(otherMat);
+        otherMat.pointerSharing = SharedContentCounter.addOwner(otherMat.pointerSharing);
+        this.pointerSharing = otherMat.pointerSharing;
+    }
+
     @Override
     public SMat exchange(Data other) {
         Objects.requireNonNull(other, "Null other objects");
@@ -627,22 +798,31 @@ public final class SMat extends Data {
         final Depth tempDepth = this.depth;
         final int tempNumberOfChannels = this.numberOfChannels;
         final Convertible tempPointer = this.pointer;
+        final SharedContentCounter tempPointerSharing = this.pointerSharing;
         this.flags = otherMat.flags;
         this.dimensions = otherMat.dimensions;
         this.depth = otherMat.depth;
         this.numberOfChannels = otherMat.numberOfChannels;
         this.pointer = otherMat.pointer;
+        this.pointerSharing = otherMat.pointerSharing;
         otherMat.flags = tempFlags;
         otherMat.dimensions = tempDimensions;
         otherMat.depth = tempDepth;
         otherMat.numberOfChannels = tempNumberOfChannels;
         otherMat.pointer = tempPointer;
+        otherMat.pointerSharing = tempPointerSharing;
         return this;
     }
 
     @Override
     public void serializeMemory() {
         if (isInitialized()) {
+            if (pointerSharing != null && pointerSharing.isShared()) {
+                // - we must not dispose the content, used by other owners
+                final Convertible copy = this.pointer.copy();
+                releasePointerSharing();
+                this.pointer = copy;
+            }
             this.pointer = this.pointer.copyToMemoryAndDisposePrevious();
         }
     }
@@ -702,6 +882,28 @@ public final class SMat extends Data {
         return pointer.getCachedMultiMatrix(this, autoConvertUnsupportedDepth, channelOrder);
     }
 
+    /**
+     * Equivalent to {@link #toMultiMatrix(boolean)}, but, if this matrix {@link #isLazy() is lazy},
+     * returns the lazy multi-matrix, passed to {@link #setToLazy(MultiMatrix)}, without calculating it.
+     * Should be used by elementwise operations, which read every element of the source only once.
+     *
+     * @param autoConvertUnsupportedDepth whether unsupported depth should be converted to <code>float</code>.
+     * @return this matrix as a (probably lazy) multi-matrix.
+     */
+    public MultiMatrix toLazyMultiMatrix(boolean autoConvertUnsupportedDepth) {
+        if (!isInitialized()) {
+            return null;
+        }
+        if (pointer instanceof ConvertibleMultiMatrix convertible && convertible.lazy) {
+            return convertible.multiMatrix;
+        }
+        final MultiMatrix result = toMultiMatrix(autoConvertUnsupportedDepth);
+        pointer.disownPooledMemory();
+        // - the caller may build a lazy view of the result, which can outlive this matrix:
+        // its memory must not be recycled when this matrix is freed
+        return result;
+    }
+
     /**
      * Return data as AlgART matrix with the same elements order. AlgART matrix will be (n+1)-dimensional
      * (n = {@link #getDimCount()}); <code>dim(0)</code> is the number of channels.
@@ -710,11 +912,11 @@ public final class SMat extends Data {
      * as in {@link #getByteBuffer()} (BGR/BGRA for this class).
      */
     public Matrix<? extends PArray> toInterleavedBGR(boolean autoConvertUnsupportedDepth) {
-        return toInterleavedBGR(autoConvertUnsupportedDepth, false);
+        return toInterleavedBGR(autoConvertUnsupportedDepth, false, true);
     }
 
     public Matrix<? extends PArray> toInterleavedBGR2D(boolean autoConvertUnsupportedDepth) {
-        return toInterleavedBGR(autoConvertUnsupportedDepth, true);
+        return toInterleavedBGR(autoConvertUnsupportedDepth, true, true);
     }
 
     public SMat autoContrast() {
@@ -801,7 +1003,7 @@ public final class SMat extends Data {
         byteBuffer = byteBuffer.duplicate();
         // - note: byteOrder may be changed here, we need to read if before!
         final ByteBuffer result = directByteBuffer ?
-                ByteBuffer.allocateDirect(byteBuffer.capacity()) :
+                DirectByteBufferPool.allocate(byteBuffer.capacity()) :
                 ByteBuffer.allocate(byteBuffer.capacity());
         result.order(byteOrder);
         byteBuffer.rewind();
@@ -813,7 +1015,9 @@ public final class SMat extends Data {
     @Override
     protected void freeResources() {
         if (this.pointer != null) {
-            pointer.dispose();
+            if (!releasePointerSharing()) {
+                pointer.dispose();
+            }
             this.pointer = null;
         }
         this.dimensions = new long[2]; // - zero-filled by Java
@@ -869,9 +1073,20 @@ public final class SMat extends Data {
     private void setPointer(Convertible pointer) {
 //        System.out.println("Setting pointer: " + pointer);
         Objects.requireNonNull(pointer, "Null pointer");
+        releasePointerSharing();
         this.pointer = pointer;
     }
 
+    // Returns true if the pointer is still used by other owners
+    private boolean releasePointerSharing() {
+        final SharedContentCounter pointerSharing = this.pointerSharing;
+        if (pointerSharing == null) {
+            return false;
+        }
+        this.pointerSharing = null;
+        return pointerSharing.release();
+    }
+
     private static long[] checkDimensions(long[] dimensions, boolean allowed63BitDimensions) {
         Objects.requireNonNull(dimensions, "Null dimensions array");
         if (dimensions.length == 0) {
@@ -930,7 +1145,10 @@ public final class SMat extends Data {
         return numberOfChannels;
     }
 
-    private Matrix<? extends PArray> toInterleavedBGR(boolean autoConvertUnsupportedDepth, boolean require2D) {
+    private Matrix<? extends PArray> toInterleavedBGR(
+            boolean autoConvertUnsupportedDepth,
+            boolean require2D,
+            boolean escaping) {
         if (!isInitialized()) {
             return null;
         }
@@ -944,7 +1162,8 @@ public final class SMat extends Data {
             throw new TooLargeArrayException("Too large dimensions: dim[0] * dim[1] * ... > Long.MAX_VALUE");
         }
         if (depth == Depth.BIT) {
-            ByteBuffer byteBuffer = getByteBuffer();
+            ByteBuffer byteBuffer = pointer.getCachedByteBuffer(this);
+            // - it is copied into a new long[] array below
             //        final int byteCount = (int) ((bitArraySize + 7L) / 8);
 //        long[] bits = new long[(int) (((long) byteCount + 7) / 8)];
 //        ByteBuffer bb = byteBuffer.duplicate().order(byteBuffer.order());
@@ -965,7 +1184,8 @@ public final class SMat extends Data {
 //        return result;
             return ((BitArray) BitArray.as(PackedBitArraysPer8.toLongArray(byteBuffer), size)).matrix(newDimensions);
         } else {
-            ByteBuffer bb = getByteBuffer();
+            ByteBuffer bb = escaping ? escapingByteBuffer() : pointer.getCachedByteBuffer(this);
+            // - the result below is a view of this buffer
             Class<?> elementType = depth.elementType(!autoConvertUnsupportedDepth);
             if (autoConvertUnsupportedDepth && !depth.isAlgARTCompatible()) {
                 bb = toByteBufferF32(bb, depth);
@@ -980,6 +1200,14 @@ public final class SMat extends Data {
         }
     }
 
+    private ByteBuffer escapingByteBuffer() {
+        final ByteBuffer result = pointer.getCachedByteBuffer(this);
+        pointer.disownPooledMemory();
+        // - the buffer (or its view) will be available to the caller without any control:
+        // it must not be recycled when this matrix is freed
+        return result;
+    }
+
     private static ByteBuffer toByteBufferF32(ByteBuffer source, Depth sourceDepth) {
         assert sourceDepth == Depth.S8 || sourceDepth == Depth.S16;
         source = source.duplicate().order(source.order());
@@ -992,7 +1220,7 @@ public final class SMat extends Data {
             throw new TooLargeArrayException("Cannot convert " + length + " byte/short to int values:"
                     + " the result will be greater than 2^31-1 bytes");
         }
-        final ByteBuffer result = ByteBuffer.allocateDirect((int) newLimit);
+        final ByteBuffer result = DirectByteBufferPool.allocate((int) newLimit);
         final FloatBuffer resultBuffer = result.asFloatBuffer();
         switch (sourceDepth) {
             case S8: {
@@ -39,6 +39,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -478,13 +479,23 @@ public final class SNumbers extends Data implements Cloneable {
     // The sense on blockLength may be any, but usually it is the size of some
     // little logical unit like point, rectangle, triangle, a pair of related values, etc.
 
+    private PNumberArray largeArray = null;
+    // - non-null in the large storage mode (see isLarge()); in this case, array is null
+
+    private SharedContentCounter arraySharing = null;
+    // - non-null if the array was shared by setToShared method: see unshareArray()
+
+    private volatile AtomicReferenceArray<Object> columnsCache = null;
+    // - lazily filled Java arrays of separate columns (see columnView); reset to null on any modification
+    // and shared between the objects, sharing the same array by setToShared method
+
     @UsedForExternalCommunication
     public SNumbers() {
     }
 
     @UsedForExternalCommunication
     public Object getArray() {
-        return cloneJavaArray(array);
+        return largeArray != null ? javaArrayCopy().array : cloneJavaArray(array);
     }
 
     /**
@@ -498,17 +509,78 @@ public final class SNumbers extends Data implements Cloneable {
      * <p>Please use this function carefully, only if you need maximal performance. Usually it is better idea
      * to use one of methods {@link #toIntArray()}, {@link #toFloatArray()} and analogous.</p>
      *
+     * <p>If the array is shared with other objects after {@link #setToShared(Data)}, this method
+     * creates its own copy of the array before returning it, because the caller may modify it.</p>
+     *
+     * <p>In the {@link #isLarge() large storage mode}, this method converts this object to the usual
+     * storage in a Java array, if it is possible: in this mode, it is better to use read-only methods
+     * like {@link #getValues(int, int, Object)}, which do not change the storage.</p>
+     *
      * @return the reference to stored Java array.
+     * @throws TooLargeArrayException if this object is large and contains more than 2<sup>31</sup>&minus;1
+     *                                numbers.
      */
     public Object arrayReference() {
+        convertToJavaArrayStorage();
+        unshareArray();
         return array;
     }
 
+    /**
+     * Returns a reference to the internal Java array, like {@link #arrayReference()}, but only for reading:
+     * the caller <b>must not</b> modify the elements of the returned array.
+     *
+     * <p>Unlike {@link #arrayReference()}, this method never clones the array, shared with other objects
+     * after {@link #setToShared(Data)}, and never changes the storage of this object.
+     * In the {@link #isLarge() large storage mode}, it returns a newly created Java array
+     * with a copy of all numbers.</p>
+     *
+     * @return the reference to stored Java array (or its copy in the large storage mode).
+     * @throws TooLargeArrayException if this object is large and contains more than 2<sup>31</sup>&minus;1
+     *                                numbers.
+     */
+    public Object arrayReferenceForReading() {
+        return largeArray != null ? javaArrayCopy().array : array;
+    }
+
+    /**
+     * Returns {@link #arrayReference()}, if the numbers are stored in <code>int[]</code> array,
+     * or {@link #toIntArray()} in other case.
+     * Like {@link #arrayReference()}, this method never returns an array, shared with other objects
+     * after {@link #setToShared(Data)}.
+     *
+     * @return the reference to stored <code>int[]</code> array or its converted copy.
+     */
     public int[] toIntArrayOrReference() {
-        return isIntArray() ? (int[]) array : toIntArray();
+        return isIntArray() && largeArray == null ? (int[]) arrayReference() : toIntArray();
+    }
+
+    /**
+     * Returns {@link #arrayReference()}, if the numbers are stored in <code>double[]</code> array,
+     * or {@link #toDoubleArray()} in other case.
+     * Like {@link #arrayReference()}, this method never returns an array, shared with other objects
+     * after {@link #setToShared(Data)}.
+     *
+     * @return the reference to stored <code>double[]</code> array or its converted copy.
+     */
+    public double[] toDoubleArrayOrReference() {
+        return isDoubleArray() && largeArray == null ? (double[]) arrayReference() : toDoubleArray();
     }
 
     public int getArrayLength() {
+        final long result = longArrayLength();
+        if (result > Integer.MAX_VALUE) {
+            throw new TooLargeArrayException("Too large numbers array: " + result
+                    + " > 2^31-1 elements; please use longArrayLength()");
+        }
+        return (int) result;
+    }
+
+    public long longArrayLength() {
+        final PNumberArray largeArray = this.largeArray;
+        if (largeArray != null) {
+            return largeArray.length();
+        }
         return array == null ? 0 : Array.getLength(array);
     }
 
@@ -522,6 +594,9 @@ public final class SNumbers extends Data implements Cloneable {
         if (blockLength <= 0) {
             throw new IllegalArgumentException("Block length " + blockLength + " is not positive");
         }
+        if (blockLength != this.blockLength) {
+            this.columnsCache = null;
+        }
         this.blockLength = blockLength;
     }
 
@@ -541,15 +616,50 @@ public final class SNumbers extends Data implements Cloneable {
         if (!isInitialized()) {
             throw new IllegalStateException("Cannot get element type: numbers array is not initialized");
         }
-        return array.getClass().getComponentType();
+        return largeArray != null ? largeArray.elementType() : array.getClass().getComponentType();
     }
 
     public int n() {
-        return array == null ? 0 : Array.getLength(array) / blockLength;
+        final long result = longN();
+        if (result > Integer.MAX_VALUE) {
+            throw new TooLargeArrayException("Too large number of blocks: " + result
+                    + " > 2^31-1; please use longN()");
+        }
+        return (int) result;
+    }
+
+    public long longN() {
+        return longArrayLength() / blockLength;
+    }
+
+    /**
+     * Returns <code>true</code> if this object is in the large storage mode: the numbers are stored
+     * not in a Java array, but in AlgART {@link PNumberArray}, which may be created by any memory model
+     * (for example, {@link LargeMemoryModel}) and may contain more than 2<sup>31</sup>&minus;1 elements.
+     * Such an object is created by {@link #setToLarge(PNumberArray, int)} or
+     * {@link #setToLargeZeros(MemoryModel, Class, long, int)}.
+     *
+     * <p>In this mode, the methods with <code>long</code> indexes, {@link #longN()}, {@link #longArrayLength()},
+     * {@link #blockRange(long, long)}, {@link #asNumberArray()}, {@link #toByteBuffer(ByteOrder)},
+     * {@link #fillValue(double)} and analogous methods work directly with the stored AlgART array.
+     * Methods, reading a range of elements, like {@link #getValues(int, int, Object)},
+     * {@link #getBlockDoubleValues(int, double[])} or {@link #minInRange(int, int, int, int, boolean)},
+     * copy only this range (or, for very large ranges, its successive portions) into temporary Java arrays.
+     * Other read-only methods, like {@link #toDoubleArray()}, create temporary Java arrays with all elements.
+     * Read-only methods never change the storage: this object stays in the large mode.
+     * Only {@link #arrayReference()} and methods, modifying this object by Java-array operations
+     * (like {@link #replaceBlockRange(int, SNumbers, int, int)}), convert it to the usual storage.
+     * Any method, which needs a Java array with all elements, is possible only if their number does not exceed
+     * 2<sup>31</sup>&minus;1; in another case it throws {@link TooLargeArrayException}.
+     *
+     * @return whether the numbers are stored in AlgART array instead of a Java array.
+     */
+    public boolean isLarge() {
+        return largeArray != null;
     }
 
     public boolean isEmpty() {
-        return getArrayLength() == 0;
+        return longArrayLength() == 0;
     }
 
     public boolean isUnsigned() {
@@ -557,6 +667,9 @@ public final class SNumbers extends Data implements Cloneable {
     }
 
     public double getValue(int blockIndex, int indexInBlock) {
+        if (largeArray != null) {
+            return getValue((long) blockIndex, indexInBlock);
+        }
         checkGetSetIndex(blockIndex, indexInBlock, 1);
         int indexInArray = blockIndex * blockLength + indexInBlock;
         if (isByteArray()) {
@@ -577,7 +690,12 @@ public final class SNumbers extends Data implements Cloneable {
     }
 
     public void setValue(int blockIndex, int indexInBlock, double value) {
+        if (largeArray != null) {
+            setValue((long) blockIndex, indexInBlock, value);
+            return;
+        }
         checkGetSetIndex(blockIndex, indexInBlock, 1);
+        unshareArray();
         int indexInArray = blockIndex * blockLength + indexInBlock;
         if (isByteArray()) {
             ((byte[]) array)[indexInArray] = (byte) value;
@@ -597,6 +715,9 @@ public final class SNumbers extends Data implements Cloneable {
     }
 
     public double getValue(int indexInArray) {
+        if (largeArray != null) {
+            return getValue((long) indexInArray);
+        }
         if (!isInitialized()) {
             throw new IllegalStateException("Numbers array is not initialized");
         }
@@ -618,9 +739,14 @@ public final class SNumbers extends Data implements Cloneable {
     }
 
     public void setValue(int indexInArray, double value) {
+        if (largeArray != null) {
+            setValue((long) indexInArray, value);
+            return;
+        }
         if (!isInitialized()) {
             throw new IllegalStateException("Numbers array is not initialized");
         }
+        unshareArray();
         if (isByteArray()) {
             ((byte[]) array)[indexInArray] = (byte) value;
         } else if (isShortArray()) {
@@ -639,6 +765,9 @@ public final class SNumbers extends Data implements Cloneable {
     }
 
     public long getLongValue(int blockIndex, int indexInBlock) {
+        if (largeArray != null) {
+            return getLongValue((long) blockIndex, indexInBlock);
+        }
         checkGetSetIndex(blockIndex, indexInBlock, 1);
         int indexInArray = blockIndex * blockLength + indexInBlock;
         if (isByteArray()) {
@@ -659,7 +788,12 @@ public final class SNumbers extends Data implements Cloneable {
     }
 
     public void setLongValue(int blockIndex, int indexInBlock, long value) {
+        if (largeArray != null) {
+            setLongValue((long) blockIndex, indexInBlock, value);
+            return;
+        }
         checkGetSetIndex(blockIndex, indexInBlock, 1);
+        unshareArray();
         int indexInArray = blockIndex * blockLength + indexInBlock;
         if (isByteArray()) {
             ((byte[]) array)[indexInArray] = (byte) value;
@@ -679,6 +813,9 @@ public final class SNumbers extends Data implements Cloneable {
     }
 
     public long getLongValue(int indexInArray) {
+        if (largeArray != null) {
+            return getLongValue((long) indexInArray);
+        }
         if (!isInitialized()) {
             throw new IllegalStateException("Numbers array is not initialized");
         }
@@ -700,9 +837,14 @@ public final class SNumbers extends Data implements Cloneable {
     }
 
     public void setLongValue(int indexInArray, long value) {
+        if (largeArray != null) {
+            setLongValue((long) indexInArray, value);
+            return;
+        }
         if (!isInitialized()) {
             throw new IllegalStateException("Numbers array is not initialized");
         }
+        unshareArray();
         if (isByteArray()) {
             ((byte[]) array)[indexInArray] = (byte) value;
         } else if (isShortArray()) {
@@ -724,6 +866,11 @@ public final class SNumbers extends Data implements Cloneable {
         if (!isInitialized()) {
             throw new IllegalStateException("Numbers array is not initialized");
         }
+        unshareArray();
+        if (largeArray != null) {
+            updatableLargeArray().fill(value);
+            return this;
+        }
         if (isByteArray()) {
             java.util.Arrays.fill((byte[]) array, (byte) value);
         } else if (isShortArray()) {
@@ -746,6 +893,11 @@ public final class SNumbers extends Data implements Cloneable {
         if (!isInitialized()) {
             throw new IllegalStateException("Numbers array is not initialized");
         }
+        unshareArray();
+        if (largeArray != null) {
+            updatableLargeArray().fill(value);
+            return this;
+        }
         if (isByteArray()) {
             java.util.Arrays.fill((byte[]) array, (byte) value);
         } else if (isShortArray()) {
@@ -764,6 +916,65 @@ public final class SNumbers extends Data implements Cloneable {
         return this;
     }
 
+    public double getValue(long blockIndex, int indexInBlock) {
+        checkGetSetIndex(blockIndex, indexInBlock);
+        return getValue(blockIndex * blockLength + indexInBlock);
+    }
+
+    public void setValue(long blockIndex, int indexInBlock, double value) {
+        checkGetSetIndex(blockIndex, indexInBlock);
+        setValue(blockIndex * blockLength + indexInBlock, value);
+    }
+
+    public double getValue(long indexInArray) {
+        if (largeArray == null) {
+            return getValue(toIntIndex(indexInArray));
+        }
+        return largeArray.getDouble(indexInArray);
+    }
+
+    public void setValue(long indexInArray, double value) {
+        if (largeArray == null) {
+            setValue(toIntIndex(indexInArray), value);
+            return;
+        }
+        unshareArray();
+        updatableLargeArray().setDouble(indexInArray, value);
+    }
+
+    public long getLongValue(long blockIndex, int indexInBlock) {
+        checkGetSetIndex(blockIndex, indexInBlock);
+        return getLongValue(blockIndex * blockLength + indexInBlock);
+    }
+
+    public void setLongValue(long blockIndex, int indexInBlock, long value) {
+        checkGetSetIndex(blockIndex, indexInBlock);
+        setLongValue(blockIndex * blockLength + indexInBlock, value);
+    }
+
+    public long getLongValue(long indexInArray) {
+        if (largeArray == null) {
+            return getLongValue(toIntIndex(indexInArray));
+        }
+        return largeArray instanceof PFixedArray fixedArray ?
+                fixedArray.getLong(indexInArray) :
+                (long) largeArray.getDouble(indexInArray);
+    }
+
+    public void setLongValue(long indexInArray, long value) {
+        if (largeArray == null) {
+            setLongValue(toIntIndex(indexInArray), value);
+            return;
+        }
+        unshareArray();
+        final UpdatablePNumberArray largeArray = updatableLargeArray();
+        if (largeArray instanceof UpdatablePFixedArray fixedArray) {
+            fixedArray.setLong(indexInArray, value);
+        } else {
+            largeArray.setDouble(indexInArray, value);
+        }
+    }
+
     public double[] getBlockDoubleValues(int blockIndex, double[] result) {
         return getBlockDoubleValues(blockIndex, 0, blockLength, result);
     }
@@ -804,12 +1015,22 @@ public final class SNumbers extends Data implements Cloneable {
         if (resultJavaArray == null) {
             resultJavaArray = newCompatibleJavaArray(length);
         }
+        final PNumberArray largeArray = this.largeArray;
+        if (largeArray != null) {
+            largeArray.getData(indexInArray, resultJavaArray, 0, length);
+            return resultJavaArray;
+        }
         System.arraycopy(this.array, indexInArray, resultJavaArray, 0, length);
         return resultJavaArray;
     }
 
     public void setValues(int indexInArray, int length, Object valuesJavaArray) {
         Objects.requireNonNull(valuesJavaArray, "Null values array");
+        unshareArray();
+        if (largeArray != null) {
+            updatableLargeArray().setData(indexInArray, valuesJavaArray, 0, length);
+            return;
+        }
         System.arraycopy(valuesJavaArray, 0, this.array, indexInArray, length);
     }
 
@@ -820,6 +1041,11 @@ public final class SNumbers extends Data implements Cloneable {
         if (result == null) {
             result = new double[length];
         }
+        if (largeArray != null) {
+            return new SNumbers().setToArrayReference(getValues(indexInArray, length, null), 1)
+                    .getDoubleValues(0, length, result);
+            // - reading only the necessary range of the large array
+        }
         if (isByteArray()) {
             final byte[] array = (byte[]) this.array;
             for (int k = 0; k < length; k++) {
@@ -855,6 +1081,13 @@ public final class SNumbers extends Data implements Cloneable {
 
     public void setDoubleValues(int indexInArray, int length, double[] values) {
         Objects.requireNonNull(values, "Null values array");
+        if (largeArray != null) {
+            final SNumbers converted = zeros(elementType(), length, 1);
+            converted.setDoubleValues(0, length, values);
+            setValues(indexInArray, length, converted.array);
+            return;
+        }
+        unshareArray();
         if (isByteArray()) {
             final byte[] array = (byte[]) this.array;
             for (int k = 0; k < length; k++) {
@@ -894,13 +1127,17 @@ public final class SNumbers extends Data implements Cloneable {
      */
     @UsedForExternalCommunication
     public boolean isByteArray() {
-        return array instanceof byte[];
+        return array instanceof byte[] || (largeArray != null && largeArray.elementType() == byte.class);
     }
 
     public byte[] toByteArray() {
         if (!isInitialized()) {
             return null;
         }
+        if (largeArray != null) {
+            final SNumbers copy = javaArrayCopy();
+            return copy.isByteArray() ? (byte[]) copy.array : copy.toByteArray();
+        }
         if (isByteArray()) {
             return ((byte[]) array).clone();
         } else if (isShortArray()) {
@@ -950,13 +1187,17 @@ public final class SNumbers extends Data implements Cloneable {
      */
     @UsedForExternalCommunication
     public boolean isShortArray() {
-        return array instanceof short[];
+        return array instanceof short[] || (largeArray != null && largeArray.elementType() == short.class);
     }
 
     public short[] toShortArray() {
         if (!isInitialized()) {
             return null;
         }
+        if (largeArray != null) {
+            final SNumbers copy = javaArrayCopy();
+            return copy.isShortArray() ? (short[]) copy.array : copy.toShortArray();
+        }
         if (isShortArray()) {
             return ((short[]) array).clone();
         } else if (isByteArray()) {
@@ -1006,13 +1247,17 @@ public final class SNumbers extends Data implements Cloneable {
      */
     @UsedForExternalCommunication
     public boolean isIntArray() {
-        return array instanceof int[];
+        return array instanceof int[] || (largeArray != null && largeArray.elementType() == int.class);
     }
 
     public int[] toIntArray() {
         if (!isInitialized()) {
             return null;
         }
+        if (largeArray != null) {
+            final SNumbers copy = javaArrayCopy();
+            return copy.isIntArray() ? (int[]) copy.array : copy.toIntArray();
+        }
         if (isIntArray()) {
             return ((int[]) array).clone();
         } else if (isByteArray()) {
@@ -1063,13 +1308,17 @@ public final class SNumbers extends Data implements Cloneable {
      */
     @UsedForExternalCommunication
     public boolean isLongArray() {
-        return array instanceof long[];
+        return array instanceof long[] || (largeArray != null && largeArray.elementType() == long.class);
     }
 
     public long[] toLongArray() {
         if (!isInitialized()) {
             return null;
         }
+        if (largeArray != null) {
+            final SNumbers copy = javaArrayCopy();
+            return copy.isLongArray() ? (long[]) copy.array : copy.toLongArray();
+        }
         if (isLongArray()) {
             return ((long[]) array).clone();
         } else if (isByteArray()) {
@@ -1114,13 +1363,17 @@ public final class SNumbers extends Data implements Cloneable {
 
     @UsedForExternalCommunication
     public boolean isFloatArray() {
-        return array instanceof float[];
+        return array instanceof float[] || (largeArray != null && largeArray.elementType() == float.class);
     }
 
     public float[] toFloatArray() {
         if (!isInitialized()) {
             return null;
         }
+        if (largeArray != null) {
+            final SNumbers copy = javaArrayCopy();
+            return copy.isFloatArray() ? (float[]) copy.array : copy.toFloatArray();
+        }
         if (isFloatArray()) {
             return ((float[]) array).clone();
         } else if (isByteArray()) {
@@ -1170,13 +1423,17 @@ public final class SNumbers extends Data implements Cloneable {
      */
     @UsedForExternalCommunication
     public boolean isDoubleArray() {
-        return array instanceof double[];
+        return array instanceof double[] || (largeArray != null && largeArray.elementType() == double.class);
     }
 
     public double[] toDoubleArray() {
         if (!isInitialized()) {
             return null;
         }
+        if (largeArray != null) {
+            final SNumbers copy = javaArrayCopy();
+            return copy.isDoubleArray() ? (double[]) copy.array : copy.toDoubleArray();
+        }
         if (isDoubleArray()) {
             return ((double[]) array).clone();
         } else if (isByteArray()) {
@@ -1219,31 +1476,45 @@ public final class SNumbers extends Data implements Cloneable {
         }
     }
 
+    /**
+     * Returns a view of the stored numbers as AlgART array. In the {@link #isLarge() large storage mode},
+     * returns the stored AlgART array itself (which is updatable, if it was updatable
+     * while passing to {@link #setToLarge(PNumberArray, int)});
+     * in another case, returns an updatable view of the internal Java array.
+     *
+     * <p>If the array is shared with other objects after {@link #setToShared(Data)}, this method
+     * creates its own copy of the array before returning it, because the caller may modify it.</p>
+     *
+     * @return a view of the stored numbers; <code>null</code> if this object is not initialized.
+     */
     public PNumberArray asNumberArray() {
         if (!isInitialized()) {
             return null;
         }
-        if (isByteArray()) {
-            return SimpleMemoryModel.asUpdatableByteArray((byte[]) array);
-        } else if (isShortArray()) {
-            return SimpleMemoryModel.asUpdatableShortArray((short[]) array);
-        } else if (isIntArray()) {
-            return SimpleMemoryModel.asUpdatableIntArray((int[]) array);
-        } else if (isLongArray()) {
-            return SimpleMemoryModel.asUpdatableLongArray((long[]) array);
-        } else if (isFloatArray()) {
-            return SimpleMemoryModel.asUpdatableFloatArray((float[]) array);
-        } else if (isDoubleArray()) {
-            return SimpleMemoryModel.asUpdatableDoubleArray((double[]) array);
-        } else {
-            throw new AssertionError("Unsupported Java array type: " + array);
+        unshareArray();
+        return numberArrayView();
+    }
+
+    /**
+     * Analog of {@link #asNumberArray()}, returning an immutable view of the stored numbers.
+     * Unlike {@link #asNumberArray()}, this method never copies the array shared by {@link #setToShared(Data)}.
+     *
+     * @return an immutable view of the stored numbers; <code>null</code> if this object is not initialized.
+     */
+    public PNumberArray asImmutableNumberArray() {
+        if (!isInitialized()) {
+            return null;
         }
+        return (PNumberArray) numberArrayView().asImmutable();
     }
 
     public ByteBuffer toByteBuffer(ByteOrder order) {
         if (!isInitialized()) {
             return null;
         }
+        if (largeArray != null) {
+            return largeToByteBuffer(order);
+        }
         if (isByteArray()) {
             return bytesToByteBuffer((byte[]) array, order);
         } else if (isShortArray()) {
@@ -1261,6 +1532,59 @@ public final class SNumbers extends Data implements Cloneable {
         }
     }
 
+    private PNumberArray numberArrayView() {
+        final PNumberArray largeArray = this.largeArray;
+        if (largeArray != null) {
+            return largeArray;
+        }
+        // - the result is updatable
+        if (isByteArray()) {
+            return SimpleMemoryModel.asUpdatableByteArray((byte[]) array);
+        } else if (isShortArray()) {
+            return SimpleMemoryModel.asUpdatableShortArray((short[]) array);
+        } else if (isIntArray()) {
+            return SimpleMemoryModel.asUpdatableIntArray((int[]) array);
+        } else if (isLongArray()) {
+            return SimpleMemoryModel.asUpdatableLongArray((long[]) array);
+        } else if (isFloatArray()) {
+            return SimpleMemoryModel.asUpdatableFloatArray((float[]) array);
+        } else if (isDoubleArray()) {
+            return SimpleMemoryModel.asUpdatableDoubleArray((double[]) array);
+        } else {
+            throw new AssertionError("Unsupported Java array type: " + array);
+        }
+    }
+
+    private ByteBuffer largeToByteBuffer(ByteOrder order) {
+        final PNumberArray largeArray = this.largeArray;
+        if (BufferMemoryModel.isBufferArray(largeArray)
+                && BufferMemoryModel.getBufferOffset(largeArray) == 0
+                && order == ByteOrder.nativeOrder()) {
+            // - the buffer of BufferMemoryModel always has native byte order
+            return BufferMemoryModel.getByteBuffer(largeArray);
+        }
+        if (largeArray.length() > Integer.MAX_VALUE) {
+            throw new TooLargeArrayException("Too large numbers array for storing in ByteBuffer: "
+                    + largeArray.length() + " > 2^31-1 elements");
+        }
+        final Object javaArray = largeArray.toJavaArray();
+        if (javaArray instanceof byte[] a) {
+            return bytesToByteBuffer(a, order);
+        } else if (javaArray instanceof short[] a) {
+            return shortsToByteBuffer(a, order);
+        } else if (javaArray instanceof int[] a) {
+            return intsToByteBuffer(a, order);
+        } else if (javaArray instanceof long[] a) {
+            return longsToByteBuffer(a, order);
+        } else if (javaArray instanceof float[] a) {
+            return floatsToByteBuffer(a, order);
+        } else if (javaArray instanceof double[] a) {
+            return doublesToByteBuffer(a, order);
+        } else {
+            throw new AssertionError("Unsupported large array type: " + largeArray);
+        }
+    }
+
     public boolean isProbableRectangularArea() {
         return isInitialized() && blockLength == 2;
     }
@@ -1363,6 +1687,67 @@ public final class SNumbers extends Data implements Cloneable {
 
     //[[Repeat.AutoGeneratedEnd]]
 
+    /**
+     * Returns an immutable view of the column #<code>indexInBlock</code>: a number array,
+     * containing the element #<code>indexInBlock</code> from each block.
+     *
+     * <p>The column is extracted from this array only while the first call of this method;
+     * after this, it is cached until the next modification of this object. The cache is also shared
+     * with all objects, that share the same array after {@link #setToShared(Data)}.
+     * So, executors, which process one or several columns of the same large table,
+     * do not need to extract them (with strided memory access) again and again.
+     *
+     * @param indexInBlock index of the column.
+     * @return immutable view of the column.
+     */
+    public PNumberArray columnView(int indexInBlock) {
+        return (PNumberArray) SimpleMemoryModel.asUpdatableArray(columnArray(indexInBlock)).asImmutable();
+    }
+
+    /**
+     * Makes this object equivalent to the table with the given columns:
+     * the element #<code>k</code> of the block #<code>i</code> will be equal to
+     * <code>columnArrays[k][i]</code>. All columns must be Java arrays with the same element type and length.
+     * Their copies are stored in the {@link #columnView(int) cache of columns},
+     * so that column-oriented processing of the result does not require extracting them again.
+     *
+     * @param columnArrays Java arrays of columns.
+     * @return a reference to this object.
+     */
+    public SNumbers setToColumns(Object[] columnArrays) {
+        Objects.requireNonNull(columnArrays, "Null columnArrays");
+        if (columnArrays.length == 0) {
+            throw new IllegalArgumentException("Empty array of columns");
+        }
+        final Object[] columns = columnArrays.clone();
+        for (int k = 0; k < columns.length; k++) {
+            Objects.requireNonNull(columns[k], "Null column #" + k);
+            if (!isJavaArraySupported(columns[k])) {
+                throw new IllegalArgumentException("Column #" + k + " is not byte[], short[], int[], "
+                        + "long[], float[] or double[] (it is " + columns[k].getClass().getSimpleName() + ")");
+            }
+            if (columns[k].getClass() != columns[0].getClass()) {
+                throw new IllegalArgumentException("Element type mismatch: column #" + k + " is "
+                        + columns[k].getClass().getSimpleName() + ", column #0 is "
+                        + columns[0].getClass().getSimpleName());
+            }
+            if (Array.getLength(columns[k]) != Array.getLength(columns[0])) {
+                throw new IllegalArgumentException("Lengths mismatch: column #" + k + " contains "
+                        + Array.getLength(columns[k]) + " elements, column #0 contains "
+                        + Array.getLength(columns[0]) + " elements");
+            }
+            columns[k] = cloneJavaArray(columns[k]);
+        }
+        final int n = Array.getLength(columns[0]);
+        setToZeros(columns[0].getClass().getComponentType(), n, columns.length);
+        for (int k = 0; k < columns.length; k++) {
+            replaceColumnRange(k, arrayAsNumbers(columns[k], 1), 0, 1);
+        }
+        final AtomicReferenceArray<Object> cache = new AtomicReferenceArray<>(columns);
+        this.columnsCache = cache;
+        return this;
+    }
+
     public SNumbers column(int indexInEachBlock) {
         return columnRange(indexInEachBlock, 1);
     }
@@ -1409,6 +1794,13 @@ public final class SNumbers extends Data implements Cloneable {
         if (!isInitialized()) {
             throw new IllegalStateException("Cannot extract columns from uninitialized numbers array");
         }
+        if (largeArray != null) {
+            javaArrayCopy().columnsByIndexes(result, javaArraysForResultColumns, columnsIndexes);
+            return;
+        }
+        if (result != null) {
+            result.convertToJavaArrayStorage();
+        }
         final int[] indexes = columnsIndexes.clone();
         checkColumnIndexes(indexes);
         final int resultBlockLength = checkMulticolumnResult(result, indexes);
@@ -1425,6 +1817,17 @@ public final class SNumbers extends Data implements Cloneable {
             // - nothing to do
             return;
         }
+        if (result == null && cachedColumnsAvailable(necessaryColumnsIndexes, necessaryColumnsCount)) {
+            final AtomicReferenceArray<Object> cache = this.columnsCache;
+            final int n = n();
+            for (int k = 0; k < necessaryColumnsCount; k++) {
+                System.arraycopy(cache.get(necessaryColumnsIndexes[k]), 0, necessaryColumns[k], 0, n);
+            }
+            return;
+        }
+        if (result != null) {
+            result.unshareArray();
+        }
         final int n = n();
         //[[Repeat() byte ==> short,,int,,long,,float,,double;;
         //           Byte ==> Short,,Int,,Long,,Float,,Double]]
@@ -1974,16 +2377,53 @@ public final class SNumbers extends Data implements Cloneable {
     }
 
     public SNumbers blockRange(int startBlockIndex, int numberOfBlocks) {
+        if (largeArray != null) {
+            return blockRange((long) startBlockIndex, (long) numberOfBlocks);
+        }
         final SNumbers result = new SNumbers();
         result.replaceBlockRange(0, this, startBlockIndex, numberOfBlocks);
         return result;
     }
 
+    /**
+     * Returns a copy of the specified range of blocks. If this object is {@link #isLarge() large},
+     * the result is stored in a usual Java array, when it contains not greater than 2<sup>31</sup>&minus;1
+     * elements, or is also large in another case. This allows to process very large numbers arrays
+     * by portions.
+     *
+     * @param startBlockIndex index of the first copied block.
+     * @param numberOfBlocks  number of copied blocks.
+     * @return new numbers array, containing the copy of the specified blocks.
+     */
+    public SNumbers blockRange(long startBlockIndex, long numberOfBlocks) {
+        if (largeArray == null) {
+            return blockRange(toIntIndex(startBlockIndex), toIntIndex(numberOfBlocks));
+        }
+        final long n = longN();
+        if (startBlockIndex < 0 || numberOfBlocks < 0 || startBlockIndex > n - numberOfBlocks) {
+            throw new IndexOutOfBoundsException("Start block index and number of blocks = "
+                    + startBlockIndex + " and " + numberOfBlocks
+                    + " are out of range 0..n-1 = 0.." + (n - 1));
+        }
+        final PNumberArray range = (PNumberArray) largeArray.subArr(
+                startBlockIndex * blockLength, numberOfBlocks * blockLength);
+        final SNumbers result = new SNumbers();
+        if (range.length() <= Integer.MAX_VALUE) {
+            result.setToArray(range.toJavaArray(), blockLength, false);
+        } else {
+            result.setToLarge((PNumberArray) range.updatableClone(LargeMemoryModel.getInstance()), blockLength);
+        }
+        return result;
+    }
+
     public SNumbers selectBlockSet(BitArray selector) {
         Objects.requireNonNull(selector, "Null selector");
         if (!isInitialized()) {
             throw new IllegalStateException("Cannot select blocks in uninitialized numbers array");
         }
+        if (largeArray != null) {
+            return javaArrayCopy().selectBlockSet(selector);
+        }
         final int n = n();
         if (selector.length() < n) {
             throw new IllegalArgumentException("Not enough length of bit array: " + selector.length() + "<" + n);
@@ -2160,12 +2600,15 @@ public final class SNumbers extends Data implements Cloneable {
         if (blockIndex < 0) {
             throw new IllegalArgumentException("Negative block index: " + blockIndex);
         }
-        if (blockIndex + numberOfBlocks > n()) {
+        if (blockIndex + (long) numberOfBlocks > longN()) {
             throw new IllegalArgumentException("Start block index and number of blocks = "
                     + blockIndex + " and " + blockLength
-                    + " are out of range 0..n-1 = 0.." + (n() - 1));
+                    + " are out of range 0..n-1 = 0.." + (longN() - 1));
         }
         checkStartIndexAndLenthInBlock(indexInBlock, lengthInBlock, true);
+        if (largeArray != null) {
+            return minInLargeRange(blockIndex, numberOfBlocks, indexInBlock, lengthInBlock, onlyFinite);
+        }
         if (isByteArray()) {
             return minBytesParallel(blockIndex, numberOfBlocks, indexInBlock, lengthInBlock);
         } else if (isShortArray()) {
@@ -2213,12 +2656,15 @@ public final class SNumbers extends Data implements Cloneable {
         if (blockIndex < 0) {
             throw new IllegalArgumentException("Negative block index: " + blockIndex);
         }
-        if (blockIndex + numberOfBlocks > n()) {
+        if (blockIndex + (long) numberOfBlocks > longN()) {
             throw new IllegalArgumentException("Start block index and number of blocks = "
                     + blockIndex + " and " + blockLength
-                    + " are out of range 0..n-1 = 0.." + (n() - 1));
+                    + " are out of range 0..n-1 = 0.." + (longN() - 1));
         }
         checkStartIndexAndLenthInBlock(indexInBlock, lengthInBlock, true);
+        if (largeArray != null) {
+            return maxInLargeRange(blockIndex, numberOfBlocks, indexInBlock, lengthInBlock, onlyFinite);
+        }
         if (isByteArray()) {
             return maxBytesParallel(blockIndex, numberOfBlocks, indexInBlock, lengthInBlock);
         } else if (isShortArray()) {
@@ -2264,12 +2710,15 @@ public final class SNumbers extends Data implements Cloneable {
         if (blockIndex < 0) {
             throw new IllegalArgumentException("Negative block index: " + blockIndex);
         }
-        if (blockIndex + numberOfBlocks > n()) {
+        if (blockIndex + (long) numberOfBlocks > longN()) {
             throw new IllegalArgumentException("Start block index and number of blocks = "
                     + blockIndex + " and " + blockLength
-                    + " are out of range 0..n-1 = 0.." + (n() - 1));
+                    + " are out of range 0..n-1 = 0.." + (longN() - 1));
         }
         checkStartIndexAndLenthInBlock(indexInBlock, lengthInBlock, true);
+        if (largeArray != null) {
+            return maxAbsInLargeRange(blockIndex, numberOfBlocks, indexInBlock, lengthInBlock, onlyFinite);
+        }
         if (isByteArray()) {
             return maxBytesParallel(blockIndex, numberOfBlocks, indexInBlock, lengthInBlock);
         } else if (isShortArray()) {
@@ -2318,16 +2767,50 @@ public final class SNumbers extends Data implements Cloneable {
         Objects.requireNonNull(other, "Null other numbers");
         final long tempFlags = this.flags;
         final Object tempArray = this.array;
+        final PNumberArray tempLargeArray = this.largeArray;
         final int tempBlockLength = this.blockLength;
+        final SharedContentCounter tempArraySharing = this.arraySharing;
+        final AtomicReferenceArray<Object> tempColumnsCache = this.columnsCache;
         this.flags = other.flags;
         this.array = other.array;
+        this.largeArray = other.largeArray;
         this.blockLength = other.blockLength;
+        this.arraySharing = other.arraySharing;
+        this.columnsCache = other.columnsCache;
         other.flags = tempFlags;
         other.array = tempArray;
+        other.largeArray = tempLargeArray;
         other.blockLength = tempBlockLength;
+        other.arraySharing = tempArraySharing;
+        other.columnsCache = tempColumnsCache;
         return this;
     }
 
+    /**
+     * Makes this object equivalent to <code>other</code> without cloning the Java array:
+     * both objects will use the same array until one of them will be modified.
+     * Any modification method of this class, including {@link #arrayReference()}
+     * and {@link #asNumberArray()}, clones the array before modification, if it is still shared.
+     *
+     * @param other some other data of the same type.
+     */
+    @Override
+    public void setToShared(Data other) {
+        if (!(other instanceof SNumbers otherNumbers) || !otherNumbers.isInitialized()) {
+            setTo(other, true);
+            return;
+        }
+        if (otherNumbers == this) {
+            return;
+        }
+        setToIdentical(otherNumbers, false);
+        otherNumbers.arraySharing = SharedContentCounter.addOwner(otherNumbers.arraySharing);
+        this.arraySharing = otherNumbers.arraySharing;
+        this.columnsCache = otherNumbers.columnsCache;
+        // - columns, already extracted from the source, become available to this object;
+        // we do not create a new cache in the source here: usually nobody will extract columns
+    }
+
     public SNumbers setTo(SNumbers dataNumbers) {
         return setToIdentical(dataNumbers, true);
     }
@@ -2346,11 +2829,17 @@ public final class SNumbers extends Data implements Cloneable {
         if (!dataNumbers.isInitialized()) {
             throw new IllegalArgumentException("Cannot extract block from uninitialized numbers array");
         }
+        if (dataNumbers.largeArray != null) {
+            return setTo(dataNumbers.blockRange((long) blockIndex, 1L));
+        }
         if (blockIndex < 0 || blockIndex >= dataNumbers.n()) {
             throw new IndexOutOfBoundsException("Index of the block = " + blockIndex
                     + " is out of range 0..n()-1 = 0.." + (dataNumbers.n() - 1));
         }
         this.blockLength = dataNumbers.blockLength;
+        releaseArraySharing();
+        this.largeArray = null;
+        this.columnsCache = null;
         this.array = Array.newInstance(dataNumbers.elementType(), dataNumbers.blockLength);
         System.arraycopy(
                 dataNumbers.array, blockIndex * dataNumbers.blockLength,
@@ -2383,6 +2872,14 @@ public final class SNumbers extends Data implements Cloneable {
         if (numberOfReplacedBlocks < 0) {
             throw new IndexOutOfBoundsException("Negative number of blocks: " + numberOfReplacedBlocks);
         }
+        if (otherNumbers.largeArray != null) {
+            replaceBlockRange(startBlockIndexInThis,
+                    otherNumbers.javaArrayCopy(startBlockIndexInOther, numberOfReplacedBlocks),
+                    0, numberOfReplacedBlocks);
+            // - reading only the necessary range of the large array
+            return;
+        }
+        convertToJavaArrayStorage();
         if (startBlockIndexInOther < 0
                 || startBlockIndexInOther + numberOfReplacedBlocks > otherNumbers.n()) {
             throw new IndexOutOfBoundsException("Start block index and number of blocks = "
@@ -2423,6 +2920,7 @@ public final class SNumbers extends Data implements Cloneable {
         assert numberOfReplacedBlocks <= this.n();
         assert isInitialized();
         assert blockLength == otherNumbers.blockLength;
+        unshareArray();
         System.arraycopy(otherNumbers.array, startBlockIndexInOther * blockLength,
                 this.array, startBlockIndexInThis * blockLength,
                 numberOfReplacedBlocks * blockLength);
@@ -2482,6 +2980,40 @@ public final class SNumbers extends Data implements Cloneable {
         return setToArray(array.toJavaArray(), blockLength, false);
     }
 
+    /**
+     * Switches this object to the {@link #isLarge() large storage mode} and stores there the passed
+     * AlgART array, without copying. The array may be created by any memory model and may contain
+     * more than 2<sup>31</sup>&minus;1 elements; its length must be divisible by <code>blockLength</code>.
+     *
+     * <p>Note: if the passed array is not updatable, any modification method of this object
+     * will work with its updatable copy, created by {@link LargeMemoryModel}.
+     *
+     * @param array       numbers array.
+     * @param blockLength block length.
+     * @return a reference to this object.
+     */
+    public SNumbers setToLarge(PNumberArray array, int blockLength) {
+        Objects.requireNonNull(array, "Null array");
+        if (!isElementTypeSupported(array.elementType())) {
+            throw new IllegalArgumentException("The element type of passed array is not supported (it is "
+                    + array + ")");
+        }
+        if (blockLength <= 0) {
+            throw new IllegalArgumentException("Block length " + blockLength + " is not positive");
+        }
+        if (array.length() % blockLength != 0) {
+            throw new IllegalArgumentException("Array length " + array.length()
+                    + " is not divisible by block length " + blockLength);
+        }
+        releaseArraySharing();
+        this.array = null;
+        this.largeArray = array;
+        this.columnsCache = null;
+        setInitializedAndResetFlags(true);
+        setBlockLength(blockLength);
+        return this;
+    }
+
     public SNumbers setTo(IPoint point) {
         Objects.requireNonNull(point, "Null point");
         return setToArray(point.coordinates(), 1, false);
@@ -2553,6 +3085,19 @@ public final class SNumbers extends Data implements Cloneable {
         return setToArray(javaArray, blockLength, true);
     }
 
+    /**
+     * Analog of {@link #setToArray(Object, int)}, which does not clone the passed Java array:
+     * this object will use it as the internal storage, so the caller must not modify it after this call.
+     *
+     * @param javaArray   new content: <code>byte[]</code>, <code>short[]</code>, <code>int[]</code>,
+     *                    <code>long[]</code>, <code>float[]</code> or <code>double[]</code>.
+     * @param blockLength block length.
+     * @return reference to this object.
+     */
+    public SNumbers setToArrayReference(Object javaArray, int blockLength) {
+        return setToArray(javaArray, blockLength, false);
+    }
+
     // This method is convenient for usage outside Java
     public SNumbers setToZeros(String elementTypeName, int n, int blockLength) {
         return setToZeros(elementType(elementTypeName), n, blockLength);
@@ -2573,6 +3118,24 @@ public final class SNumbers extends Data implements Cloneable {
         return this;
     }
 
+    public SNumbers setToLargeZeros(MemoryModel memoryModel, Class<?> elementType, long n, int blockLength) {
+        Objects.requireNonNull(memoryModel, "Null memoryModel");
+        Objects.requireNonNull(elementType, "Null elementType");
+        if (!isElementTypeSupported(elementType)) {
+            throw new IllegalArgumentException("The element type is not byte, short, int, long, float "
+                    + "or double (it is " + elementType + ")");
+        }
+        if (n < 0) {
+            throw new IllegalArgumentException("Negative n (number of blocks)");
+        }
+        if (blockLength <= 0) {
+            throw new IllegalArgumentException("Block length " + blockLength + " is not positive");
+        }
+        final long length = Math.multiplyExact(n, (long) blockLength);
+        return setToLarge((PNumberArray) memoryModel.newUnresizableArray(elementType, length), blockLength);
+        // - AlgART memory models fill new arrays by zeros
+    }
+
     public Object newCompatibleJavaArray(int arrayLength) {
         return java.lang.reflect.Array.newInstance(elementType(), arrayLength);
     }
@@ -2629,6 +3192,9 @@ public final class SNumbers extends Data implements Cloneable {
         if (!isInitialized()) {
             throw new IllegalStateException("Cannot call getFormatter(): numbers array is not initialized");
         }
+        if (largeArray != null) {
+            return javaArrayCopy().getFormatter(formattingType, locale);
+        }
         return new Formatter(formattingType, locale);
     }
 
@@ -2688,7 +3254,8 @@ public final class SNumbers extends Data implements Cloneable {
             }
             return sb.toString();
         } else {
-            return super.toString() + " " + elementType() + "[" + blockLength + "*" + n() + "]";
+            return super.toString() + " " + elementType() + "[" + blockLength + "*" + longN() + "]"
+                    + (largeArray != null ? " (large)" : "");
         }
     }
 
@@ -2701,6 +3268,11 @@ public final class SNumbers extends Data implements Cloneable {
             return false;
         }
         final SNumbers numbers = (SNumbers) o;
+        if (largeArray != null || numbers.largeArray != null) {
+            return blockLength == numbers.blockLength
+                    && isInitialized() == numbers.isInitialized()
+                    && (!isInitialized() || numberArrayView().equals(numbers.numberArrayView()));
+        }
         final int arrayLength = getArrayLength();
         return blockLength == numbers.blockLength
                 && arrayLength == numbers.getArrayLength()
@@ -2711,7 +3283,9 @@ public final class SNumbers extends Data implements Cloneable {
     @Override
     public int hashCode() {
         final int hash;
-        if (isByteArray()) {
+        if (largeArray != null) {
+            hash = largeArrayHashCode();
+        } else if (isByteArray()) {
             hash = java.util.Arrays.hashCode((byte[]) array);
         } else if (isShortArray()) {
             hash = java.util.Arrays.hashCode((short[]) array);
@@ -2779,6 +3353,18 @@ public final class SNumbers extends Data implements Cloneable {
         return new SNumbers().setToZeros(elementType, n, blockLength);
     }
 
+    public static SNumbers ofColumns(Object... columnArrays) {
+        return new SNumbers().setToColumns(columnArrays);
+    }
+
+    public static SNumbers ofLarge(PNumberArray array, int blockLength) {
+        return new SNumbers().setToLarge(array, blockLength);
+    }
+
+    public static SNumbers largeZeros(MemoryModel memoryModel, Class<?> elementType, long n, int blockLength) {
+        return new SNumbers().setToLargeZeros(memoryModel, elementType, n, blockLength);
+    }
+
     public static void checkDimensions(long n, long blockLength) {
         if (n < 0) {
             throw new IllegalArgumentException("Negative n (number of blocks");
@@ -2799,7 +3385,7 @@ public final class SNumbers extends Data implements Cloneable {
     public static ByteBuffer bytesToByteBuffer(byte[] data, ByteOrder order) {
         Objects.requireNonNull(data, "Null data array");
         Objects.requireNonNull(order, "Null byte order");
-        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(data.length);
+        ByteBuffer byteBuffer = DirectByteBufferPool.allocate(data.length);
         byteBuffer.order(order);
         byteBuffer.put(data);
         byteBuffer.rewind();
@@ -2825,7 +3411,7 @@ public final class SNumbers extends Data implements Cloneable {
     public static ByteBuffer shortsToByteBuffer(short[] data, ByteOrder order) {
         Objects.requireNonNull(data, "Null data array");
         Objects.requireNonNull(order, "Null byte order");
-        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(2 * data.length);
+        ByteBuffer byteBuffer = DirectByteBufferPool.allocate(2 * data.length);
         byteBuffer.order(order);
         byteBuffer.asShortBuffer().put(data);
         byteBuffer.rewind();
@@ -2868,7 +3454,7 @@ public final class SNumbers extends Data implements Cloneable {
             throw new IllegalArgumentException("Illegal data: number of bytes "
                     + data.length + " is not divisible by 2");
         }
-        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(data.length);
+        ByteBuffer byteBuffer = DirectByteBufferPool.allocate(data.length);
         byteBuffer.order(order);
         byteBuffer.put(data);
         return byteBufferToShorts(byteBuffer);
@@ -2883,7 +3469,7 @@ public final class SNumbers extends Data implements Cloneable {
     public static ByteBuffer intsToByteBuffer(int[] data, ByteOrder order) {
         Objects.requireNonNull(data, "Null data array");
         Objects.requireNonNull(order, "Null byte order");
-        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(4 * data.length);
+        ByteBuffer byteBuffer = DirectByteBufferPool.allocate(4 * data.length);
         byteBuffer.order(order);
         byteBuffer.asIntBuffer().put(data);
         byteBuffer.rewind();
@@ -2926,7 +3512,7 @@ public final class SNumbers extends Data implements Cloneable {
             throw new IllegalArgumentException("Illegal data: number of bytes "
                     + data.length + " is not divisible by 4");
         }
-        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(data.length);
+        ByteBuffer byteBuffer = DirectByteBufferPool.allocate(data.length);
         byteBuffer.order(order);
         byteBuffer.put(data);
         return byteBufferToInts(byteBuffer);
@@ -2940,7 +3526,7 @@ public final class SNumbers extends Data implements Cloneable {
     public static ByteBuffer longsToByteBuffer(long[] data, ByteOrder order) {
         Objects.requireNonNull(data, "Null data array");
         Objects.requireNonNull(order, "Null byte order");
-        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(8 * data.length);
+        ByteBuffer byteBuffer = DirectByteBufferPool.allocate(8 * data.length);
         byteBuffer.order(order);
         byteBuffer.asLongBuffer().put(data);
         byteBuffer.rewind();
@@ -2983,7 +3569,7 @@ public final class SNumbers extends Data implements Cloneable {
             throw new IllegalArgumentException("Illegal data: number of bytes "
                     + data.length + " is not divisible by 8");
         }
-        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(data.length);
+        ByteBuffer byteBuffer = DirectByteBufferPool.allocate(data.length);
         byteBuffer.order(order);
         byteBuffer.put(data);
         return byteBufferToLongs(byteBuffer);
@@ -2997,7 +3583,7 @@ public final class SNumbers extends Data implements Cloneable {
     public static ByteBuffer floatsToByteBuffer(float[] data, ByteOrder order) {
         Objects.requireNonNull(data, "Null data array");
         Objects.requireNonNull(order, "Null byte order");
-        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(4 * data.length);
+        ByteBuffer byteBuffer = DirectByteBufferPool.allocate(4 * data.length);
         byteBuffer.order(order);
         byteBuffer.asFloatBuffer().put(data);
         byteBuffer.rewind();
@@ -3040,7 +3626,7 @@ public final class SNumbers extends Data implements Cloneable {
             throw new IllegalArgumentException("Illegal data: number of bytes "
                     + data.length + " is not divisible by 4");
         }
-        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(data.length);
+        ByteBuffer byteBuffer = DirectByteBufferPool.allocate(data.length);
         byteBuffer.order(order);
         byteBuffer.put(data);
         return byteBufferToFloats(byteBuffer);
@@ -3054,7 +3640,7 @@ public final class SNumbers extends Data implements Cloneable {
     public static ByteBuffer doublesToByteBuffer(double[] data, ByteOrder order) {
         Objects.requireNonNull(data, "Null data array");
         Objects.requireNonNull(order, "Null byte order");
-        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(8 * data.length);
+        ByteBuffer byteBuffer = DirectByteBufferPool.allocate(8 * data.length);
         byteBuffer.order(order);
         byteBuffer.asDoubleBuffer().put(data);
         byteBuffer.rewind();
@@ -3097,7 +3683,7 @@ public final class SNumbers extends Data implements Cloneable {
             throw new IllegalArgumentException("Illegal data: number of bytes "
                     + data.length + " is not divisible by 8");
         }
-        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(data.length);
+        ByteBuffer byteBuffer = DirectByteBufferPool.allocate(data.length);
         byteBuffer.order(order);
         byteBuffer.put(data);
         return byteBufferToDoubles(byteBuffer);
@@ -3107,13 +3693,19 @@ public final class SNumbers extends Data implements Cloneable {
 
     @Override
     protected void freeResources() {
+        releaseArraySharing();
         array = null;
+        largeArray = null;
+        columnsCache = null;
     }
 
     @UsedForExternalCommunication
     private void setArray(Object javaArray) {
         Objects.requireNonNull(javaArray, "Null java array");
         if (isJavaArraySupported(javaArray)) {
+            releaseArraySharing();
+            this.largeArray = null;
+            this.columnsCache = null;
             this.array = javaArray;
         } else {
             throw new IllegalArgumentException("The passed java-array argument is not byte[], short[], int[], "
@@ -3144,15 +3736,223 @@ public final class SNumbers extends Data implements Cloneable {
 
     private SNumbers setToIdentical(SNumbers dataNumbers, boolean doClone) {
         Objects.requireNonNull(dataNumbers, "Null dataNumbers");
-        this.array = doClone && dataNumbers.isInitialized() ?
+        releaseArraySharing();
+        final boolean clone = doClone && dataNumbers.isInitialized();
+        this.array = clone && dataNumbers.array != null ?
                 cloneJavaArray(dataNumbers.array) :
                 dataNumbers.array;
+        this.largeArray = clone && dataNumbers.largeArray != null ?
+                cloneLargeArray(dataNumbers.largeArray) :
+                dataNumbers.largeArray;
+        this.columnsCache = null;
         this.blockLength = dataNumbers.blockLength;
         this.flags = dataNumbers.flags;
         setInitialized(dataNumbers.isInitialized());
         return this;
     }
 
+    private void unshareArray() {
+        this.columnsCache = null;
+        // - the caller is going to modify the array
+        final SharedContentCounter arraySharing = this.arraySharing;
+        if (arraySharing != null) {
+            if (arraySharing.isShared()) {
+                if (this.largeArray != null) {
+                    this.largeArray = cloneLargeArray(this.largeArray);
+                } else {
+                    this.array = cloneJavaArray(this.array);
+                }
+            }
+            arraySharing.release();
+            // - must be called AFTER cloning: in another case, other owner could start modifying the array
+            this.arraySharing = null;
+        }
+    }
+
+    // Used only by methods, which are going to modify this object via Java-array operations:
+    // read-only methods must use javaArrayCopy() instead.
+    private void convertToJavaArrayStorage() {
+        final PNumberArray largeArray = this.largeArray;
+        if (largeArray == null) {
+            return;
+        }
+        if (largeArray.length() > Integer.MAX_VALUE) {
+            throw new TooLargeArrayException("Cannot convert large numbers array to Java array: "
+                    + largeArray.length() + " > 2^31-1 elements; please use methods with long indexes");
+        }
+        final Object javaArray = largeArray.toJavaArray();
+        releaseArraySharing();
+        // - the new Java array is our own: no reasons to share it
+        this.array = javaArray;
+        this.largeArray = null;
+    }
+
+    // Temporary copy of the large array in the usual storage; this object stays large
+    private SNumbers javaArrayCopy() {
+        return javaArrayCopy(0, longN());
+    }
+
+    private SNumbers javaArrayCopy(long startBlockIndex, long numberOfBlocks) {
+        assert largeArray != null;
+        if (numberOfBlocks * blockLength > Integer.MAX_VALUE) {
+            throw new TooLargeArrayException("Cannot copy large numbers array to Java array: "
+                    + numberOfBlocks * blockLength + " > 2^31-1 elements; please use methods with long indexes");
+        }
+        return blockRange(startBlockIndex, numberOfBlocks);
+    }
+
+    //[[Repeat() minIn ==> maxIn,,maxAbsIn;;
+    //           POSITIVE_INFINITY ==> NEGATIVE_INFINITY,,...;;
+    //           Math\.min\(result ==> Math.max(result,,...]]
+    private double minInLargeRange(
+            int blockIndex,
+            int numberOfBlocks,
+            int indexInBlock,
+            int lengthInBlock,
+            boolean onlyFinite) {
+        final int portion = Math.max(1, LARGE_ARRAY_PORTION / blockLength);
+        double result = Double.POSITIVE_INFINITY;
+        for (int k = 0; k < numberOfBlocks; ) {
+            final int count = Math.min(numberOfBlocks - k, portion);
+            result = Math.min(result, javaArrayCopy((long) blockIndex + k, count).minInRange(
+                    0, count, indexInBlock, lengthInBlock, onlyFinite));
+            k += count;
+        }
+        return result;
+    }
+    //[[Repeat.AutoGeneratedStart !! Auto-generated: NOT EDIT !! ]]
+    private double maxInLargeRange(
+            int blockIndex,
+            int numberOfBlocks,
+            int indexInBlock,
+            int lengthInBlock,
+            boolean onlyFinite) {
+        final int portion = Math.max(1, LARGE_ARRAY_PORTION / blockLength);
+        double result = Double.NEGATIVE_INFINITY;
+        for (int k = 0; k < numberOfBlocks; ) {
+            final int count = Math.min(numberOfBlocks - k, portion);
+            result = Math.max(result, javaArrayCopy((long) blockIndex + k, count).maxInRange(
+                    0, count, indexInBlock, lengthInBlock, onlyFinite));
+            k += count;
+        }
+        return result;
+    }
+
+    private double maxAbsInLargeRange(
+            int blockIndex,
+            int numberOfBlocks,
+            int indexInBlock,
+            int lengthInBlock,
+            boolean onlyFinite) {
+        final int portion = Math.max(1, LARGE_ARRAY_PORTION / blockLength);
+        double result = Double.NEGATIVE_INFINITY;
+        for (int k = 0; k < numberOfBlocks; ) {
+            final int count = Math.min(numberOfBlocks - k, portion);
+            result = Math.max(result, javaArrayCopy((long) blockIndex + k, count).maxAbsInRange(
+                    0, count, indexInBlock, lengthInBlock, onlyFinite));
+            k += count;
+        }
+        return result;
+    }
+    //[[Repeat.AutoGeneratedEnd]]
+
+    private Object columnArray(int indexInBlock) {
+        if (!isInitialized()) {
+            throw new IllegalStateException("Cannot extract column from uninitialized numbers array");
+        }
+        if (largeArray != null) {
+            return javaArrayCopy().columnArray(indexInBlock);
+        }
+        checkStartIndexAndLenthInBlock(indexInBlock, 1, true);
+        final AtomicReferenceArray<Object> cache = columnsCache();
+        Object result = cache.get(indexInBlock);
+        if (result == null) {
+            result = newCompatibleJavaArray(n());
+            columnsByIndexes(null, new Object[]{result}, new int[]{indexInBlock});
+            if (!cache.compareAndSet(indexInBlock, null, result)) {
+                result = cache.get(indexInBlock);
+                // - another thread was quicker
+            }
+        }
+        return result;
+    }
+
+    private AtomicReferenceArray<Object> columnsCache() {
+        AtomicReferenceArray<Object> cache = this.columnsCache;
+        if (cache == null || cache.length() != blockLength) {
+            this.columnsCache = cache = new AtomicReferenceArray<>(blockLength);
+        }
+        return cache;
+    }
+
+    private boolean cachedColumnsAvailable(int[] indexes, int count) {
+        final AtomicReferenceArray<Object> cache = this.columnsCache;
+        if (cache == null || cache.length() != blockLength) {
+            return false;
+        }
+        for (int k = 0; k < count; k++) {
+            if (cache.get(indexes[k]) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private UpdatablePNumberArray updatableLargeArray() {
+        if (!(largeArray instanceof UpdatablePNumberArray)) {
+            largeArray = cloneLargeArray(largeArray);
+        }
+        return (UpdatablePNumberArray) largeArray;
+    }
+
+    private int largeArrayHashCode() {
+        // - equivalent to java.util.Arrays.hashCode for the corresponding Java array
+        final PNumberArray largeArray = this.largeArray;
+        final long length = largeArray.length();
+        final Object buffer = largeArray.newJavaArray((int) Math.min(length, 65536));
+        final int bufferLength = Array.getLength(buffer);
+        int hash = 1;
+        for (long p = 0; p < length; p += bufferLength) {
+            final int len = (int) Math.min(bufferLength, length - p);
+            largeArray.getData(p, buffer, 0, len);
+            if (buffer instanceof byte[] a) {
+                for (int k = 0; k < len; k++) {
+                    hash = 31 * hash + a[k];
+                }
+            } else if (buffer instanceof short[] a) {
+                for (int k = 0; k < len; k++) {
+                    hash = 31 * hash + a[k];
+                }
+            } else if (buffer instanceof int[] a) {
+                for (int k = 0; k < len; k++) {
+                    hash = 31 * hash + a[k];
+                }
+            } else if (buffer instanceof long[] a) {
+                for (int k = 0; k < len; k++) {
+                    hash = 31 * hash + Long.hashCode(a[k]);
+                }
+            } else if (buffer instanceof float[] a) {
+                for (int k = 0; k < len; k++) {
+                    hash = 31 * hash + Float.floatToIntBits(a[k]);
+                }
+            } else if (buffer instanceof double[] a) {
+                for (int k = 0; k < len; k++) {
+                    hash = 31 * hash + Double.hashCode(a[k]);
+                }
+            } else {
+                throw new AssertionError("Unsupported large array type: " + largeArray);
+            }
+        }
+        return hash;
+    }
+
+    private void releaseArraySharing() {
+        if (this.arraySharing != null) {
+            this.arraySharing.release();
+            this.arraySharing = null;
+        }
+    }
+
     private void checkGetSetIndex(int blockIndex, int indexInBlock, int lengthInBlock) {
         if (!isInitialized()) {
             throw new IllegalStateException("Numbers array is not initialized");
@@ -3169,10 +3969,33 @@ public final class SNumbers extends Data implements Cloneable {
                     + (indexInBlock + lengthInBlock)
                     + " is out of range 0..blockLength = 0.." + blockLength);
         }
-        if (blockIndex < 0 || (long) blockIndex * (long) blockLength >= Array.getLength(array)) {
+        if (blockIndex < 0 || (long) blockIndex * (long) blockLength >= longArrayLength()) {
+            throw new IndexOutOfBoundsException("Index of the block = " + blockIndex
+                    + " is out of range 0..n()-1 = 0.." + (longN() - 1));
+        }
+    }
+
+    private void checkGetSetIndex(long blockIndex, int indexInBlock) {
+        if (!isInitialized()) {
+            throw new IllegalStateException("Numbers array is not initialized");
+        }
+        if (indexInBlock < 0 || indexInBlock >= blockLength) {
+            throw new IndexOutOfBoundsException("Index in block = " + indexInBlock
+                    + " is out of range 0..blockLength-1 = 0.." + (blockLength - 1));
+        }
+        final long n = longN();
+        if (blockIndex < 0 || blockIndex >= n) {
             throw new IndexOutOfBoundsException("Index of the block = " + blockIndex
-                    + " is out of range 0..n()-1 = 0.." + (n() - 1));
+                    + " is out of range 0..n()-1 = 0.." + (n - 1));
+        }
+    }
+
+    private static int toIntIndex(long index) {
+        if (index < 0 || index > Integer.MAX_VALUE) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of range 0..2^31-1 "
+                    + "(indexes >= 2^31 are allowed only for large numbers arrays)");
         }
+        return (int) index;
     }
 
     private void checkColumnIndexes(int[] indexes) {
@@ -3247,9 +4070,20 @@ public final class SNumbers extends Data implements Cloneable {
             final int startIndexInOther,
             final int lengthInEachBlock,
             boolean reinitialize) {
+        if (otherNumbers.largeArray != null) {
+            otherNumbers = otherNumbers.javaArrayCopy();
+        }
+        convertToJavaArrayStorage();
         if (startIndexInThis < 0) {
             throw new IllegalArgumentException("Negative start index in this array: " + startIndexInOther);
         }
+        if (lengthInEachBlock == 1 && startIndexInThis == 0 && (reinitialize || !isInitialized())
+                && otherNumbers.isInitialized() && otherNumbers.blockLength > 1
+                && otherNumbers.checkStartIndexAndLenthInBlock(startIndexInOther, 1, false)) {
+            // - extracting a single column: the cached column is copied without strided access
+            setToArray(otherNumbers.columnArray(startIndexInOther), 1);
+            return;
+        }
         if (!otherNumbers.checkStartIndexAndLenthInBlock(startIndexInOther, lengthInEachBlock, false)) {
             // Increasing the size of the other array:
             final int newBlockLength = startIndexInOther + lengthInEachBlock;
@@ -3292,6 +4126,7 @@ public final class SNumbers extends Data implements Cloneable {
         // Normal situation: need to override part of elements
         assert lengthInEachBlock <= this.blockLength;
         assert isInitialized();
+        unshareArray();
         final int otherBlockLength = otherNumbers.blockLength;
         if (lengthInEachBlock == this.blockLength && lengthInEachBlock == otherNumbers.blockLength) {
             System.arraycopy(otherNumbers.array, 0, this.array, 0, getArrayLength());
@@ -3537,6 +4372,8 @@ public final class SNumbers extends Data implements Cloneable {
 
     private static final int PARALLEL_LOG = 8;
     private static final int PARALLEL_BUNDLE = 1 << PARALLEL_LOG;
+    private static final int LARGE_ARRAY_PORTION = 1 << 22;
+    // - number of elements, copied at once from the large array into a temporary Java array
 
     /*Repeat() byte ==> short,,int,,long,,float,,double;;
                Bytes ==> Shorts,,Ints,,Longs,,Floats,,Doubles;;
@@ -4847,7 +5684,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private SimpleBytesElementFormatter(int estimatedCapacity) {
             super(estimatedCapacity);
-            this.array = (byte[]) arrayReference();
+            this.array = (byte[]) SNumbers.this.array;
         }
 
         @Override
@@ -4861,7 +5698,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private PrintfBytesElementFormatter(Formatter formatter, int estimatedCapacity) {
             super(formatter, estimatedCapacity);
-            this.array = (byte[]) arrayReference();
+            this.array = (byte[]) SNumbers.this.array;
         }
 
         @Override
@@ -4875,7 +5712,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private DecimalBytesElementFormatter(Formatter formatter, int estimatedCapacity) {
             super(formatter, estimatedCapacity);
-            this.array = (byte[]) arrayReference();
+            this.array = (byte[]) SNumbers.this.array;
         }
 
         @Override
@@ -4891,7 +5728,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private SimpleShortsElementFormatter(int estimatedCapacity) {
             super(estimatedCapacity);
-            this.array = (short[]) arrayReference();
+            this.array = (short[]) SNumbers.this.array;
         }
 
         @Override
@@ -4905,7 +5742,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private PrintfShortsElementFormatter(Formatter formatter, int estimatedCapacity) {
             super(formatter, estimatedCapacity);
-            this.array = (short[]) arrayReference();
+            this.array = (short[]) SNumbers.this.array;
         }
 
         @Override
@@ -4919,7 +5756,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private DecimalShortsElementFormatter(Formatter formatter, int estimatedCapacity) {
             super(formatter, estimatedCapacity);
-            this.array = (short[]) arrayReference();
+            this.array = (short[]) SNumbers.this.array;
         }
 
         @Override
@@ -4933,7 +5770,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private SimpleIntsElementFormatter(int estimatedCapacity) {
             super(estimatedCapacity);
-            this.array = (int[]) arrayReference();
+            this.array = (int[]) SNumbers.this.array;
         }
 
         @Override
@@ -4947,7 +5784,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private PrintfIntsElementFormatter(Formatter formatter, int estimatedCapacity) {
             super(formatter, estimatedCapacity);
-            this.array = (int[]) arrayReference();
+            this.array = (int[]) SNumbers.this.array;
         }
 
         @Override
@@ -4961,7 +5798,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private DecimalIntsElementFormatter(Formatter formatter, int estimatedCapacity) {
             super(formatter, estimatedCapacity);
-            this.array = (int[]) arrayReference();
+            this.array = (int[]) SNumbers.this.array;
         }
 
         @Override
@@ -4975,7 +5812,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private SimpleLongsElementFormatter(int estimatedCapacity) {
             super(estimatedCapacity);
-            this.array = (long[]) arrayReference();
+            this.array = (long[]) SNumbers.this.array;
         }
 
         @Override
@@ -4989,7 +5826,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private PrintfLongsElementFormatter(Formatter formatter, int estimatedCapacity) {
             super(formatter, estimatedCapacity);
-            this.array = (long[]) arrayReference();
+            this.array = (long[]) SNumbers.this.array;
         }
 
         @Override
@@ -5003,7 +5840,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private DecimalLongsElementFormatter(Formatter formatter, int estimatedCapacity) {
             super(formatter, estimatedCapacity);
-            this.array = (long[]) arrayReference();
+            this.array = (long[]) SNumbers.this.array;
         }
 
         @Override
@@ -5017,7 +5854,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private SimpleFloatsElementFormatter(int estimatedCapacity) {
             super(estimatedCapacity);
-            this.array = (float[]) arrayReference();
+            this.array = (float[]) SNumbers.this.array;
         }
 
         @Override
@@ -5031,7 +5868,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private PrintfFloatsElementFormatter(Formatter formatter, int estimatedCapacity) {
             super(formatter, estimatedCapacity);
-            this.array = (float[]) arrayReference();
+            this.array = (float[]) SNumbers.this.array;
         }
 
         @Override
@@ -5045,7 +5882,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private DecimalFloatsElementFormatter(Formatter formatter, int estimatedCapacity) {
             super(formatter, estimatedCapacity);
-            this.array = (float[]) arrayReference();
+            this.array = (float[]) SNumbers.this.array;
         }
 
         @Override
@@ -5059,7 +5896,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private SimpleDoublesElementFormatter(int estimatedCapacity) {
             super(estimatedCapacity);
-            this.array = (double[]) arrayReference();
+            this.array = (double[]) SNumbers.this.array;
         }
 
         @Override
@@ -5073,7 +5910,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private PrintfDoublesElementFormatter(Formatter formatter, int estimatedCapacity) {
             super(formatter, estimatedCapacity);
-            this.array = (double[]) arrayReference();
+            this.array = (double[]) SNumbers.this.array;
         }
 
         @Override
@@ -5087,7 +5924,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private DecimalDoublesElementFormatter(Formatter formatter, int estimatedCapacity) {
             super(formatter, estimatedCapacity);
-            this.array = (double[]) arrayReference();
+            this.array = (double[]) SNumbers.this.array;
         }
 
         @Override
@@ -5107,7 +5944,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private SimpleForIntegersFloatsWrapper(ElementFormatter parent) {
             this.parent = parent;
-            this.array = (float[]) arrayReference();
+            this.array = (float[]) SNumbers.this.array;
         }
 
         @Override
@@ -5155,7 +5992,7 @@ public final class SNumbers extends Data implements Cloneable {
 
         private SimpleForIntegersDoublesWrapper(ElementFormatter parent) {
             this.parent = parent;
-            this.array = (double[]) arrayReference();
+            this.array = (double[]) SNumbers.this.array;
         }
 
         @Override
@@ -5213,6 +6050,10 @@ public final class SNumbers extends Data implements Cloneable {
         return result;
     }
 
+    private static PNumberArray cloneLargeArray(PNumberArray array) {
+        return (PNumberArray) array.updatableClone(LargeMemoryModel.getInstance());
+    }
+
     private static Object cloneJavaArray(Object value) {
         if (value == null) {
             return null;
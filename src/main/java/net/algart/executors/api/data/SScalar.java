@@ -26,6 +26,8 @@ package net.algart.executors.api.data;
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonException;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
 import net.algart.external.UsedForExternalCommunication;
 import net.algart.json.Jsons;
@@ -43,7 +45,12 @@ import java.util.stream.Stream;
  */
 public final class SScalar extends Data {
     private String value = null;
-    // - note: null means "non-initialized"
+    // - note: null means "non-initialized" (if json is also null)
+    private JsonObject json = null;
+    // - parsed JSON form of the value; if value is null, the string will be built from it on demand
+    private Object typed = null;
+    // - typed form of the value: Long, Double, Boolean, non-object JsonValue or a private copy of Java array;
+    // if value and json are null, the string will be built from it on demand, else it is just a parsing cache
 
     @UsedForExternalCommunication
     public SScalar() {
@@ -63,16 +70,90 @@ public final class SScalar extends Data {
      */
     @UsedForExternalCommunication
     public String getValue() {
-        return value;
+        return value();
     }
 
     public String getValueOrDefault(String defaultValue) {
-        return isInitialized() ? value : defaultValue;
+        return isInitialized() ? value() : defaultValue;
+    }
+
+    /**
+     * Returns the value of this scalar, parsed as a JSON object. An empty JSON object is returned
+     * if this scalar is not {@link #isInitialized() initialized} or contains an empty (or blank) string.
+     *
+     * <p>The result of parsing is stored inside this object, and it is passed to other scalars by
+     * {@link #setTo(SScalar)}. So, if the JSON travels through several executors
+     * (like chain settings), it is parsed only once.</p>
+     *
+     * @return parsed JSON value of this scalar.
+     * @throws JsonException if the value is not a correct JSON object.
+     */
+    public JsonObject toJsonObject() {
+        JsonObject json = this.json;
+        if (json == null) {
+            final String value = value();
+            final String s = value == null ? "" : value.trim();
+            json = s.isEmpty() ? Jsons.newEmptyJson() : Jsons.toJson(s);
+            if (value != null) {
+                this.json = json;
+            }
+        }
+        return json;
+    }
+
+    /**
+     * Returns the JSON value, stored in this scalar by {@link #setToJsonValue(JsonValue)} or
+     * {@link #setToJson(JsonObject)}, or <code>null</code> if this scalar was set in another way.
+     * Unlike {@link #toJsonObject()}, this method never parses the string value.
+     *
+     * @return stored JSON value or <code>null</code>.
+     */
+    public JsonValue getJsonValue() {
+        final JsonObject json = this.json;
+        if (json != null) {
+            return json;
+        }
+        return typed instanceof JsonValue jsonValue ? jsonValue : null;
+    }
+
+    /**
+     * Sets this scalar to the given JSON object.
+     * The string {@link #getValue() value} is built (as a pretty-printed JSON) only when it is requested:
+     * if all clients of this scalar use {@link #toJsonObject()}, the JSON is never serialized.
+     *
+     * @param json new JSON value.
+     * @return a reference to this object.
+     */
+    public SScalar setToJson(JsonObject json) {
+        Objects.requireNonNull(json, "Null json");
+        setValue(null);
+        this.json = json;
+        setInitialized(true);
+        return this;
+    }
+
+    /**
+     * Sets this scalar to the given JSON value.
+     * The string {@link #getValue() value} is built (as a pretty-printed JSON) only when it is requested.
+     *
+     * @param jsonValue new JSON value.
+     * @return a reference to this object.
+     */
+    public SScalar setToJsonValue(JsonValue jsonValue) {
+        Objects.requireNonNull(jsonValue, "Null JSON value");
+        if (jsonValue instanceof JsonObject json) {
+            return setToJson(json);
+        }
+        setTyped(jsonValue);
+        return this;
     }
 
     public SScalar setTo(SScalar scalar) {
         Objects.requireNonNull(scalar, "Null scalar");
         this.value = scalar.value;
+        this.json = scalar.json;
+        this.typed = scalar.typed;
+        // - typed arrays are never modified, so we can share them
         this.flags = scalar.flags;
         setInitialized(scalar.isInitialized());
         return this;
@@ -84,17 +165,17 @@ public final class SScalar extends Data {
     }
 
     public SScalar setTo(boolean value) {
-        setValue(String.valueOf(value));
+        setTyped(value);
         return this;
     }
 
     public SScalar setTo(int value) {
-        setValue(String.valueOf(value));
+        setTyped((long) value);
         return this;
     }
 
     public SScalar setTo(long value) {
-        setValue(String.valueOf(value));
+        setTyped(value);
         return this;
     }
 
@@ -102,7 +183,7 @@ public final class SScalar extends Data {
         if (value == (long) value) {
             setTo((long) value);
         } else {
-            setValue(String.valueOf(value));
+            setTyped(value);
         }
         return this;
     }
@@ -122,6 +203,7 @@ public final class SScalar extends Data {
             sb.append(values[i]);
         }
         setValue(sb.toString());
+        this.typed = values.clone();
         return this;
     }
 
@@ -140,6 +222,7 @@ public final class SScalar extends Data {
             sb.append(values[i]);
         }
         setValue(sb.toString());
+        this.typed = values.clone();
         return this;
     }
 
@@ -157,6 +240,7 @@ public final class SScalar extends Data {
             sb.append(values[i]);
         }
         setValue(sb.toString());
+        this.typed = values.clone();
         return this;
     }
 
@@ -174,6 +258,7 @@ public final class SScalar extends Data {
             sb.append(values[i]);
         }
         setValue(sb.toString());
+        this.typed = values.clone();
         return this;
     }
 
@@ -222,13 +307,18 @@ public final class SScalar extends Data {
             setTo(v);
         } else if (value instanceof double[] v) {
             setTo(v);
+        } else if (value instanceof Boolean v) {
+            setTo((boolean) v);
+        } else if (value instanceof Long || value instanceof Integer
+                || value instanceof Short || value instanceof Byte) {
+            setTo(((Number) value).longValue());
         } else if (value instanceof Collection<?> collection) {
             setTo(collection);
         } else if (value instanceof Optional<?> optional) {
             setTo(optional);
         } else {
             setValue(String.valueOf(value));
-            // - note: setTo(double), setTo(long), setTo(int) are equivalent to this code
+            // - note: setTo(double) is equivalent to this code for non-integer values
         }
         return this;
     }
@@ -254,44 +344,59 @@ public final class SScalar extends Data {
         }
         final long tempFlags = this.flags;
         final String tempValue = this.value;
+        final JsonObject tempJson = this.json;
+        final Object tempTyped = this.typed;
         this.flags = otherScalar.flags;
         this.value = otherScalar.value;
+        this.json = otherScalar.json;
+        this.typed = otherScalar.typed;
         otherScalar.flags = tempFlags;
         otherScalar.value = tempValue;
+        otherScalar.json = tempJson;
+        otherScalar.typed = tempTyped;
         return this;
     }
 
     public boolean toJavaLikeBoolean() {
-        if (value == null) {
+        if (isNull()) {
             throw new IllegalStateException("Non-initialized scalar cannot be converted to boolean");
         }
-        return toJavaLikeBoolean(value);
+        return typed instanceof Boolean b ? b : toJavaLikeBoolean(value());
     }
 
     public boolean toJavaLikeBoolean(boolean defaultValue) {
-        return value != null ? toJavaLikeBoolean(value) : defaultValue;
+        return !isNull() ? toJavaLikeBoolean() : defaultValue;
     }
 
     public boolean toCLikeBoolean() {
-        if (value == null) {
+        if (isNull()) {
             throw new IllegalStateException("Non-initialized scalar cannot be converted to boolean");
         }
-        return toCLikeBoolean(value);
+        final Object typed = this.typed;
+        return typed instanceof Long || typed instanceof Double ?
+                ((Number) typed).doubleValue() != 0.0 :
+                toCLikeBoolean(value());
     }
 
     public boolean toCLikeBoolean(boolean defaultValue) {
-        return value != null ? toCLikeBoolean(value) : defaultValue;
+        return !isNull() ? toCLikeBoolean() : defaultValue;
     }
 
     public boolean toCommonBoolean() {
-        if (value == null) {
+        if (isNull()) {
             throw new IllegalStateException("Non-initialized scalar cannot be converted to boolean");
         }
-        return toCommonBoolean(value);
+        final Object typed = this.typed;
+        if (typed instanceof Boolean b) {
+            return b;
+        }
+        return typed instanceof Long || typed instanceof Double ?
+                ((Number) typed).doubleValue() != 0.0 :
+                toCommonBoolean(value());
     }
 
     public boolean toCommonBoolean(boolean defaultValue) {
-        return toCommonBoolean(value, defaultValue);
+        return !isNull() ? toCommonBoolean() : defaultValue;
     }
 
     /**
@@ -304,23 +409,26 @@ public final class SScalar extends Data {
      * @throws NumberFormatException if this scalar cannot be parsed as int value or actually integer double value.
      */
     public int toInt() {
-        if (value == null) {
+        if (isNull()) {
             throw new NumberFormatException("Non-initialized scalar cannot be converted to int");
         }
-        final long value = Math.round(Double.parseDouble(this.value));
+        if (typed instanceof Long v && v == v.intValue()) {
+            return v.intValue();
+        }
+        final double doubleValue = toDouble();
+        final long value = Math.round(doubleValue);
         if (value != (int) value) {
-            throw new NumberFormatException("Scalar contain too large value for 32-bit int type: "
-                    + Double.parseDouble(this.value));
+            throw new NumberFormatException("Scalar contain too large value for 32-bit int type: " + doubleValue);
         }
         return (int) value;
     }
 
     public Integer toIntOrNull() {
-        return value == null ? null : toInt();
+        return isNull() ? null : toInt();
     }
 
     public int toIntOrDefault(int defaultValue) {
-        return value == null ? defaultValue : toInt();
+        return isNull() ? defaultValue : toInt();
     }
 
     /**
@@ -333,33 +441,55 @@ public final class SScalar extends Data {
      * @throws NumberFormatException if this scalar cannot be parsed as long value by <code>Long.parseLong</code>.
      */
     public long toLong() {
-        if (value == null) {
+        if (isNull()) {
             throw new NumberFormatException("Non-initialized scalar cannot be converted to long");
         }
-        return Long.parseLong(this.value);
+        if (typed instanceof Long v) {
+            return v;
+        }
+        final long result = Long.parseLong(value());
+        if (this.typed == null) {
+            this.typed = result;
+            // - caching: value() is not null now, so typed is not the only form of the value;
+            // but we must not replace another typed form (like JsonValue), which can be requested later
+        }
+        return result;
     }
 
     public Long toLongOrNull() {
-        return value == null ? null : toLong();
+        return isNull() ? null : toLong();
     }
 
     public long toLongOrDefault(long defaultValue) {
-        return value == null ? defaultValue : toLong();
+        return isNull() ? defaultValue : toLong();
     }
 
     public double toDouble() {
-        if (value == null) {
+        if (isNull()) {
             throw new NumberFormatException("Non-initialized scalar cannot be converted to double");
         }
-        return Double.parseDouble(value);
+        final Object typed = this.typed;
+        if (typed instanceof Long || typed instanceof Double) {
+            return ((Number) typed).doubleValue();
+        }
+        if (typed instanceof JsonNumber jsonNumber) {
+            return jsonNumber.doubleValue();
+        }
+        final double result = Double.parseDouble(value());
+        if (this.typed == null) {
+            this.typed = result;
+            // - caching: value() is not null now, so typed is not the only form of the value;
+            // but we must not replace another typed form (like JsonValue), which can be requested later
+        }
+        return result;
     }
 
     public Double toDoubleOrNull() {
-        return value == null ? null : toDouble();
+        return isNull() ? null : toDouble();
     }
 
     public double toDoubleOrDefault(double defaultValue) {
-        return value == null ? defaultValue : toDouble();
+        return isNull() ? defaultValue : toDouble();
     }
 
     //[[Repeat() int\[ ==> long[,,double[;;
@@ -369,17 +499,25 @@ public final class SScalar extends Data {
     }
 
     public int[] toInts(int minRequiredNumberOfDoubles) throws NumberFormatException, IllegalStateException {
-        if (value == null) {
+        if (isNull()) {
             throw new NumberFormatException("Non-initialized scalar cannot be converted to int[]");
         }
-        final String trimmed = value.trim();
-        if (trimmed.isEmpty()) {
-            return new int[0];
+        final int[] result;
+        if (typed instanceof int[] cached) {
+            result = cached.clone();
+        } else {
+            final String trimmed = value().trim();
+            if (trimmed.isEmpty()) {
+                return new int[0];
+            }
+            result = Stream.of(trimmed.split("[,;\\s]+"))
+                    .map(String::trim)
+                    .mapToInt(Integer::parseInt)
+                    .toArray();
+            if (this.typed == null) {
+                this.typed = result.clone();
+            }
         }
-        final int[] result = Stream.of(trimmed.split("[,;\\s]+"))
-                .map(String::trim)
-                .mapToInt(Integer::parseInt)
-                .toArray();
         if (result.length < minRequiredNumberOfDoubles) {
             throw new IllegalStateException("Too little values in the scalar: only " + result.length
                     + " when " + minRequiredNumberOfDoubles + " are required");
@@ -393,17 +531,25 @@ public final class SScalar extends Data {
     }
 
     public long[] toLongs(int minRequiredNumberOfDoubles) throws NumberFormatException, IllegalStateException {
-        if (value == null) {
+        if (isNull()) {
             throw new NumberFormatException("Non-initialized scalar cannot be converted to long[]");
         }
-        final String trimmed = value.trim();
-        if (trimmed.isEmpty()) {
-            return new long[0];
+        final long[] result;
+        if (typed instanceof long[] cached) {
+            result = cached.clone();
+        } else {
+            final String trimmed = value().trim();
+            if (trimmed.isEmpty()) {
+                return new long[0];
+            }
+            result = Stream.of(trimmed.split("[,;\\s]+"))
+                    .map(String::trim)
+                    .mapToLong(Long::parseLong)
+                    .toArray();
+            if (this.typed == null) {
+                this.typed = result.clone();
+            }
         }
-        final long[] result = Stream.of(trimmed.split("[,;\\s]+"))
-                .map(String::trim)
-                .mapToLong(Long::parseLong)
-                .toArray();
         if (result.length < minRequiredNumberOfDoubles) {
             throw new IllegalStateException("Too little values in the scalar: only " + result.length
                     + " when " + minRequiredNumberOfDoubles + " are required");
@@ -416,17 +562,25 @@ public final class SScalar extends Data {
     }
 
     public double[] toDoubles(int minRequiredNumberOfDoubles) throws NumberFormatException, IllegalStateException {
-        if (value == null) {
+        if (isNull()) {
             throw new NumberFormatException("Non-initialized scalar cannot be converted to double[]");
         }
-        final String trimmed = value.trim();
-        if (trimmed.isEmpty()) {
-            return new double[0];
+        final double[] result;
+        if (typed instanceof double[] cached) {
+            result = cached.clone();
+        } else {
+            final String trimmed = value().trim();
+            if (trimmed.isEmpty()) {
+                return new double[0];
+            }
+            result = Stream.of(trimmed.split("[,;\\s]+"))
+                    .map(String::trim)
+                    .mapToDouble(Double::parseDouble)
+                    .toArray();
+            if (this.typed == null) {
+                this.typed = result.clone();
+            }
         }
-        final double[] result = Stream.of(trimmed.split("[,;\\s]+"))
-                .map(String::trim)
-                .mapToDouble(Double::parseDouble)
-                .toArray();
         if (result.length < minRequiredNumberOfDoubles) {
             throw new IllegalStateException("Too little values in the scalar: only " + result.length
                     + " when " + minRequiredNumberOfDoubles + " are required");
@@ -437,23 +591,23 @@ public final class SScalar extends Data {
     //[[Repeat.AutoGeneratedEnd]]
 
     public String[] toTrimmedLinesArray() {
-        return value == null ? null : splitJsonOrTrimmedLinesArray(value);
+        return isNull() ? null : splitJsonOrTrimmedLinesArray(value());
     }
 
     public List<String> toTrimmedLines() {
-        return value == null ? null : splitJsonOrTrimmedLines(value);
+        return isNull() ? null : splitJsonOrTrimmedLines(value());
     }
 
     public String[] toTrimmedLinesWithoutCommentsArray() {
-        return value == null ? null : splitJsonOrTrimmedLinesWithoutCommentsArray(value);
+        return isNull() ? null : splitJsonOrTrimmedLinesWithoutCommentsArray(value());
     }
 
     public List<String> toTrimmedLinesWithoutComments() {
-        return value == null ? null : splitJsonOrTrimmedLinesWithoutComments(value);
+        return isNull() ? null : splitJsonOrTrimmedLinesWithoutComments(value());
     }
 
     public MultiLineOrJsonSplitter toTrimmedLinesWithComments() {
-        return value == null ? null : splitJsonOrTrimmedLinesWithComments(value);
+        return isNull() ? null : splitJsonOrTrimmedLinesWithComments(value());
     }
 
     /**
@@ -469,6 +623,7 @@ public final class SScalar extends Data {
         if (!isInitialized()) {
             return super.toString();
         }
+        final String value = value();
         assert value != null : "null initialized value";
         final int len = Math.min(value.length(), 128);
         for (int p = 0; p < len; p++) {
@@ -488,6 +643,14 @@ public final class SScalar extends Data {
         return new SScalar().setTo(value);
     }
 
+    public static SScalar ofJson(JsonObject json) {
+        return new SScalar().setToJson(json);
+    }
+
+    public static SScalar ofJsonValue(JsonValue jsonValue) {
+        return new SScalar().setToJsonValue(jsonValue);
+    }
+
     public static void setTo(Map<String, SScalar> scalars, String key, Supplier<?> supplier) {
         final SScalar scalar = scalars.get(key);
         if (scalar != null) {
@@ -589,15 +752,47 @@ public final class SScalar extends Data {
     @Override
     protected void freeResources() {
         value = null;
+        json = null;
+        typed = null;
+    }
+
+    private boolean isNull() {
+        return value == null && json == null && typed == null;
+    }
+
+    private String value() {
+        String value = this.value;
+        if (value == null) {
+            if (json != null) {
+                value = Jsons.toPrettyString(json);
+            } else if (typed instanceof JsonValue jsonValue) {
+                value = Jsons.toPrettyString(jsonValue);
+            } else if (typed != null) {
+                value = String.valueOf(typed);
+                // - Long, Double or Boolean: Java arrays are stored only together with the string
+            }
+            this.value = value;
+        }
+        return value;
     }
 
     @UsedForExternalCommunication
     private void setValue(String value) {
         this.value = value;
+        this.json = null;
+        this.typed = null;
         setInitializedAndResetFlags(value != null);
         // - no sense to keep uninitialized state
     }
 
+    private void setTyped(Object typed) {
+        assert typed != null;
+        this.value = null;
+        this.json = null;
+        this.typed = typed;
+        setInitializedAndResetFlags(true);
+    }
+
     private static boolean doubleToBoolean(String scalar) {
         if (scalar.isEmpty()) {
             return false;
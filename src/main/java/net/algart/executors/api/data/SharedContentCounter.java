@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.algart.executors.api.data;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Number of {@link Data} objects, which share the same content after {@link Data#setToShared(Data)}.
+ *
+ * <p>The shared content is considered to be immutable. An object, that needs to modify it,
+ * must create its own copy if {@link #isShared()}, and after this must {@link #release()} this counter
+ * and forget it (copy-on-write). The last owner may modify the content without copying.</p>
+ */
+final class SharedContentCounter {
+    private final AtomicInteger numberOfOwners = new AtomicInteger(1);
+
+    /**
+     * Registers one more owner of the content, owned by the object with the given counter field.
+     * If <code>counter</code> is <code>null</code> (the content was not shared yet), creates new counter
+     * for 2 owners.
+     *
+     * @param counter the current counter of the existing owner; may be <code>null</code>.
+     * @return the counter, that should be stored in both owners.
+     */
+    static SharedContentCounter addOwner(SharedContentCounter counter) {
+        if (counter == null) {
+            counter = new SharedContentCounter();
+        }
+        counter.numberOfOwners.incrementAndGet();
+        return counter;
+    }
+
+    /**
+     * Returns <code>true</code> if the content is used by some other owner besides the current one.
+     *
+     * @return whether the content is shared.
+     */
+    boolean isShared() {
+        return numberOfOwners.get() > 1;
+    }
+
+    /**
+     * Unregisters the current owner.
+     *
+     * @return <code>true</code> if the content is still used by some other owners.
+     */
+    boolean release() {
+        final int remaining = numberOfOwners.decrementAndGet();
+        assert remaining >= 0 : "Content released more times than shared";
+        return remaining > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "shared content counter: " + numberOfOwners.get() + " owners";
+    }
+}
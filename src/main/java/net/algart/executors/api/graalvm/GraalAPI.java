@@ -32,6 +32,7 @@ import net.algart.multimatrix.MultiMatrix;
 import org.graalvm.polyglot.Value;
 
 import java.awt.image.BufferedImage;
+import java.lang.reflect.Array;
 import java.nio.file.Path;
 import java.util.*;
 
@@ -147,6 +148,7 @@ public class GraalAPI {
     private boolean convertInputScalarToNumber = false;
     private boolean convertInputNumbersToArray = false;
     private boolean convertInputArraysToDouble = false;
+    private boolean readOnlyInputArrays = false;
     private boolean convertOutputIntegersToBriefForm = false;
 
     private GraalAPI() {
@@ -191,6 +193,31 @@ public class GraalAPI {
         return this;
     }
 
+    public boolean isReadOnlyInputArrays() {
+        return readOnlyInputArrays;
+    }
+
+    /**
+     * If set, input numbers, which are already stored as <code>double[]</code> and should be converted
+     * to <code>double[]</code> (see {@link #setConvertInputArraysToDouble(boolean)}),
+     * are passed to the script without copying: as a reference to the internal array of {@link SNumbers}.
+     * In this case, the script <b>must not</b> modify the input arrays.
+     * Default value is <code>false</code>.
+     *
+     * <p>Note that this flag has effect only in this case. Numbers, stored in other element types or
+     * in the large storage mode, are still copied (converted) to a new <code>double[]</code> array.
+     * If the array is shared with other data after {@link SNumbers#setToShared}, it is also copied,
+     * because {@link SNumbers#toDoubleArrayOrReference()} never returns shared arrays.
+     * Input matrices ({@link SMat}) are not affected by this flag.</p>
+     *
+     * @param readOnlyInputArrays whether the script may access input arrays without copying.
+     * @return reference to this object.
+     */
+    public GraalAPI setReadOnlyInputArrays(boolean readOnlyInputArrays) {
+        this.readOnlyInputArrays = readOnlyInputArrays;
+        return this;
+    }
+
     public boolean isConvertOutputIntegerToBriefForm() {
         return convertOutputIntegersToBriefForm;
     }
@@ -367,7 +394,10 @@ public class GraalAPI {
         if (!convertInputNumbersToArray) {
             return data;
         }
-        return convertInputArraysToDouble ? data.toDoubleArray() : data.getArray();
+        if (convertInputArraysToDouble) {
+            return readOnlyInputArrays ? data.toDoubleArrayOrReference() : data.toDoubleArray();
+        }
+        return data.getArray();
     }
 
     public void storeNumbers(ExecutionBlock executor, String portName, Value value) {
@@ -387,6 +417,18 @@ public class GraalAPI {
     public void storeNumbers(Port port, Value value, int defaultBlockLength) {
         Objects.requireNonNull(port, "Null port");
         Objects.requireNonNull(value, "Null value");
+        final Object typedArray = value.isNull() ? null : GraalValues.typedArrayToJavaArray(value);
+        if (typedArray != null) {
+            final SNumbers resultNumbers = port.getData(SNumbers.class, true);
+            if (Array.getLength(typedArray) == 0) {
+                resultNumbers.setToZeros(float.class, 0, blockLength(value));
+                // - the same result as for an empty collection below
+            } else {
+                resultNumbers.setToArrayReference(typedArray, blockLength(value));
+                // - the array was just created by typedArrayToJavaArray and is not used anywhere else
+            }
+            return;
+        }
         Object object = value.isNull() ? null : value.as(Object.class);
         if (object == null) {
             port.removeData();
@@ -395,14 +437,7 @@ public class GraalAPI {
             if (object instanceof SNumbers) {
                 resultNumbers.setTo((SNumbers) object);
             } else if (object instanceof Collection<?>) {
-                int blockLength = 1;
-                if (value.hasMember(ARRAY_BLOCK_LENGTH_PROPERTY_NAME)) {
-                    final Value blockLengthValue = value.getMember(ARRAY_BLOCK_LENGTH_PROPERTY_NAME);
-                    if (blockLengthValue.fitsInInt()) {
-                        blockLength = blockLengthValue.asInt();
-                    }
-                }
-                resultNumbers.setTo((Collection<?>) object, blockLength);
+                resultNumbers.setTo((Collection<?>) object, blockLength(value));
             } else {
                 if (!SNumbers.isJavaArraySupported(object)) {
                     throw new IllegalArgumentException(
@@ -416,6 +451,17 @@ public class GraalAPI {
         }
     }
 
+    private static int blockLength(Value value) {
+        int blockLength = 1;
+        if (value.hasMember(ARRAY_BLOCK_LENGTH_PROPERTY_NAME)) {
+            final Value blockLengthValue = value.getMember(ARRAY_BLOCK_LENGTH_PROPERTY_NAME);
+            if (blockLengthValue.fitsInInt()) {
+                blockLength = blockLengthValue.asInt();
+            }
+        }
+        return blockLength;
+    }
+
     public void loadMat(
             Value bindings,
             ExecutionBlock executor,
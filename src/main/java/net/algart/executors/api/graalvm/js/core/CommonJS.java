@@ -33,6 +33,7 @@ import net.algart.graalvm.GraalSourceContainer;
 import org.graalvm.polyglot.Value;
 
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class CommonJS extends Executor {
     public static final String CALLABLE_EXECUTOR_FACTORY_VARIABLE = "executorFactory";
@@ -73,6 +74,8 @@ public final class CommonJS extends Executor {
     public static final String OUTPUT_M4 = "m4";
     public static final String OUTPUT_M5 = "m5";
 
+    private static final AtomicLong INSTANCE_COUNTER = new AtomicLong();
+
     public static class ExecutorFactory {
         private final String sessionId;
         private final boolean callableExecutorOutputsNecessaryAlways;
@@ -128,10 +131,12 @@ public final class CommonJS extends Executor {
     private String callableExecutorId2 = "";
     private String callableExecutorId3 = "";
     private boolean callableExecutorOutputsNecessaryAlways = true;
+    private boolean readOnlyInputArrays = false;
     private final GraalAPI graalAPI = GraalAPI.getSmartScriptingInstance();
     private GraalSafety safety = GraalSafety.SAFE;
     private boolean shareNamespace = false;
     private boolean closeSharedContext = true;
+    private int maxParallelSharedContexts = 1;
 
     private GraalPerformerContainer performerContainer = null;
     private final GraalSourceContainer javaScriptInitializingOperator = GraalSourceContainer.newLiteralContainer();
@@ -152,10 +157,15 @@ public final class CommonJS extends Executor {
     private final GraalSourceContainer javaScriptResultM3 = GraalSourceContainer.newLiteralContainer();
     private final GraalSourceContainer javaScriptResultM4 = GraalSourceContainer.newLiteralContainer();
     private final GraalSourceContainer javaScriptResultM5 = GraalSourceContainer.newLiteralContainer();
+    private ExecutorFactory executorFactory = null;
     private Executor callableExecutor1 = null;
     private Executor callableExecutor2 = null;
     private Executor callableExecutor3 = null;
 
+    private long initializationStamp = 0;
+    private final String performerInitializedProperty =
+            "__CommonJS_initialized_" + INSTANCE_COUNTER.incrementAndGet();
+
     private final Object lock = new Object();
 
     public CommonJS() {
@@ -507,6 +517,16 @@ public final class CommonJS extends Executor {
         return this;
     }
 
+    public boolean isReadOnlyInputArrays() {
+        return readOnlyInputArrays;
+    }
+
+    public CommonJS setReadOnlyInputArrays(boolean readOnlyInputArrays) {
+        this.readOnlyInputArrays = readOnlyInputArrays;
+        graalAPI.setReadOnlyInputArrays(readOnlyInputArrays);
+        return this;
+    }
+
     public GraalSafety getSafety() {
         return safety;
     }
@@ -541,46 +561,70 @@ public final class CommonJS extends Executor {
         return this;
     }
 
+    public int getMaxParallelSharedContexts() {
+        return maxParallelSharedContexts;
+    }
+
+    public CommonJS setMaxParallelSharedContexts(int maxParallelSharedContexts) {
+        this.maxParallelSharedContexts = positive(maxParallelSharedContexts);
+        return this;
+    }
+
     @Override
     public void initialize() {
         long t1 = debugTime();
-        final GraalPerformer performer = performerContainer().performer(getContextId());
+        final GraalPerformer performer = isPooled() ? null : performerContainer().performer(getContextId());
+        // - in the pooled mode, every performer is initialized while the first usage in process()
         long t2 = debugTime();
         closeExecutors();
-        ExecutorFactory executorFactory = new ExecutorFactory(getSessionId(), callableExecutorOutputsNecessaryAlways);
-        final Value bindings = performer.bindingsJS();
-        bindings.putMember(CALLABLE_EXECUTOR_FACTORY_VARIABLE, executorFactory);
+        executorFactory = new ExecutorFactory(getSessionId(), callableExecutorOutputsNecessaryAlways);
         if (!callableExecutorId1.isEmpty()) {
             callableExecutor1 = executorFactory.get(callableExecutorId1);
-            bindings.putMember(CALLABLE_EXECUTOR_VARIABLE_1, callableExecutor1);
-            bindings.putMember(CALLABLE_EXECUTOR_VARIABLE_1_ALT, callableExecutor1);
         }
         if (!callableExecutorId2.isEmpty()) {
             callableExecutor2 = executorFactory.get(callableExecutorId2);
-            bindings.putMember(CALLABLE_EXECUTOR_VARIABLE_2, callableExecutor2);
         }
         if (!callableExecutorId3.isEmpty()) {
             callableExecutor3 = executorFactory.get(callableExecutorId3);
-            bindings.putMember(CALLABLE_EXECUTOR_VARIABLE_3, callableExecutor3);
         }
+        initializationStamp++;
         long t3 = debugTime();
-        if (!initializingOperator.isEmpty()) {
-            javaScriptInitializingOperator.setCommonJS(initializingOperator);
-            putAllInputs(bindings, true);
-            performer.perform(javaScriptInitializingOperator);
+        if (performer != null) {
+            initializePerformer(performer);
         }
         long t4 = debugTime();
         logDebug(() -> String.format(Locale.US,
                 "JavaScript reset in %.5f ms:"
-                        + " %.2f mcs getting performer + %.2f mcs adding executors + %.2f mcs initializing script",
+                        + " %.2f mcs getting performer + %.2f mcs creating executors + %.2f mcs initializing script",
                 (t4 - t1) * 1e-6,
                 (t2 - t1) * 1e-3, (t3 - t2) * 1e-3, (t4 - t3) * 1e-3));
     }
 
     @Override
     public void process() {
+        if (!isPooled()) {
+            process(performerContainer().performer(getContextId()));
+            return;
+        }
+        final GraalPerformerContainer.Shared container = (GraalPerformerContainer.Shared) performerContainer();
+        final GraalPerformer performer = container.acquirePerformer(getContextId());
+        try {
+            final Long stamp = performer.getProperty(performerInitializedProperty, Long.class);
+            if (stamp == null || stamp != initializationStamp) {
+                initializePerformer(performer);
+            } else {
+                bindCallableExecutors(performer.bindingsJS());
+                // - pooled performers are shared by all instances with the same context ID:
+                // another instance could rebind the global variables to its own executors
+            }
+            process(performer);
+        } finally {
+            container.releasePerformer(performer);
+        }
+    }
+
+    private void process(GraalPerformer performer) {
         long t1 = debugTime();
-        @SuppressWarnings("resource") final GraalPerformer performer = performerContainer().performer(getContextId());
 //        System.out.println("!!! " + graalAPI.createEmptyObjectJSFunction(performer).execute());
         javaScriptFormula.setCommonJS(formula);
         javaScriptResultA.setCommonJS(resultA);
@@ -638,6 +682,41 @@ public final class CommonJS extends Executor {
         closePerformerContainer();
     }
 
+    private void initializePerformer(GraalPerformer performer) {
+        final Value bindings = performer.bindingsJS();
+        bindCallableExecutors(bindings);
+        if (!initializingOperator.isEmpty()) {
+            javaScriptInitializingOperator.setCommonJS(initializingOperator);
+            putAllInputs(bindings, true);
+            performer.perform(javaScriptInitializingOperator);
+        }
+        performer.putProperty(performerInitializedProperty, initializationStamp);
+    }
+
+    private void bindCallableExecutors(Value bindings) {
+        bindings.putMember(CALLABLE_EXECUTOR_FACTORY_VARIABLE, executorFactory);
+        bindCallableExecutor(bindings, CALLABLE_EXECUTOR_VARIABLE_1, callableExecutor1);
+        bindCallableExecutor(bindings, CALLABLE_EXECUTOR_VARIABLE_1_ALT, callableExecutor1);
+        bindCallableExecutor(bindings, CALLABLE_EXECUTOR_VARIABLE_2, callableExecutor2);
+        bindCallableExecutor(bindings, CALLABLE_EXECUTOR_VARIABLE_3, callableExecutor3);
+    }
+
+    private static void bindCallableExecutor(Value bindings, String name, Executor callableExecutor) {
+        if (callableExecutor != null) {
+            bindings.putMember(name, callableExecutor);
+        } else {
+            final Value previous = bindings.getMember(name);
+            if (previous != null && previous.isHostObject() && previous.asHostObject() instanceof Executor) {
+                bindings.removeMember(name);
+                // - do not leave the executor of another instance, sharing the same namespace
+            }
+        }
+    }
+
+    private boolean isPooled() {
+        return shareNamespace && maxParallelSharedContexts > 1;
+    }
+
     private void closeExecutors() {
         if (callableExecutor3 != null) {
             callableExecutor3.close();
@@ -669,6 +748,9 @@ public final class CommonJS extends Executor {
                 // - we should re-create the container here, because different shareNamespace
                 // values correspond to different subclasses of GraalPerformerContainer
             }
+            if (performerContainer instanceof GraalPerformerContainer.Shared shared) {
+                shared.setMaxPooledPerformers(maxParallelSharedContexts);
+            }
             return performerContainer;
         }
     }
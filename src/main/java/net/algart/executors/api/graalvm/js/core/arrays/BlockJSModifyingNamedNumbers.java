@@ -50,10 +50,16 @@ public final class BlockJSModifyingNamedNumbers extends NumbersFilter {
     public static final String INPUT_C = "c";
     public static final String JSON_1_VARIABLE_ALT = "o";
 
+    private static final String BATCH_X = "_batchX";
+    private static final String BATCH_TAGS_1 = "_batchTags1";
+    private static final String BATCH_TAGS_2 = "_batchTags2";
+    private static final String BATCH_N = "_batchN";
+
     private String initializingOperator = "";
     private String mainOperator = "x0 = x1 * p";
     private boolean useColumnNames = true;
     private boolean useK = false;
+    private boolean batchMode = false;
     private String tags1Name = "tag";
     private String tags2Name = "kind";
     private boolean simpleAccessToJson1 = false;
@@ -121,6 +127,15 @@ public final class BlockJSModifyingNamedNumbers extends NumbersFilter {
         return this;
     }
 
+    public boolean isBatchMode() {
+        return batchMode;
+    }
+
+    public BlockJSModifyingNamedNumbers setBatchMode(boolean batchMode) {
+        this.batchMode = batchMode;
+        return this;
+    }
+
     public String getTags1Name() {
         return tags1Name;
     }
@@ -257,6 +272,10 @@ public final class BlockJSModifyingNamedNumbers extends NumbersFilter {
         final Object tags2 = createCompatibleBlock(tags2Numbers);
         final String[] columnNames = getColumnNames(x.length);
         final String mainOperator = buildMainOperator(columnNames, useTags1, useTags2);
+        if (batchMode) {
+            processInBatchMode(mainOperator, source, tags1Numbers, tags2Numbers, context);
+            return source;
+        }
         javaScriptMainOperator = getScript(mainOperator, javaScriptMainOperator, context);
         javaScriptMainOperator.putVariable("x", x);
         if (useTags1) {
@@ -289,6 +308,37 @@ public final class BlockJSModifyingNamedNumbers extends NumbersFilter {
         return source;
     }
 
+    private void processInBatchMode(
+            String blockOperator,
+            SNumbers source,
+            SNumbers tags1Numbers,
+            SNumbers tags2Numbers,
+            ScriptEngine context) {
+        final boolean useTags1 = tags1Numbers != null && tags1Numbers.isInitialized();
+        final boolean useTags2 = tags2Numbers != null && tags2Numbers.isInitialized();
+        final double[] x = source.toDoubleArray();
+        final Object tags1 = useTags1 ? tags1Numbers.getValues(0, tags1Numbers.getArrayLength(), null) : null;
+        final Object tags2 = useTags2 ? tags2Numbers.getValues(0, tags2Numbers.getArrayLength(), null) : null;
+        final String batchOperator = buildBatchOperator(
+                blockOperator,
+                source.getBlockLength(),
+                useTags1 ? tags1Numbers.getBlockLength() : 0,
+                useTags2 ? tags2Numbers.getBlockLength() : 0);
+        javaScriptMainOperator = getScript(batchOperator, javaScriptMainOperator, context);
+        javaScriptMainOperator.putVariable(BATCH_X, x);
+        javaScriptMainOperator.putVariable(BATCH_TAGS_1, tags1);
+        javaScriptMainOperator.putVariable(BATCH_TAGS_2, tags2);
+        javaScriptMainOperator.putVariable(BATCH_N, source.n());
+        javaScriptMainOperator.perform();
+        source.setDoubleValues(0, x.length, x);
+        if (useTags1) {
+            tags1Numbers.setValues(0, tags1Numbers.getArrayLength(), tags1);
+        }
+        if (useTags2) {
+            tags2Numbers.setValues(0, tags2Numbers.getArrayLength(), tags2);
+        }
+    }
+
     @Override
     public ExecutionVisibleResultsInformation visibleResultsInformation() {
         return super.visibleResultsInformation().addPorts(getInputPort(INPUT_COLUMN_NAMES));
@@ -409,6 +459,20 @@ public final class BlockJSModifyingNamedNumbers extends NumbersFilter {
         return sb.toString();
     }
 
+    private String buildBatchOperator(
+            String blockOperator,
+            int blockLength,
+            int tags1BlockLength,
+            int tags2BlockLength) {
+        return JSBatchBlockLoop.build(
+                blockOperator,
+                new String[]{"x", "tags1", "tags2"},
+                new int[]{blockLength, tags1BlockLength, tags2BlockLength},
+                useK,
+                new String[]{BATCH_X, BATCH_TAGS_1, BATCH_TAGS_2},
+                BATCH_N);
+    }
+
     private static void addJsonToVariables(StringBuilder sb, JsonObject json, String jsonName) {
         for (String key : json.keySet()) {
             sb.append("var " + key + " = " + jsonName + "." + key + ";\n");
@@ -36,7 +36,11 @@ public final class BlockJSModifyingSeveralNumbers extends Executor {
     public static final String IN_OUT_C = "c";
     public static final String IN_OUT_D = "d";
 
+    private static final String[] BATCH_ARRAYS = {"_batchA", "_batchB", "_batchC", "_batchD"};
+    private static final String BATCH_N = "_batchN";
+
     private String javaScriptCode = "a[0] = a[0] * p + k;";
+    private boolean batchMode = false;
     private double p = 0.0;
     private double q = 0.0;
     private double r = 0.0;
@@ -67,6 +71,15 @@ public final class BlockJSModifyingSeveralNumbers extends Executor {
         return this;
     }
 
+    public boolean isBatchMode() {
+        return batchMode;
+    }
+
+    public BlockJSModifyingSeveralNumbers setBatchMode(boolean batchMode) {
+        this.batchMode = batchMode;
+        return this;
+    }
+
     public double getP() {
         return p;
     }
@@ -130,14 +143,20 @@ public final class BlockJSModifyingSeveralNumbers extends Executor {
         checkNEquality(aArray, bArray, "a", "b");
         checkNEquality(aArray, cArray, "a", "c");
         checkNEquality(aArray, dArray, "a", "d");
+        final SNumbers[] arrays = {aArray, bArray, cArray, dArray};
         //noinspection NonAtomicOperationOnVolatileField
-        javaScript = JavaScriptPerformer.newInstanceIfChanged(javaScriptCode, javaScript);
+        javaScript = JavaScriptPerformer.newInstanceIfChanged(
+                batchMode ? buildBatchCode(arrays) : javaScriptCode, javaScript);
         javaScript.putVariable("p", p);
         javaScript.putVariable("q", q);
         javaScript.putVariable("r", r);
         javaScript.putVariable("s", s);
         javaScript.putVariable("t", t);
         javaScript.putVariable("u", u);
+        if (batchMode) {
+            processInBatchMode(arrays);
+            return;
+        }
         final double[] a = createBlock(aArray);
         final double[] b = createBlock(bArray);
         final double[] c = createBlock(cArray);
@@ -145,7 +164,7 @@ public final class BlockJSModifyingSeveralNumbers extends Executor {
         javaScript.putVariable("a", a);
         javaScript.putVariable("b", b);
         javaScript.putVariable("c", c);
-        javaScript.putVariable("d", c);
+        javaScript.putVariable("d", d);
         for (int k = 0, n = aArray.n(); k < n; k++) {
             javaScript.putVariable("k", k);
             readBlock(a, aArray, k);
@@ -164,6 +183,38 @@ public final class BlockJSModifyingSeveralNumbers extends Executor {
         getNumbers(IN_OUT_D).setTo(dArray);
     }
 
+    private void processInBatchMode(SNumbers[] arrays) {
+        final double[][] all = new double[arrays.length][];
+        for (int i = 0; i < arrays.length; i++) {
+            all[i] = arrays[i] != null && arrays[i].isInitialized() ? arrays[i].toDoubleArray() : new double[0];
+            javaScript.putVariable(BATCH_ARRAYS[i], all[i]);
+        }
+        javaScript.putVariable(BATCH_N, arrays[0].n());
+        javaScript.perform();
+        for (int i = 0; i < arrays.length; i++) {
+            if (all[i].length > 0) {
+                arrays[i].setDoubleValues(0, all[i].length, all[i]);
+            }
+        }
+        getNumbers(IN_OUT_A).setTo(arrays[0]);
+        getNumbers(IN_OUT_B).setTo(arrays[1]);
+        getNumbers(IN_OUT_C).setTo(arrays[2]);
+        getNumbers(IN_OUT_D).setTo(arrays[3]);
+    }
+
+    private String buildBatchCode(SNumbers[] arrays) {
+        final int[] blockLengths = new int[arrays.length];
+        for (int i = 0; i < arrays.length; i++) {
+            blockLengths[i] = blockLength(arrays[i]);
+        }
+        return JSBatchBlockLoop.build(
+                javaScriptCode, new String[]{"a", "b", "c", "d"}, blockLengths, true, BATCH_ARRAYS, BATCH_N);
+    }
+
+    private static int blockLength(SNumbers numbers) {
+        return numbers != null && numbers.isInitialized() ? numbers.getBlockLength() : 0;
+    }
+
     private static double[] createBlock(SNumbers numbers) {
         return new double[numbers != null && numbers.isInitialized() ? numbers.getBlockLength() : 0];
     }
@@ -34,6 +34,7 @@ import net.algart.math.functions.ConstantFunc;
 import net.algart.math.functions.Func;
 
 import java.util.List;
+import java.util.Map;
 
 public final class ElementwiseFormula extends SeveralNumberArraysOperation implements ReadOnlyExecutionInput {
     public static final String INPUT_A = "a";
@@ -43,6 +44,16 @@ public final class ElementwiseFormula extends SeveralNumberArraysOperation imple
     public static final String INPUT_E = "e";
     public static final String INPUT_F = "f";
 
+    /**
+     * If <code>true</code> (default), simple arithmetic formulas are compiled into Java functions,
+     * which are calculated in several threads without calling JavaScript engine;
+     * JavaScript is used only for formulas outside the supported subset.
+     */
+    public static final boolean COMPILE_SIMPLE_FORMULAS = Arrays.SystemSettings.getBooleanProperty(
+            "net.algart.executors.api.graalvm.js.compileSimpleFormulas", true);
+
+    private static final List<String> ARGUMENTS = List.of("a", "b", "c", "d", "e", "f");
+
     private String formula = "a * p + b";
     private SimpleResultElementType resultElementType = SimpleResultElementType.FLOAT;
     private double defaultA = 0.0;
@@ -213,6 +224,21 @@ public final class ElementwiseFormula extends SeveralNumberArraysOperation imple
                 sources.set(k, Arrays.asIndexFuncArray(constant, DoubleArray.class, length));
             }
         }
+        final SimpleJSFormula compiled = COMPILE_SIMPLE_FORMULAS ?
+                SimpleJSFormula.compile(formula, ARGUMENTS,
+                        Map.of("p", p, "q", q, "r", r, "s", s, "t", t, "u", u)) :
+                null;
+        if (compiled != null) {
+            logDebug(() -> "Elementwise formula compiled into Java: " + formula);
+            final PArray array = Arrays.asFuncArray(
+                    compiled.toFunc(),
+                    Arrays.type(PArray.class, resultElementType.elementType()),
+                    sources.toArray(new PArray[0]));
+            final UpdatablePArray result = (UpdatablePArray) Arrays.SMM.newUnresizableArray(array);
+            Arrays.copy(null, result, array);
+            // - multithreading is allowed: compiled formula does not use JavaScript engine
+            return result;
+        }
         //noinspection NonAtomicOperationOnVolatileField
         javaScript = JavaScriptPerformer.newInstanceIfChanged(formula, javaScript);
         javaScript.putVariable("p", p);
@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.algart.executors.api.graalvm.js.core.arrays;
+
+/**
+ * Generator of JavaScript code, which loops over all blocks of several numbers arrays inside a single
+ * JavaScript call instead of calling JavaScript for every block.
+ *
+ * <p>Local variables of the generated function are much faster than global ones, and there are
+ * no host-to-script transitions per block. The block code is placed into a nested function:
+ * so, the user code cannot damage the loop variables (<code>_k</code>, <code>_i</code>, ...),
+ * even if it declares variables with the same names.</p>
+ */
+final class JSBatchBlockLoop {
+    private JSBatchBlockLoop() {
+    }
+
+    /**
+     * Builds the batch code.
+     *
+     * @param blockCode      the code, processing one block: elements of the block <code>k</code>
+     *                       of the array with index <code>i</code> are available in JavaScript array
+     *                       <code>blockNames[i]</code>.
+     * @param blockNames     names of JavaScript arrays, containing the current block of every numbers array.
+     * @param blockLengths   block lengths of all numbers arrays; 0 means that the array is not used.
+     * @param useK           whether the block code uses the index of the current block <code>k</code>.
+     * @param arrayVariables names of global variables, containing all elements of every numbers array.
+     * @param nVariable      name of global variable, containing the number of blocks.
+     * @return the code, processing all blocks.
+     */
+    static String build(
+            String blockCode,
+            String[] blockNames,
+            int[] blockLengths,
+            boolean useK,
+            String[] arrayVariables,
+            String nVariable) {
+        if (blockNames.length != blockLengths.length || blockNames.length != arrayVariables.length) {
+            throw new IllegalArgumentException("Different lengths of names, block lengths and variables");
+        }
+        final StringBuilder sb = new StringBuilder();
+        sb.append("(function(");
+        for (String name : blockNames) {
+            sb.append("_" + name + ", ");
+        }
+        sb.append("_n) {\n");
+        for (int i = 0; i < blockNames.length; i++) {
+            sb.append("var " + blockNames[i] + " = new Array(" + blockLengths[i] + ");\n");
+        }
+        if (useK) {
+            sb.append("var k;\n");
+        }
+        sb.append("function _block() {\n");
+        sb.append(blockCode).append("\n");
+        sb.append("}\n");
+        sb.append("for (var _k = 0; _k < _n; _k++) {\n");
+        if (useK) {
+            sb.append("k = _k;\n");
+        }
+        for (int i = 0; i < blockNames.length; i++) {
+            appendBlockCopying(sb, blockNames[i], blockLengths[i], false);
+        }
+        sb.append("_block();\n");
+        for (int i = 0; i < blockNames.length; i++) {
+            appendBlockCopying(sb, blockNames[i], blockLengths[i], true);
+        }
+        sb.append("}\n");
+        sb.append("})(" + String.join(", ", arrayVariables) + ", " + nVariable + ");\n");
+        return sb.toString();
+    }
+
+    private static void appendBlockCopying(StringBuilder sb, String block, int blockLength, boolean write) {
+        if (blockLength == 0) {
+            return;
+        }
+        final String all = "_" + block;
+        sb.append("for (var _i = 0, _p = _k * " + blockLength + "; _i < " + blockLength + "; _i++) ");
+        sb.append(write ?
+                all + "[_p + _i] = " + block + "[_i];\n" :
+                block + "[_i] = " + all + "[_p + _i];\n");
+    }
+}
@@ -0,0 +1,567 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.api.graalvm.js.core.arrays;
+
+import net.algart.math.functions.AbstractFunc;
+import net.algart.math.functions.Func;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiler of simple JavaScript arithmetic expressions into Java: a tree of lambdas,
+ * which can be evaluated in parallel threads without calling JavaScript engine.
+ *
+ * <p>Supported subset: numeric literals, arguments and constants (by names),
+ * <code>NaN</code>, <code>Infinity</code>, unary <code>+ - ! ~</code>, binary <code>** * / % + -</code>,
+ * shifts, comparisons, equalities, bitwise <code>&amp; ^ |</code>, logical <code>&amp;&amp; ||</code>,
+ * conditional operator <code>?:</code>, constants and most functions of <code>Math</code> object.
+ * All operations are performed according JavaScript rules (for example, bitwise operations convert
+ * operands to 32-bit integers, booleans are converted to 1/0 in arithmetic operations).
+ * For any other syntax {@link #compile} method returns <code>null</code>, and the caller should
+ * use usual JavaScript engine.</p>
+ */
+final class SimpleJSFormula {
+    @FunctionalInterface
+    private interface Node {
+        double get(double[] x);
+    }
+
+    private record Expression(Node node, boolean bool, boolean constant) {
+        static Expression constant(double value, boolean bool) {
+            return new Expression(x -> value, bool, true);
+        }
+
+        Expression folded() {
+            return constant ? constant(node.get(null), bool) : this;
+        }
+    }
+
+    private static final class UnsupportedSyntaxException extends Exception {
+        UnsupportedSyntaxException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    private static final Pattern PUNCTUATORS = Pattern.compile(
+            ">>>=|>>>|===|!==|\\*\\*=|<<=|>>=|\\*\\*|<<|>>|<=|>=|==|!=|&&|\\|\\||\\+\\+|--|[-+*/%<>&^|!~?:().,=]");
+
+    private final Node node;
+    private final String formula;
+
+    private SimpleJSFormula(Node node, String formula) {
+        this.node = node;
+        this.formula = formula;
+    }
+
+    /**
+     * Compiles the formula.
+     *
+     * @param formula   JavaScript expression.
+     * @param arguments names of arguments: <code>x[0], x[1], ...</code> while evaluation.
+     * @param constants values of other variables, which can be used in the formula.
+     * @return compiled formula or <code>null</code> if the formula is not in the supported subset of JavaScript
+     * or does not return a number.
+     */
+    static SimpleJSFormula compile(String formula, List<String> arguments, Map<String, Double> constants) {
+        Objects.requireNonNull(formula, "Null formula");
+        Objects.requireNonNull(arguments, "Null arguments");
+        Objects.requireNonNull(constants, "Null constants");
+        try {
+            final Parser parser = new Parser(tokenize(formula), arguments, constants);
+            final Expression result = parser.parseConditional();
+            if (!parser.finished() || result.bool) {
+                return null;
+            }
+            return new SimpleJSFormula(result.folded().node, formula);
+        } catch (UnsupportedSyntaxException e) {
+            return null;
+        }
+    }
+
+    double get(double... x) {
+        return node.get(x);
+    }
+
+    Func toFunc() {
+        return new AbstractFunc() {
+            @Override
+            public double get(double... x) {
+                return node.get(x);
+            }
+
+            @Override
+            public String toString() {
+                return "compiled formula " + formula;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "compiled JavaScript formula " + formula;
+    }
+
+    private static List<String> tokenize(String formula) throws UnsupportedSyntaxException {
+        final List<String> result = new ArrayList<>();
+        final Matcher punctuator = PUNCTUATORS.matcher(formula);
+        final int length = formula.length();
+        for (int p = 0; p < length; ) {
+            final char c = formula.charAt(p);
+            if (Character.isWhitespace(c)) {
+                p++;
+            } else if (isDigit(c) || (c == '.' && p + 1 < length && isDigit(formula.charAt(p + 1)))) {
+                int q = p;
+                while (q < length && (Character.isLetterOrDigit(formula.charAt(q)) || formula.charAt(q) == '.'
+                        || ((formula.charAt(q) == '+' || formula.charAt(q) == '-')
+                        && (formula.charAt(q - 1) == 'e' || formula.charAt(q - 1) == 'E')))) {
+                    q++;
+                }
+                result.add(formula.substring(p, q));
+                p = q;
+            } else if (Character.isJavaIdentifierStart(c)) {
+                int q = p + 1;
+                while (q < length && Character.isJavaIdentifierPart(formula.charAt(q))) {
+                    q++;
+                }
+                result.add(formula.substring(p, q));
+                p = q;
+            } else if (punctuator.region(p, length).lookingAt()) {
+                final String token = punctuator.group();
+                if (token.equals("/") && p + 1 < length
+                        && (formula.charAt(p + 1) == '/' || formula.charAt(p + 1) == '*')) {
+                    throw new UnsupportedSyntaxException("comments");
+                }
+                result.add(token);
+                p = punctuator.end();
+            } else {
+                throw new UnsupportedSyntaxException("character " + c);
+            }
+        }
+        return result;
+    }
+
+    private static final class Parser {
+        private final List<String> tokens;
+        private final List<String> arguments;
+        private final Map<String, Double> constants;
+        private int position = 0;
+
+        Parser(List<String> tokens, List<String> arguments, Map<String, Double> constants) {
+            this.tokens = tokens;
+            this.arguments = arguments;
+            this.constants = constants;
+        }
+
+        boolean finished() {
+            return position == tokens.size();
+        }
+
+        Expression parseConditional() throws UnsupportedSyntaxException {
+            final Expression condition = parseBinary(0);
+            if (!accept("?")) {
+                return condition;
+            }
+            final Expression ifTrue = parseConditional();
+            require(":");
+            final Expression ifFalse = parseConditional();
+            if (ifTrue.bool != ifFalse.bool) {
+                throw new UnsupportedSyntaxException("different types in ?: operator");
+            }
+            final Node c = truth(condition);
+            final Node a = ifTrue.node;
+            final Node b = ifFalse.node;
+            return new Expression(x -> c.get(x) != 0.0 ? a.get(x) : b.get(x),
+                    ifTrue.bool, condition.constant && ifTrue.constant && ifFalse.constant).folded();
+        }
+
+        // Binary operators from the lowest priority
+        private static final String[][] BINARY_LEVELS = {
+                {"||"},
+                {"&&"},
+                {"|"},
+                {"^"},
+                {"&"},
+                {"==", "!=", "===", "!=="},
+                {"<", ">", "<=", ">="},
+                {"<<", ">>", ">>>"},
+                {"+", "-"},
+                {"*", "/", "%"},
+        };
+
+        private Expression parseBinary(int level) throws UnsupportedSyntaxException {
+            if (level == BINARY_LEVELS.length) {
+                return parseExponent();
+            }
+            Expression result = parseBinary(level + 1);
+            for (; ; ) {
+                final String operator = acceptAny(BINARY_LEVELS[level]);
+                if (operator == null) {
+                    return result;
+                }
+                result = binary(operator, result, parseBinary(level + 1));
+            }
+        }
+
+        private Expression parseExponent() throws UnsupportedSyntaxException {
+            final boolean unary = isUnaryOperator(current());
+            final Expression base = parseUnary();
+            if (!accept("**")) {
+                return base;
+            }
+            if (unary) {
+                throw new UnsupportedSyntaxException("unary operator before **");
+                // - syntax error in JavaScript
+            }
+            final Expression exponent = parseExponent();
+            return binary("**", base, exponent);
+        }
+
+        private Expression parseUnary() throws UnsupportedSyntaxException {
+            final String operator = acceptAny(new String[]{"+", "-", "!", "~"});
+            if (operator == null) {
+                return parsePrimary();
+            }
+            final Expression operand = parseUnary();
+            final Node a = operand.node;
+            final Node result = switch (operator) {
+                case "+" -> a;
+                case "-" -> x -> -a.get(x);
+                case "!" -> {
+                    final Node t = truth(operand);
+                    yield x -> t.get(x) != 0.0 ? 0.0 : 1.0;
+                }
+                case "~" -> x -> ~toInt32(a.get(x));
+                default -> throw new AssertionError();
+            };
+            return new Expression(result, operator.equals("!"), operand.constant).folded();
+        }
+
+        private Expression parsePrimary() throws UnsupportedSyntaxException {
+            final String token = next();
+            if (token.equals("(")) {
+                final Expression result = parseConditional();
+                require(")");
+                return result;
+            }
+            if (isDigit(token.charAt(0)) || token.charAt(0) == '.') {
+                return Expression.constant(parseNumber(token), false);
+            }
+            switch (token) {
+                case "NaN":
+                    return Expression.constant(Double.NaN, false);
+                case "Infinity":
+                    return Expression.constant(Double.POSITIVE_INFINITY, false);
+                case "true":
+                    return Expression.constant(1.0, true);
+                case "false":
+                    return Expression.constant(0.0, true);
+                case "Math":
+                    return parseMath();
+            }
+            final int index = arguments.indexOf(token);
+            if (index >= 0) {
+                return new Expression(x -> x[index], false, false);
+            }
+            final Double value = constants.get(token);
+            if (value != null) {
+                return Expression.constant(value, false);
+            }
+            throw new UnsupportedSyntaxException("identifier " + token);
+        }
+
+        private Expression parseMath() throws UnsupportedSyntaxException {
+            require(".");
+            final String name = next();
+            switch (name) {
+                case "PI":
+                    return Expression.constant(Math.PI, false);
+                case "E":
+                    return Expression.constant(Math.E, false);
+                case "LN2":
+                    return Expression.constant(Math.log(2.0), false);
+                case "LN10":
+                    return Expression.constant(Math.log(10.0), false);
+                case "LOG2E":
+                    return Expression.constant(1.0 / Math.log(2.0), false);
+                case "LOG10E":
+                    return Expression.constant(1.0 / Math.log(10.0), false);
+                case "SQRT2":
+                    return Expression.constant(Math.sqrt(2.0), false);
+                case "SQRT1_2":
+                    return Expression.constant(Math.sqrt(0.5), false);
+            }
+            require("(");
+            final List<Expression> args = new ArrayList<>();
+            if (!accept(")")) {
+                do {
+                    args.add(parseConditional());
+                } while (accept(","));
+                require(")");
+            }
+            boolean constant = true;
+            for (Expression arg : args) {
+                constant &= arg.constant;
+            }
+            return new Expression(mathFunction(name, args), false, constant).folded();
+        }
+
+        private static Node mathFunction(String name, List<Expression> args) throws UnsupportedSyntaxException {
+            final int n = args.size();
+            final Node a = n > 0 ? args.get(0).node : x -> Double.NaN;
+            // - undefined argument is NaN
+            final Node b = n > 1 ? args.get(1).node : x -> Double.NaN;
+            switch (name) {
+                case "min", "max" -> {
+                    final Node[] nodes = args.stream().map(Expression::node).toArray(Node[]::new);
+                    final boolean min = name.equals("min");
+                    return x -> {
+                        double result = min ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+                        for (Node node : nodes) {
+                            result = min ? Math.min(result, node.get(x)) : Math.max(result, node.get(x));
+                        }
+                        return result;
+                    };
+                }
+                case "pow" -> {
+                    return x -> jsPow(a.get(x), b.get(x));
+                }
+                case "atan2" -> {
+                    return x -> Math.atan2(a.get(x), b.get(x));
+                }
+                case "hypot" -> {
+                    if (n != 2) {
+                        throw new UnsupportedSyntaxException("Math.hypot with " + n + " arguments");
+                    }
+                    return x -> Math.hypot(a.get(x), b.get(x));
+                }
+            }
+            return switch (name) {
+                case "abs" -> x -> Math.abs(a.get(x));
+                case "sqrt" -> x -> Math.sqrt(a.get(x));
+                case "cbrt" -> x -> Math.cbrt(a.get(x));
+                case "exp" -> x -> Math.exp(a.get(x));
+                case "expm1" -> x -> Math.expm1(a.get(x));
+                case "log" -> x -> Math.log(a.get(x));
+                case "log1p" -> x -> Math.log1p(a.get(x));
+                case "log10" -> x -> Math.log10(a.get(x));
+                case "sin" -> x -> Math.sin(a.get(x));
+                case "cos" -> x -> Math.cos(a.get(x));
+                case "tan" -> x -> Math.tan(a.get(x));
+                case "asin" -> x -> Math.asin(a.get(x));
+                case "acos" -> x -> Math.acos(a.get(x));
+                case "atan" -> x -> Math.atan(a.get(x));
+                case "sinh" -> x -> Math.sinh(a.get(x));
+                case "cosh" -> x -> Math.cosh(a.get(x));
+                case "tanh" -> x -> Math.tanh(a.get(x));
+                case "floor" -> x -> Math.floor(a.get(x));
+                case "ceil" -> x -> Math.ceil(a.get(x));
+                case "round" -> x -> jsRound(a.get(x));
+                case "trunc" -> x -> jsTrunc(a.get(x));
+                case "sign" -> x -> Math.signum(a.get(x));
+                case "fround" -> x -> (float) a.get(x);
+                default -> throw new UnsupportedSyntaxException("function Math." + name);
+            };
+        }
+
+        private static Expression binary(String operator, Expression left, Expression right)
+                throws UnsupportedSyntaxException {
+            final Node a = left.node;
+            final Node b = right.node;
+            final boolean constant = left.constant && right.constant;
+            final Node result;
+            boolean bool = false;
+            switch (operator) {
+                case "||", "&&" -> {
+                    if (left.bool != right.bool) {
+                        throw new UnsupportedSyntaxException("different types in " + operator + " operator");
+                    }
+                    final boolean leftBool = left.bool;
+                    result = operator.equals("||") ?
+                            x -> {
+                                final double v = a.get(x);
+                                return isTrue(v, leftBool) ? v : b.get(x);
+                            } :
+                            x -> {
+                                final double v = a.get(x);
+                                return isTrue(v, leftBool) ? b.get(x) : v;
+                            };
+                    bool = left.bool;
+                }
+                case "|" -> result = x -> toInt32(a.get(x)) | toInt32(b.get(x));
+                case "^" -> result = x -> toInt32(a.get(x)) ^ toInt32(b.get(x));
+                case "&" -> result = x -> toInt32(a.get(x)) & toInt32(b.get(x));
+                case "==", "!=", "===", "!==" -> {
+                    final boolean not = operator.startsWith("!");
+                    if (operator.length() == 3 && left.bool != right.bool) {
+                        result = x -> not ? 1.0 : 0.0;
+                        // - strict equality of different types
+                    } else {
+                        result = x -> (a.get(x) == b.get(x)) != not ? 1.0 : 0.0;
+                    }
+                    bool = true;
+                }
+                case "<" -> {
+                    result = x -> a.get(x) < b.get(x) ? 1.0 : 0.0;
+                    bool = true;
+                }
+                case ">" -> {
+                    result = x -> a.get(x) > b.get(x) ? 1.0 : 0.0;
+                    bool = true;
+                }
+                case "<=" -> {
+                    result = x -> a.get(x) <= b.get(x) ? 1.0 : 0.0;
+                    bool = true;
+                }
+                case ">=" -> {
+                    result = x -> a.get(x) >= b.get(x) ? 1.0 : 0.0;
+                    bool = true;
+                }
+                case "<<" -> result = x -> toInt32(a.get(x)) << (toInt32(b.get(x)) & 31);
+                case ">>" -> result = x -> toInt32(a.get(x)) >> (toInt32(b.get(x)) & 31);
+                case ">>>" -> result = x -> (double) ((toInt32(a.get(x)) & 0xFFFFFFFFL) >>> (toInt32(b.get(x)) & 31));
+                case "+" -> result = x -> a.get(x) + b.get(x);
+                case "-" -> result = x -> a.get(x) - b.get(x);
+                case "*" -> result = x -> a.get(x) * b.get(x);
+                case "/" -> result = x -> a.get(x) / b.get(x);
+                case "%" -> result = x -> a.get(x) % b.get(x);
+                case "**" -> result = x -> jsPow(a.get(x), b.get(x));
+                default -> throw new AssertionError("Unknown operator " + operator);
+            }
+            return new Expression(result, bool, constant).folded();
+        }
+
+        private static Node truth(Expression e) {
+            final Node a = e.node;
+            return e.bool ? a : x -> isTrue(a.get(x), false) ? 1.0 : 0.0;
+        }
+
+        private static boolean isTrue(double v, boolean bool) {
+            return bool ? v != 0.0 : v != 0.0 && v == v;
+            // - JavaScript: 0 and NaN numbers are false
+        }
+
+        private String current() {
+            return position < tokens.size() ? tokens.get(position) : null;
+        }
+
+        private String next() throws UnsupportedSyntaxException {
+            if (position >= tokens.size()) {
+                throw new UnsupportedSyntaxException("unexpected end");
+            }
+            return tokens.get(position++);
+        }
+
+        private boolean accept(String token) {
+            if (token.equals(current())) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private String acceptAny(String[] operators) {
+            final String token = current();
+            for (String operator : operators) {
+                if (operator.equals(token)) {
+                    position++;
+                    return operator;
+                }
+            }
+            return null;
+        }
+
+        private void require(String token) throws UnsupportedSyntaxException {
+            if (!accept(token)) {
+                throw new UnsupportedSyntaxException("expected " + token);
+            }
+        }
+
+        private static boolean isUnaryOperator(String token) {
+            return "+".equals(token) || "-".equals(token) || "!".equals(token) || "~".equals(token);
+        }
+    }
+
+    private static double parseNumber(String token) throws UnsupportedSyntaxException {
+        if (token.length() > 2 && token.charAt(0) == '0' && (token.charAt(1) == 'x' || token.charAt(1) == 'X')) {
+            try {
+                return Long.parseLong(token.substring(2), 16);
+            } catch (NumberFormatException e) {
+                throw new UnsupportedSyntaxException("number " + token);
+            }
+        }
+        if (token.length() > 1 && token.charAt(0) == '0' && isDigit(token.charAt(1))) {
+            throw new UnsupportedSyntaxException("octal number " + token);
+        }
+        for (int k = 0; k < token.length(); k++) {
+            final char c = token.charAt(k);
+            if (!(isDigit(c) || c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-')) {
+                throw new UnsupportedSyntaxException("number " + token);
+                // - in particular, Java suffixes like 1.0f or 1d
+            }
+        }
+        try {
+            return Double.parseDouble(token);
+        } catch (NumberFormatException e) {
+            throw new UnsupportedSyntaxException("number " + token);
+        }
+    }
+
+    // JavaScript ToInt32 conversion
+    private static int toInt32(double v) {
+        if (Double.isNaN(v) || Double.isInfinite(v)) {
+            return 0;
+        }
+        return (int) (long) ((v < 0.0 ? Math.ceil(v) : Math.floor(v)) % 4294967296.0);
+    }
+
+    private static double jsPow(double a, double b) {
+        return Math.abs(a) == 1.0 && Double.isInfinite(b) ? Double.NaN : Math.pow(a, b);
+    }
+
+    private static double jsRound(double v) {
+        if (Double.isNaN(v) || Double.isInfinite(v) || v == 0.0) {
+            return v;
+        }
+        if (v < 0.0 && v >= -0.5) {
+            return -0.0;
+        }
+        final double floor = Math.floor(v);
+        return v - floor >= 0.5 ? floor + 1.0 : floor;
+    }
+
+    private static double jsTrunc(double v) {
+        return v < 0.0 ? Math.ceil(v) : Math.floor(v);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -27,6 +27,8 @@ package net.algart.executors.api.jep;
 import jep.DirectNDArray;
 import jep.NDArray;
 import net.algart.arrays.TooLargeArrayException;
+import net.algart.executors.api.data.ConvertibleByteBufferMatrix;
+import net.algart.executors.api.data.DirectByteBufferPool;
 import net.algart.executors.api.data.SMat;
 
 import java.nio.*;
@@ -151,7 +153,7 @@ public class Jep2SMat {
             }
             dimensions[k] = dim;
         }
-        final ByteBuffer resultBuffer = ByteBuffer.allocateDirect((int) (size * bytesPerElement));
+        final ByteBuffer resultBuffer = DirectByteBufferPool.allocate((int) (size * bytesPerElement));
         resultBuffer.order(ByteOrder.nativeOrder());
         resultBuffer.rewind();
         buffer = buffer.duplicate();
@@ -169,7 +171,7 @@ public class Jep2SMat {
         } else {
             throw new AssertionError("Was already checked little above!");
         }
-        result.setAll(dimensions, depth, numberOfChannels, resultBuffer, false);
+        result.setAll(dimensions, depth, numberOfChannels, ConvertibleByteBufferMatrix.ofOwnedBuffer(resultBuffer));
     }
 
 //    public static void main(String[] args) {
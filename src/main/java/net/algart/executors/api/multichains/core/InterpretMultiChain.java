@@ -30,6 +30,7 @@ import net.algart.executors.api.ReadOnlyExecutionInput;
 import net.algart.executors.api.chains.Chain;
 import net.algart.executors.api.chains.core.ChainExecutor;
 import net.algart.executors.api.chains.core.UseChain;
+import net.algart.executors.api.data.SScalar;
 import net.algart.executors.api.multichains.MultiChain;
 import net.algart.executors.api.parameters.Parameters;
 import net.algart.executors.api.settings.SettingsBuilder;
@@ -62,8 +63,7 @@ public class InterpretMultiChain extends MultiChainExecutor implements ReadOnlyE
             ChainExecutor.copyInputToOutput(this);
             return;
         }
-        final JsonObject inputSettings = Jsons.toJson(
-                getInputScalar(SETTINGS, true).getValue(), true);
+        final JsonObject inputSettings = getInputScalar(SETTINGS, true).toJsonObject();
         final boolean absolutePaths = parameters().getBoolean(
                 UseSettings.ABSOLUTE_PATHS_NAME_PARAMETER_NAME,
                 SettingsBuilder.ABSOLUTE_PATHS_DEFAULT_VALUE);
@@ -104,7 +104,7 @@ public class InterpretMultiChain extends MultiChainExecutor implements ReadOnlyE
         timingConfiguration.setUniformPercentileLevels(timingNumberOfPercentiles);
         selectedChain.setTimingSettings(timingNumberOfCalls, timingConfiguration);
         timing.setSettings(timingNumberOfCalls, timingConfiguration);
-        final String selectedChainSettingsString;
+        final SScalar selectedChainSettingsScalar;
         try {
             Parameters parametersCopy = new Parameters(parameters());
             multiChainSettingsBuilder.parseSettingsToParameters(parametersCopy, multiChainSettings);
@@ -113,7 +113,7 @@ public class InterpretMultiChain extends MultiChainExecutor implements ReadOnlyE
             t2 = timingNumberOfCalls > 0 ? System.nanoTime() : 0;
             selectedChain.readInputPortsFromExecutor(this);
             t3 = timingNumberOfCalls > 0 ? System.nanoTime() : 0;
-            selectedChainSettingsString = selectedChain.setSettings(selectedChainSettings);
+            selectedChainSettingsScalar = selectedChain.setSettings(selectedChainSettings);
             // - used if this chain variant has its own settings block for detailed customization
             t4 = timingNumberOfCalls > 0 ? System.nanoTime() : 0;
             selectedChain.executeNecessary(this);
@@ -158,8 +158,14 @@ public class InterpretMultiChain extends MultiChainExecutor implements ReadOnlyE
                 selectedChain.name(),
                 extractSubSettings ? "extracted sub-settings" : "json-settings",
                 quoteContextName(this),
-                selectedChainSettings == null ? "    [this chain has no settings]" : selectedChainSettingsString));
-        setOutputScalar(SETTINGS, selectedChainSettingsString);
+                selectedChainSettingsScalar == null ?
+                        "    [this chain has no settings]" :
+                        selectedChainSettingsScalar.getValue()));
+        if (hasOutputPort(SETTINGS)) {
+            getScalar(SETTINGS).setTo(selectedChainSettingsScalar == null ?
+                    SScalar.empty() :
+                    selectedChainSettingsScalar);
+        }
         setOutputScalar(UseSettings.SETTINGS_ID_OUTPUT_NAME, multiChain.settingsId());
     }
 
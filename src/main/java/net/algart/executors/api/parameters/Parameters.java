@@ -32,23 +32,85 @@ import net.algart.external.UsedForExternalCommunication;
 import net.algart.json.Jsons;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 
+/**
+ * Parameters of the executor: a map of named values, usually strings, numbers or booleans.
+ *
+ * <p>Typed getters like {@link #getInteger(String)} and {@link #getDouble(String)} convert
+ * the stored value only once: the result of parsing is cached together with the reference
+ * to the source value and is reused until this parameter is replaced with another value.
+ * So, frequent reading the same parameters, stored as strings, does not lead to repeated parsing.</p>
+ *
+ * <p>The {@link #snapshot()} method returns an immutable copy of the parameters, which can be shared
+ * between several clients (like several copies of the same chain) without copying;
+ * the cached parsed values are shared as well.</p>
+ */
 @SuppressWarnings("UnusedReturnValue")
 public class Parameters implements Map<String, Object> {
-    private final Map<String, Object> map = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<String, Object> map;
+    private final boolean immutable;
+    private final Map<String, ParsedValue> parsedValues = new ConcurrentHashMap<>();
+    // - cache of parsed typed values; every element is valid only while it refers to the current value
 
     public Parameters() {
+        this(Collections.synchronizedMap(new LinkedHashMap<>()), false);
     }
 
     public Parameters(Map<String, Object> m) {
-        map.putAll(m);
+        this();
+        putAll(m);
+    }
+
+    private Parameters(Map<String, Object> map, boolean immutable) {
+        this.map = map;
+        this.immutable = immutable;
+    }
+
+    /**
+     * Returns an immutable snapshot of the current state of these parameters.
+     * If this object is already immutable, returns a reference to this object.
+     *
+     * <p>The result can be shared between several threads and passed, for example,
+     * to {@link #putAll(Map)} of another parameters without any additional parsing:
+     * the parsed values, cached in this object, are also copied.</p>
+     *
+     * @return immutable copy of these parameters.
+     */
+    public Parameters snapshot() {
+        if (immutable) {
+            return this;
+        }
+        final Map<String, Object> copy;
+        synchronized (map) {
+            copy = new LinkedHashMap<>(map);
+        }
+        final Parameters result = new Parameters(Collections.unmodifiableMap(copy), true);
+        result.parsedValues.putAll(this.parsedValues);
+        return result;
+    }
+
+    /**
+     * Returns <code>true</code> if this object was created by {@link #snapshot()} method.
+     * Such parameters cannot be modified: all modifying methods throw <code>UnsupportedOperationException</code>.
+     *
+     * @return whether this object is immutable.
+     */
+    public boolean isImmutable() {
+        return immutable;
     }
 
     public boolean getBoolean(String name) throws NoValidParameterException {
         final Object o = getAndCheckNull(name, "boolean");
+        final ParsedValue parsed = parsedValue(name, o);
+        if (parsed != null && parsed.hasBoolean()) {
+            return parsed.booleanValue;
+        }
         final String s = o.toString();
         final Boolean result = Parameters.smartParseBoolean(s);
         if (result != null) {
+            storeParsedValue(name, parsed, o, v -> v.withBoolean(result));
             return result;
         } else {
             throw new NoValidParameterException("Parameter \""
@@ -61,9 +123,17 @@ public class Parameters implements Map<String, Object> {
         if (o == null) {
             return defaultValue;
         }
+        final ParsedValue parsed = parsedValue(name, o);
+        if (parsed != null && parsed.hasBoolean()) {
+            return parsed.booleanValue;
+        }
         final String s = o.toString();
         final Boolean result = Parameters.smartParseBoolean(s);
-        return result != null ? result : defaultValue;
+        if (result == null) {
+            return defaultValue;
+        }
+        storeParsedValue(name, parsed, o, v -> v.withBoolean(result));
+        return result;
     }
 
     @UsedForExternalCommunication
@@ -93,9 +163,15 @@ public class Parameters implements Map<String, Object> {
         if (o instanceof Integer) {
             return (Integer) o;
         }
+        final ParsedValue parsed = parsedValue(name, o);
+        if (parsed != null && parsed.hasInt()) {
+            return parsed.intValue;
+        }
         final String s = o.toString();
         try {
-            return Parameters.smartParseInt(s);
+            final int result = Parameters.smartParseInt(s);
+            storeParsedValue(name, parsed, o, v -> v.withInt(result));
+            return result;
         } catch (NumberFormatException e) {
             throw new NoValidParameterException("Parameter \""
                     + name + "\" is not a valid integer value: \"" + s + "\"");
@@ -110,9 +186,15 @@ public class Parameters implements Map<String, Object> {
         if (o instanceof Integer) {
             return (Integer) o;
         }
+        final ParsedValue parsed = parsedValue(name, o);
+        if (parsed != null && parsed.hasInt()) {
+            return parsed.intValue;
+        }
         final String s = o.toString();
         try {
-            return Parameters.smartParseInt(s);
+            final int result = Parameters.smartParseInt(s);
+            storeParsedValue(name, parsed, o, v -> v.withInt(result));
+            return result;
         } catch (NumberFormatException e) {
             return defaultValue;
         }
@@ -145,9 +227,15 @@ public class Parameters implements Map<String, Object> {
         if (o instanceof Long) {
             return (Long) o;
         }
+        final ParsedValue parsed = parsedValue(name, o);
+        if (parsed != null && parsed.hasLong()) {
+            return parsed.longValue;
+        }
         final String s = o.toString();
         try {
-            return Parameters.smartParseLong(s);
+            final long result = Parameters.smartParseLong(s);
+            storeParsedValue(name, parsed, o, v -> v.withLong(result));
+            return result;
         } catch (NumberFormatException e) {
             throw new NoValidParameterException("Parameter \""
                     + name + "\" is not a valid long integer value: \"" + s + "\"");
@@ -162,9 +250,15 @@ public class Parameters implements Map<String, Object> {
         if (o instanceof Long) {
             return (Long) o;
         }
+        final ParsedValue parsed = parsedValue(name, o);
+        if (parsed != null && parsed.hasLong()) {
+            return parsed.longValue;
+        }
         final String s = o.toString();
         try {
-            return Parameters.smartParseLong(s);
+            final long result = Parameters.smartParseLong(s);
+            storeParsedValue(name, parsed, o, v -> v.withLong(result));
+            return result;
         } catch (NumberFormatException e) {
             return defaultValue;
         }
@@ -197,9 +291,15 @@ public class Parameters implements Map<String, Object> {
         if (o instanceof Double) {
             return (Double) o;
         }
+        final ParsedValue parsed = parsedValue(name, o);
+        if (parsed != null && parsed.hasDouble()) {
+            return parsed.doubleValue;
+        }
         final String s = o.toString();
         try {
-            return Double.parseDouble(s);
+            final double result = Double.parseDouble(s);
+            storeParsedValue(name, parsed, o, v -> v.withDouble(result));
+            return result;
         } catch (NumberFormatException e) {
             throw new NoValidParameterException("Parameter \""
                     + name + "\" is not a valid double value: \"" + s + "\"");
@@ -214,9 +314,15 @@ public class Parameters implements Map<String, Object> {
         if (o instanceof Double) {
             return (Double) o;
         }
+        final ParsedValue parsed = parsedValue(name, o);
+        if (parsed != null && parsed.hasDouble()) {
+            return parsed.doubleValue;
+        }
         final String s = o.toString();
         try {
-            return Double.parseDouble(s);
+            final double result = Double.parseDouble(s);
+            storeParsedValue(name, parsed, o, v -> v.withDouble(result));
+            return result;
         } catch (NumberFormatException e) {
             return defaultValue;
         }
@@ -296,22 +402,33 @@ public class Parameters implements Map<String, Object> {
 
     @Override
     public Object put(String key, Object value) {
-        return map.put(key, value);
+        final Object result = map.put(key, value);
+        parsedValues.remove(key);
+        return result;
     }
 
     @Override
     public Object remove(Object key) {
-        return map.remove(key);
+        final Object result = map.remove(key);
+        parsedValues.remove(key);
+        return result;
     }
 
     @Override
     public void putAll(Map<? extends String, ?> m) {
         map.putAll(m);
+        if (m instanceof Parameters other) {
+            parsedValues.putAll(other.parsedValues);
+            // - correct even if some of them are obsolete: they are checked by the reference to the source value
+        } else {
+            parsedValues.keySet().removeAll(m.keySet());
+        }
     }
 
     @Override
     public void clear() {
         map.clear();
+        parsedValues.clear();
     }
 
     @Override
@@ -359,6 +476,22 @@ public class Parameters implements Map<String, Object> {
         return toJson(this);
     }
 
+    private ParsedValue parsedValue(String name, Object source) {
+        final ParsedValue result = parsedValues.get(name);
+        return result != null && result.source == source ? result : null;
+    }
+
+    private void storeParsedValue(
+            String name,
+            ParsedValue parsed,
+            Object source,
+            UnaryOperator<ParsedValue> adder) {
+        if (source instanceof String || source instanceof Number || source instanceof Boolean) {
+            // - we cache only immutable values: the result of toString() for them cannot change
+            parsedValues.put(name, adder.apply(parsed != null ? parsed : new ParsedValue(source)));
+        }
+    }
+
     private Object getAndCheckNull(String name, String typeTitle) {
         final Object result = get(name);
         if (result == null) {
@@ -438,4 +571,70 @@ public class Parameters implements Map<String, Object> {
             throw exception;
         }
     }
+
+    // Immutable: new slots are added by creating new instances
+    private static final class ParsedValue {
+        private static final int BOOLEAN = 1;
+        private static final int INT = 2;
+        private static final int LONG = 4;
+        private static final int DOUBLE = 8;
+
+        final Object source;
+        final int slots;
+        final boolean booleanValue;
+        final int intValue;
+        final long longValue;
+        final double doubleValue;
+
+        ParsedValue(Object source) {
+            this(source, 0, false, 0, 0L, 0.0);
+        }
+
+        private ParsedValue(
+                Object source,
+                int slots,
+                boolean booleanValue,
+                int intValue,
+                long longValue,
+                double doubleValue) {
+            this.source = source;
+            this.slots = slots;
+            this.booleanValue = booleanValue;
+            this.intValue = intValue;
+            this.longValue = longValue;
+            this.doubleValue = doubleValue;
+        }
+
+        boolean hasBoolean() {
+            return (slots & BOOLEAN) != 0;
+        }
+
+        boolean hasInt() {
+            return (slots & INT) != 0;
+        }
+
+        boolean hasLong() {
+            return (slots & LONG) != 0;
+        }
+
+        boolean hasDouble() {
+            return (slots & DOUBLE) != 0;
+        }
+
+        ParsedValue withBoolean(boolean value) {
+            return new ParsedValue(source, slots | BOOLEAN, value, intValue, longValue, doubleValue);
+        }
+
+        ParsedValue withInt(int value) {
+            return new ParsedValue(source, slots | INT, booleanValue, value, longValue, doubleValue);
+        }
+
+        ParsedValue withLong(long value) {
+            return new ParsedValue(source, slots | LONG, booleanValue, intValue, value, doubleValue);
+        }
+
+        ParsedValue withDouble(double value) {
+            return new ParsedValue(source, slots | DOUBLE, booleanValue, intValue, longValue, value);
+        }
+    }
 }
@@ -263,7 +263,9 @@ public class SettingsBuilder implements Cloneable {
                     JsonObject subSettings = jsonValue instanceof JsonObject jo ? jo : Jsons.newEmptyJson();
                     // - subSettings CAN be not a JsonObject, if the source JSON was created manually
                     subSettings = Jsons.overrideOnlyExistingInBoth(subSettings, Jsons.extractSimpleValues(settings));
-                    value = Jsons.toPrettyString(subSettings);
+                    executor.getScalar(name).setToJson(subSettings);
+                    continue;
+                    // - the string form will be created only if the consumer really needs it
                 } else {
                     value = valueType.toSmartParameter(jsonValue);
                     // - note: we don't insist on returning value of a correct type, because SScalar
@@ -413,9 +415,7 @@ public class SettingsBuilder implements Cloneable {
             if (inputPort != null) {
                 final SScalar scalar = inputPort.getData(SScalar.class, true);
                 if (scalar.isInitialized()) {
-                    final String s = scalar.getValueOrDefault("").trim();
-                    jsonValue = s.isEmpty() ? Jsons.newEmptyJson() : Jsons.toJson(s);
-                    return jsonValue;
+                    return scalar.toJsonObject();
                 }
             }
         }
@@ -84,11 +84,10 @@ public final class AddSubSettings extends Executor implements ReadOnlyExecutionI
         final JsonObject existingSubSettings = settings.getJsonObject(subSettingsKey);
         final JsonObject newSubSettings = replaceExistingSettingsMode.replace(existingSubSettings, addedSubSettings);
         final JsonObject result = Jsons.createObjectBuilder(settings).add(subSettingsKey, newSubSettings).build();
-        getScalar(SETTINGS).setTo(Jsons.toPrettyString(result));
+        getScalar(SETTINGS).setToJson(result);
     }
 
     static JsonObject scalarToJson(SScalar scalar) {
-        final String s = scalar.getValueOrDefault("").trim();
-        return s.isEmpty() ? Jsons.newEmptyJson() : Jsons.toJson(s);
+        return scalar.toJsonObject();
     }
 }
@@ -40,16 +40,11 @@ public class CombineSettings extends SettingsExecutor implements ReadOnlyExecuti
     }
 
     public String combine() {
-        execute();
-        final String s = getScalar(SETTINGS).getValue();
-        if (s == null) {
-            throw new IllegalStateException("CombineSettings does not return any settings");
-        }
-        return s;
+        return combineScalar().getValue();
     }
 
     public JsonObject combineJson() {
-        return Jsons.toJson(combine());
+        return combineScalar().toJsonObject();
     }
 
     @Override
@@ -70,16 +65,14 @@ public class CombineSettings extends SettingsExecutor implements ReadOnlyExecuti
         final boolean extractSubSettings = parameters().getBoolean(
                 UseSettings.EXTRACT_SUB_SETTINGS_PARAMETER_NAME, false);
         settingsBuilder.setExtractSubSettings(extractSubSettings);
-        final String allSettings = !inputSettings.isInitialized() ?
-                parameters().getString(UseSettings.ALL_SETTINGS_PARAMETER_NAME, "").trim() :
-                inputSettings.getValue();
         final JsonObject executorSettings = settingsBuilder.build(this);
-        final JsonObject parentSettings = Jsons.toJson(allSettings, true);
+        final JsonObject parentSettings = !inputSettings.isInitialized() ?
+                Jsons.toJson(parameters().getString(UseSettings.ALL_SETTINGS_PARAMETER_NAME, "").trim(), true) :
+                inputSettings.toJsonObject();
         final JsonObject overriddenSettings = settingsBuilder.overrideSettings(executorSettings, parentSettings);
         final JsonObject resultSettings = correctSettings(overriddenSettings, settingsBuilder);
         settingsBuilder.splitSettingsToOutputPorts(this, resultSettings);
-        final String settingsString = Jsons.toPrettyString(resultSettings);
-        getScalar(SETTINGS).setTo(settingsString);
+        final SScalar settings = getScalar(SETTINGS).setToJson(resultSettings);
         long t2 = debugTime();
         logDebug(() -> String.format(Locale.US,
                 "Combining%s %ssettings \"%s\": %.3f ms%s",
@@ -89,12 +82,21 @@ public class CombineSettings extends SettingsExecutor implements ReadOnlyExecuti
                 settingsBuilder.name(),
                 (t2 - t1) * 1e-6,
                 LOGGABLE_TRACE ?
-                        "\n" + settingsString + (!inputSettings.isInitialized() ? ""
+                        "\n" + settings.getValue() + (!inputSettings.isInitialized() ? ""
                                 : "\nOriginal settings (from parameters):\n" + Jsons.toPrettyString(executorSettings)
                                 + "\nInput settings (that override parameters):\n" + inputSettings.getValue())
                         : ""));
     }
 
+    private SScalar combineScalar() {
+        execute();
+        final SScalar result = getScalar(SETTINGS);
+        if (!result.isInitialized()) {
+            throw new IllegalStateException("CombineSettings does not return any settings");
+        }
+        return result;
+    }
+
     @Override
     public String toString() {
         return "Combine " + (settingsBuilder != null ? settingsBuilder : "some non-initialized settings");
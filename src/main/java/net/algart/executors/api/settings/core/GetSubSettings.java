@@ -83,7 +83,7 @@ public final class GetSubSettings extends Executor implements ReadOnlyExecutionI
             subSettings = Jsons.newEmptyJson();
         }
         final JsonObject result = subSettingsInheritanceMode.inherit(settings, subSettings);
-        getScalar(SUB_SETTINGS).setTo(Jsons.toPrettyString(result));
+        getScalar(SUB_SETTINGS).setToJson(result);
     }
 
 }
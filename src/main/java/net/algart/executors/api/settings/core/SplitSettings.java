@@ -45,12 +45,11 @@ public class SplitSettings extends SettingsExecutor implements ReadOnlyExecution
         // when there is user's port with the same name UseSettings.EXECUTOR_JSON_OUTPUT_NAME
         long t1 = debugTime();
         final SettingsBuilder settingsBuilder = settingsBuilder();
-        final String s = getInputScalar(SETTINGS, true).getValueOrDefault("").trim();
-        JsonObject inputSettings = s.isEmpty() ? Jsons.newEmptyJson() : Jsons.toJson(s);
+        JsonObject inputSettings = getInputScalar(SETTINGS, true).toJsonObject();
         settingsBuilder.splitSettingsToOutputPorts(this, inputSettings);
         inputSettings = Jsons.overrideEntries(settingsBuilder.build(this), inputSettings);
         // - provide default values for keys, absent in the source JSON
-        getScalar(SETTINGS).setTo(Jsons.toPrettyString(inputSettings));
+        getScalar(SETTINGS).setToJson(inputSettings);
         long t2 = debugTime();
         logDebug(() -> String.format(Locale.US,
                 "Splitting settings \"%s\": %.3f ms",
@@ -26,7 +26,9 @@ package net.algart.executors.api.system;
 
 import net.algart.executors.api.ExecutionBlock;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Default standard implementation of executor factory, based on the {@link ExecutorLoaderSet executor loader set}.
@@ -35,10 +37,10 @@ public class DefaultExecutorFactory implements ExecutorFactory {
     private final ExecutorLoaderSet loaderSet;
 
     private final ExecutorSpecificationSet preloadedSpecifications;
-    private final ExecutorSpecificationSet dynamicSpecificationsCache = ExecutorSpecificationSet.newInstance();
-    // - this set is dynamically extended in specification() method via ExecutorLoaderSet.getSpecification
+    private final Map<String, ExecutorSpecification> dynamicSpecificationsCache = new ConcurrentHashMap<>();
+    // - this map is dynamically extended in specification() method via ExecutorLoaderSet.getSpecification;
+    // it is concurrent to allow creating executors from parallel threads without any locks
     private final String sessionId;
-    private final Object lock = new Object();
 
     /**
      * Creates a new executor factory based on the specified <code>loaderSet</code>:
@@ -109,56 +111,58 @@ public class DefaultExecutorFactory implements ExecutorFactory {
      *     <li>the parsed specifications are cached.</li>
      * </ul>
      *
+     * <p>This method does not block other threads and may be called simultaneously
+     * from several threads, for example, while creating executors for many copies of a chain.</p>
+     *
      * @param executorId unique executor ID.
      * @return executor specification for creating new executor.
      */
     @Override
     public ExecutorSpecification getSpecification(String executorId) {
-        synchronized (lock) {
-            ExecutorSpecification specification = preloadedSpecifications.get(executorId);
-            if (specification != null) {
-                return specification;
-            }
-            specification = dynamicSpecificationsCache.get(executorId);
-            if (specification != null) {
-                return specification;
-                // - Caching: we suppose that non-null executor specifications cannot change.
-                // It is not absolutely correct when the programmer is developing new dynamic executors,
-                // but the usage of this specification by this package is very pure: we prefer to provide
-                // maximal performance here (note that the following operators require conversion JSON <-> String
-                // and are relatively slow). In any case, the developer can restart the server at any time.
-                // We DO NOT TRY to cache null specification: it MAY become non-null as a result of registering
-                // new dynamic executors.
-            }
-            specification = loaderSet.getSpecification(sessionId, executorId, true);
-            if (specification == null) {
-                // - It will be null when there is no available executor: for example, it is a dynamic executor
-                // (which was not created yet by the corresponding static executor),
-                // or it is not a Java executor (but we have loaded Java only).
-                // The typical example is creating/initializing a new Chain in UseChain static executor.
-                // This process consists of 3 stages (see UseChain.use(ChainSpecification) method):
-                //      A) we create a Chain instance with all its blocks (ChainBlock);
-                //      B) we execute all its static executors, like UseSettings, UseMapping etc.
-                // (executeLoadingTimeBlocksWithoutInputs method);
-                //      C) we finish creating the chain executor specification by
-                // buildChainSpecificationAndExecuteLoadingTimeWithoutInputs method and register it.
-                // Let this chain contain some dynamic executors like CombineSettings or InterpretMultiChain,
-                // together with necessary static executors, which create them (UseSettings or UseMultiChain).
-                // Every ChainBlock tries to get ExecutorSpecification for its executor already at stage A,
-                // while its creation (ChainBlock.of) - this is not obligatory, but helps in the case of
-                // possible diagnostic errors.
-                // However, the actual specification for them will become known only at stage B,
-                // while executing corresponding static executors.
-                // Of course, when we want to EXECUTE dynamic executor, we will call newExecutor method
-                // below, which REQUIRES the existence of a ready specification.
-                return null;
-                // - No sense to add null to dynamicExecutorsCache;
-                // moreover, it is prohibited ("add" method will throw an exception)
-            }
-//            System.out.println("!!! Add specification for executor " + executorId + ": " + specification.getName());
-            dynamicSpecificationsCache.add(executorId, specification);
+        ExecutorSpecification specification = preloadedSpecifications.get(executorId);
+        if (specification != null) {
+            return specification;
+        }
+        specification = dynamicSpecificationsCache.get(executorId);
+        if (specification != null) {
             return specification;
+            // - Caching: we suppose that non-null executor specifications cannot change.
+            // It is not absolutely correct when the programmer is developing new dynamic executors,
+            // but the usage of this specification by this package is very pure: we prefer to provide
+            // maximal performance here (note that the following operators search through all loaders
+            // and, for the first time, parse the specification). In any case, the developer can restart
+            // the server at any time.
+            // We DO NOT TRY to cache null specification: it MAY become non-null as a result of registering
+            // new dynamic executors.
+        }
+        specification = loaderSet.getSpecification(sessionId, executorId, true);
+        if (specification == null) {
+            // - It will be null when there is no available executor: for example, it is a dynamic executor
+            // (which was not created yet by the corresponding static executor),
+            // or it is not a Java executor (but we have loaded Java only).
+            // The typical example is creating/initializing a new Chain in UseChain static executor.
+            // This process consists of 3 stages (see UseChain.use(ChainSpecification) method):
+            //      A) we create a Chain instance with all its blocks (ChainBlock);
+            //      B) we execute all its static executors, like UseSettings, UseMapping etc.
+            // (executeLoadingTimeBlocksWithoutInputs method);
+            //      C) we finish creating the chain executor specification by
+            // buildChainSpecificationAndExecuteLoadingTimeWithoutInputs method and register it.
+            // Let this chain contain some dynamic executors like CombineSettings or InterpretMultiChain,
+            // together with necessary static executors, which create them (UseSettings or UseMultiChain).
+            // Every ChainBlock tries to get ExecutorSpecification for its executor already at stage A,
+            // while its creation (ChainBlock.of) - this is not obligatory, but helps in the case of
+            // possible diagnostic errors.
+            // However, the actual specification for them will become known only at stage B,
+            // while executing corresponding static executors.
+            // Of course, when we want to EXECUTE dynamic executor, we will call newExecutor method
+            // below, which REQUIRES the existence of a ready specification.
+            return null;
+            // - No sense to add null to dynamicExecutorsCache;
+            // moreover, it is prohibited (ConcurrentHashMap does not support null values)
         }
+//        System.out.println("!!! Add specification for executor " + executorId + ": " + specification.getName());
+        dynamicSpecificationsCache.put(executorId, specification);
+        return specification;
     }
 
     /**
@@ -182,13 +186,11 @@ public class DefaultExecutorFactory implements ExecutorFactory {
             throws ClassNotFoundException, ExecutorExpectedException {
         Objects.requireNonNull(executorId, "Null executorId");
         Objects.requireNonNull(createMode, "Null createMode");
-        synchronized (lock) {
-            final ExecutorSpecification specification = getSpecification(executorId);
-            if (specification == null) {
-                throw new ExecutorExpectedException("Cannot create executor: non-registered ID \"" + executorId + "\"");
-            }
-            return loaderSet.newExecutor(sessionId, specification, createMode);
+        final ExecutorSpecification specification = getSpecification(executorId);
+        if (specification == null) {
+            throw new ExecutorExpectedException("Cannot create executor: non-registered ID \"" + executorId + "\"");
         }
+        return loaderSet.newExecutor(sessionId, specification, createMode);
     }
 
     @Override
@@ -25,7 +25,9 @@
 package net.algart.executors.api.system;
 
 import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
 import net.algart.executors.api.ExecutionBlock;
+import net.algart.json.Jsons;
 
 import java.lang.System.Logger;
 import java.lang.reflect.Constructor;
@@ -33,6 +35,7 @@ import java.lang.reflect.Executable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Loader of {@link ExecutionBlock executors}. Every kind of executors, like chains, settings or
@@ -45,6 +48,9 @@ import java.util.*;
  * Specifications are stored in some immutable serialized form, probable strings:
  * this helps to avoid problems while concurrent accessing from different chains,
  * executed in parallel threads.
+ * For quick access, this class also caches the parsed JSON form of every specification
+ * (it is also immutable): {@link #getSpecification(String, String)} does not require any
+ * synchronization and parses every registered string only once.
  *
  * <p>In the current version, all they are instances of {@link DefaultExecutorLoader}.</p>
  *
@@ -60,6 +66,9 @@ public abstract class ExecutorLoader {
 
     private final Map<String, Map<String, String>> allSpecifications = new LinkedHashMap<>();
     // - This map is: sessionId -> Map(executorId -> executorSpecification)
+    private final Map<String, Map<String, RegisteredSpecification>> registeredSpecifications =
+            new ConcurrentHashMap<>();
+    // - The same information for lock-free access; modified only while synchronization by allSpecifications
     private final Map<String, Executable> newInstanceMakers = new HashMap<>();
 
     private final String name;
@@ -192,31 +201,25 @@ public abstract class ExecutorLoader {
     /**
      * Returns the executor specification, registered for the specified session ID and executor ID.
      *
+     * <p>The serialized specification is parsed into JSON only once after registering, and the result
+     * is cached. But this method creates a new {@link ExecutorSpecification} object on every call,
+     * because this object is mutable (for example, {@link SmartSearchSettings} updates settings IDs
+     * of its controls), and the specifications of the global session are shared between all sessions.
+     * This method does not block other threads.</p>
+     *
      * @param sessionId  unique ID of current session.
      * @param executorId unique ID of this executor in the system.
      * @return specification of the executor or <code>null</code> if there is no such executor.
      * @throws NullPointerException if one of arguments is <code>null</code>.
      */
     public final ExecutorSpecification getSpecification(String sessionId, String executorId) {
-        final String serialized = serializedSpecification(sessionId, executorId);
-        if (serialized == null) {
-            return null;
-        }
-        try {
-            return ExecutorSpecification.of(serialized);
-        } catch (JsonException e) {
-            throw new AssertionError("Very strange: all registered specification " +
-                    "were serialized via toJson().toString()!", e);
-        }
+        final RegisteredSpecification registered = registeredSpecification(sessionId, executorId);
+        return registered == null ? null : ExecutorSpecification.of(registered.json());
     }
 
     public final String serializedSpecification(String sessionId, String executorId) {
-        Objects.requireNonNull(sessionId, "Null sessionId");
-        Objects.requireNonNull(executorId, "Null executorId");
-        synchronized (allSpecifications) {
-            final Map<String, String> session = allSpecifications.get(sessionId);
-            return session == null ? null : session.get(executorId);
-        }
+        final RegisteredSpecification registered = registeredSpecification(sessionId, executorId);
+        return registered == null ? null : registered.serialized;
     }
 
     /**
@@ -237,6 +240,9 @@ public abstract class ExecutorLoader {
         synchronized (allSpecifications) {
             allSpecifications.computeIfAbsent(sessionId, k -> new LinkedHashMap<>())
                     .put(specification.getId(), serialized);
+            registeredSpecifications.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>())
+                    .put(specification.getId(), new RegisteredSpecification(serialized));
+            // - replacing the entry invalidates the cached parsed JSON
         }
     }
 
@@ -246,11 +252,14 @@ public abstract class ExecutorLoader {
         checkEmptySessionId(sessionId);
         synchronized (allSpecifications) {
             final var serialized = allSpecifications.computeIfAbsent(sessionId, k -> new LinkedHashMap<>());
+            final var registered = registeredSpecifications.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>());
             for (ExecutorSpecification specification : specifications) {
                 Objects.requireNonNull(specification, "Null specification in the collection");
-                serialized.put(specification.getId(), specification.toJson().toString().intern());
+                final String s = specification.toJson().toString().intern();
                 // - in fact, intern() method is not necessary here: toJson() creates interned strings;
                 // but an explicitly calling intern() provides the guarantee
+                serialized.put(specification.getId(), s);
+                registered.put(specification.getId(), new RegisteredSpecification(s));
             }
         }
     }
@@ -272,6 +281,10 @@ public abstract class ExecutorLoader {
         Objects.requireNonNull(executorId, "Null executorId");
         checkEmptySessionId(sessionId);
         synchronized (allSpecifications) {
+            final Map<String, RegisteredSpecification> registered = registeredSpecifications.get(sessionId);
+            if (registered != null) {
+                registered.remove(executorId);
+            }
             final Map<String, String> session = allSpecifications.get(sessionId);
             if (session != null) {
                 return session.remove(executorId) != null;
@@ -285,9 +298,17 @@ public abstract class ExecutorLoader {
         Objects.requireNonNull(sessionId, "Null sessionId");
         synchronized (allSpecifications) {
             allSpecifications.remove(sessionId);
+            registeredSpecifications.remove(sessionId);
         }
     }
 
+    private RegisteredSpecification registeredSpecification(String sessionId, String executorId) {
+        Objects.requireNonNull(sessionId, "Null sessionId");
+        Objects.requireNonNull(executorId, "Null executorId");
+        final Map<String, RegisteredSpecification> session = registeredSpecifications.get(sessionId);
+        return session == null ? null : session.get(executorId);
+    }
+
     private Executable findNewInstance(ExecutorSpecification specification) throws ClassNotFoundException {
         final String executorId = specification.getId();
         synchronized (newInstanceMakers) {
@@ -345,6 +366,30 @@ public abstract class ExecutorLoader {
                 ")";
     }
 
+    private static final class RegisteredSpecification {
+        private final String serialized;
+        private volatile JsonObject json = null;
+
+        private RegisteredSpecification(String serialized) {
+            this.serialized = serialized;
+        }
+
+        JsonObject json() {
+            JsonObject result = json;
+            if (result == null) {
+                try {
+                    result = Jsons.toJson(serialized);
+                } catch (JsonException e) {
+                    throw new AssertionError("Very strange: all registered specification " +
+                            "were serialized via toJson().toString()!", e);
+                }
+                json = result;
+                // - no synchronization: in the worst case, 2 threads will parse the same string twice
+            }
+            return result;
+        }
+    }
+
     // Note: this loader is usually enough for actual creating executors,
     // because non-Java executors are usually implemented via standard Java executor, which performs their tasks.
     // This loader DOES NOT use sessionId (Java classes are shared among all JVM).
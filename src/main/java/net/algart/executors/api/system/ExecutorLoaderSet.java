@@ -28,20 +28,18 @@ import jakarta.json.JsonException;
 import net.algart.executors.api.ExecutionBlock;
 
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public final class ExecutorLoaderSet {
-    private final List<ExecutorLoader> loaders = new ArrayList<>();
+    private final List<ExecutorLoader> loaders = new CopyOnWriteArrayList<>();
+    // - loaders are registered very rarely, but the searching for specifications must not block other threads
 
     public void register(ExecutorLoader loader) {
-        synchronized (loaders) {
-            loaders.add(loader);
-        }
+        loaders.add(loader);
     }
 
     public List<ExecutorLoader> list() {
-        synchronized (loaders) {
-            return Collections.unmodifiableList(loaders);
-        }
+        return Collections.unmodifiableList(loaders);
     }
 
     public ExecutorFactory newFactory(String sessionId, ExecutorSpecificationSet preloadedSpecifications) {
@@ -84,7 +82,8 @@ public final class ExecutorLoaderSet {
      * serializedSessionSpecifications}(sessionId, includeGlobalSession),</pre>
      * and parses it.
      * This method searches all the registered loaders for the requested executor.
-     * This method can be relatively slow because it parses the serialized form of specification.
+     * The parsed JSON of specifications is cached by the loaders (see {@link ExecutorLoader#getSpecification}),
+     * but every call returns a new object, which may be modified by the caller.
      *
      * @param sessionId  unique ID of the session; may be <code>null</code>, than only global session will be
      *                   checked.
@@ -95,19 +94,17 @@ public final class ExecutorLoaderSet {
     public ExecutorSpecification getSpecification(String sessionId, String executorId, boolean includeGlobalSession)
             throws JsonException {
         Objects.requireNonNull(executorId, "Null executorId");
-        synchronized (loaders) {
-            for (ExecutorLoader loader : loaders) {
-                if (includeGlobalSession) {
-                    final var result = loader.getSpecification(ExecutionBlock.GLOBAL_SHARED_SESSION_ID, executorId);
-                    if (result != null) {
-                        return result;
-                    }
+        for (ExecutorLoader loader : loaders) {
+            if (includeGlobalSession) {
+                final var result = loader.getSpecification(ExecutionBlock.GLOBAL_SHARED_SESSION_ID, executorId);
+                if (result != null) {
+                    return result;
                 }
-                if (sessionId != null) {
-                    final var result = loader.getSpecification(sessionId, executorId);
-                    if (result != null) {
-                        return result;
-                    }
+            }
+            if (sessionId != null) {
+                final var result = loader.getSpecification(sessionId, executorId);
+                if (result != null) {
+                    return result;
                 }
             }
         }
@@ -130,20 +127,18 @@ public final class ExecutorLoaderSet {
     public String serializedSpecification(String sessionId, String executorId, boolean includeGlobalSession)
             throws JsonException {
         Objects.requireNonNull(executorId, "Null executorId");
-        synchronized (loaders) {
-            for (ExecutorLoader loader : loaders) {
-                if (includeGlobalSession) {
-                    final var result = loader.serializedSpecification(
-                            ExecutionBlock.GLOBAL_SHARED_SESSION_ID, executorId);
-                    if (result != null) {
-                        return result;
-                    }
+        for (ExecutorLoader loader : loaders) {
+            if (includeGlobalSession) {
+                final var result = loader.serializedSpecification(
+                        ExecutionBlock.GLOBAL_SHARED_SESSION_ID, executorId);
+                if (result != null) {
+                    return result;
                 }
-                if (sessionId != null) {
-                    final var result = loader.serializedSpecification(sessionId, executorId);
-                    if (result != null) {
-                        return result;
-                    }
+            }
+            if (sessionId != null) {
+                final var result = loader.serializedSpecification(sessionId, executorId);
+                if (result != null) {
+                    return result;
                 }
             }
         }
@@ -373,6 +373,61 @@ public class ExecutorSpecification extends AbstractConvertibleToJson {
             }
         }
 
+        /**
+         * Declares that the executor can process a large image by parts (tiles), independently:
+         * the result for every tile, extended by {@link #getOverlap() overlap} pixels at all sides,
+         * is identical to the corresponding part of the result for the whole image,
+         * excepting the overlap margins. Elementwise executors have zero overlap.
+         *
+         * <p>Note: the executor must not use global characteristics of the matrix
+         * (like its minimum and maximum) and must not change matrix dimensions.</p>
+         */
+        public static final class Tiling extends AbstractConvertibleToJson {
+            private int overlap = 0;
+
+            public Tiling() {
+            }
+
+            private Tiling(JsonObject json, Path file) {
+                this.overlap = json.getInt("overlap", 0);
+                if (overlap < 0) {
+                    throw Jsons.badValue(json, "overlap", String.valueOf(overlap), file);
+                }
+            }
+
+            public int getOverlap() {
+                return overlap;
+            }
+
+            public Tiling setOverlap(int overlap) {
+                if (overlap < 0) {
+                    throw new IllegalArgumentException("Negative overlap " + overlap);
+                }
+                this.overlap = overlap;
+                return this;
+            }
+
+            public boolean isElementwise() {
+                return overlap == 0;
+            }
+
+            @Override
+            public void checkCompleteness() {
+            }
+
+            @Override
+            public String toString() {
+                return "Tiling{" +
+                        "overlap=" + overlap +
+                        '}';
+            }
+
+            @Override
+            public void buildJson(JsonObjectBuilder builder) {
+                builder.add("overlap", overlap);
+            }
+        }
+
         public static final class Behavior extends AbstractConvertibleToJson {
             private boolean input = false;
             private boolean output = false;
@@ -501,6 +556,7 @@ public class ExecutorSpecification extends AbstractConvertibleToJson {
         // usually applied for chains or multi-chains
         private Behavior behavior = null;
         private Controlling controlling = null;
+        private Tiling tiling = null;
         private JsonObject extension = null;
 
         public Options() {
@@ -530,6 +586,10 @@ public class ExecutorSpecification extends AbstractConvertibleToJson {
             if (controllingJson != null) {
                 this.controlling = new Controlling(controllingJson, file);
             }
+            final JsonObject tilingJson = json.getJsonObject("tiling");
+            if (tilingJson != null) {
+                this.tiling = new Tiling(tilingJson, file);
+            }
             this.extension = json.getJsonObject("extension");
         }
 
@@ -622,6 +682,22 @@ public class ExecutorSpecification extends AbstractConvertibleToJson {
             return this;
         }
 
+        public Tiling createTilingIfAbsent() {
+            if (tiling == null) {
+                tiling = new Tiling();
+            }
+            return tiling;
+        }
+
+        public Tiling getTiling() {
+            return tiling;
+        }
+
+        public Options setTiling(Tiling tiling) {
+            this.tiling = tiling;
+            return this;
+        }
+
         public JsonObject getExtension() {
             return extension;
         }
@@ -644,6 +720,7 @@ public class ExecutorSpecification extends AbstractConvertibleToJson {
                     ", service=" + service +
                     ", behavior=" + behavior +
                     ", controlling=" + controlling +
+                    ", tiling=" + tiling +
                     ", extension=" + extension +
                     '}';
         }
@@ -666,6 +743,9 @@ public class ExecutorSpecification extends AbstractConvertibleToJson {
             if (controlling != null) {
                 builder.add("controlling", controlling.toJson());
             }
+            if (tiling != null) {
+                builder.add("tiling", tiling.toJson());
+            }
             if (extension != null) {
                 builder.add("extension", extension);
             }
@@ -1414,6 +1494,26 @@ public class ExecutorSpecification extends AbstractConvertibleToJson {
         return options != null && options.behavior != null && options.behavior.copy;
     }
 
+    /**
+     * Returns <code>true</code> if this executor can be executed by tiles:
+     * it has {@link Options.Tiling tiling} options or is a simple {@link #isCopy() copying} executor.
+     *
+     * @return whether this executor is tile-safe.
+     */
+    public final boolean isTileSafe() {
+        return isCopy() || (options != null && options.tiling != null);
+    }
+
+    /**
+     * Returns the overlap margin, required by this executor while executing by tiles,
+     * or 0 if this executor is elementwise or is not {@link #isTileSafe() tile-safe}.
+     *
+     * @return the number of additional pixels at every side of each tile.
+     */
+    public final int tilingOverlap() {
+        return options != null && options.tiling != null ? options.tiling.overlap : 0;
+    }
+
     public final ValueType dataType() {
         return isData() ? options.behavior.dataType : null;
     }
@@ -29,8 +29,18 @@ import net.algart.executors.api.ReadOnlyExecutionInput;
 import net.algart.executors.api.data.SMat;
 import net.algart.multimatrix.MultiMatrix;
 
+import java.util.Objects;
+
 public abstract class MultiMatrixFilter extends Executor implements ReadOnlyExecutionInput {
+    public static final boolean LAZY_ELEMENTWISE_OPERATIONS =
+            net.algart.arrays.Arrays.SystemSettings.getBooleanProperty(
+                    "net.algart.executors.modules.core.matrices.lazyElementwise", false);
+    // - true value allows elementwise operations (which override elementwise() method) to store
+    // lazy results in SMat: a sequence of such operations is calculated in a single pass
+
     private MultiMatrix sourceMultiMatrix = null;
+    private boolean lazyResultAllowed = false;
+    private MultiMatrix lazyResult = null;
 
     protected MultiMatrixFilter() {
         addInputMat(DEFAULT_INPUT_PORT);
@@ -77,8 +87,36 @@ public abstract class MultiMatrixFilter extends Executor implements ReadOnlyExec
         return true;
     }
 
+    // May be overridden: true means that the process method reads every source element only once
+    // and builds the result by elementwiseResult method
+    protected boolean elementwise() {
+        return false;
+    }
+
+    /**
+     * Returns the lazy result of some elementwise operation "as is", if it is allowed
+     * ({@link #LAZY_ELEMENTWISE_OPERATIONS} mode while processing {@link SMat} by an {@link #elementwise()}
+     * executor), or its clone in another case.
+     *
+     * @param lazyResult lazy result, for example, returned by {@link MultiMatrix#asFunc}.
+     * @return this or cloned result.
+     */
+    protected final MultiMatrix elementwiseResult(MultiMatrix lazyResult) {
+        Objects.requireNonNull(lazyResult, "Null lazy result");
+        if (lazyResultAllowed) {
+            this.lazyResult = lazyResult;
+            return lazyResult;
+        }
+        return lazyResult.clone();
+    }
+
     private SMat process(SMat source, SMat result) {
-        this.sourceMultiMatrix = source.toMultiMatrix(allowInputNonAlgartDepth());
+        final boolean lazy = LAZY_ELEMENTWISE_OPERATIONS && elementwise();
+        this.sourceMultiMatrix = lazy ?
+                source.toLazyMultiMatrix(allowInputNonAlgartDepth()) :
+                source.toMultiMatrix(allowInputNonAlgartDepth());
+        this.lazyResultAllowed = lazy;
+        this.lazyResult = null;
         try {
             setStartProcessingTimeStamp();
             final MultiMatrix resultMultiMatrix = process(sourceMultiMatrix);
@@ -93,10 +131,16 @@ public abstract class MultiMatrixFilter extends Executor implements ReadOnlyExec
             if (result == null) {
                 result = new SMat();
             }
-            result.setTo(resultMultiMatrix);
+            if (lazy && resultMultiMatrix == lazyResult) {
+                result.setToLazy(resultMultiMatrix);
+            } else {
+                result.setTo(resultMultiMatrix);
+            }
             return result;
         } finally {
             this.sourceMultiMatrix = null;
+            this.lazyResultAllowed = false;
+            this.lazyResult = null;
             // - allow garbage collector to free this memory
         }
     }
@@ -46,6 +46,7 @@ public abstract class SeveralMultiMatricesChannelOperation
     private int indexOfSampleInputForEqualizing = 0;
     private int currentChannel = 0;
     private int numberOfChannels = 0;
+    private Matrix<? extends PArray> lastLazyChannel = null;
 
     protected SeveralMultiMatricesChannelOperation(String... predefinedInputPortNames) {
         super(predefinedInputPortNames);
@@ -125,6 +126,7 @@ public abstract class SeveralMultiMatricesChannelOperation
             }
             final List<Matrix<? extends PArray>> result = new ArrayList<>();
             final boolean equalize = equalizePrecision();
+            boolean allChannelsLazy = true;
             for (this.currentChannel = 0; currentChannel < numberOfChannels; currentChannel++) {
                 final List<Matrix<? extends PArray>> sourceMatrices = new ArrayList<>();
                 for (List<Matrix<? extends PArray>> channels : sourceMultiMatrices) {
@@ -142,11 +144,16 @@ public abstract class SeveralMultiMatricesChannelOperation
                         sourceMatrices.add(sourceMatrix);
                     }
                 }
+                this.lastLazyChannel = null;
                 final Matrix<? extends PArray> resultChannel = processChannel(sourceMatrices);
+                allChannelsLazy &= resultChannel == lastLazyChannel;
                 result.add(resultChannel);
             }
-            return MultiMatrix.of(result);
+            final MultiMatrix multiMatrix = MultiMatrix.of(result);
+            return allChannelsLazy && isLazyResultAllowed() ? elementwiseResult(multiMatrix) : multiMatrix;
+            // - all channels are lazy results of elementwiseResult: the result may be stored as lazy
         } finally {
+            this.lastLazyChannel = null;
             this.sampleMultiMatrix = null;
             // - allow garbage collector to free this memory
         }
@@ -156,6 +163,21 @@ public abstract class SeveralMultiMatricesChannelOperation
     // incorrect results because the currentChannel and numberOfChannels are not set properly
     protected abstract Matrix<? extends PArray> processChannel(List<Matrix<? extends PArray>> m);
 
+    /**
+     * Returns the lazy result of some elementwise operation "as is", if it is allowed
+     * (see {@link MultiMatrixFilter#LAZY_ELEMENTWISE_OPERATIONS}), or its clone in another case.
+     *
+     * @param lazyResult lazy result, for example, returned by {@link Matrices#asFuncMatrix}.
+     * @return this or cloned result.
+     */
+    protected final Matrix<? extends PArray> elementwiseResult(Matrix<? extends PArray> lazyResult) {
+        if (isLazyResultAllowed()) {
+            this.lastLazyChannel = lazyResult;
+            return lazyResult;
+        }
+        return Matrices.clone(lazyResult);
+    }
+
     // May be overridden!
     protected boolean equalizePrecision() {
         return true;
@@ -24,12 +24,16 @@
 
 package net.algart.executors.modules.core.common.matrices;
 
+import net.algart.executors.api.data.SMat;
 import net.algart.multimatrix.MultiMatrix;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 public abstract class SeveralMultiMatricesOperation extends SeveralMultiMatricesProcessing {
+    private MultiMatrix lazyResult = null;
+
     protected SeveralMultiMatricesOperation(String... predefinedInputPortNames) {
         super(predefinedInputPortNames);
         addOutputMat(DEFAULT_OUTPUT_PORT);
@@ -51,9 +55,37 @@ public abstract class SeveralMultiMatricesOperation extends SeveralMultiMatrices
         return process(sources);
     }
 
+    /**
+     * Returns the lazy result of some elementwise operation "as is", if it is allowed
+     * ({@link MultiMatrixFilter#LAZY_ELEMENTWISE_OPERATIONS} mode while processing {@link SMat}
+     * by an {@link #elementwise()} executor), or its clone in another case.
+     *
+     * @param lazyResult lazy result, for example, returned by {@link MultiMatrix#asFunc}.
+     * @return this or cloned result.
+     */
+    protected final MultiMatrix elementwiseResult(MultiMatrix lazyResult) {
+        Objects.requireNonNull(lazyResult, "Null lazy result");
+        if (isLazyResultAllowed()) {
+            this.lazyResult = lazyResult;
+            return lazyResult;
+        }
+        return lazyResult.clone();
+    }
+
     @Override
     final void setNonNullResult(Object result) {
         assert result instanceof MultiMatrix;
-        getMat().setTo((MultiMatrix) result);
+        final MultiMatrix multiMatrix = (MultiMatrix) result;
+        try {
+            if (isLazyResultAllowed() && multiMatrix == lazyResult) {
+                getMat().setToLazy(multiMatrix);
+            } else {
+                getMat().setTo(multiMatrix, sourceMatOf(multiMatrix));
+                // - already materialized result; if the operation returned one of the sources,
+                // we share it with its cached conversions
+            }
+        } finally {
+            this.lazyResult = null;
+        }
     }
 }
@@ -40,6 +40,9 @@ abstract class SeveralMultiMatricesProcessing extends Executor implements ReadOn
     private final String[] predefinedInputPortNames;
     private List<MultiMatrix> sourceMultiMatrices = null;
     // - elements may be null
+    private List<SMat> sourceMats = null;
+    // - elements correspond to sourceMultiMatrices
+    private boolean lazyResultAllowed = false;
 
     protected SeveralMultiMatricesProcessing(String[] predefinedInputPortNames) {
         Objects.requireNonNull(predefinedInputPortNames, "Null predefinedInputPortNames");
@@ -57,6 +60,9 @@ abstract class SeveralMultiMatricesProcessing extends Executor implements ReadOn
     public void process() {
         final Integer requiredNumberOfInputs = requiredNumberOfInputs();
         this.sourceMultiMatrices = new ArrayList<>();
+        this.sourceMats = new ArrayList<>();
+        final boolean lazy = MultiMatrixFilter.LAZY_ELEMENTWISE_OPERATIONS && elementwise();
+        this.lazyResultAllowed = lazy;
         try {
             for (int k = 0; requiredNumberOfInputs == null || k < requiredNumberOfInputs; k++) {
                 final String portName = inputPortName(k);
@@ -64,9 +70,11 @@ abstract class SeveralMultiMatricesProcessing extends Executor implements ReadOn
                     break;
                 }
                 final SMat input = getInputMat(portName, allowUninitializedInput(k));
-                this.sourceMultiMatrices.add(input.isInitialized() ?
-                        input.toMultiMatrix(allowInputNonAlgartDepth(k)) :
-                        null);
+                this.sourceMultiMatrices.add(!input.isInitialized() ? null :
+                        lazy ?
+                                input.toLazyMultiMatrix(allowInputNonAlgartDepth(k)) :
+                                input.toMultiMatrix(allowInputNonAlgartDepth(k)));
+                this.sourceMats.add(input);
             }
             if (dimensionsEqualityRequired()) {
                 checkDimensionOfNonNullEquality(sourceMultiMatrices);
@@ -89,6 +97,8 @@ abstract class SeveralMultiMatricesProcessing extends Executor implements ReadOn
             }
         } finally {
             this.sourceMultiMatrices = null;
+            this.sourceMats = null;
+            this.lazyResultAllowed = false;
             // - allow garbage collector to free this memory
         }
     }
@@ -107,6 +117,12 @@ abstract class SeveralMultiMatricesProcessing extends Executor implements ReadOn
         return true;
     }
 
+    // May be overridden: true means that the process method reads every source element only once
+    // and builds the result by lazy elementwise operations (see MultiMatrixFilter.LAZY_ELEMENTWISE_OPERATIONS)
+    protected boolean elementwise() {
+        return false;
+    }
+
     // May be overridden
     protected String inputPortName(int inputIndex) {
         return inputIndex < predefinedInputPortNames.length ?
@@ -126,6 +142,24 @@ abstract class SeveralMultiMatricesProcessing extends Executor implements ReadOn
 
     abstract void setNonNullResult(Object result);
 
+    // Returns true while processing SMat inputs by elementwise() executor in the lazy mode
+    final boolean isLazyResultAllowed() {
+        return lazyResultAllowed;
+    }
+
+    // Returns the input matrix, for which toMultiMatrix returned exactly this object, or null if there is no such input
+    final SMat sourceMatOf(MultiMatrix multiMatrix) {
+        if (sourceMultiMatrices == null) {
+            return null;
+        }
+        for (int k = 0, n = sourceMultiMatrices.size(); k < n; k++) {
+            if (sourceMultiMatrices.get(k) == multiMatrix) {
+                return sourceMats.get(k);
+            }
+        }
+        return null;
+    }
+
     private static void checkDimensionOfNonNullEquality(List<? extends MultiMatrix> matrices) {
         Objects.requireNonNull(matrices);
         MultiMatrix first = null;
@@ -33,6 +33,11 @@ public enum ConditionStyle {
             return scalar == null ? defaultCondition : SScalar.toCLikeBoolean(scalar);
         }
 
+        @Override
+        public boolean toBoolean(SScalar scalar, boolean defaultCondition) {
+            return scalar.toCLikeBoolean(defaultCondition);
+        }
+
         @Override
         public void setScalar(SScalar result, boolean value) {
             result.setTo(value ? 1 : 0);
@@ -45,6 +50,11 @@ public enum ConditionStyle {
             return scalar == null ? defaultCondition : SScalar.toJavaLikeBoolean(scalar);
         }
 
+        @Override
+        public boolean toBoolean(SScalar scalar, boolean defaultCondition) {
+            return scalar.toJavaLikeBoolean(defaultCondition);
+        }
+
         @Override
         public void setScalar(SScalar result, boolean value) {
             result.setTo(value);
@@ -53,5 +63,15 @@ public enum ConditionStyle {
 
     public abstract boolean toBoolean(String scalar, boolean defaultCondition);
 
+    /**
+     * Equivalent to {@link #toBoolean(String, boolean)} for the {@link SScalar#getValue() value} of the scalar,
+     * but does not require to format a typed scalar (like a result of {@link SScalar#setTo(boolean)}) as a string.
+     *
+     * @param scalar           some scalar (non-initialized scalar is interpreted as <code>null</code>).
+     * @param defaultCondition the result for non-initialized scalar.
+     * @return the condition.
+     */
+    public abstract boolean toBoolean(SScalar scalar, boolean defaultCondition);
+
     public abstract void setScalar(SScalar result, boolean value);
 }
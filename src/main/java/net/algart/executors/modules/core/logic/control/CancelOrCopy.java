@@ -25,6 +25,7 @@
 package net.algart.executors.modules.core.logic.control;
 
 import net.algart.executors.api.Executor;
+import net.algart.executors.api.data.SScalar;
 import net.algart.executors.modules.core.logic.ConditionStyle;
 
 public final class CancelOrCopy extends Executor {
@@ -131,7 +132,7 @@ public final class CancelOrCopy extends Executor {
     }
 
     public boolean condition() {
-        final String conditionString = getInputScalar(INPUT_CONDITION, true).getValue();
-        return conditionStyle.toBoolean(conditionString, false) != invert;
+        final SScalar condition = getInputScalar(INPUT_CONDITION, true);
+        return conditionStyle.toBoolean(condition, false) != invert;
     }
 }
@@ -26,6 +26,7 @@ package net.algart.executors.modules.core.logic.ifelse.scalars;
 
 import net.algart.executors.api.Executor;
 import net.algart.executors.api.data.Port;
+import net.algart.executors.api.data.SScalar;
 import net.algart.executors.modules.core.logic.ConditionStyle;
 
 public final class IfScalarThenScalar extends Executor {
@@ -115,8 +116,8 @@ public final class IfScalarThenScalar extends Executor {
     }
 
     public boolean condition() {
-        final String conditionString = getInputScalar(INPUT_CONDITION, true).getValue();
-        return conditionStyle.toBoolean(conditionString, defaultCondition);
+        final SScalar condition = getInputScalar(INPUT_CONDITION, true);
+        return conditionStyle.toBoolean(condition, defaultCondition);
     }
 
     @Override
@@ -25,6 +25,7 @@
 package net.algart.executors.modules.core.logic.loops;
 
 import net.algart.executors.api.Executor;
+import net.algart.executors.api.data.SScalar;
 import net.algart.executors.modules.core.logic.ConditionStyle;
 
 public final class RepeatWhile extends Executor {
@@ -105,12 +106,12 @@ public final class RepeatWhile extends Executor {
         getScalar(S).exchange(getInputScalar(S, true));
         getNumbers(X).exchange(getInputNumbers(X, true));
         getMat(M).exchange(getInputMat(M, true));
-        final String conditionString = getInputScalar(INPUT_CONDITION, true).getValue();
-        if (conditionString == null && maxIterationsCount == null) {
+        final SScalar condition = getInputScalar(INPUT_CONDITION, true);
+        if (!condition.isInitialized() && maxIterationsCount == null) {
             throw new IllegalArgumentException("Both input condition and maximal iterations count " +
                     "are not specified: infinite loop!");
         }
-        whileCondition = conditionStyle.toBoolean(conditionString, true);
+        whileCondition = conditionStyle.toBoolean(condition, true);
         if (invertCondition) {
             whileCondition = !whileCondition;
         }
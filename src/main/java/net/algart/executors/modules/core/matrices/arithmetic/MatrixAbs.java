@@ -39,9 +39,15 @@ public final class MatrixAbs extends MultiMatrixFilter {
         this.contrastResult = contrastResult;
     }
 
+    @Override
+    protected boolean elementwise() {
+        return !contrastResult;
+        // - contrasting requires an additional pass to find the range of the result
+    }
+
     @Override
     public MultiMatrix process(MultiMatrix source) {
         final MultiMatrix result = source.asFunc(Func.ABS);
-        return contrastResult ? result.contrast().clone() : result.clone();
+        return contrastResult ? result.contrast().clone() : elementwiseResult(result);
     }
 }
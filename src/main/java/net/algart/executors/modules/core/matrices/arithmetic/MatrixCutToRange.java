@@ -61,10 +61,15 @@ public final class MatrixCutToRange extends MultiMatrixFilter {
         return this;
     }
 
+    @Override
+    protected boolean elementwise() {
+        return true;
+    }
+
     @Override
     public MultiMatrix process(MultiMatrix source) {
         final double scale = source.maxPossibleValue();
         final Range range = Range.of(min * scale, max * scale);
-        return source.asFunc((Func1) range::cut).clone();
+        return elementwiseResult(source.asFunc((Func1) range::cut));
     }
 }
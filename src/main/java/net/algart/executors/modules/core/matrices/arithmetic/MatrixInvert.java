@@ -39,9 +39,14 @@ public final class MatrixInvert extends MultiMatrixFilter {
         this.topBoundary = topBoundary;
     }
 
+    @Override
+    protected boolean elementwise() {
+        return true;
+    }
+
     @Override
     public MultiMatrix process(MultiMatrix source) {
         final double maxPossibleValue = topBoundary * source.maxPossibleValue();
-        return source.asFunc(LinearFunc.getInstance(maxPossibleValue, -1.0)).clone();
+        return elementwiseResult(source.asFunc(LinearFunc.getInstance(maxPossibleValue, -1.0)));
     }
 }
@@ -102,6 +102,11 @@ public final class MatrixLinearCombination extends SeveralMultiMatricesChannelOp
         super.onChangeParameter(name);
     }
 
+    @Override
+    protected boolean elementwise() {
+        return true;
+    }
+
     @Override
     protected Matrix<? extends PArray> processChannel(List<Matrix<? extends PArray>> m) {
         final OptionalArguments<Matrix<? extends PArray>> arguments = new OptionalArguments<>(m);
@@ -111,7 +116,7 @@ public final class MatrixLinearCombination extends SeveralMultiMatricesChannelOp
                 Arrays.type(PArray.class, elementType) :
                 sampleType();
         final double scale = rawValues ? 1.0 : Arrays.maxPossibleValue(requiredType, 1.0);
-        return Matrices.clone(
+        return elementwiseResult(
                 Matrices.asFuncMatrix(LinearFunc.getInstance(scale * b, aForNonNull), requiredType, mNonNull));
     }
 }
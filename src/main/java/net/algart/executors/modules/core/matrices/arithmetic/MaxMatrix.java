@@ -34,8 +34,14 @@ import net.algart.math.functions.Func;
 import java.util.List;
 
 public final class MaxMatrix extends SeveralMultiMatricesChannelOperation {
+    @Override
+    protected boolean elementwise() {
+        return true;
+    }
+
     @Override
     protected Matrix<? extends PArray> processChannel(List<Matrix<? extends PArray>> m) {
-        return Matrices.clone(Matrices.asFuncMatrix(Func.MAX, sampleType(), new OptionalArguments<>(m).extract()));
+        return elementwiseResult(
+                Matrices.asFuncMatrix(Func.MAX, sampleType(), new OptionalArguments<>(m).extract()));
     }
 }
@@ -289,7 +289,7 @@ public final class CombineNamedNumbersColumns extends SeveralNumbersOperation im
         ColumnIndex(SNumbers source, int index) {
             this.source = Objects.requireNonNull(source);
             this.index = index;
-            this.floats = source.isFloatArray() ? (float[]) source.arrayReference() : null;
+            this.floats = source.isFloatArray() ? (float[]) source.arrayReferenceForReading() : null;
             this.blockLength = source.getBlockLength();
         }
 
@@ -0,0 +1,438 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.modules.core.numbers.io;
+
+import net.algart.executors.api.data.SNumbers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Fast parser of CSV files with numbers, used by {@link ReadCSVNumbers} for single-byte encodings
+ * (ASCII or UTF-8). The file is mapped into memory by chunks, aligned to line boundaries;
+ * the chunks are processed in parallel in two passes: counting lines and parsing numbers
+ * directly into the resulting Java array of the required element type, without regular expressions
+ * and intermediate <code>String</code> objects (excepting numbers in unusual formats).
+ *
+ * <p>The results are identical to the results of the line-by-line algorithm in {@link ReadCSVNumbers}:
+ * elements are separated by one of the characters <code>,;</code> or whitespace, followed by any
+ * whitespace, trailing empty elements are ignored, missing elements are 0.</p>
+ */
+final class CSVNumbersParser {
+    private static final int CHUNK_SIZE = 8 * 1024 * 1024;
+    private static final int HEADER_AREA_SIZE = 1024 * 1024;
+    private static final int MAX_FAST_DIGITS = 18;
+    private static final double[] POWERS_OF_10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final Path file;
+    private final int numberOfSkippedInitialLines;
+    private final Class<?> requiredElementType;
+    private final List<String> headers = new ArrayList<>();
+
+    CSVNumbersParser(Path file, int numberOfSkippedInitialLines, Class<?> requiredElementType) {
+        this.file = Objects.requireNonNull(file, "Null file");
+        this.numberOfSkippedInitialLines = numberOfSkippedInitialLines;
+        this.requiredElementType = requiredElementType;
+    }
+
+    List<String> headers() {
+        return headers;
+    }
+
+    /**
+     * Parses the file.
+     *
+     * @return parsed numbers or <code>null</code> if this parser cannot process this file:
+     * it seems to be in UTF-16 encoding or is not a correct CSV file without recognized SNumbers header;
+     * in this case, the caller should use the usual algorithm.
+     * @throws IOException           in a case of I/O error.
+     * @throws NumberFormatException if the file has a correct header, but contains incorrect numbers.
+     */
+    SNumbers parse() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final ByteBuffer start = ByteBuffer.allocate((int) Math.min(size, HEADER_AREA_SIZE));
+            while (start.hasRemaining() && channel.read(start, start.position()) >= 0) {
+                // - reading the beginning of the file with headers
+            }
+            final byte[] bytes = java.util.Arrays.copyOf(start.array(), start.position());
+            if (!isSingleByteEncoding(bytes)) {
+                return null;
+            }
+            int p = bytes.length >= 3 && (bytes[0] & 0xFF) == 0xEF && (bytes[1] & 0xFF) == 0xBB
+                    && (bytes[2] & 0xFF) == 0xBF ? 3 : 0;
+            // - skipping UTF-8 BOM
+            for (int k = 0; k < numberOfSkippedInitialLines; k++) {
+                p = nextLine(bytes, p);
+                if (p < 0) {
+                    return null;
+                }
+            }
+            final int headerEnd = lineEnd(bytes, p);
+            final int next = nextLine(bytes, p);
+            if (next < 0) {
+                return null;
+                // - empty file or too long header
+            }
+            final String headerLine = new String(bytes, p, headerEnd - p, StandardCharsets.UTF_8);
+            final String[] headerItems = headerLine.trim().split("([,;\\s]\\s*)");
+            final Class<?> autoDetectedElementType;
+            try {
+                autoDetectedElementType = ReadCSVNumbers.parseSNumbersHeader(headerItems);
+            } catch (IOException e) {
+                return null;
+            }
+            final boolean goodHeader = autoDetectedElementType != null;
+            final Class<?> elementType = requiredElementType != null ? requiredElementType :
+                    autoDetectedElementType != null ? autoDetectedElementType : float.class;
+            final int blockLength = headerItems.length;
+            boolean firstLineContainsNumbers = false;
+            if (!goodHeader) {
+                try {
+                    parseLine(ByteBuffer.wrap(bytes), p, headerEnd, new double[blockLength]);
+                    firstLineContainsNumbers = true;
+                } catch (NumberFormatException e) {
+                    // - it is probably other header line, not in our SNumbers format
+                }
+            }
+            final long dataStart = firstLineContainsNumbers ? p : next;
+            headers.clear();
+            if (!firstLineContainsNumbers) {
+                headers.addAll(java.util.Arrays.asList(headerItems));
+            }
+            try {
+                return parseData(channel, dataStart, size, elementType, blockLength);
+            } catch (NumberFormatException e) {
+                if (goodHeader) {
+                    // - header has been successfully read, so the file is corrupted
+                    throw e;
+                }
+                return null;
+            }
+        }
+    }
+
+    private static SNumbers parseData(
+            FileChannel channel,
+            long dataStart,
+            long size,
+            Class<?> elementType,
+            int blockLength) throws IOException {
+        final List<Long> splitters = new ArrayList<>();
+        splitters.add(dataStart);
+        for (long p = dataStart + CHUNK_SIZE; p < size; p += CHUNK_SIZE) {
+            p = alignToLine(channel, p, size);
+            if (p < size) {
+                splitters.add(p);
+            }
+        }
+        splitters.add(size);
+        final int numberOfChunks = splitters.size() - 1;
+        final MappedByteBuffer[] chunks = new MappedByteBuffer[numberOfChunks];
+        for (int k = 0; k < numberOfChunks; k++) {
+            final long length = splitters.get(k + 1) - splitters.get(k);
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Too long line in CSV file (more than 2 GB)");
+            }
+            chunks[k] = channel.map(FileChannel.MapMode.READ_ONLY, splitters.get(k), length);
+        }
+        final long[] lineOffsets = new long[numberOfChunks + 1];
+        IntStream.range(0, numberOfChunks).parallel().forEach(k ->
+                lineOffsets[k + 1] = countLines(chunks[k]));
+        for (int k = 0; k < numberOfChunks; k++) {
+            lineOffsets[k + 1] += lineOffsets[k];
+        }
+        final long length = lineOffsets[numberOfChunks] * blockLength;
+        if (length > Integer.MAX_VALUE - 16) {
+            throw new IOException("Too large CSV file: " + lineOffsets[numberOfChunks] + " lines, "
+                    + blockLength + " numbers in every line");
+        }
+        final Object result = java.lang.reflect.Array.newInstance(elementType, (int) length);
+        IntStream.range(0, numberOfChunks).parallel().forEach(k ->
+                parseLines(chunks[k], result, (int) (lineOffsets[k] * blockLength), blockLength));
+        return SNumbers.ofArray(result, blockLength);
+    }
+
+    private static long countLines(ByteBuffer chunk) {
+        final int length = chunk.limit();
+        long count = 0;
+        int p = 0;
+        while (p < length) {
+            p = nextLine(chunk, p, length);
+            count++;
+        }
+        return count;
+    }
+
+    private static void parseLines(ByteBuffer chunk, Object result, int offset, int blockLength) {
+        final int length = chunk.limit();
+        final double[] block = new double[blockLength];
+        int p = 0;
+        while (p < length) {
+            final int lineEnd = lineEnd(chunk, p, length);
+            parseLine(chunk, p, lineEnd, block);
+            store(result, offset, block);
+            offset += blockLength;
+            p = nextLine(chunk, lineEnd, length);
+        }
+    }
+
+    // Equivalent to: line.trim().split("([,;\\s]\\s*)") and Double.parseDouble(items[k].trim()),
+    // 0.0 for missing items
+    private static void parseLine(ByteBuffer b, int from, int to, double[] block) {
+        while (from < to && (b.get(from) & 0xFF) <= ' ') {
+            from++;
+        }
+        while (to > from && (b.get(to - 1) & 0xFF) <= ' ') {
+            to--;
+        }
+        if (from == to) {
+            throw new NumberFormatException("empty String");
+        }
+        int k = 0;
+        for (int p = from; k < block.length && p < to; k++) {
+            int q = p;
+            while (q < to && !isDelimiter(b.get(q))) {
+                q++;
+            }
+            if (q == p && onlyDelimiters(b, p, to)) {
+                // - trailing empty items are removed by String.split
+                break;
+            }
+            block[k] = parseDouble(b, p, q);
+            p = q;
+            if (p < to) {
+                p++;
+                while (p < to && isWhitespace(b.get(p))) {
+                    p++;
+                }
+            }
+        }
+        for (; k < block.length; k++) {
+            block[k] = 0.0;
+        }
+    }
+
+    private static double parseDouble(ByteBuffer b, int from, int to) {
+        int p = from;
+        final boolean negative = p < to && b.get(p) == '-';
+        if (p < to && (b.get(p) == '-' || b.get(p) == '+')) {
+            p++;
+        }
+        long mantissa = 0;
+        int numberOfDigits = 0;
+        int exponent = 0;
+        boolean digitsFound = false;
+        for (; p < to && isDigit(b.get(p)); p++) {
+            digitsFound = true;
+            if (mantissa != 0 || b.get(p) != '0') {
+                mantissa = 10 * mantissa + (b.get(p) - '0');
+                numberOfDigits++;
+            }
+        }
+        if (p < to && b.get(p) == '.') {
+            for (p++; p < to && isDigit(b.get(p)); p++) {
+                digitsFound = true;
+                if (mantissa != 0 || b.get(p) != '0') {
+                    mantissa = 10 * mantissa + (b.get(p) - '0');
+                    numberOfDigits++;
+                }
+                exponent--;
+            }
+        }
+        if (digitsFound && p < to && (b.get(p) == 'e' || b.get(p) == 'E')) {
+            p++;
+            final boolean negativeExponent = p < to && b.get(p) == '-';
+            if (p < to && (b.get(p) == '-' || b.get(p) == '+')) {
+                p++;
+            }
+            int e = 0;
+            final int exponentStart = p;
+            for (; p < to && isDigit(b.get(p)) && e < 10000; p++) {
+                e = 10 * e + (b.get(p) - '0');
+            }
+            if (p == exponentStart) {
+                digitsFound = false;
+            }
+            exponent += negativeExponent ? -e : e;
+        }
+        if (digitsFound && p == to && numberOfDigits <= MAX_FAST_DIGITS
+                && mantissa < (1L << 53) && Math.abs(exponent) < POWERS_OF_10.length) {
+            // - exact conversion: both mantissa and the power of 10 are exactly represented by double
+            final double v = exponent >= 0 ?
+                    (double) mantissa * POWERS_OF_10[exponent] :
+                    (double) mantissa / POWERS_OF_10[-exponent];
+            return negative ? -v : v;
+        }
+        final byte[] bytes = new byte[to - from];
+        b.get(from, bytes);
+        return Double.parseDouble(new String(bytes, StandardCharsets.ISO_8859_1).trim());
+        // - NaN, Infinity, hexadecimal and other rare formats; also throws NumberFormatException
+    }
+
+    // Conversions are identical to SNumbers.toXxxArray methods
+    private static void store(Object result, int offset, double[] block) {
+        if (result instanceof byte[] a) {
+            for (int k = 0; k < block.length; k++) {
+                final double v = block[k];
+                a[offset + k] = (byte) (v < 0 ? 0 : v > 255 ? 255 : (int) v);
+            }
+        } else if (result instanceof short[] a) {
+            for (int k = 0; k < block.length; k++) {
+                final double v = block[k];
+                a[offset + k] = (short) (v < 0 ? 0 : v > 0xFFFF ? 0xFFFF : v);
+            }
+        } else if (result instanceof int[] a) {
+            for (int k = 0; k < block.length; k++) {
+                a[offset + k] = (int) block[k];
+            }
+        } else if (result instanceof long[] a) {
+            for (int k = 0; k < block.length; k++) {
+                a[offset + k] = (long) block[k];
+            }
+        } else if (result instanceof float[] a) {
+            for (int k = 0; k < block.length; k++) {
+                a[offset + k] = (float) block[k];
+            }
+        } else if (result instanceof double[] a) {
+            System.arraycopy(block, 0, a, offset, block.length);
+        } else {
+            throw new AssertionError("Unsupported array " + result);
+        }
+    }
+
+    private static long alignToLine(FileChannel channel, long p, long size) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(65536);
+        long position = p - 1;
+        // - starting from the previous byte: we need to know, whether p is already a beginning of line
+        boolean afterCR = false;
+        while (position < size) {
+            buffer.clear();
+            final int n = channel.read(buffer, position);
+            if (n <= 0) {
+                return size;
+            }
+            for (int i = 0; i < n; i++, position++) {
+                final byte c = buffer.get(i);
+                if (afterCR) {
+                    return c == '\n' ? position + 1 : position;
+                }
+                if (c == '\n') {
+                    return position + 1;
+                }
+                afterCR = c == '\r';
+            }
+        }
+        return size;
+    }
+
+    private static boolean isSingleByteEncoding(byte[] bytes) {
+        if (bytes.length >= 2 && ((bytes[0] & 0xFF) == 0xFE && (bytes[1] & 0xFF) == 0xFF
+                || (bytes[0] & 0xFF) == 0xFF && (bytes[1] & 0xFF) == 0xFE)) {
+            return false;
+            // - UTF-16 BOM
+        }
+        for (byte b : bytes) {
+            if (b == 0) {
+                return false;
+                // - probably UTF-16 without BOM
+            }
+        }
+        return true;
+    }
+
+    private static int lineEnd(byte[] bytes, int p) {
+        return lineEnd(ByteBuffer.wrap(bytes), p, bytes.length);
+    }
+
+    // Returns -1 if there is no line terminator in the array and the line is not finished
+    private static int nextLine(byte[] bytes, int p) {
+        if (p >= bytes.length) {
+            return -1;
+        }
+        final int end = lineEnd(bytes, p);
+        return end == bytes.length ? -1 : nextLine(ByteBuffer.wrap(bytes), end, bytes.length);
+    }
+
+    private static int lineEnd(ByteBuffer b, int p, int length) {
+        while (p < length) {
+            final byte c = b.get(p);
+            if (c == '\n' || c == '\r') {
+                break;
+            }
+            p++;
+        }
+        return p;
+    }
+
+    // Returns the beginning of the next line, like BufferedReader.readLine: \n, \r or \r\n
+    private static int nextLine(ByteBuffer b, int p, int length) {
+        p = lineEnd(b, p, length);
+        if (p < length && b.get(p) == '\r') {
+            p++;
+            if (p < length && b.get(p) == '\n') {
+                p++;
+            }
+        } else if (p < length) {
+            p++;
+        }
+        return p;
+    }
+
+    private static boolean onlyDelimiters(ByteBuffer b, int p, int to) {
+        for (; p < to; p++) {
+            if (!isDelimiter(b.get(p))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDelimiter(byte c) {
+        return c == ',' || c == ';' || isWhitespace(c);
+    }
+
+    private static boolean isWhitespace(byte c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+        // - \s in regular expressions
+    }
+
+    private static boolean isDigit(byte c) {
+        return c >= '0' && c <= '9';
+    }
+}
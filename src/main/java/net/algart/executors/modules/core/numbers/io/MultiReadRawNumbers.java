@@ -24,6 +24,8 @@
 
 package net.algart.executors.modules.core.numbers.io;
 
+import net.algart.arrays.Arrays;
+import net.algart.arrays.PNumberArray;
 import net.algart.arrays.TooLargeArrayException;
 import net.algart.executors.api.ReadOnlyExecutionInput;
 import net.algart.executors.api.data.SNumbers;
@@ -50,6 +52,7 @@ public final class MultiReadRawNumbers extends FileOperation implements ReadOnly
     private Class<?> elementType = float.class;
     private WriteRawNumbers.ByteOrder byteOrder = WriteRawNumbers.ByteOrder.BIG_ENDIAN;
     private boolean readMetadataFile = false;
+    private boolean useMemoryMapping = false;
 
     public MultiReadRawNumbers() {
         addFileOperationPorts();
@@ -117,6 +120,15 @@ public final class MultiReadRawNumbers extends FileOperation implements ReadOnly
         return this;
     }
 
+    public boolean isUseMemoryMapping() {
+        return useMemoryMapping;
+    }
+
+    public MultiReadRawNumbers setUseMemoryMapping(boolean useMemoryMapping) {
+        this.useMemoryMapping = useMemoryMapping;
+        return this;
+    }
+
     @Override
     public void process() {
         final Path path = completeFilePath().toAbsolutePath();
@@ -125,8 +137,10 @@ public final class MultiReadRawNumbers extends FileOperation implements ReadOnly
                 .setElementType(elementType)
                 .setByteOrder(byteOrder)
                 .setReadMetadataFile(readMetadataFile)
+                .setUseMemoryMapping(useMemoryMapping)
                 .setFileExistenceRequired(true);
-        final Accumulator accumulator = new Accumulator(file -> readRawNumbers.setFile(file).readRaw());
+        final Accumulator accumulator = new Accumulator(
+                file -> readRawNumbers.setFile(file).readRaw(), useMemoryMapping);
         processFiles(path, globPattern, accumulator);
         final SNumbers result = accumulator.join();
         if (result != null) {
@@ -167,15 +181,17 @@ public final class MultiReadRawNumbers extends FileOperation implements ReadOnly
 
     static class Accumulator {
         private final Function<Path, SNumbers> readFunction;
+        private final boolean concatenateViews;
 
         List<SNumbers> numbersList = new ArrayList<>();
         private Path firstFile = null;
         private SNumbers firstNumbers = null;
         private long totalLength = 0;
-        private int n = 0;
+        private long n = 0;
 
-        Accumulator(Function<Path, SNumbers> readFunction) {
+        Accumulator(Function<Path, SNumbers> readFunction, boolean concatenateViews) {
             this.readFunction = Objects.requireNonNull(readFunction);
+            this.concatenateViews = concatenateViews;
         }
 
         void processFile(Path file) {
@@ -196,12 +212,12 @@ public final class MultiReadRawNumbers extends FileOperation implements ReadOnly
                             + firstNumbers.elementType() + " (file " + firstFile + ")");
                 }
             }
-            totalLength += numbers.getArrayLength();
-            if (totalLength > Integer.MAX_VALUE) {
+            totalLength += numbers.longArrayLength();
+            if (!concatenateViews && totalLength > Integer.MAX_VALUE) {
                 throw new TooLargeArrayException("Too large summary number of elements in " + numbersList.size()
                         + "arrays: >2^31-1");
             }
-            n += numbers.n();
+            n += numbers.longN();
             numbersList.add(numbers);
         }
 
@@ -209,7 +225,17 @@ public final class MultiReadRawNumbers extends FileOperation implements ReadOnly
             if (numbersList.isEmpty()) {
                 return null;
             }
-            final SNumbers result = SNumbers.zeros(firstNumbers.elementType(), n, firstNumbers.getBlockLength());
+            if (concatenateViews) {
+                // - the result is a view of all the source arrays: no copying
+                final PNumberArray[] arrays = numbersList.stream()
+                        .map(SNumbers::asImmutableNumberArray).toArray(PNumberArray[]::new);
+                final PNumberArray result = arrays.length == 1 ?
+                        arrays[0] :
+                        (PNumberArray) Arrays.asConcatenation(arrays);
+                return SNumbers.ofLarge(result, firstNumbers.getBlockLength());
+            }
+            final SNumbers result = SNumbers.zeros(
+                    firstNumbers.elementType(), (int) n, firstNumbers.getBlockLength());
             for (int k = 0, m = numbersList.size(), disp = 0; k < m; k++) {
                 final SNumbers numbers = numbersList.get(k);
                 final int length = numbers.n();
@@ -139,6 +139,14 @@ public final class ReadCSVNumbers extends FileOperation implements ReadOnlyExecu
 
     public SNumbers readCSV(Path csvFile, List<String> resultHeaders) throws IOException {
         Objects.requireNonNull(csvFile, "Null file path");
+        final CSVNumbersParser parser = new CSVNumbersParser(csvFile, numberOfSkippedInitialLines, elementType);
+        final SNumbers parsed = parser.parse();
+        if (parsed != null) {
+            resultHeaders.clear();
+            resultHeaders.addAll(parser.headers());
+            return parsed;
+        }
+        // - the file is probably in UTF-16 encoding or is not a usual CSV file: trying all possible charsets
         SNumbers largestResult = null;
         List<String> largestHeaders = null;
         Exception exception = null;
@@ -273,7 +281,7 @@ public final class ReadCSVNumbers extends FileOperation implements ReadOnlyExecu
         }
     }
 
-    private static Class<?> parseSNumbersHeader(String[] headers) throws IOException {
+    static Class<?> parseSNumbersHeader(String[] headers) throws IOException {
         if (headers.length == 0) {
             throw new IOException("Invalid CSV header: zero number of columns");
         }
@@ -26,8 +26,11 @@ package net.algart.executors.modules.core.numbers.io;
 
 import jakarta.json.JsonObject;
 import net.algart.arrays.Arrays;
+import net.algart.arrays.BufferMemoryModel;
+import net.algart.arrays.PNumberArray;
 import net.algart.executors.api.ExecutionVisibleResultsInformation;
 import net.algart.executors.api.ReadOnlyExecutionInput;
+import net.algart.executors.api.data.DirectByteBufferPool;
 import net.algart.executors.api.data.SNumbers;
 import net.algart.executors.modules.core.common.io.FileOperation;
 import net.algart.json.Jsons;
@@ -38,10 +41,12 @@ import java.io.IOError;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Objects;
 
@@ -49,10 +54,14 @@ public final class ReadRawNumbers extends FileOperation implements ReadOnlyExecu
     public static final String OUTPUT_COLUMN_NAMES = "column_names";
     public static final String OUTPUT_COLUMN_INDEXES = "column_indexes";
 
+    private static final long MAX_MAPPED_REGION_SIZE = 1L << 30;
+    // - must be divisible by the number of bytes in any element type
+
     private int blockLength = 1;
     private Class<?> elementType = float.class;
     private WriteRawNumbers.ByteOrder byteOrder = WriteRawNumbers.ByteOrder.BIG_ENDIAN;
     private boolean readMetadataFile = true;
+    private boolean useMemoryMapping = false;
 
     public ReadRawNumbers() {
         addFileOperationPorts();
@@ -124,6 +133,15 @@ public final class ReadRawNumbers extends FileOperation implements ReadOnlyExecu
         return this;
     }
 
+    public boolean isUseMemoryMapping() {
+        return useMemoryMapping;
+    }
+
+    public ReadRawNumbers setUseMemoryMapping(boolean useMemoryMapping) {
+        this.useMemoryMapping = useMemoryMapping;
+        return this;
+    }
+
     @Override
     public void process() {
         SNumbers input = getInputNumbers(defaultInputPortName(), true);
@@ -133,7 +151,8 @@ public final class ReadRawNumbers extends FileOperation implements ReadOnlyExecu
         } else {
             final SNumbers result = readRaw();
             if (result != null) {
-                getNumbers().setTo(result);
+                getNumbers().exchange(result);
+                // - not setTo: it would copy the mapped file
             } // in another case, stay non-initialized output container
         }
     }
@@ -161,6 +180,14 @@ public final class ReadRawNumbers extends FileOperation implements ReadOnlyExecu
                     getScalar(OUTPUT_COLUMN_INDEXES).setTo(Jsons.toPrettyString(columnIndexes));
                 }
             }
+            if (useMemoryMapping) {
+                logDebug(() -> "Mapping number array from " + rawFile.toAbsolutePath());
+                try {
+                    return mapRaw(rawFile, metadata);
+                } catch (RuntimeException e) {
+                    throw new IOException("Cannot map numbers from file " + rawFile + ": " + e.getMessage(), e);
+                }
+            }
             logDebug(() -> "Reading number array from " + rawFile.toAbsolutePath());
             try (final FileInputStream stream = new FileInputStream(rawFile.toFile())) {
                 SNumbers result;
@@ -188,6 +215,57 @@ public final class ReadRawNumbers extends FileOperation implements ReadOnlyExecu
         return readRaw(inputStream, byteOrder, elementType, blockLength, null);
     }
 
+    /**
+     * Returns numbers array, stored in the given file, without loading it into Java memory:
+     * the result is {@link SNumbers#isLarge() large} and is an immutable view of
+     * the memory-mapped file. The file must not be modified or removed while using the result.
+     *
+     * @param file        raw file.
+     * @param byteOrder   byte order of the elements in the file.
+     * @param elementType element type.
+     * @param blockLength block length.
+     * @return the view of the file.
+     * @throws IOException in a case of I/O error.
+     */
+    public static SNumbers mapRaw(Path file, ByteOrder byteOrder, Class<?> elementType, int blockLength)
+            throws IOException {
+        Objects.requireNonNull(file, "Null file");
+        Objects.requireNonNull(byteOrder, "Null byteOrder");
+        Objects.requireNonNull(elementType, "Null elementType");
+        if (!SNumbers.isElementTypeSupported(elementType)) {
+            throw new IllegalArgumentException("Unsupported element type " + elementType);
+        }
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final int bytesPerElement = bytesPerElement(elementType);
+            checkFileSize(size, bytesPerElement, elementType, blockLength, "\"" + file + "\" ");
+            final int numberOfRegions = (int) ((size + MAX_MAPPED_REGION_SIZE - 1) / MAX_MAPPED_REGION_SIZE);
+            final PNumberArray[] regions = new PNumberArray[Math.max(numberOfRegions, 1)];
+            for (int k = 0; k < regions.length; k++) {
+                final long position = k * MAX_MAPPED_REGION_SIZE;
+                final MappedByteBuffer buffer = channel.map(
+                        FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_MAPPED_REGION_SIZE, size - position));
+                // - mapping stays valid after closing the channel
+                buffer.order(byteOrder);
+                regions[k] = (PNumberArray) BufferMemoryModel.asUpdatableArray(buffer, elementType).asImmutable();
+            }
+            final PNumberArray array = regions.length == 1 ?
+                    regions[0] :
+                    (PNumberArray) Arrays.asConcatenation(regions);
+            return SNumbers.ofLarge(array, blockLength);
+        }
+    }
+
+    private SNumbers mapRaw(Path file, JsonObject metadata) throws IOException {
+        return metadata == null ?
+                mapRaw(file, byteOrder.order(), elementType, blockLength) :
+                mapRaw(
+                        file,
+                        WriteRawNumbers.getMetadataByteOrder(metadata),
+                        WriteRawNumbers.getMetadataElementType(metadata),
+                        WriteRawNumbers.getMetadataBlockLength(metadata));
+    }
+
     private SNumbers readRaw(FileInputStream inputStream, JsonObject metadata, String fileName) throws IOException {
         return metadata == null ?
                 readRaw(inputStream, byteOrder.order(), elementType, blockLength, fileName) :
@@ -218,22 +296,41 @@ public final class ReadRawNumbers extends FileOperation implements ReadOnlyExecu
             throw new IOException("Cannot read too large file " + fileName +
                     "to SNumbers: it's size " + size + " >= 2^31");
         }
+        checkFileSize(size, bytesPerElement(elementType), elementType, blockLength, fileName);
+        final ByteBuffer byteBuffer = DirectByteBufferPool.allocate((int) size);
+        try {
+            byteBuffer.order(byteOrder);
+            while (byteBuffer.hasRemaining() && channel.read(byteBuffer) >= 0) {
+                // - reading the whole file: reused buffer is not zero-filled
+            }
+            return new SNumbers().setTo(byteBuffer, elementType, blockLength);
+        } finally {
+            DirectByteBufferPool.release(byteBuffer);
+            // - SNumbers contains a Java array copy of the data
+        }
+    }
+
+    private static int bytesPerElement(Class<?> elementType) {
         final int bitsPerElement = (int) Arrays.bitsPerElement(elementType);
         if (bitsPerElement < 8) {
             throw new AssertionError("SNumbers.isElementTypeSupported(" + elementType +
                     ") must be false! (bitsPerElement=" + bitsPerElement + ")");
         }
-        final int bytesPerElement = bitsPerElement / 8;
+        return bitsPerElement / 8;
+    }
+
+    private static void checkFileSize(
+            long size,
+            int bytesPerElement,
+            Class<?> elementType,
+            int blockLength,
+            String fileName) throws IOException {
         if (size % (bytesPerElement * (long) blockLength) != 0) {
             throw new IOException("The size " + size + " of the file " + fileName +
                     "is not a multiple of " +
                     "(block length) * (bytes per element) = " + blockLength + " * " + bytesPerElement +
                     ", probably block length (" + blockLength + ") or element type (" + elementType + ") is invalid");
         }
-        ByteBuffer byteBuffer = ByteBuffer.allocateDirect((int) size);
-        byteBuffer.order(byteOrder);
-        channel.read(byteBuffer);
-        return new SNumbers().setTo(byteBuffer, elementType, blockLength);
     }
 
     @Override
@@ -43,6 +43,8 @@ import java.util.Objects;
 public final class WriteCSVNumbers extends WriteFileOperation implements ReadOnlyExecutionInput {
     public static final String INPUT_HEADERS = "headers";
 
+    private static final int WRITING_PORTION_NUMBER_OF_ELEMENTS = 1 << 20;
+
     public enum LineDelimiter {
         CRLF("\r\n"),
         LF("\n"),
@@ -234,7 +236,13 @@ public final class WriteCSVNumbers extends WriteFileOperation implements ReadOnl
                 .setLinesDelimiter(lineDelimiter.delimiter)
                 .setElementsFormat(format)
                 .setElementsDelimiter(delimiter);
-        writer.write(formatter.format());
+        final int n = numbers.n();
+        final int portion = Math.max(1, WRITING_PORTION_NUMBER_OF_ELEMENTS / numbers.getBlockLength());
+        for (int k = 0; k < n; k += portion) {
+            writer.write(formatter.formatRange(k, Math.min(portion, n - k)));
+            // - formatting by portions (in parallel threads inside every portion) allows to avoid creating
+            // a gigantic string for the whole array
+        }
 //        for (int i = 0, n = numbers.n(); i < n; i++) {
 //            writer.write(makeLine(numbers, i));
 //        }
@@ -25,8 +25,12 @@
 package net.algart.executors.modules.core.numbers.io;
 
 import jakarta.json.*;
+import net.algart.arrays.BufferMemoryModel;
+import net.algart.arrays.PNumberArray;
+import net.algart.arrays.UpdatablePNumberArray;
 import net.algart.executors.api.ExecutionVisibleResultsInformation;
 import net.algart.executors.api.ReadOnlyExecutionInput;
+import net.algart.executors.api.data.DirectByteBufferPool;
 import net.algart.executors.api.data.Port;
 import net.algart.executors.api.data.SNumbers;
 import net.algart.executors.api.data.SScalar;
@@ -37,10 +41,13 @@ import net.algart.json.Jsons;
 import java.io.FileOutputStream;
 import java.io.IOError;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -49,6 +56,9 @@ public final class WriteRawNumbers extends WriteFileOperation implements ReadOnl
     public static final String INPUT_COLUMN_NAMES = "column_names";
     public static final String METADATA_FILE_SUFFIX = ".meta";
 
+    private static final int WRITING_BUFFER_SIZE = 1 << 20;
+    // - must be divisible by the number of bytes in any element type
+
     public enum ByteOrder {
         BIG_ENDIAN(java.nio.ByteOrder.BIG_ENDIAN),
         LITTLE_ENDIAN(java.nio.ByteOrder.LITTLE_ENDIAN),
@@ -228,8 +238,11 @@ public final class WriteRawNumbers extends WriteFileOperation implements ReadOnl
             } else {
                 logDebug(
                         () -> "Writing number array (" + numbers + ") to file " + rawFile.toAbsolutePath());
-                try (final FileOutputStream stream = new FileOutputStream(rawFile.toFile(), appendToExistingFile)) {
-                    writeRaw(stream, numbers);
+                try (final FileChannel channel = appendToExistingFile ?
+                        FileChannel.open(rawFile, StandardOpenOption.WRITE, StandardOpenOption.CREATE) :
+                        FileChannel.open(rawFile, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                                StandardOpenOption.TRUNCATE_EXISTING)) {
+                    writeRaw(channel, appendToExistingFile ? channel.size() : 0, numbers);
                 }
                 if (writeMetadataFile) {
                     String columnNames = getInputScalar(INPUT_COLUMN_NAMES, true).getValue();
@@ -249,11 +262,69 @@ public final class WriteRawNumbers extends WriteFileOperation implements ReadOnl
         }
     }
 
+    /**
+     * Writes the numbers into the current position of the stream and advances its position,
+     * like usual writing into a stream (in particular, it works correctly in the append mode).
+     *
+     * @param outputStream output stream.
+     * @param numbers      numbers array.
+     * @throws IOException in a case of I/O error.
+     */
     public void writeRaw(FileOutputStream outputStream, SNumbers numbers) throws IOException {
-        Objects.requireNonNull(numbers, "Null numbers");
         Objects.requireNonNull(outputStream, "Null outputStream argument");
+        writePortions(outputStream.getChannel(), -1, numbers);
+    }
+
+    /**
+     * Writes the numbers into the channel, starting from the given position, by portions
+     * via a little direct buffer: there is no need to create a full copy of the numbers in the memory.
+     * Like {@link FileChannel#write(ByteBuffer, long)}, this method does not change the channel position.
+     *
+     * @param channel  file channel.
+     * @param position position in the file.
+     * @param numbers  numbers array.
+     * @return the position after the last written byte.
+     * @throws IOException in a case of I/O error.
+     */
+    public long writeRaw(FileChannel channel, long position, SNumbers numbers) throws IOException {
+        if (position < 0) {
+            throw new IllegalArgumentException("Negative position " + position);
+        }
+        return writePortions(channel, position, numbers);
+    }
+
+    // Negative position means relative writing from the current channel position
+    private long writePortions(FileChannel channel, long position, SNumbers numbers) throws IOException {
+        Objects.requireNonNull(channel, "Null channel argument");
         Objects.requireNonNull(numbers, "Null numbers argument");
-        outputStream.getChannel().write(numbers.toByteBuffer(byteOrder.order()));
+        final PNumberArray array = numbers.asImmutableNumberArray();
+        if (array == null) {
+            throw new IllegalArgumentException("Cannot write non-initialized numbers");
+        }
+        final ByteBuffer buffer = DirectByteBufferPool.allocate(WRITING_BUFFER_SIZE).order(byteOrder.order());
+        try {
+            final UpdatablePNumberArray bufferArray = (UpdatablePNumberArray) BufferMemoryModel.asUpdatableArray(
+                    buffer, array.elementType());
+            // - view of the buffer with the required byte order
+            final int bytesPerElement = (int) (array.bitsPerElement() / 8);
+            final long length = array.length();
+            for (long p = 0; p < length; ) {
+                final int len = (int) Math.min(bufferArray.length(), length - p);
+                bufferArray.subArr(0, len).copy(array.subArr(p, len));
+                buffer.clear().limit(len * bytesPerElement);
+                while (buffer.hasRemaining()) {
+                    if (position < 0) {
+                        channel.write(buffer);
+                    } else {
+                        position += channel.write(buffer, position);
+                    }
+                }
+                p += len;
+            }
+        } finally {
+            DirectByteBufferPool.release(buffer);
+        }
+        return position;
     }
 
     public JsonObject createMetadata(SNumbers numbers, String[] columnNames) {
@@ -264,7 +335,7 @@ public final class WriteRawNumbers extends WriteFileOperation implements ReadOnl
         Objects.requireNonNull(numbers, "Null numbers");
         final JsonObjectBuilder builder = Json.createObjectBuilder();
         builder.add("blockLength", numbers.getBlockLength());
-        builder.add("n", numbers.n());
+        builder.add("n", numbers.longN());
         builder.add("elementType", numbers.elementType().getSimpleName());
         builder.add("byteOrder", byteOrder.name());
         builder.add("order", byteOrder.order().toString());
@@ -65,7 +65,7 @@ public final class GetNumber extends NumbersToScalar implements ReadOnlyExecutio
     public SScalar analyse(SNumbers source) {
         final int indexInArray = rawIndex != null ? rawIndex : blockIndex * source.getBlockLength() + indexInBlock;
         if (source.isLongArray()) {
-            return SScalar.of(((long[]) source.arrayReference())[indexInArray]);
+            return SScalar.of(source.getLongValue(indexInArray));
             // - in all other cases, double type always stores the result precisely always
         } else if (source.isFloatingPoint()) {
             return SScalar.of(source.getValue(indexInArray));
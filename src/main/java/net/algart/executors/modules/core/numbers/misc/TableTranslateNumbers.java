@@ -212,7 +212,7 @@ public final class TableTranslateNumbers extends Executor implements ReadOnlyExe
     }
 
     private int[] translateIntNumbers(int[] indexes, SNumbers translationTable) {
-        int[] table = (int[]) translationTable.arrayReference();
+        final int[] table = (int[]) translationTable.arrayReferenceForReading();
         final int[] result = new int[indexes.length];
         IntStream.range(0, (indexes.length + 255) >>> 8).parallel().forEach(block -> {
             // note: splitting to blocks helps to provide normal speed
@@ -25,7 +25,7 @@
 package net.algart.executors.modules.core.numbers.statistics;
 
 import net.algart.arrays.Arrays;
-import net.algart.arrays.SimpleMemoryModel;
+import net.algart.arrays.PArray;
 import net.algart.arrays.UpdatablePArray;
 import net.algart.executors.api.ReadOnlyExecutionInput;
 import net.algart.executors.api.data.SNumbers;
@@ -123,11 +123,13 @@ public final class NumbersColumnsStatistics extends NumbersFilter implements Rea
     @Override
     protected SNumbers processNumbers(SNumbers source) {
         long t1 = debugTime();
-        final Object[] allColumns = getLengthInBlock() <= 0 ?
-                source.allColumnsArrays() :
-                source.columnRangeArrays(getIndexInBlock(), getLengthInBlock());
+        final int indexInBlock = getLengthInBlock() <= 0 ? 0 : getIndexInBlock();
+        final int blockLength = getLengthInBlock() <= 0 ? source.blockLength() : getLengthInBlock();
+        source.checkStartIndexAndLenthInBlock(indexInBlock, blockLength, true);
+        final PArray[] allColumns = new PArray[blockLength];
+        IntStream.range(0, blockLength).parallel().forEach(c -> allColumns[c] = source.columnView(indexInBlock + c));
+        // - cached inside the source: other column-oriented executors will not need to extract them again
         long t2 = debugTime();
-        final int blockLength = allColumns.length;
         final int n = source.n();
         final SNumbers histogramNumbers = isOutputNecessary(OUTPUT_HISTOGRAM) ?
                 SNumbers.zeros(long.class, numberOfHistogramColumns, blockLength) :
@@ -145,7 +147,7 @@ public final class NumbersColumnsStatistics extends NumbersFilter implements Rea
         final boolean needSum = needVariance || sumNumbers != null || meanNumbers != null;
         long t3 = debugTime();
         IntStream.range(0, blockLength).parallel().forEach(c -> {
-            final UpdatablePArray array = (UpdatablePArray) SimpleMemoryModel.asUpdatableArray(allColumns[c]);
+            final PArray array = allColumns[c];
             assert array.length() == n;
             if (histogramNumbers != null) {
                 final long[] histogram = NumbersStatistics.analyseHistogram(
@@ -169,7 +171,9 @@ public final class NumbersColumnsStatistics extends NumbersFilter implements Rea
                 standardDeviationNumbers.setValue(c, Math.sqrt(variance));
             }
             if (percentileNumbers != null) {
-                final double[] percentiles = NumbersStatistics.analysePercentiles(array, percentileLevels);
+                final double[] percentiles = NumbersStatistics.analysePercentiles(
+                        (UpdatablePArray) array.updatableClone(Arrays.SMM), percentileLevels);
+                // - analysePercentiles sorts the passed array
                 IntStream.range(0, percentiles.length).forEach(k -> percentileNumbers.setValue(k, c, percentiles[k]));
             }
         });
@@ -27,7 +27,6 @@ package net.algart.executors.modules.core.scalars.json;
 import jakarta.json.JsonObject;
 import net.algart.executors.api.data.SScalar;
 import net.algart.executors.modules.core.common.scalars.ScalarFilter;
-import net.algart.json.Jsons;
 
 public final class GetAllJsonKeys extends ScalarFilter {
     public static final String INPUT_JSON = "json";
@@ -38,7 +37,7 @@ public final class GetAllJsonKeys extends ScalarFilter {
 
     @Override
     public SScalar process(SScalar source) {
-        final JsonObject json = Jsons.toJson(source.getValue(), true);
+        final JsonObject json = source.toJsonObject();
         return SScalar.of(String.join("\n", json.keySet()));
     }
 
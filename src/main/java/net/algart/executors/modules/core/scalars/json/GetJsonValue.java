@@ -28,7 +28,6 @@ import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
 import net.algart.executors.api.data.SScalar;
 import net.algart.executors.modules.core.common.scalars.ScalarFilter;
-import net.algart.json.Jsons;
 
 public final class GetJsonValue extends ScalarFilter {
     public static final String INPUT_JSON = "json";
@@ -70,9 +69,9 @@ public final class GetJsonValue extends ScalarFilter {
 
     @Override
     public SScalar process(SScalar source) {
-        final JsonObject json = Jsons.toJson(source.getValue(), true);
+        final JsonObject json = source.toJsonObject();
         final JsonValue jsonValue = json.get(key);
-        return jsonValue != null ? SScalar.of(Jsons.toPrettyString(jsonValue)) :
+        return jsonValue != null ? SScalar.ofJsonValue(jsonValue) :
                 useDefaultValue ? SScalar.of(defaultValue) : new SScalar();
     }
 
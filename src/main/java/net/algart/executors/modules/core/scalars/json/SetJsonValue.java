@@ -120,10 +120,10 @@ public final class SetJsonValue extends ScalarFilter {
 
     @Override
     public SScalar process(SScalar source) {
-        final JsonObject json = Jsons.toJson(source.getValue(), true);
+        final JsonObject json = source.toJsonObject();
         final JsonObjectBuilder builder = Jsons.createObjectBuilder(json);
         jsonValueType.add(builder, key, value.trim());
-        return SScalar.of(Jsons.toPrettyString(builder.build()));
+        return SScalar.ofJson(builder.build());
     }
 
     @Override
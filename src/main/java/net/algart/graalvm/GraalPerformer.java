@@ -46,6 +46,8 @@ public class GraalPerformer implements AutoCloseable {
 
     Path workingDirectory = null;
     boolean jsEsmEvalReturnsExports = false;
+    GraalPerformerContainer.PerformerPool pool = null;
+    // - not null for shared performers
 
     private GraalPerformer(Context context, String autoBindingLanguage) {
         this.state = new ExpensiveCleanableState(context, autoBindingLanguage);
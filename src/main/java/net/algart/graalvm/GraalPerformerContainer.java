@@ -25,9 +25,15 @@
 package net.algart.graalvm;
 
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 
 import java.lang.System.Logger;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.WeakHashMap;
@@ -73,6 +79,8 @@ public abstract class GraalPerformerContainer {
     private String[] permittedLanguages = new String[0];
     private Path workingDirectory = null;
     private boolean jsEsmEvalReturnsExports = DEFAULT_JS_ESM_EVAL_RETURNS_EXPORTS;
+    private boolean useSharedEngine = GraalSharedEngine.DEFAULT_USE_SHARED_ENGINE;
+    private Engine engine = null;
     private GraalContextCustomizer customizer = GraalContextCustomizer.DEFAULT;
     private String autoBindingLanguage = null;
     private GraalPerformerConfigurator configurator = performer -> {
@@ -162,6 +170,41 @@ public abstract class GraalPerformerContainer {
         return this;
     }
 
+    public boolean isUseSharedEngine() {
+        return useSharedEngine;
+    }
+
+    /**
+     * Sets whether the contexts, created by this container, should use {@link GraalSharedEngine common engine}.
+     * In this case, the parsed and compiled code of equal sources is reused by all such contexts.
+     * Ignored if a custom {@link #setEngine(Engine) engine} is specified.
+     *
+     * @param useSharedEngine whether to use the shared engine;
+     *                        default is {@link GraalSharedEngine#DEFAULT_USE_SHARED_ENGINE}.
+     * @return reference to this object.
+     */
+    public GraalPerformerContainer setUseSharedEngine(boolean useSharedEngine) {
+        this.useSharedEngine = useSharedEngine;
+        return this;
+    }
+
+    public Engine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Sets custom engine for creating contexts. If <code>null</code> (default),
+     * the {@link #setUseSharedEngine(boolean) shared engine} or a new engine for every context is used.
+     * Note: this engine should not be closed while using this container.
+     *
+     * @param engine custom engine; may be <code>null</code>.
+     * @return reference to this object.
+     */
+    public GraalPerformerContainer setEngine(Engine engine) {
+        this.engine = engine;
+        return this;
+    }
+
     public GraalContextCustomizer getCustomizer() {
         return customizer;
     }
@@ -208,6 +251,7 @@ public abstract class GraalPerformerContainer {
      * {@link #setPermittedLanguages(String...) permittedLanguages},
      * {@link #setWorkingDirectory(Path) workingDirectory},
      * {@link #setJsEsmEvalReturnsExports(boolean) js.esm-eval-returns-exports},
+     * {@link #setUseSharedEngine(boolean) useSharedEngine}, {@link #setEngine(Engine) engine},
      * {@link #setCustomizer(GraalContextCustomizer) customizer}
      * will be ignored.
      *
@@ -291,6 +335,11 @@ public abstract class GraalPerformerContainer {
         if (workingDirectory != null) {
             builder.currentWorkingDirectory(workingDirectory);
         }
+        final Engine engine = this.engine != null ? this.engine :
+                useSharedEngine ? GraalSharedEngine.getInstance() : null;
+        if (engine != null) {
+            builder.engine(engine);
+        }
         if (jsEsmEvalReturnsExports) {
             // the default value in the builder is false:
             // https://www.graalvm.org/jdk24/reference-manual/js/Modules/#java-embedding-via-context-api
@@ -321,6 +370,16 @@ public abstract class GraalPerformerContainer {
             return (Local) super.setJsEsmEvalReturnsExports(jsEsmEvalReturnsExports);
         }
 
+        @Override
+        public Local setUseSharedEngine(boolean useSharedEngine) {
+            return (Local) super.setUseSharedEngine(useSharedEngine);
+        }
+
+        @Override
+        public Local setEngine(Engine engine) {
+            return (Local) super.setEngine(engine);
+        }
+
         @Override
         public Local setCustomizer(GraalContextCustomizer customizer) {
             return (Local) super.setCustomizer(customizer);
@@ -391,6 +450,7 @@ public abstract class GraalPerformerContainer {
 
     public static class Shared extends GraalPerformerContainer {
         private ActionOnChangeContextId actionOnChangeContextId = ActionOnChangeContextId.THROW_EXCEPTION;
+        private int maxPooledPerformers = 1;
         private ContextKey contextKey = null;
 
         private final Object lock = new Object();
@@ -409,6 +469,37 @@ public abstract class GraalPerformerContainer {
             return this;
         }
 
+        public int getMaxPooledPerformers() {
+            return maxPooledPerformers;
+        }
+
+        /**
+         * Sets the maximal number of performers (Graal contexts) for the same context ID,
+         * which can be used in parallel via {@link #acquirePerformer(Object)} method.
+         * All they are created and configured identically, but, of course, have different global variables.
+         * Default value is 1: all threads use the same context one after another.
+         *
+         * <p>These performers are created in addition to the single performer, returned by
+         * {@link #performer(Object)}, and never coincide with it.</p>
+         *
+         * <p>Note: if several containers use the same context ID, they share the same pool, but every call of
+         * {@link #acquirePerformer(Object)} checks the limit of its own container: a new performer is created
+         * only if the current number of pooled performers is less than the value of this parameter
+         * in the container, which acquires it. Performers, created before via other containers, are not closed,
+         * so the actual pool size may exceed this value.</p>
+         *
+         * @param maxPooledPerformers maximal number of pooled performers for one context ID.
+         * @return reference to this object.
+         * @throws IllegalArgumentException if the argument is zero or negative.
+         */
+        public Shared setMaxPooledPerformers(int maxPooledPerformers) {
+            if (maxPooledPerformers <= 0) {
+                throw new IllegalArgumentException("Zero or negative maxPooledPerformers = " + maxPooledPerformers);
+            }
+            this.maxPooledPerformers = maxPooledPerformers;
+            return this;
+        }
+
         @Override
         public Shared setPermittedLanguages(String... permittedLanguages) {
             return (Shared) super.setPermittedLanguages(permittedLanguages);
@@ -424,6 +515,16 @@ public abstract class GraalPerformerContainer {
             return super.setJsEsmEvalReturnsExports(jsEsmEvalReturnsExports);
         }
 
+        @Override
+        public Shared setUseSharedEngine(boolean useSharedEngine) {
+            return (Shared) super.setUseSharedEngine(useSharedEngine);
+        }
+
+        @Override
+        public Shared setEngine(Engine engine) {
+            return (Shared) super.setEngine(engine);
+        }
+
         @Override
         public Shared setCustomizer(GraalContextCustomizer customizer) {
             return (Shared) super.setCustomizer(customizer);
@@ -451,6 +552,39 @@ public abstract class GraalPerformerContainer {
 
         @Override
         public GraalPerformer performer(Object contextId) {
+            return contextKey(contextId).getPerformer();
+        }
+
+        /**
+         * Takes a performer for the given context ID from the pool for exclusive usage by the current thread.
+         * If all {@link #setMaxPooledPerformers(int) maxPooledPerformers} performers are in use,
+         * waits until some of them will be {@link #releasePerformer(GraalPerformer) released}.
+         * The pool prefers the performer that was used by the current thread last time.
+         *
+         * <p>The acquired performer is never the same as returned by {@link #performer(Object)}:
+         * the latter is not a part of the pool, so this method and {@link #performer(Object)}
+         * may be used in parallel threads without conflicts.</p>
+         *
+         * @param contextId ID of the context.
+         * @return acquired performer; must be released by {@link #releasePerformer(GraalPerformer)}.
+         */
+        public GraalPerformer acquirePerformer(Object contextId) {
+            return contextKey(contextId).acquirePerformer(maxPooledPerformers);
+        }
+
+        /**
+         * Returns the performer, acquired by {@link #acquirePerformer(Object)}, back to its pool.
+         * Does nothing if the argument is <code>null</code> or was not acquired from a pool.
+         *
+         * @param performer acquired performer (may be <code>null</code>).
+         */
+        public void releasePerformer(GraalPerformer performer) {
+            if (performer != null && performer.pool != null) {
+                performer.pool.release(performer);
+            }
+        }
+
+        private ContextKey contextKey(Object contextId) {
             Objects.requireNonNull(contextId, "Null context ID");
             synchronized (lock) {
                 if (contextKey == null || !contextId.equals(contextKey.contextId)) {
@@ -459,7 +593,7 @@ public abstract class GraalPerformerContainer {
                     }
                     contextKey = new ContextKey(contextId);
                 }
-                return contextKey.getPerformer();
+                return contextKey;
             }
         }
 
@@ -489,7 +623,7 @@ public abstract class GraalPerformerContainer {
     // its keys cannot be contextId itself, they should be something like ContextKey,
     // which will be removed by garbage collector together with container.
     private final class ContextKey {
-        private static final Map<ContextKey, GraalPerformer> performers = new WeakHashMap<>();
+        private static final Map<ContextKey, PerformerPool> pools = new WeakHashMap<>();
 
         private final Object contextId;
 
@@ -498,31 +632,26 @@ public abstract class GraalPerformerContainer {
         }
 
         GraalPerformer getPerformer() {
-            GraalPerformer newPerformer;
-            synchronized (performers) {
-                // We don't use computeIfAbsent to avoid logging inside synchronized section
-                final GraalPerformer performer = performers.get(this);
-                if (performer != null) {
-                    return performer;
-                }
-                newPerformer = createAndInitialize(contextId);
-                performers.put(this, newPerformer);
+            return pool().primaryPerformer(() -> createAndInitialize(contextId));
+        }
+
+        GraalPerformer acquirePerformer(int maxPooledPerformers) {
+            return pool().acquire(maxPooledPerformers, () -> createAndInitialize(contextId));
+        }
+
+        private PerformerPool pool() {
+            synchronized (pools) {
+                return pools.computeIfAbsent(this, key -> new PerformerPool());
             }
-            LOG.log(Logger.Level.INFO, "Created new shared " + newPerformer);
-            return newPerformer;
         }
 
         private void close() {
-            String message = null;
-            synchronized (performers) {
-                final GraalPerformer performer = performers.remove(this);
-                if (performer != null) {
-                    message = performer.toString();
-                    performer.close();
-                }
+            final PerformerPool pool;
+            synchronized (pools) {
+                pool = pools.remove(this);
             }
-            if (message != null) {
-                LOG.log(Logger.Level.INFO, "Closed shared " + message);
+            if (pool != null) {
+                pool.close();
             }
         }
 
@@ -544,8 +673,136 @@ public abstract class GraalPerformerContainer {
         }
 
         private static int numberOfSharedPerformers() {
-            synchronized (performers) {
-                return performers.size();
+            final List<PerformerPool> list;
+            synchronized (pools) {
+                list = new ArrayList<>(pools.values());
+            }
+            int result = 0;
+            for (PerformerPool pool : list) {
+                result += pool.size();
+            }
+            return result;
+        }
+    }
+
+    // Identically initialized performers for the same context ID: the primary one, used by performer() method,
+    // and the pooled ones, used by acquire/release methods
+    static final class PerformerPool {
+        private GraalPerformer primary = null;
+        private final List<GraalPerformer> performers = new ArrayList<>();
+        private final Deque<GraalPerformer> idle = new ArrayDeque<>();
+        private final Map<GraalPerformer, Thread> lastThreads = new IdentityHashMap<>();
+        private int numberOfCreating = 0;
+        private boolean closed = false;
+
+        synchronized GraalPerformer primaryPerformer(Supplier<GraalPerformer> creator) {
+            checkClosed();
+            if (primary == null) {
+                primary = creator.get();
+                // - not added to performers/idle: it must never be acquired by acquire() method
+                LOG.log(Logger.Level.INFO, "Created new shared " + primary);
+            }
+            return primary;
+        }
+
+        GraalPerformer acquire(int maxPooledPerformers, Supplier<GraalPerformer> creator) {
+            final Thread thread = Thread.currentThread();
+            synchronized (this) {
+                for (; ; ) {
+                    checkClosed();
+                    final GraalPerformer performer = takeIdle(thread);
+                    if (performer != null) {
+                        return performer;
+                    }
+                    if (performers.size() + numberOfCreating < maxPooledPerformers) {
+                        numberOfCreating++;
+                        break;
+                    }
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for a free Graal performer", e);
+                    }
+                }
+            }
+            GraalPerformer performer = null;
+            boolean added = false;
+            try {
+                performer = creator.get();
+                // - creating outside the synchronized block: other threads may use other performers
+            } finally {
+                synchronized (this) {
+                    numberOfCreating--;
+                    if (performer != null && !closed) {
+                        add(performer);
+                        lastThreads.put(performer, thread);
+                        added = true;
+                    }
+                    notifyAll();
+                }
+            }
+            if (!added) {
+                performer.close();
+                throw new IllegalStateException("Shared Graal performers were closed");
+            }
+            LOG.log(Logger.Level.INFO, "Created new pooled shared " + performer);
+            return performer;
+        }
+
+        synchronized void release(GraalPerformer performer) {
+            if (closed || !lastThreads.containsKey(performer) || idle.contains(performer)) {
+                return;
+            }
+            idle.addLast(performer);
+            lastThreads.put(performer, Thread.currentThread());
+            notifyAll();
+        }
+
+        void close() {
+            final List<GraalPerformer> list;
+            synchronized (this) {
+                closed = true;
+                list = new ArrayList<>(performers);
+                if (primary != null) {
+                    list.add(0, primary);
+                    primary = null;
+                }
+                performers.clear();
+                idle.clear();
+                lastThreads.clear();
+                notifyAll();
+            }
+            for (GraalPerformer performer : list) {
+                final String message = performer.toString();
+                performer.close();
+                LOG.log(Logger.Level.INFO, "Closed shared " + message);
+            }
+        }
+
+        synchronized int size() {
+            return performers.size() + (primary != null ? 1 : 0);
+        }
+
+        private void add(GraalPerformer performer) {
+            performer.pool = this;
+            performers.add(performer);
+            lastThreads.put(performer, null);
+        }
+
+        private GraalPerformer takeIdle(Thread thread) {
+            for (GraalPerformer performer : idle) {
+                if (lastThreads.get(performer) == thread) {
+                    idle.remove(performer);
+                    return performer;
+                }
+            }
+            return idle.pollFirst();
+        }
+
+        private void checkClosed() {
+            if (closed) {
+                throw new IllegalStateException("Shared Graal performers were closed");
             }
         }
     }
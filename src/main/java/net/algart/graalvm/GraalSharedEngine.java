@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.graalvm;
+
+import org.graalvm.polyglot.Engine;
+
+import java.lang.System.Logger;
+
+/**
+ * Polyglot engine, shared by all Graal contexts, created by {@link GraalPerformerContainer}
+ * (if another behaviour is not requested by {@link GraalPerformerContainer#setUseSharedEngine(boolean)}
+ * or {@link GraalPerformerContainer#setEngine(Engine)}).
+ *
+ * <p>Contexts with the common engine reuse parsed and compiled code of equal sources and JIT profiles,
+ * so, new performers for the same scripts start "hot".</p>
+ */
+public final class GraalSharedEngine {
+    /**
+     * Default value of {@link GraalPerformerContainer#isUseSharedEngine()} flag.
+     * Can be changed by system property "net.algart.graalvm.useSharedEngine".
+     */
+    public static final boolean DEFAULT_USE_SHARED_ENGINE = getBooleanProperty(
+            "net.algart.graalvm.useSharedEngine", true);
+
+    private static final Logger LOG = System.getLogger(GraalSharedEngine.class.getName());
+
+    private static final Object lock = new Object();
+    private static volatile Engine engine = null;
+
+    private GraalSharedEngine() {
+    }
+
+    public static Engine getInstance() {
+        Engine engine = GraalSharedEngine.engine;
+        if (engine == null) {
+            synchronized (lock) {
+                engine = GraalSharedEngine.engine;
+                if (engine == null) {
+                    GraalSharedEngine.engine = engine = Engine.newBuilder().build();
+                    LOG.log(Logger.Level.DEBUG, "Created shared Graal engine " + engine);
+                }
+            }
+        }
+        return engine;
+    }
+
+    public static boolean isCreated() {
+        return engine != null;
+    }
+
+    private static boolean getBooleanProperty(String propertyName, boolean defaultValue) {
+        try {
+            final String s = System.getProperty(propertyName);
+            return s == null ? defaultValue : Boolean.parseBoolean(s);
+        } catch (SecurityException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -35,6 +35,8 @@ import java.lang.System.Logger;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
@@ -42,8 +44,24 @@ import java.util.function.Supplier;
 public abstract class GraalSourceContainer {
     public static final String JAVASCRIPT_LANGUAGE = "js";
 
+    /**
+     * Maximal number of literal sources, stored in the global cache of this class.
+     */
+    public static final int MAX_CACHED_LITERAL_SOURCES = 256;
+
     private static final Logger LOG = System.getLogger(GraalSourceContainer.class.getName());
 
+    // Equal literal sources (Source.equals/hashCode use the content) are replaced with the same Source object.
+    // Graal engine stores parsed and compiled code for every Source while it is reachable, so,
+    // together with the shared engine, the cache allows new contexts to reuse the code of previous ones
+    // even if all previous containers were already garbage collected.
+    private static final Map<Source, Source> LITERAL_CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Source, Source> eldest) {
+            return size() > MAX_CACHED_LITERAL_SOURCES;
+        }
+    };
+
     public enum SourceKind {
         LITERAL(Literal::new),
         BYTE_SEQUENCE(ForByteSequence::new),
@@ -220,7 +238,7 @@ public abstract class GraalSourceContainer {
         builder.mimeType(mimeType);
         builder.encoding(fileEncoding);
         if (this instanceof Literal) {
-            return builder.buildLiteral();
+            return cachedLiteral(builder.buildLiteral());
         } else {
             try {
                 return builder.build();
@@ -230,6 +248,13 @@ public abstract class GraalSourceContainer {
         }
     }
 
+    private static Source cachedLiteral(Source source) {
+        synchronized (LITERAL_CACHE) {
+            final Source previous = LITERAL_CACHE.putIfAbsent(source, source);
+            return previous != null ? previous : source;
+        }
+    }
+
     private void clearCache(boolean changed) {
         if (changed) {
             setChanged(true);
@@ -27,9 +27,16 @@ package net.algart.graalvm;
 import net.algart.executors.api.data.SScalar;
 import org.graalvm.polyglot.Value;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
 import java.util.Objects;
 
 public class GraalValues {
+    private static final int READ_PORTION = 65536;
+    // - in bytes; must be divisible by 8
+
     private GraalValues() {
     }
 
@@ -77,4 +84,100 @@ public class GraalValues {
         }
         return String.valueOf(object);
     }
+
+    /**
+     * If the value is a JavaScript typed array <code>Uint8Array</code>, <code>Uint8ClampedArray</code>,
+     * <code>Uint16Array</code>, <code>Int32Array</code>, <code>Float32Array</code>, <code>Float64Array</code>
+     * or <code>BigInt64Array</code>, returns a copy of its elements as a Java array
+     * <code>int[]</code> (for 3 first types), <code>int[]</code>, <code>double[]</code>, <code>double[]</code>
+     * or <code>long[]</code> correspondingly; in other cases returns <code>null</code>.
+     * Unsigned elements are widened to <code>int</code> and <code>float</code> elements to <code>double</code>,
+     * like while converting every element of the array to Java <code>Number</code>.
+     *
+     * <p>The elements are read from the underlying <code>ArrayBuffer</code> by bulk operations,
+     * without boxing every element, as it occurs while converting the value to Java collection.
+     * Note that this is still a copy: the polyglot API allows reading buffer elements only into
+     * <code>byte[]</code>, so the bytes are read by little portions into a temporary array and then
+     * converted into the resulting Java array through a <code>ByteBuffer</code> view; there is no
+     * intermediate copy of the whole array.</p>
+     *
+     * <p>Note: <code>Float64Array</code> is always returned as <code>double[]</code>, even if all its elements
+     * are integer. Conversion via Java collection of numbers could return <code>int[]</code> in this case.</p>
+     *
+     * @param value some value.
+     * @return Java array with the same elements or <code>null</code> if it is not a supported typed array.
+     */
+    public static Object typedArrayToJavaArray(Value value) {
+        Objects.requireNonNull(value, "Null value");
+        if (value.isNull() || value.isHostObject() || !value.hasArrayElements()) {
+            return null;
+        }
+        final Value metaObject = value.getMetaObject();
+        if (metaObject == null || !value.hasMember("buffer") || !value.hasMember("byteOffset")) {
+            return null;
+        }
+        final String typeName = metaObject.getMetaSimpleName();
+        final int elementSize = switch (typeName) {
+            case "Uint8Array", "Uint8ClampedArray" -> 1;
+            case "Uint16Array" -> 2;
+            case "Int32Array", "Float32Array" -> 4;
+            case "Float64Array", "BigInt64Array" -> 8;
+            default -> 0;
+        };
+        // - signed 8/16-bit and unsigned 32/64-bit elements have no equivalent Java arrays in SNumbers
+        if (elementSize == 0) {
+            return null;
+        }
+        final Value buffer = value.getMember("buffer");
+        final Value byteOffset = value.getMember("byteOffset");
+        if (buffer == null || !buffer.hasBufferElements() || byteOffset == null || !byteOffset.fitsInLong()) {
+            return null;
+        }
+        final long byteLength = value.getArraySize() * elementSize;
+        if (byteLength > Integer.MAX_VALUE) {
+            return null;
+        }
+        final int n = (int) (byteLength / elementSize);
+        final Object result = switch (typeName) {
+            case "Uint8Array", "Uint8ClampedArray", "Uint16Array", "Int32Array" -> new int[n];
+            case "Float32Array", "Float64Array" -> new double[n];
+            case "BigInt64Array" -> new long[n];
+            default -> throw new AssertionError("Unexpected typed array " + typeName);
+        };
+        final byte[] portion = new byte[(int) Math.min(byteLength, READ_PORTION)];
+        final ByteBuffer portionBuffer = ByteBuffer.wrap(portion).order(ByteOrder.nativeOrder());
+        // - typed arrays use the native byte order
+        final int portionLength = portion.length / elementSize;
+        for (int k = 0; k < n; k += portionLength) {
+            final int count = Math.min(n - k, portionLength);
+            buffer.readBuffer(byteOffset.asLong() + (long) k * elementSize, portion, 0, count * elementSize);
+            switch (typeName) {
+                case "Uint8Array", "Uint8ClampedArray" -> {
+                    final int[] ints = (int[]) result;
+                    for (int j = 0; j < count; j++) {
+                        ints[k + j] = portion[j] & 0xFF;
+                    }
+                }
+                case "Uint16Array" -> {
+                    final ShortBuffer shorts = portionBuffer.asShortBuffer();
+                    final int[] ints = (int[]) result;
+                    for (int j = 0; j < count; j++) {
+                        ints[k + j] = shorts.get(j) & 0xFFFF;
+                    }
+                }
+                case "Int32Array" -> portionBuffer.asIntBuffer().get(0, (int[]) result, k, count);
+                case "Float32Array" -> {
+                    final FloatBuffer floats = portionBuffer.asFloatBuffer();
+                    final double[] doubles = (double[]) result;
+                    for (int j = 0; j < count; j++) {
+                        doubles[k + j] = floats.get(j);
+                    }
+                }
+                case "Float64Array" -> portionBuffer.asDoubleBuffer().get(0, (double[]) result, k, count);
+                case "BigInt64Array" -> portionBuffer.asLongBuffer().get(0, (long[]) result, k, count);
+                default -> throw new AssertionError("Unexpected typed array " + typeName);
+            }
+        }
+        return result;
+    }
 }
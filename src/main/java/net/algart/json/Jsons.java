@@ -46,6 +46,9 @@ public class Jsons {
     private static final JsonProvider JSON_PROVIDER = JsonProvider.provider();
     // - Note: "Users are recommended to cache the result of this method" (from JavaDoc to provider() method).
     // But we don't always use it: in most cases this optimization is not important.
+    private static final JsonWriterFactory PRETTY_WRITER_FACTORY = JSON_PROVIDER.createWriterFactory(
+            Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true));
+    // - but here it is important: settings JSONs are serialized while every call of a chain
 
     private Jsons() {
     }
@@ -71,7 +74,7 @@ public class Jsons {
 
     public static JsonObject toJson(String jsonString) {
         Objects.requireNonNull(jsonString, "Null JSON string");
-        try (final JsonReader reader = Json.createReader(new StringReader(jsonString))) {
+        try (final JsonReader reader = JSON_PROVIDER.createReader(new StringReader(jsonString))) {
             return reader.readObject();
         }
     }
@@ -223,10 +226,8 @@ public class Jsons {
 
     public static String toPrettyString(JsonObject json) {
         Objects.requireNonNull(json, "Null json");
-        JsonWriterFactory jsonWriterFactory = Json.createWriterFactory(
-                Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true));
         StringWriter stringWriter = new StringWriter();
-        try (JsonWriter jsonWriter = jsonWriterFactory.createWriter(stringWriter)) {
+        try (JsonWriter jsonWriter = PRETTY_WRITER_FACTORY.createWriter(stringWriter)) {
             jsonWriter.writeObject(json);
             return stringWriter.toString().trim();
             // - trim() removes extra starting empty line
@@ -235,10 +236,8 @@ public class Jsons {
 
     public static String toPrettyString(JsonArray json) {
         Objects.requireNonNull(json, "Null json");
-        JsonWriterFactory jsonWriterFactory = Json.createWriterFactory(
-                Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true));
         StringWriter stringWriter = new StringWriter();
-        try (JsonWriter jsonWriter = jsonWriterFactory.createWriter(stringWriter)) {
+        try (JsonWriter jsonWriter = PRETTY_WRITER_FACTORY.createWriter(stringWriter)) {
             jsonWriter.writeArray(json);
             return stringWriter.toString().trim();
             // - trim() removes extra starting empty line
@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.algart.executors.api.demo;
+
+import net.algart.executors.api.ExecutionBlock;
+import net.algart.executors.api.chains.core.ChainExecutor;
+import net.algart.executors.api.chains.core.ChainPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class CallChainPoolRecursiveFactorial {
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 3) {
+            System.out.printf("Usage: %s number_of_threads number_of_calls_per_thread pool_capacity%n",
+                    CallChainPoolRecursiveFactorial.class.getName());
+            return;
+        }
+        final int numberOfThreads = Integer.parseInt(args[0]);
+        final int numberOfCalls = Integer.parseInt(args[1]);
+        final int capacity = Integer.parseInt(args[2]);
+
+        ExecutionBlock.initializeExecutionSystem();
+        try (ChainPool pool = ChainPool.newInstance(
+                CallExecutorRecursiveFactorial.MY_SESSION_ID,
+                CallExecutorRecursiveFactorial.RECURSIVE_FACTORIAL_ID,
+                capacity)) {
+            long t1 = System.nanoTime();
+            pool.warmUp();
+            long t2 = System.nanoTime();
+            System.out.printf(Locale.US, "Warming up: %.3f ms, %s%n", (t2 - t1) * 1e-6, pool);
+            final List<Thread> threads = new ArrayList<>();
+            for (int k = 0; k < numberOfThreads; k++) {
+                final int threadIndex = k;
+                threads.add(new Thread(() -> {
+                    for (int i = 0; i < numberOfCalls; i++) {
+                        final int n = 1 + (threadIndex + i) % 15;
+                        final double result;
+                        try (ChainPool.Lease lease = pool.lease()) {
+                            final ChainExecutor executor = lease.executor();
+                            executor.setIntParameter("n", n);
+                            executor.execute();
+                            result = executor.getScalar().toDouble();
+                        }
+                        double expected = 1.0;
+                        for (int j = 2; j <= n; j++) {
+                            expected *= j;
+                        }
+                        if (result != expected) {
+                            throw new AssertionError("Invalid factorial of " + n + ": " + result);
+                        }
+                    }
+                }));
+            }
+            t1 = System.nanoTime();
+            threads.forEach(Thread::start);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            t2 = System.nanoTime();
+            System.out.printf(Locale.US, "%d calls in %d threads: %.3f ms, %s%n",
+                    numberOfThreads * numberOfCalls, numberOfThreads, (t2 - t1) * 1e-6, pool);
+        }
+    }
+}
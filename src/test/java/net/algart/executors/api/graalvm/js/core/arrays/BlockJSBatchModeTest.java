@@ -0,0 +1,154 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.api.graalvm.js.core.arrays;
+
+import net.algart.executors.api.data.SNumbers;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Checks that the batch mode of {@link BlockJSModifyingNamedNumbers} and {@link BlockJSModifyingSeveralNumbers}
+ * returns the same results as the usual per-block mode. The user code intentionally declares variables
+ * with the names of internal variables of the batch loop.
+ */
+public class BlockJSBatchModeTest {
+    private static final int N = 1000;
+
+    private static final String NAMED_INITIALIZING_OPERATOR = "total = 0;";
+    private static final String NAMED_MAIN_OPERATOR = """
+            var _k = 100, _i = -1, _p = 0, _n = 0, _x = null, _tags1 = null;
+            var sum = x0 + x1;
+            total += x0;
+            x2 = sum * p + k + total;
+            tag = tag + 1;
+            if (x0 > x1) {
+                x1 = -x1;
+            }
+            kind = kind * 2;
+            """;
+    private static final String SEVERAL_CODE = """
+            var _k = 7, _i = 1000, _p = -1, _n = 0, _a = null, _b = null, _c = null, _d = null;
+            var t0 = a[0];
+            a[0] = a[1] * p + k;
+            a[1] = t0;
+            b[0] = b[0] + d[2];
+            d[0] = d[0] * d[1] + q;
+            """;
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    private static double[] randomDoubles(Random random, int length) {
+        final double[] result = new double[length];
+        for (int k = 0; k < length; k++) {
+            result[k] = Math.round(random.nextGaussian() * 1000.0) / 8.0;
+        }
+        return result;
+    }
+
+    private static int[] randomInts(Random random, int length) {
+        final int[] result = new int[length];
+        for (int k = 0; k < length; k++) {
+            result[k] = random.nextInt(100);
+        }
+        return result;
+    }
+
+    private static SNumbers[] processNamed(double[] x, int[] tags1, int[] tags2, boolean batchMode) {
+        try (BlockJSModifyingNamedNumbers executor = new BlockJSModifyingNamedNumbers()) {
+            executor.setInitializingOperator(NAMED_INITIALIZING_OPERATOR)
+                    .setMainOperator(NAMED_MAIN_OPERATOR)
+                    .setUseK(true)
+                    .setBatchMode(batchMode)
+                    .setP(1.5);
+            executor.putNumbers(x.clone(), 3);
+            executor.putNumbers(BlockJSModifyingNamedNumbers.IN_OUT_TAGS_1, tags1.clone(), 1);
+            executor.putNumbers(BlockJSModifyingNamedNumbers.IN_OUT_TAGS_2, tags2.clone(), 1);
+            executor.execute();
+            return new SNumbers[]{
+                    executor.getNumbers().clone(),
+                    executor.getNumbers(BlockJSModifyingNamedNumbers.IN_OUT_TAGS_1).clone(),
+                    executor.getNumbers(BlockJSModifyingNamedNumbers.IN_OUT_TAGS_2).clone()};
+        }
+    }
+
+    private static SNumbers[] processSeveral(double[] a, double[] b, double[] d, boolean batchMode) {
+        try (BlockJSModifyingSeveralNumbers executor = new BlockJSModifyingSeveralNumbers()) {
+            executor.setJavaScriptCode(SEVERAL_CODE)
+                    .setBatchMode(batchMode)
+                    .setP(-2.0)
+                    .setQ(0.25);
+            executor.putNumbers(BlockJSModifyingSeveralNumbers.IN_OUT_A, a.clone(), 2);
+            executor.putNumbers(BlockJSModifyingSeveralNumbers.IN_OUT_B, b.clone(), 1);
+            executor.putNumbers(BlockJSModifyingSeveralNumbers.IN_OUT_D, d.clone(), 3);
+            executor.execute();
+            return new SNumbers[]{
+                    executor.getNumbers(BlockJSModifyingSeveralNumbers.IN_OUT_A).clone(),
+                    executor.getNumbers(BlockJSModifyingSeveralNumbers.IN_OUT_B).clone(),
+                    executor.getNumbers(BlockJSModifyingSeveralNumbers.IN_OUT_D).clone()};
+        }
+    }
+
+    private static void compare(SNumbers[] perBlock, SNumbers[] batch, String name) {
+        for (int i = 0; i < perBlock.length; i++) {
+            check(perBlock[i].getBlockLength() == batch[i].getBlockLength() && perBlock[i].n() == batch[i].n(),
+                    name + ": different sizes of result #" + i + ": " + perBlock[i] + ", " + batch[i]);
+            final double[] expected = perBlock[i].toDoubleArray();
+            final double[] result = batch[i].toDoubleArray();
+            check(Arrays.equals(expected, result), name + ": different result #" + i
+                    + " in batch mode:\n  " + Arrays.toString(Arrays.copyOf(result, 12))
+                    + " instead of\n  " + Arrays.toString(Arrays.copyOf(expected, 12)));
+        }
+        System.out.printf("%s: batch mode is identical to per-block mode%n", name);
+    }
+
+    public static void main(String[] args) {
+        final Random random = new Random(157);
+        final double[] x = randomDoubles(random, 3 * N);
+        final int[] tags1 = randomInts(random, N);
+        final int[] tags2 = randomInts(random, N);
+        final SNumbers[] named = processNamed(x, tags1, tags2, false);
+        check(named[0].toDoubleArray()[2] != x[2], "Per-block mode did not change the data");
+        compare(named, processNamed(x, tags1, tags2, true), "BlockJSModifyingNamedNumbers");
+
+        final double[] a = randomDoubles(random, 2 * N);
+        final double[] b = randomDoubles(random, N);
+        final double[] d = randomDoubles(random, 3 * N);
+        final SNumbers[] several = processSeveral(a, b, d, false);
+        check(several[0].toDoubleArray()[0] != a[0] || several[0].toDoubleArray()[1] != a[1],
+                "Per-block mode did not change the data");
+        for (int k = 0; k < N; k++) {
+            check(several[2].getValue(k, 0) == d[3 * k] * d[3 * k + 1] + 0.25,
+                    "Per-block mode: JavaScript variable d is not bound to the input/output d, block #" + k);
+        }
+        compare(several, processSeveral(a, b, d, true), "BlockJSModifyingSeveralNumbers");
+        System.out.println("O'k");
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.api.graalvm.js.core.arrays;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Value;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks that formulas, compiled by {@link SimpleJSFormula}, return the same results as JavaScript engine,
+ * and that unsupported syntax is not compiled.
+ * Placed in the same package: {@link SimpleJSFormula} is package-private.
+ */
+public class SimpleJSFormulaTest {
+    private static final List<String> ARGUMENTS = List.of("a", "b", "c", "d", "e", "f");
+    private static final Map<String, Double> CONSTANTS = Map.of("p", 2.5, "q", -3.0);
+
+    private static final String[] SUPPORTED = {
+            // precedence and associativity
+            "a + b * c",
+            "(a + b) * c",
+            "a - b - c",
+            "a / b / c",
+            "a + b * c ** 2 - d % 3",
+            "2 ** 3 ** 2",
+            "a * p + q",
+            "a << 2 + 1",
+            "a & b | c ^ d",
+            "a > b ? c : d > 0 ? e : f",
+            "a > b && c < d ? 1 : 0",
+            "(a || b) + 1",
+            "(a && b) * 2",
+            "a == b ? 10 : 20",
+            "(a !== b) + (a === a)",
+            "!a + !!b",
+            // unary minus
+            "-a",
+            "- -a",
+            "-a * b",
+            "(-a) ** 2",
+            "-(a ** 2)",
+            "2 ** -a",
+            "1 / (-a * 0)",
+            "-b + +c",
+            "~a + ~~b",
+            // division by zero and other special values
+            "a / 0",
+            "-a / 0",
+            "0 / 0",
+            "a % 0",
+            "-a % b",
+            "1 / (a - a)",
+            "NaN + a",
+            "Infinity - Infinity",
+            "(a / 0) * 0",
+            // bitwise operations with large and negative values
+            "a * 1e10 | 0",
+            "-a >>> 0",
+            "(a * 1e10) >> 3",
+            "1 << 33",
+            // numbers
+            "1.5e3 + .5 + 0x1F",
+            "1e-3 * a",
+            // Math
+            "Math.max(a, b, c)",
+            "Math.min()",
+            "Math.max()",
+            "Math.round(a) + Math.round(-2.5) + Math.round(2.5)",
+            "Math.round(-0.4)",
+            "Math.trunc(-a) + Math.sign(b)",
+            "Math.pow(a, b)",
+            "Math.pow(1, Infinity) + Math.pow(NaN, 0)",
+            "1 ** Infinity",
+            "Math.hypot(a, b) + Math.atan2(a, b)",
+            "Math.sqrt(a) + Math.log(b) + Math.exp(c)",
+            "Math.fround(a) + Math.abs(b)",
+            "Math.floor(a) + Math.ceil(b) + Math.PI * Math.E",
+            "Math.sin()",
+    };
+
+    private static final String[] UNSUPPORTED = {
+            "-a ** 2",
+            "a > b",
+            "a == b",
+            "!a",
+            "a = 1",
+            "a += 1",
+            "a++",
+            "a; b",
+            "foo(a)",
+            "x",
+            "Math.random()",
+            "Math.hypot(a, b, c)",
+            "a > b ? 1 : true",
+            "'text'",
+            "[a, b]",
+            "a.b",
+            "a /* comment */ + b",
+            "a // comment",
+            "010 + a",
+            "1.0f * a",
+            "(a + b",
+            "a + ",
+    };
+
+    private static final double[][] ARGUMENT_VALUES = {
+            {3.0, 2.0, -5.0, 0.5, 0.0, 7.0},
+            {-2.5, 0.0, 4.0, -1.0, Double.NaN, 1e10},
+            {0.0, -0.0, 1.5, 2.0, 3.0, -3.0},
+            {1.0, 1.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, -7.75, 0.25},
+    };
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    private static boolean same(double v, double w) {
+        if (Double.isNaN(v) || Double.isNaN(w) || Double.isInfinite(v) || Double.isInfinite(w)) {
+            return Double.isNaN(v) ? Double.isNaN(w) : v == w;
+        }
+        return Math.abs(v - w) <= 1e-12 * Math.max(1.0, Math.abs(w));
+        // - functions like Math.log may differ in the last bit in different implementations
+    }
+
+    public static void main(String[] args) {
+        try (Context context = Context.newBuilder("js").build()) {
+            final StringBuilder constants = new StringBuilder();
+            CONSTANTS.forEach((name, value) -> constants.append("const ").append(name)
+                    .append(" = ").append(value).append(";\n"));
+            context.eval("js", constants.toString());
+            for (String formula : SUPPORTED) {
+                final SimpleJSFormula compiled = SimpleJSFormula.compile(formula, ARGUMENTS, CONSTANTS);
+                check(compiled != null, "Formula is not compiled: " + formula);
+                final Value function = context.eval("js",
+                        "(function(" + String.join(", ", ARGUMENTS) + ") { return (" + formula + "); })");
+                for (double[] x : ARGUMENT_VALUES) {
+                    final double expected = function.execute(x[0], x[1], x[2], x[3], x[4], x[5]).asDouble();
+                    final double result = compiled.get(x);
+                    check(same(result, expected), "Invalid result of " + formula + " for "
+                            + java.util.Arrays.toString(x) + ": " + result + " instead of " + expected);
+                }
+                System.out.printf("Compiled and checked: %s%n", formula);
+            }
+        }
+        for (String formula : UNSUPPORTED) {
+            check(SimpleJSFormula.compile(formula, ARGUMENTS, CONSTANTS) == null,
+                    "Formula must not be compiled: " + formula);
+            System.out.printf("Not compiled: %s%n", formula);
+        }
+        System.out.println("O'k");
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.api.tests;
+
+import net.algart.executors.api.ExecutionBlock;
+import net.algart.executors.api.chains.core.ChainExecutor;
+import net.algart.executors.api.chains.core.ChainPool;
+import net.algart.executors.api.extensions.InstalledExtensions;
+
+public class ChainPoolTest {
+    private static final String SESSION_ID = "~~DUMMY_SESSION";
+    private static final String RECURSIVE_FACTORIAL_ID = "8585f3b5-decf-45e5-be50-e91b7a1a693c";
+    // - ID of the chain recursive_factorial.chain in the "build" folder
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    public static void main(String[] args) {
+        System.setProperty(InstalledExtensions.EXTENSIONS_ROOT_PROPERTY, "build");
+        ExecutionBlock.initializeExecutionSystem();
+        try (ChainPool pool = ChainPool.newInstance(SESSION_ID, RECURSIVE_FACTORIAL_ID, 2)) {
+            final ChainExecutor e1 = pool.acquire();
+            e1.setIntParameter("n", 5);
+            e1.execute();
+            check(e1.getScalar().toDouble() == 120.0, "Invalid factorial: " + e1.getScalar());
+            pool.release(e1);
+            check(pool.numberOfIdle() == 1, "Released executor must be idle: " + pool);
+            try {
+                pool.release(e1);
+                throw new AssertionError("Second release must be prohibited: " + pool);
+            } catch (IllegalStateException e) {
+                System.out.println("Second release: expected exception " + e.getMessage());
+            }
+            check(pool.numberOfIdle() == 1, "Second release must not change the pool: " + pool);
+
+            final ChainExecutor e2 = pool.acquire();
+            final ChainExecutor e3 = pool.acquire();
+            check(e2 != e3, "Two acquired executors must be different");
+            check(e2 == e1, "The idle executor must be reused");
+            e2.setIntParameter("n", 4);
+            e3.setIntParameter("n", 6);
+            e2.execute();
+            e3.execute();
+            check(e2.getScalar().toDouble() == 24.0 && e3.getScalar().toDouble() == 720.0,
+                    "Invalid factorials " + e2.getScalar() + ", " + e3.getScalar());
+            pool.release(e3);
+            pool.release(e2);
+            check(pool.numberOfIdle() == 2, "Both executors must be idle: " + pool);
+            System.out.println(pool);
+        }
+        System.out.println("O'k");
+    }
+}
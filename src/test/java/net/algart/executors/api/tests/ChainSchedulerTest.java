@@ -0,0 +1,290 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.api.tests;
+
+import net.algart.executors.api.ExecutionBlock;
+import net.algart.executors.api.chains.Chain;
+import net.algart.executors.api.data.Data;
+import net.algart.executors.api.data.SScalar;
+import net.algart.executors.api.extensions.InstalledExtensions;
+import net.algart.executors.api.system.ExecutorFactory;
+import net.algart.executors.api.system.ExecutorSpecificationSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares multithreading execution of a chain (ChainScheduler) with single-thread execution.
+ * The chain contains a diamond dependency (S &rarr; L, R &rarr; D), a conditional input
+ * ("if" block, requesting only one of its branches) and a failing block in the branch,
+ * which must be executed only when the condition is true.
+ *
+ * <p>Also checks the scheduler itself: a long linear chain, executed with a single-thread pool,
+ * a wide chain, executed by the helpers from the thread pool, specified by {@link Chain#setThreadPool},
+ * and a thread pool, rejecting all tasks (the calling thread must execute all blocks itself).
+ */
+public class ChainSchedulerTest {
+    private static final String THROW_EXCEPTION = "8770c313-f30a-4e8a-b9a2-2791e5d1aca2";
+    private static final String FAILURE_MESSAGE = "ChainSchedulerTest failure";
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    static SimpleChainBuilder newChainBuilder() {
+        return new SimpleChainBuilder("ChainSchedulerTest")
+                .inputScalar("x")
+                .inputScalar("y")
+                .inputScalar("cond")
+                .block("S", SimpleChainBuilder.LINEAR_COMBINATION_OF_TWO_SCALARS, "a", 1.0, "b", 1.0)
+                // S = x + y
+                .link("x.output", "S.x")
+                .link("y.output", "S.y")
+                .block("L", SimpleChainBuilder.LINEAR_COMBINATION_OF_TWO_SCALARS, "a", 2.0, "b", 0.0)
+                // L = 2 * S
+                .link("S.output", "L.x")
+                .link("S.output", "L.y")
+                .block("R", SimpleChainBuilder.LINEAR_COMBINATION_OF_TWO_SCALARS, "a", -1.0, "b", 1.0)
+                // R = y - S = -x
+                .link("S.output", "R.x")
+                .link("y.output", "R.y")
+                .block("D", SimpleChainBuilder.LINEAR_COMBINATION_OF_TWO_SCALARS, "a", 1.0, "b", 1.0)
+                // D = L + R = x + 2 * y
+                .link("L.output", "D.x")
+                .link("R.output", "D.y")
+                .block("G", SimpleChainBuilder.LINEAR_COMBINATION_OF_TWO_SCALARS, "a", 3.0, "b", 1.0)
+                // G = 3 * R + x = -2 * x
+                .link("R.output", "G.x")
+                .link("x.output", "G.y")
+                .block("F", THROW_EXCEPTION,
+                        "invert", true,
+                        "exceptionKind", "ILLEGAL_STATE_EXCEPTION",
+                        "message", FAILURE_MESSAGE)
+                // F always fails when executed
+                .link("R.output", "F.s")
+                .block("IF", SimpleChainBuilder.IF_SCALAR_THEN_SCALAR)
+                .link("cond.output", "IF.if")
+                .link("G.output", "IF.false")
+                .link("F.s", "IF.true")
+                .outputScalar("d", "D.output")
+                .outputScalar("r", "IF.output");
+    }
+
+    // Counts the helper tasks, submitted by the scheduler, and can reject them
+    private static final class CountingThreadPool extends AbstractExecutorService {
+        private final ExecutorService parent;
+        private final boolean rejectAll;
+        private final AtomicInteger numberOfTasks = new AtomicInteger();
+
+        CountingThreadPool(ExecutorService parent, boolean rejectAll) {
+            this.parent = parent;
+            this.rejectAll = rejectAll;
+        }
+
+        int numberOfTasks() {
+            return numberOfTasks.get();
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            numberOfTasks.incrementAndGet();
+            if (rejectAll) {
+                throw new RejectedExecutionException("CountingThreadPool rejects all tasks");
+            }
+            parent.execute(command);
+        }
+
+        @Override
+        public void shutdown() {
+            parent.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return parent.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return parent.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return parent.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return parent.awaitTermination(timeout, unit);
+        }
+    }
+
+    // K0 = x, Ki = K(i-1) + one: the result is x + length
+    static SimpleChainBuilder newLongChainBuilder(int length) {
+        final SimpleChainBuilder builder = new SimpleChainBuilder("ChainSchedulerTest-long")
+                .inputScalar("x")
+                .inputScalar("one");
+        String previous = "x.output";
+        for (int i = 0; i < length; i++) {
+            builder.block("K" + i, SimpleChainBuilder.LINEAR_COMBINATION_OF_TWO_SCALARS, "a", 1.0, "b", 1.0)
+                    .link(previous, "K" + i + ".x")
+                    .link("one.output", "K" + i + ".y");
+            previous = "K" + i + ".output";
+        }
+        return builder.outputScalar("k", previous);
+    }
+
+    // Wi = i * x, independent blocks: all of them are ready at the same time
+    static SimpleChainBuilder newWideChainBuilder(int width) {
+        final SimpleChainBuilder builder = new SimpleChainBuilder("ChainSchedulerTest-wide")
+                .inputScalar("x");
+        for (int i = 0; i < width; i++) {
+            builder.block("W" + i, SimpleChainBuilder.LINEAR_COMBINATION_OF_TWO_SCALARS, "a", (double) i, "b", 0.0)
+                    .link("x.output", "W" + i + ".x")
+                    .link("x.output", "W" + i + ".y")
+                    .outputScalar("w" + i, "W" + i + ".output");
+        }
+        return builder;
+    }
+
+    private static void testLongChain(ExecutorFactory executorFactory, int length) {
+        final ExecutorService parent = Executors.newSingleThreadExecutor();
+        final CountingThreadPool threadPool = new CountingThreadPool(parent, false);
+        try (Chain chain = newLongChainBuilder(length).newChain(executorFactory)) {
+            chain.setMultithreading(true);
+            chain.setThreadPool(threadPool);
+            chain.setInputData(Map.of("x", SScalar.of(100), "one", SScalar.of(1)));
+            chain.execute();
+            final Map<String, Data> results = chain.getOutputDataClone();
+            check(value(results, "k") == 100 + length, "Invalid result of the long chain: " + results);
+        } finally {
+            parent.shutdown();
+        }
+        System.out.printf("Long chain (%d blocks) passed, %d helper tasks%n", length, threadPool.numberOfTasks());
+    }
+
+    private static void testWideChain(ExecutorFactory executorFactory, int width, boolean rejectAll) {
+        final ExecutorService parent = Executors.newFixedThreadPool(4);
+        final CountingThreadPool threadPool = new CountingThreadPool(parent, rejectAll);
+        try (Chain chain = newWideChainBuilder(width).newChain(executorFactory)) {
+            chain.setMultithreading(true);
+            chain.setThreadPool(threadPool);
+            chain.setInputData(Map.of("x", SScalar.of(3)));
+            chain.execute();
+            final Map<String, Data> results = chain.getOutputDataClone();
+            final List<String> invalid = new ArrayList<>();
+            for (int i = 0; i < width; i++) {
+                if (value(results, "w" + i) != 3.0 * i) {
+                    invalid.add("w" + i);
+                }
+            }
+            check(invalid.isEmpty(), "Invalid results of the wide chain: " + invalid + " in " + results);
+        } finally {
+            parent.shutdown();
+        }
+        check(threadPool.numberOfTasks() > 0,
+                "Independent blocks were not offered to the thread pool, specified by setThreadPool");
+        System.out.printf("Wide chain (%d blocks%s) passed, %d helper tasks%n",
+                width, rejectAll ? ", rejecting thread pool" : "", threadPool.numberOfTasks());
+    }
+
+    private static Map<String, Data> execute(Chain chain, Map<String, Data> inputs) {
+        chain.setInputData(inputs);
+        try {
+            chain.execute();
+        } catch (RuntimeException e) {
+            for (Throwable t = e; t != null; t = t.getCause()) {
+                if (t instanceof IllegalStateException && FAILURE_MESSAGE.equals(t.getMessage())) {
+                    return null;
+                }
+            }
+            throw e;
+        }
+        return chain.getOutputDataClone();
+    }
+
+    private static double value(Map<String, Data> results, String name) {
+        return ((SScalar) results.get(name)).toDouble();
+    }
+
+    public static void main(String[] args) {
+        System.setProperty(InstalledExtensions.EXTENSIONS_ROOT_PROPERTY, "build");
+        ExecutionBlock.initializeExecutionSystem();
+        ExecutorSpecificationSet.allBuiltIn();
+        final int numberOfTests = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        final ExecutorFactory executorFactory = ExecutorFactory.newFactory("~~ChainSchedulerTest");
+        final SimpleChainBuilder builder = newChainBuilder();
+        try (Chain singleThread = builder.newChain(executorFactory);
+             Chain multithreading = builder.newChain(executorFactory)) {
+            singleThread.setMultithreading(false);
+            multithreading.setMultithreading(true);
+            final Random rnd = new Random(157);
+            int failures = 0;
+            for (int test = 0; test < numberOfTests; test++) {
+                final double x = rnd.nextInt(1000) - 500;
+                final double y = rnd.nextInt(1000) - 500;
+                final boolean condition = rnd.nextInt(4) == 0;
+                final Map<String, Data> inputs = Map.of(
+                        "x", SScalar.of(x),
+                        "y", SScalar.of(y),
+                        "cond", SScalar.of(condition));
+                final Map<String, Data> r1 = execute(singleThread, inputs);
+                final Map<String, Data> r2 = execute(multithreading, inputs);
+                if (condition) {
+                    check(r1 == null, "Failing block was not executed in single-thread mode, test #" + test);
+                    check(r2 == null, "Failing block was not executed in multithreading mode, test #" + test);
+                    failures++;
+                    continue;
+                }
+                check(r1 != null, "Unexpected failure in single-thread mode, test #" + test);
+                check(r2 != null, "Unexpected failure in multithreading mode, test #" + test
+                        + ": \"false\" branch must not request the failing block");
+                check(value(r1, "d") == x + 2 * y, "Invalid diamond result " + r1 + " for " + x + ", " + y);
+                check(value(r1, "r") == -2 * x, "Invalid conditional result " + r1 + " for " + x);
+                for (String name : r1.keySet()) {
+                    check(value(r1, name) == value(r2, name), "Different results in single-thread and "
+                            + "multithreading mode: " + r1 + " and " + r2 + ", test #" + test);
+                }
+            }
+            System.out.printf("%d tests (%d with failing block) passed%n", numberOfTests, failures);
+        }
+        testLongChain(executorFactory, 1000);
+        testWideChain(executorFactory, 64, false);
+        testWideChain(executorFactory, 64, true);
+        System.out.println("O'k");
+    }
+}
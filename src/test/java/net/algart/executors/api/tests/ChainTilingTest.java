@@ -0,0 +1,207 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.algart.executors.api.tests;
+
+import net.algart.executors.api.ExecutionBlock;
+import net.algart.executors.api.chains.Chain;
+import net.algart.executors.api.chains.IncompatibleChainException;
+import net.algart.executors.api.chains.core.ChainExecutor;
+import net.algart.executors.api.chains.core.ChainTiling;
+import net.algart.executors.api.chains.core.UseChain;
+import net.algart.executors.api.data.DataType;
+import net.algart.executors.api.data.SMat;
+import net.algart.executors.api.extensions.InstalledExtensions;
+import net.algart.executors.api.system.CreateMode;
+import net.algart.executors.api.system.ExecutorFactory;
+import net.algart.executors.api.system.ExecutorSpecification;
+import net.algart.executors.modules.core.demo.ExampleMultiMatrixGradients;
+import net.algart.multimatrix.MultiMatrix;
+
+import java.util.Map;
+
+/**
+ * Checks that the result of a tile-safe chain, executed by {@link ChainTiling}
+ * or by the chain executor with positive {@link UseChain#TILE_SIZE_NAME},
+ * is identical to the result of usual execution for the whole image,
+ * and that the overlap is calculated along the longest path of the chain.
+ */
+public class ChainTilingTest {
+    private static final String SESSION_ID = "~~ChainTilingTest";
+    private static final String MATRIX_INVERT = "7be43c14-04a7-4def-bfb0-925b385b4050";
+    private static final String MATRIX_LINEAR_COMBINATION = "57fb4aec-c016-48e0-80f4-9b83eac545d0";
+    private static final String MATRIX_ABS = "573dfe4d-3966-4aaf-a8db-732e7c48a33d";
+    // - MatrixAbs is not declared tile-safe
+    private static final int INVERT_OVERLAP = 5;
+    private static final int LINEAR_COMBINATION_OVERLAP = 3;
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    private static void checkEquals(MultiMatrix tiled, MultiMatrix whole, String message) {
+        check(tiled.numberOfChannels() == whole.numberOfChannels()
+                        && tiled.elementType() == whole.elementType()
+                        && java.util.Arrays.equals(tiled.dimensions(), whole.dimensions()),
+                "Tiled result " + tiled + " differs from " + whole + ", " + message);
+        for (int k = 0; k < whole.numberOfChannels(); k++) {
+            check(tiled.channel(k).equals(whole.channel(k)),
+                    "Channel #" + k + " of the tiled result differs from the whole result, " + message);
+        }
+    }
+
+    // Factory, which declares non-zero overlaps for elementwise blocks: only for checking requiredOverlap
+    private static ExecutorFactory withOverlaps(ExecutorFactory parent) {
+        return new ExecutorFactory() {
+            @Override
+            public String sessionId() {
+                return parent.sessionId();
+            }
+
+            @Override
+            public ExecutionBlock newExecutor(String executorId, CreateMode createMode)
+                    throws ClassNotFoundException {
+                return parent.newExecutor(executorId, createMode);
+            }
+
+            @Override
+            public ExecutorSpecification getSpecification(String executorId) {
+                final ExecutorSpecification specification = parent.getSpecification(executorId);
+                final int overlap = switch (executorId) {
+                    case MATRIX_INVERT -> INVERT_OVERLAP;
+                    case MATRIX_LINEAR_COMBINATION -> LINEAR_COMBINATION_OVERLAP;
+                    default -> 0;
+                };
+                if (specification == null || overlap == 0) {
+                    return specification;
+                }
+                final ExecutorSpecification result = ExecutorSpecification.of(specification.toJson());
+                // - copying: we must not modify the specification, shared with other chains
+                result.getOptions().getTiling().setOverlap(overlap);
+                return result;
+            }
+        };
+    }
+
+    private static void testLongestPath() {
+        // input --> INV_A ----------> LC
+        //   \-----> INV_B --> INV_C --/
+        final SimpleChainBuilder builder = new SimpleChainBuilder("ChainTilingLongestPathTest")
+                .inputMatrix("input")
+                .block("INV_A", MATRIX_INVERT)
+                .block("INV_B", MATRIX_INVERT)
+                .block("INV_C", MATRIX_INVERT)
+                .block("LC", MATRIX_LINEAR_COMBINATION)
+                .link("input.output", "INV_A.input", DataType.MAT)
+                .link("input.output", "INV_B.input", DataType.MAT)
+                .link("INV_B.output", "INV_C.input", DataType.MAT)
+                .link("INV_A.output", "LC.input_1", DataType.MAT)
+                .link("INV_C.output", "LC.input_2", DataType.MAT)
+                .outputMatrix("output", "LC.output");
+        final Chain chain = builder.newChain(withOverlaps(ExecutorFactory.newFactory(SESSION_ID)));
+        try {
+            final int overlap = ChainTiling.requiredOverlap(chain);
+            final int expected = 2 * INVERT_OVERLAP + LINEAR_COMBINATION_OVERLAP;
+            check(overlap == expected, "Invalid overlap " + overlap + " instead of " + expected
+                    + " (the sum for all blocks is " + (3 * INVERT_OVERLAP + LINEAR_COMBINATION_OVERLAP) + ")");
+            System.out.printf("Overlap along the longest path: %d%n", overlap);
+        } finally {
+            chain.freeData();
+        }
+    }
+
+    public static void main(String[] args) {
+        System.setProperty(InstalledExtensions.EXTENSIONS_ROOT_PROPERTY, "build");
+        ExecutionBlock.initializeExecutionSystem();
+        testLongestPath();
+
+        final UseChain useChain = UseChain.getInstance(SESSION_ID);
+        final SimpleChainBuilder builder = new SimpleChainBuilder("ChainTilingTest")
+                .inputMatrix("a")
+                .inputMatrix("b")
+                .block("INV", MATRIX_INVERT)
+                .block("LC", MATRIX_LINEAR_COMBINATION,
+                        "a_1", 0.5, "a_2", 0.25, "b", 0.1)
+                .link("a.output", "INV.input", DataType.MAT)
+                .link("INV.output", "LC.input_1", DataType.MAT)
+                .link("b.output", "LC.input_2", DataType.MAT)
+                .outputMatrix("output", "LC.output");
+        //noinspection resource
+        final ExampleMultiMatrixGradients gradients = new ExampleMultiMatrixGradients();
+        gradients.setElementType(byte.class);
+        try (ChainExecutor executor = useChain.newExecutor(builder.build(), CreateMode.REQUEST_ALL)) {
+            check(ChainTiling.isTileSafe(executor.chain()), "The chain must be tile-safe");
+            for (int numberOfChannels : new int[]{1, 3}) {
+                final MultiMatrix a = gradients.setShift(0).create(250, 170, numberOfChannels);
+                final MultiMatrix b = gradients.setShift(37).create(250, 170, numberOfChannels);
+                executor.setIntParameter(UseChain.TILE_SIZE_NAME, 0);
+                executor.putMat("a", SMat.of(a));
+                executor.putMat("b", SMat.of(b));
+                executor.execute();
+                final MultiMatrix whole = executor.getMat("output").toMultiMatrix();
+                for (int tileSize : new int[]{64, 100, 170, 1000}) {
+                    final String message = "tile " + tileSize + ", " + numberOfChannels + " channels";
+                    executor.setIntParameter(UseChain.TILE_SIZE_NAME, 0);
+                    // - ChainTiling executes the executor for every tile: it must not tile again
+                    final ChainTiling tiling = ChainTiling.newInstance(executor).setTileSize(tileSize);
+                    final MultiMatrix tiled = tiling.process(Map.of("a", a, "b", b)).get("output");
+                    System.out.printf("%s: %s%n", tiling, tiled);
+                    final long expectedTiles =
+                            ((250 + tileSize - 1) / tileSize) * (long) ((170 + tileSize - 1) / tileSize);
+                    check(tiling.numberOfProcessedTiles() == expectedTiles,
+                            "Invalid number of tiles " + tiling.numberOfProcessedTiles() + " instead of "
+                                    + expectedTiles);
+                    checkEquals(tiled, whole, message);
+
+                    executor.setIntParameter(UseChain.TILE_SIZE_NAME, tileSize);
+                    executor.putMat("a", SMat.of(a));
+                    executor.putMat("b", SMat.of(b));
+                    executor.execute();
+                    checkEquals(executor.getMat("output").toMultiMatrix(), whole, message + ", executor");
+                }
+                executor.setIntParameter(UseChain.TILE_SIZE_NAME, 0);
+                executor.putMat("b", SMat.of(b));
+                try {
+                    ChainTiling.newInstance(executor).setInputPortName("a").process(a);
+                    throw new AssertionError("Not tiled matrix input must be rejected");
+                } catch (IllegalStateException e) {
+                    System.out.println("Not tiled input: expected exception " + e.getMessage());
+                }
+            }
+        }
+
+        builder.block("ABS", MATRIX_ABS).link("LC.output", "ABS.input", DataType.MAT);
+        try (ChainExecutor executor = useChain.newExecutor(builder.build(), CreateMode.REQUEST_ALL)) {
+            try {
+                ChainTiling.newInstance(executor);
+                throw new AssertionError("Chain with not tile-safe block must not be executed by tiles");
+            } catch (IncompatibleChainException e) {
+                System.out.println("Not tile-safe chain: expected exception " + e.getMessage());
+            }
+        }
+        System.out.println("O'k");
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.api.tests;
+
+import net.algart.executors.api.ExecutionBlock;
+import net.algart.executors.api.extensions.InstalledExtensions;
+import net.algart.executors.api.graalvm.js.core.CommonJS;
+import net.algart.executors.api.system.ExecutorSpecificationSet;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Checks that two {@link CommonJS} instances, sharing the same pool of JavaScript contexts
+ * (the same context ID), always see their own callable executors when they are executed in parallel.
+ */
+public class CommonJSSharedPoolTest {
+    private static final String CONTEXT_ID = "CommonJSSharedPoolTest";
+    private static final String LINEAR_COMBINATION_OF_TWO_SCALARS = "6b37314e-fdbd-416d-8574-4f48853d60b2";
+    private static final String SCALAR_LENGTH = "9687b655-04be-460c-bc45-fdafc6165ee9";
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    private static CommonJS newCommonJS(String callableExecutorId) {
+        final CommonJS result = ExecutionBlock.setSession(new CommonJS(), "~~CommonJSSharedPoolTest");
+        result.setContextId(CONTEXT_ID);
+        result.setShareNamespace(true);
+        result.setMaxParallelSharedContexts(2);
+        result.setCallableExecutorId1(callableExecutorId);
+        result.setFormula("exec.getExecutorId()");
+        return result;
+    }
+
+    private static Thread newThread(CommonJS js, String callableExecutorId, int numberOfTests,
+                                    AtomicReference<Throwable> failure) {
+        return new Thread(() -> {
+            try {
+                for (int test = 0; test < numberOfTests; test++) {
+                    js.execute();
+                    final String result = js.getScalar().getValue();
+                    check(callableExecutorId.equals(result), "Callable executor of another instance is used: "
+                            + result + " instead of " + callableExecutorId + ", test #" + test);
+                }
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+        });
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        System.setProperty(InstalledExtensions.EXTENSIONS_ROOT_PROPERTY, "build");
+        ExecutionBlock.initializeExecutionSystem();
+        ExecutorSpecificationSet.allBuiltIn();
+        final int numberOfTests = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        try (CommonJS first = newCommonJS(LINEAR_COMBINATION_OF_TWO_SCALARS);
+             CommonJS second = newCommonJS(SCALAR_LENGTH)) {
+            final AtomicReference<Throwable> failure = new AtomicReference<>();
+            final Thread t1 = newThread(first, LINEAR_COMBINATION_OF_TWO_SCALARS, numberOfTests, failure);
+            final Thread t2 = newThread(second, SCALAR_LENGTH, numberOfTests, failure);
+            t1.start();
+            t2.start();
+            t1.join();
+            t2.join();
+            if (failure.get() != null) {
+                throw new AssertionError("Parallel execution failed", failure.get());
+            }
+            System.out.printf("%d tests passed in 2 parallel threads%n", numberOfTests);
+        }
+        System.out.println("O'k");
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.api.tests;
+
+import net.algart.arrays.Matrix;
+import net.algart.arrays.PArray;
+import net.algart.executors.api.data.DirectByteBufferPool;
+import net.algart.executors.api.data.SMat;
+import net.algart.multimatrix.MultiMatrix;
+
+import java.nio.ByteBuffer;
+
+public class DirectByteBufferPoolTest {
+    private static final int DIM_X = 512;
+    private static final int DIM_Y = 256;
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    private static void checkContent(ByteBuffer byteBuffer, byte[] expected, String name) {
+        check(byteBuffer.limit() == expected.length, name + ": invalid length " + byteBuffer.limit());
+        for (int k = 0; k < expected.length; k++) {
+            check(byteBuffer.get(k) == expected[k], name + ": damaged element #" + k);
+        }
+    }
+
+    // Allocates and fills all buffers that can be reused from the pool
+    private static void overwritePooledBuffers(int capacity) {
+        while (DirectByteBufferPool.pooledBytes() > 0) {
+            final long hits = DirectByteBufferPool.numberOfHits();
+            final ByteBuffer byteBuffer = DirectByteBufferPool.allocate(capacity);
+            if (DirectByteBufferPool.numberOfHits() == hits) {
+                break;
+            }
+            for (int k = 0; k < capacity; k++) {
+                byteBuffer.put(k, (byte) 0xFF);
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("net.algart.executors.api.data.directByteBufferPool", "true");
+        // - must be set before the first access to DirectByteBufferPool
+        check(DirectByteBufferPool.ENABLED, "DirectByteBufferPool is not enabled");
+        final byte[] bytes = new byte[DIM_X * DIM_Y];
+        for (int k = 0; k < bytes.length; k++) {
+            bytes[k] = (byte) (k * 7);
+        }
+
+        // ConvertibleByteBufferMatrix: the buffer does not escape and must be recycled
+        DirectByteBufferPool.clear();
+        SMat m = new SMat().setAll(new long[]{DIM_X, DIM_Y}, SMat.Depth.U8, 1, bytes);
+        check(java.util.Arrays.equals(m.getByteArray(), bytes), "Invalid getByteArray()");
+        m.remove();
+        check(DirectByteBufferPool.pooledBytes() == bytes.length,
+                "Buffer is not returned into the pool: " + DirectByteBufferPool.pooledBytes());
+
+        // ConvertibleByteBufferMatrix: the buffer escapes by getByteBuffer() and must stay valid
+        DirectByteBufferPool.clear();
+        m = new SMat().setAll(new long[]{DIM_X, DIM_Y}, SMat.Depth.U8, 1, bytes);
+        ByteBuffer escaped = m.getByteBuffer();
+        m.remove();
+        check(DirectByteBufferPool.pooledBytes() == 0, "Escaped buffer is returned into the pool");
+        overwritePooledBuffers(bytes.length);
+        checkContent(escaped, bytes, "byte-buffer matrix");
+
+        // ConvertibleMultiMatrix: the cached interleaved buffer escapes by getByteBuffer()
+        DirectByteBufferPool.clear();
+        final Matrix<? extends PArray> matrix = Matrix.as(bytes, DIM_X, DIM_Y);
+        m = SMat.of(MultiMatrix.ofMono(matrix));
+        escaped = m.getByteBuffer();
+        m.remove();
+        check(DirectByteBufferPool.pooledBytes() == 0, "Escaped cached buffer is returned into the pool");
+        overwritePooledBuffers(bytes.length);
+        checkContent(escaped, bytes, "multi-matrix");
+
+        // The same for a view, returned by toInterleavedBGR
+        DirectByteBufferPool.clear();
+        m = new SMat().setAll(new long[]{DIM_X, DIM_Y}, SMat.Depth.U8, 1, bytes);
+        final Matrix<? extends PArray> interleaved = m.toInterleavedBGR(false);
+        m.remove();
+        check(DirectByteBufferPool.pooledBytes() == 0, "Buffer of interleaved matrix is returned into the pool");
+        overwritePooledBuffers(bytes.length);
+        for (int k = 0; k < bytes.length; k++) {
+            check((byte) interleaved.array().getInt(k) == bytes[k],
+                    "interleaved matrix: damaged element #" + k);
+        }
+        System.out.println(DirectByteBufferPool.statistics());
+        System.out.println("O'k");
+    }
+}
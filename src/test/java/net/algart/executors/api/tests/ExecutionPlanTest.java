@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.api.tests;
+
+import net.algart.executors.api.ExecutionBlock;
+import net.algart.executors.api.chains.Chain;
+import net.algart.executors.api.chains.ChainBlock;
+import net.algart.executors.api.chains.ChainInputPort;
+import net.algart.executors.api.chains.ChainLink;
+import net.algart.executors.api.chains.ChainOutputPort;
+import net.algart.executors.api.chains.ChainPortType;
+import net.algart.executors.api.data.Data;
+import net.algart.executors.api.data.DataType;
+import net.algart.executors.api.data.SScalar;
+import net.algart.executors.api.extensions.InstalledExtensions;
+import net.algart.executors.api.system.ExecutorFactory;
+import net.algart.executors.api.system.ExecutorSpecificationSet;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Checks that the cached execution plan of the chain is replayed in the same order by all executions,
+ * that it does not execute blocks, which are not necessary for the outputs,
+ * and that it is recompiled after changing the chain structure.
+ */
+public class ExecutionPlanTest {
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    private static Map<String, Integer> executionOrders(Chain chain, SimpleChainBuilder builder, String... names) {
+        final Map<String, Integer> result = new LinkedHashMap<>();
+        for (String name : names) {
+            result.put(name, chain.getBlock(builder.blockId(name)).executionOrder());
+        }
+        return result;
+    }
+
+    public static void main(String[] args) {
+        System.setProperty(InstalledExtensions.EXTENSIONS_ROOT_PROPERTY, "build");
+        ExecutionBlock.initializeExecutionSystem();
+        ExecutorSpecificationSet.allBuiltIn();
+        final ExecutorFactory executorFactory = ExecutorFactory.newFactory("~~ExecutionPlanTest");
+        final SimpleChainBuilder builder = new SimpleChainBuilder("ExecutionPlanTest")
+                .inputScalar("x")
+                .inputScalar("y")
+                .block("S", SimpleChainBuilder.LINEAR_COMBINATION_OF_TWO_SCALARS, "a", 1.0, "b", 1.0)
+                .link("x.output", "S.x")
+                .link("y.output", "S.y")
+                .block("U", SimpleChainBuilder.LINEAR_COMBINATION_OF_TWO_SCALARS, "a", 1.0, "b", -1.0)
+                // U is not connected to any output and must not be executed
+                .link("x.output", "U.x")
+                .link("y.output", "U.y")
+                .outputPort("U.output")
+                .outputScalar("s", "S.output");
+        final String[] names = {"x", "y", "S", "U", "s"};
+        try (Chain chain = builder.newChain(executorFactory)) {
+            chain.setMultithreading(false);
+            Map<String, Integer> firstOrders = null;
+            for (int test = 0; test < 5; test++) {
+                chain.setInputData(Map.of("x", SScalar.of(test), "y", SScalar.of(10)));
+                chain.execute();
+                final Map<String, Data> results = chain.getOutputDataClone();
+                check(((SScalar) results.get("s")).toDouble() == test + 10, "Invalid result " + results);
+                final Map<String, Integer> orders = executionOrders(chain, builder, names);
+                System.out.printf("Execution orders #%d: %s%n", test, orders);
+                check(orders.get("U") == -1, "Unnecessary block U was executed: " + orders);
+                check(orders.get("x") < orders.get("S") && orders.get("y") < orders.get("S")
+                        && orders.get("S") < orders.get("s"), "Block executed before its sources: " + orders);
+                if (firstOrders == null) {
+                    firstOrders = orders;
+                } else {
+                    check(orders.equals(firstOrders), "Cached plan changed the order: " + orders
+                            + " instead of " + firstOrders);
+                }
+            }
+
+            // Adding the new output "u", connected to U: the plan must be recompiled
+            final String outputU = chain.getBlock(builder.blockId("U")).getActualOutputPort("output").getId();
+            final ChainBlock blockUOutput = ChainBlock.newInstance(chain, "u-block", SimpleChainBuilder.OUTPUT_SCALAR);
+            blockUOutput.addInputPort(ChainInputPort.of(
+                    blockUOutput, "u-input", "input", ChainPortType.INPUT_PORT, DataType.SCALAR));
+            blockUOutput.addOutputPort(ChainOutputPort.of(
+                    blockUOutput, "u-output", "output", ChainPortType.OUTPUT_PORT, DataType.SCALAR));
+            blockUOutput.setSystemName("u");
+            blockUOutput.setStandardOutput(true);
+            chain.addBlock(blockUOutput);
+            chain.addLink(ChainLink.of(outputU, "u-input"));
+            chain.setAllDefaultOutputNames();
+            chain.reinitializeAll();
+            chain.setInputData(Map.of("x", SScalar.of(3), "y", SScalar.of(10)));
+            chain.execute();
+            final Map<String, Data> results = chain.getOutputDataClone();
+            check(((SScalar) results.get("s")).toDouble() == 13, "Invalid result " + results);
+            check(results.containsKey("u") && ((SScalar) results.get("u")).toDouble() == -7,
+                    "New output was not calculated (old plan was used?): " + results);
+            final Map<String, Integer> orders = executionOrders(chain, builder, names);
+            check(orders.get("U") != -1, "Block U was not executed after changing the chain: " + orders);
+            System.out.printf("Execution orders after changing the chain: %s, results %s%n", orders, results);
+        }
+        System.out.println("O'k");
+    }
+}
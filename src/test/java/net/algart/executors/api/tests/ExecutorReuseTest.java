@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.api.tests;
+
+import net.algart.executors.api.ExecutionBlock;
+import net.algart.executors.api.chains.Chain;
+import net.algart.executors.api.chains.core.UseChain;
+import net.algart.executors.api.data.SScalar;
+import net.algart.executors.api.extensions.InstalledExtensions;
+import net.algart.executors.api.system.ExecutorFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Checks that a clean copy of a chain reuses the executors of sub-chains, released by the previous copy,
+ * with restored default parameters, and creates new executors for non-reusable blocks.
+ */
+public class ExecutorReuseTest {
+    private static final String SESSION_ID = "~~ExecutorReuseTest";
+    private static final String SCALAR_SUM_PATH = "src/test/resources/multichains/simple_scalar/scalar_sum.chain";
+    private static final String SCALAR_SUM_ID = "49d62877-227c-48e5-9107-33f996356146";
+    // - the sub-chain calculates a * x + b * y, where a and b are its parameters (0.1 by default)
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty(InstalledExtensions.EXTENSIONS_ROOT_PROPERTY, "build");
+        ExecutionBlock.initializeExecutionSystem();
+        final UseChain useChain = UseChain.getInstance(SESSION_ID);
+        useChain.usePath(Path.of(SCALAR_SUM_PATH));
+        final ExecutorFactory executorFactory = useChain.executorFactory();
+        final SimpleChainBuilder builder = new SimpleChainBuilder("ExecutorReuseTest")
+                .inputScalar("x")
+                .inputScalar("y")
+                .block("SUB", SCALAR_SUM_ID)
+                .link("x.output", "SUB.x")
+                .link("y.output", "SUB.y")
+                .outputScalar("r", "SUB.output");
+        ExecutionBlock previousSubChain = null;
+        ExecutionBlock previousInput = null;
+        try (Chain original = builder.newChain(executorFactory)) {
+            for (int test = 0; test < 4; test++) {
+                final ExecutionBlock subChain;
+                final ExecutionBlock input;
+                try (Chain copy = original.cleanCopy()) {
+                    copy.reinitializeAll();
+                    subChain = copy.getBlock(builder.blockId("SUB")).getExecutor();
+                    input = copy.getBlock(builder.blockId("x")).getExecutor();
+                    if (test == 0) {
+                        subChain.parameters().put("a", 10.0);
+                        // - must not affect the following copies, which will reuse this executor
+                    }
+                    copy.setInputData(Map.of("x", SScalar.of(100), "y", SScalar.of(20)));
+                    copy.execute();
+                    final double result = ((SScalar) copy.getOutputDataClone().get("r")).toDouble();
+                    final double expected = test == 0 ? 1002.0 : 12.0;
+                    System.out.printf("Copy #%d: result %s, sub-chain executor @%x%n",
+                            test, result, System.identityHashCode(subChain));
+                    check(Math.abs(result - expected) < 1e-9, "Invalid result " + result + " instead of "
+                            + expected + " in copy #" + test);
+                }
+                check(input.isClosed(), "Non-reusable executor must be closed with the copy");
+                check(!subChain.isClosed(), "Reusable executor must be stored instead of closing");
+                if (previousSubChain != null) {
+                    check(subChain == previousSubChain, "Sub-chain executor was not reused in copy #" + test);
+                    check(input != previousInput, "Non-reusable executor was reused in copy #" + test);
+                }
+                previousSubChain = subChain;
+                previousInput = input;
+            }
+        }
+        check(previousSubChain != null && previousSubChain.isClosed(),
+                "Stored executors must be closed together with the original chain");
+        System.out.println("O'k");
+    }
+}
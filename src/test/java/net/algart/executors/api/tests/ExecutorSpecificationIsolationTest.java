@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.algart.executors.api.tests;
+
+import net.algart.executors.api.ExecutionBlock;
+import net.algart.executors.api.system.*;
+
+import java.util.Objects;
+
+/**
+ * Checks that executor specifications, returned by {@link ExecutorLoaderSet#getSpecification} and
+ * by factories of different sessions, are independent objects, so that modifying them
+ * (like in {@link SmartSearchSettings#search()}) cannot be visible in other sessions.
+ */
+public class ExecutorSpecificationIsolationTest {
+    private static final String LINEAR_COMBINATION_OF_TWO_SCALARS = "6b37314e-fdbd-416d-8574-4f48853d60b2";
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    public static void main(String[] args) {
+        ExecutionBlock.initializeExecutionSystem();
+        final ExecutorLoaderSet global = ExecutionBlock.globalLoaders();
+        final ExecutorFactory factory1 = global.newFactory("~~Session1", ExecutorSpecificationSet.newInstance());
+        final ExecutorFactory factory2 = global.newFactory("~~Session2", ExecutorSpecificationSet.newInstance());
+        final ExecutorSpecification s1 = factory1.getSpecification(LINEAR_COMBINATION_OF_TWO_SCALARS);
+        final ExecutorSpecification s2 = factory2.getSpecification(LINEAR_COMBINATION_OF_TWO_SCALARS);
+        check(s1 != null && s2 != null, "Executor " + LINEAR_COMBINATION_OF_TWO_SCALARS + " not found");
+        check(s1 != s2, "Different sessions must not share the same specification object");
+        check(factory1.getSpecification(LINEAR_COMBINATION_OF_TWO_SCALARS) == s1,
+                "The factory should cache the specification");
+        final String controlName = s1.getControls().keySet().iterator().next();
+        s1.updateControlSettingsId(controlName, "~~leaked-settings-id");
+        check(s2.getControls().get(controlName).getSettingsId() == null,
+                "Settings ID of session 1 leaked into session 2");
+        check(global.getSpecification(null, LINEAR_COMBINATION_OF_TWO_SCALARS, true)
+                        .getControls().get(controlName).getSettingsId() == null,
+                "Settings ID of session 1 leaked into the loader cache");
+
+        final SmartSearchSettings smartSearch = SmartSearchSettings.newInstance(global, "~~Session3");
+        smartSearch.search();
+        for (String settingsId : smartSearch.allSettings().keySet()) {
+            final String serialized = global.serializedSpecification(null, settingsId, true);
+            if (serialized == null) {
+                continue;
+                // - registered in the session, not in the global one
+            }
+            final ExecutorSpecification cached = global.getSpecification(null, settingsId, true);
+            check(Objects.equals(cached.toJson().toString(), ExecutorSpecification.of(serialized).toJson().toString()),
+                    "Smart search modified the cached specification " + settingsId);
+        }
+        System.out.printf("%d settings checked%n", smartSearch.allSettings().size());
+        System.out.println("O'k");
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.api.tests;
+
+import net.algart.executors.api.ExecutionBlock;
+import net.algart.executors.api.chains.Chain;
+import net.algart.executors.api.data.Data;
+import net.algart.executors.api.data.SScalar;
+import net.algart.executors.api.extensions.InstalledExtensions;
+import net.algart.executors.api.system.ExecutorFactory;
+import net.algart.executors.api.system.ExecutorSpecificationSet;
+
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Checks that {@link Chain#setFreeDataEarly(boolean)} does not change the results of the chain
+ * in single-thread and multithreading modes. The chain contains an output with several consumers
+ * (including a read-only executor and a standard output block), two links from the same output port
+ * to one block, outputs, which are exchanged with their last consumer, and an output, one of whose
+ * consumers is a conditional input that is skipped in some executions.
+ */
+public class FreeDataEarlyTest {
+    private static final String SCALAR_LENGTH = "9687b655-04be-460c-bc45-fdafc6165ee9";
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    static SimpleChainBuilder newChainBuilder() {
+        return new SimpleChainBuilder("FreeDataEarlyTest")
+                .inputScalar("x")
+                .inputScalar("y")
+                .inputScalar("cond")
+                .block("S", SimpleChainBuilder.LINEAR_COMBINATION_OF_TWO_SCALARS, "a", 1.0, "b", 1.0)
+                // S = x + y: fan-out to L (twice), R, LEN (read-only) and the standard output "s"
+                .link("x.output", "S.x")
+                .link("y.output", "S.y")
+                .block("L", SimpleChainBuilder.LINEAR_COMBINATION_OF_TWO_SCALARS, "a", 2.0, "b", 0.0)
+                .link("S.output", "L.x")
+                .link("S.output", "L.y")
+                .block("R", SimpleChainBuilder.LINEAR_COMBINATION_OF_TWO_SCALARS, "a", -1.0, "b", 1.0)
+                .link("S.output", "R.x")
+                .link("y.output", "R.y")
+                .block("LEN", SCALAR_LENGTH)
+                .link("S.output", "LEN.input")
+                .block("D", SimpleChainBuilder.LINEAR_COMBINATION_OF_TWO_SCALARS, "a", 1.0, "b", 1.0)
+                // D = L + R = x + 2 * y: L and R have the only consumer and are exchanged with it
+                .link("L.output", "D.x")
+                .link("R.output", "D.y")
+                .block("Q", SimpleChainBuilder.LINEAR_COMBINATION_OF_TWO_SCALARS, "a", 1.0, "b", 1000.0)
+                .link("D.output", "Q.x")
+                .link("LEN.output", "Q.y")
+                .block("T", SimpleChainBuilder.LINEAR_COMBINATION_OF_TWO_SCALARS, "a", 1.0, "b", -1.0)
+                // T = x - y: consumed by U and by the conditional input IF.true, which is skipped when !cond
+                .link("x.output", "T.x")
+                .link("y.output", "T.y")
+                .block("U", SimpleChainBuilder.LINEAR_COMBINATION_OF_TWO_SCALARS, "a", 1.0, "b", 0.0)
+                .link("T.output", "U.x")
+                .link("y.output", "U.y")
+                .block("IF", SimpleChainBuilder.IF_SCALAR_THEN_SCALAR)
+                .link("cond.output", "IF.if")
+                .link("T.output", "IF.true")
+                .link("D.output", "IF.false")
+                .outputScalar("s", "S.output")
+                .outputScalar("d", "D.output")
+                .outputScalar("q", "Q.output")
+                .outputScalar("len", "LEN.output")
+                .outputScalar("u", "U.output")
+                .outputScalar("r", "IF.output");
+    }
+
+    private static Map<String, Data> execute(Chain chain, Map<String, Data> inputs) {
+        chain.setInputData(inputs);
+        chain.execute();
+        return chain.getOutputDataClone();
+    }
+
+    private static String results(Map<String, Data> results) {
+        final StringBuilder sb = new StringBuilder();
+        results.forEach((name, data) -> sb.append(name).append("=").append(((SScalar) data).getValue()).append(" "));
+        return sb.toString().trim();
+    }
+
+    private static boolean isInitializedInput(Chain chain, SimpleChainBuilder builder, String blockAndPort) {
+        final String[] names = blockAndPort.split("\\.");
+        return chain.getBlock(builder.blockId(names[0])).getActualInputPort(names[1]).getData().isInitialized();
+    }
+
+    private static boolean isInitializedOutput(Chain chain, SimpleChainBuilder builder, String blockName) {
+        return chain.getBlock(builder.blockId(blockName)).getActualOutputPort("output").getData().isInitialized();
+    }
+
+    public static void main(String[] args) {
+        System.setProperty(InstalledExtensions.EXTENSIONS_ROOT_PROPERTY, "build");
+        ExecutionBlock.initializeExecutionSystem();
+        ExecutorSpecificationSet.allBuiltIn();
+        final int numberOfTests = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        final ExecutorFactory executorFactory = ExecutorFactory.newFactory("~~FreeDataEarlyTest");
+        final SimpleChainBuilder builder = newChainBuilder();
+        final Chain[] chains = new Chain[4];
+        // - 0: single-thread, 1: multithreading, 2: single-thread + free early, 3: multithreading + free early
+        for (int k = 0; k < chains.length; k++) {
+            chains[k] = builder.newChain(executorFactory);
+            chains[k].setMultithreading((k & 1) != 0);
+            chains[k].setFreeDataEarly(k >= 2);
+        }
+        try {
+            final Random rnd = new Random(157);
+            for (int test = 0; test < numberOfTests; test++) {
+                final double x = rnd.nextInt(100000) - 50000;
+                final double y = rnd.nextInt(100000) - 50000;
+                final boolean condition = rnd.nextBoolean();
+                final Map<String, Data> inputs = Map.of(
+                        "x", SScalar.of(x), "y", SScalar.of(y), "cond", SScalar.of(condition));
+                final String expected = results(execute(chains[0], inputs));
+                check(((SScalar) chains[0].getOutputDataClone().get("d")).toDouble() == x + 2 * y,
+                        "Invalid result " + expected + " for " + x + ", " + y);
+                for (int k = 1; k < chains.length; k++) {
+                    final String result = results(execute(chains[k], inputs));
+                    check(result.equals(expected), "Different results in mode " + k + ": " + result
+                            + " instead of " + expected + ", test #" + test);
+                }
+                for (int k = 0; k < chains.length; k++) {
+                    final boolean freed = k >= 2;
+                    check(isInitializedInput(chains[k], builder, "D.x") != freed
+                                    && isInitializedInput(chains[k], builder, "D.y") != freed,
+                            "Inputs of executed blocks must " + (freed ? "" : "not ") + "be freed in mode " + k);
+                    check(isInitializedInput(chains[k], builder, "LEN.input")
+                                    && isInitializedOutput(chains[k], builder, "S"),
+                            "Data, shared with read-only executor, must not be freed in mode " + k);
+                    check(isInitializedOutput(chains[k], builder, "s")
+                                    && isInitializedOutput(chains[k], builder, "d"),
+                            "Standard outputs must not be freed in mode " + k);
+                    if (freed) {
+                        check(!isInitializedOutput(chains[k], builder, "T"),
+                                "Output, consumed by " + (condition ? "executed" : "skipped")
+                                        + " conditional input, must be freed in mode " + k);
+                    }
+                }
+                for (Chain chain : chains) {
+                    chain.freeData();
+                }
+            }
+            System.out.printf("%d tests passed%n", numberOfTests);
+        } finally {
+            for (Chain chain : chains) {
+                chain.close();
+            }
+        }
+        System.out.println("O'k");
+    }
+}
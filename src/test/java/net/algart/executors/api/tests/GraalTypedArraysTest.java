@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.api.tests;
+
+import net.algart.executors.api.data.DataType;
+import net.algart.executors.api.data.Port;
+import net.algart.executors.api.data.SNumbers;
+import net.algart.executors.api.graalvm.GraalAPI;
+import net.algart.graalvm.GraalPerformer;
+import net.algart.graalvm.GraalPerformerContainer;
+import org.graalvm.polyglot.Value;
+
+/**
+ * Checks storing JavaScript typed arrays into {@link SNumbers} by {@link GraalAPI#storeNumbers(Port, Value)}
+ * and loading input numbers with {@link GraalAPI#setReadOnlyInputArrays(boolean)} flag.
+ */
+public class GraalTypedArraysTest {
+    private static final String BYTES = "[1, 2, 0x7F, 0x80, 0xFE, 0xFF, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12]";
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    private static SNumbers store(GraalPerformer performer, String script, Class<?> requiredElementType) {
+        final Value value = performer.performJS(script);
+        final Port port = Port.newOutput("output", DataType.NUMBERS);
+        GraalAPI.getInstance().storeNumbers(port, value);
+        final SNumbers result = port.getData(SNumbers.class);
+        check(result.elementType() == requiredElementType,
+                script + ": " + requiredElementType + " expected, but " + result.elementType() + " stored");
+        check(result.getArrayLength() == value.getArraySize(), script + ": invalid length " + result);
+        for (int k = 0, n = result.getArrayLength(); k < n; k++) {
+            final Value e = value.getArrayElement(k);
+            final double expected = e.fitsInDouble() ? e.asDouble() : e.asLong();
+            check(result.getValue(k) == expected,
+                    script + ": element #" + k + " = " + result.getValue(k) + " instead of " + expected);
+        }
+        System.out.println(script + ": O'k, " + result);
+        return result;
+    }
+
+    private static void testStoring() {
+        final GraalPerformerContainer.Local container = GraalPerformerContainer.getLocalPure();
+        try {
+            final GraalPerformer performer = container.performer();
+            performer.performJS("var bytes = new Uint8Array(" + BYTES + ")");
+            store(performer, "new Uint8Array(" + BYTES + ")", int.class);
+            store(performer, "new Uint8ClampedArray([0, 100, 300, -5])", int.class);
+            store(performer, "new Uint16Array(bytes.buffer)", int.class);
+            // - the elements depend on the native byte order, like in the typed array itself
+            store(performer, "new Uint16Array(bytes.buffer, 2, 3)", int.class);
+            // - non-zero byteOffset
+            store(performer, "new Int32Array(bytes.buffer)", int.class);
+            store(performer, "new Int32Array([-1, 2147483647, -2147483648])", int.class);
+            store(performer, "new Float32Array([1.5, -2, 0.1, 1e30])", double.class);
+            store(performer, "new Float64Array([1.5, -2, 0.1, 1e300])", double.class);
+            store(performer, "new BigInt64Array([1n, -2n, 9007199254740993n])", long.class);
+            store(performer, "var big = new Float64Array(20001); for (var i = 0; i < big.length; i++) big[i] = i * 0.5;"
+                    + " new Float64Array(big.buffer, 8, 20000)", double.class);
+            // - several portions of reading and non-zero byteOffset
+            store(performer, "var u = new Uint8Array(100003); for (var i = 0; i < u.length; i++) u[i] = i * 7;"
+                    + " new Uint8Array(u.buffer, 3)", int.class);
+            store(performer, "new Float64Array(0)", float.class);
+            // - the same as for an empty JavaScript array
+            store(performer, "[]", float.class);
+
+            final SNumbers blocks = store(performer,
+                    "var a = new Float64Array([1, 2, 3, 4, 5, 6]); a.blockLength = 3; a", double.class);
+            check(blocks.getBlockLength() == 3, "Invalid block length " + blocks.getBlockLength());
+            check(blocks.getValue(1, 2) == 6.0, "Invalid element (1, 2) " + blocks.getValue(1, 2));
+        } finally {
+            container.freeResources();
+        }
+    }
+
+    private static void testReadOnlyInputArrays() {
+        final SNumbers source = SNumbers.ofArray(new double[]{1, 2, 3, 4}, 2);
+        final GraalAPI api = GraalAPI.getInstance()
+                .setConvertInputNumbersToArray(true)
+                .setConvertInputArraysToDouble(true);
+
+        final SNumbers own = new SNumbers().setTo(source);
+        final Port ownPort = Port.newInput("own", own);
+        check(api.loadNumbers(ownPort) != own.arrayReference(), "Input array must be copied by default");
+        api.setReadOnlyInputArrays(true);
+        check(api.loadNumbers(ownPort) == own.arrayReference(), "Input double[] array must be passed by reference");
+
+        final SNumbers shared = new SNumbers();
+        shared.setToShared(source);
+        final double[] loaded = (double[]) api.loadNumbers(Port.newInput("shared", shared));
+        loaded[0] = 100.0;
+        check(source.getValue(0) == 1.0, "Shared source array was passed to the script");
+        check(shared.getValue(0) == 100.0, "Loaded array is not the internal array of the input");
+
+        final SNumbers floats = SNumbers.ofArray(new float[]{1, 2, 3, 4}, 2);
+        final double[] converted = (double[]) api.loadNumbers(Port.newInput("floats", floats));
+        check(converted.length == 4 && converted[3] == 4.0, "Invalid conversion of float[] input");
+        System.out.println("Read-only input arrays: O'k");
+    }
+
+    public static void main(String[] args) {
+        testStoring();
+        testReadOnlyInputArrays();
+        System.out.println("O'k");
+    }
+}
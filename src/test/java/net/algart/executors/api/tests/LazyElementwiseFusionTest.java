@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.algart.executors.api.tests;
+
+import net.algart.executors.api.data.SMat;
+import net.algart.executors.modules.core.common.matrices.MultiMatrixFilter;
+import net.algart.executors.modules.core.common.matrices.SeveralMultiMatricesOperation;
+import net.algart.executors.modules.core.demo.ExampleMultiMatrixGradients;
+import net.algart.executors.modules.core.matrices.arithmetic.MatrixCutToRange;
+import net.algart.executors.modules.core.matrices.arithmetic.MatrixInvert;
+import net.algart.executors.modules.core.matrices.arithmetic.MatrixLinearCombination;
+import net.algart.math.functions.LinearFunc;
+import net.algart.multimatrix.MultiMatrix;
+
+import java.util.List;
+
+/**
+ * Checks that the chain of elementwise operations "invert &rarr; linear combination &rarr; cut to range",
+ * passed via {@link SMat} in {@link MultiMatrixFilter#LAZY_ELEMENTWISE_OPERATIONS} mode,
+ * is fused into one lazy result, identical to the result of usual (non-lazy) processing,
+ * and that already materialized results of elementwise executors are not stored as lazy.
+ */
+public class LazyElementwiseFusionTest {
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    // Elementwise executor, which can return both a lazy and an already materialized result
+    private static class HalfOperation extends SeveralMultiMatricesOperation {
+        private boolean materialize = false;
+
+        HalfOperation() {
+            super("input");
+        }
+
+        @Override
+        public MultiMatrix process(List<MultiMatrix> sources) {
+            final MultiMatrix lazy = sources.get(0).asFunc(LinearFunc.getInstance(0.0, 0.5));
+            return materialize ? lazy.clone() : elementwiseResult(lazy);
+        }
+
+        @Override
+        protected boolean elementwise() {
+            return true;
+        }
+    }
+
+    private static MatrixLinearCombination newLinearCombination() {
+        return new MatrixLinearCombination().setA(0, 0.5).setA(1, 0.25).setB(0.1);
+    }
+
+    private static MatrixCutToRange newCutToRange() {
+        return new MatrixCutToRange().setMin(0.2).setMax(0.7);
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("net.algart.executors.modules.core.matrices.lazyElementwise", "true");
+        check(MultiMatrixFilter.LAZY_ELEMENTWISE_OPERATIONS, "Lazy mode must be enabled by the system property");
+        //noinspection resource
+        final ExampleMultiMatrixGradients gradients = new ExampleMultiMatrixGradients();
+        for (Class<?> elementType : new Class<?>[]{byte.class, short.class, float.class}) {
+            gradients.setElementType(elementType);
+            for (int numberOfChannels : new int[]{1, 3, 4}) {
+                final MultiMatrix source = gradients.create(300, 200, numberOfChannels);
+                final String message = numberOfChannels + " channels of " + elementType;
+
+                // Usual processing: direct calls of process() always return materialized results
+                final MultiMatrix inverted = new MatrixInvert().process(source);
+                final MultiMatrix combined = newLinearCombination().process(inverted, source);
+                final MultiMatrix expected = newCutToRange().process(combined);
+
+                // Lazy processing via SMat ports
+                try (MatrixInvert invert = new MatrixInvert();
+                     MatrixLinearCombination combination = newLinearCombination();
+                     MatrixCutToRange cut = newCutToRange()) {
+                    invert.putMat(SMat.of(source));
+                    invert.execute();
+                    check(invert.getMat().isLazy(), "Inverted matrix must be lazy, " + message);
+                    combination.putMat("input_1", invert.getMat());
+                    combination.putMat("input_2", SMat.of(source));
+                    combination.execute();
+                    check(combination.getMat().isLazy(), "Linear combination must be lazy, " + message);
+                    cut.putMat(combination.getMat());
+                    cut.execute();
+                    final SMat result = cut.getMat();
+                    check(result.isLazy(), "Cut result must be lazy, " + message);
+                    final MultiMatrix actual = result.toMultiMatrix();
+                    check(actual.numberOfChannels() == expected.numberOfChannels()
+                                    && actual.elementType() == expected.elementType()
+                                    && java.util.Arrays.equals(actual.dimensions(), expected.dimensions()),
+                            "Lazy result " + actual + " differs from " + expected + ", " + message);
+                    for (int k = 0; k < expected.numberOfChannels(); k++) {
+                        check(actual.channel(k).equals(expected.channel(k)),
+                                "Channel #" + k + " of the lazy result differs from the usual result, " + message);
+                    }
+                }
+
+                try (HalfOperation half = new HalfOperation()) {
+                    half.putMat("input", SMat.of(source));
+                    half.execute();
+                    check(half.getMat().isLazy(), "Result of elementwiseResult must be lazy, " + message);
+                    half.materialize = true;
+                    half.execute();
+                    check(!half.getMat().isLazy(), "Materialized result must not be lazy, " + message);
+                    check(half.getMat().toMultiMatrix().channel(0).equals(
+                                    source.asFunc(LinearFunc.getInstance(0.0, 0.5)).channel(0)),
+                            "Invalid materialized result, " + message);
+                }
+            }
+            System.out.printf("Element type %s: O'k%n", elementType);
+        }
+        System.out.println("O'k");
+    }
+}
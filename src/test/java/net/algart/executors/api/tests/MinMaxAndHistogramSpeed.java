@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.api.tests;
+
+import net.algart.additions.arrays.ArrayMinMaxFinder;
+import net.algart.additions.arrays.UniformHistogram256Finder;
+import net.algart.arrays.Arrays;
+import net.algart.arrays.BitArray;
+import net.algart.arrays.PArray;
+import net.algart.arrays.SimpleMemoryModel;
+import net.algart.arrays.UpdatableBitArray;
+
+import java.util.Random;
+
+public class MinMaxAndHistogramSpeed {
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    private static PArray newArray(Class<?> elementType, int length, Random rnd) {
+        if (elementType == byte.class) {
+            final byte[] a = new byte[length];
+            rnd.nextBytes(a);
+            return SimpleMemoryModel.asUpdatableByteArray(a);
+        } else if (elementType == short.class) {
+            final short[] a = new short[length];
+            for (int k = 0; k < length; k++) {
+                a[k] = (short) rnd.nextInt();
+            }
+            return SimpleMemoryModel.asUpdatableShortArray(a);
+        } else if (elementType == int.class) {
+            final int[] a = new int[length];
+            for (int k = 0; k < length; k++) {
+                a[k] = rnd.nextInt();
+            }
+            return SimpleMemoryModel.asUpdatableIntArray(a);
+        } else if (elementType == float.class) {
+            final float[] a = new float[length];
+            for (int k = 0; k < length; k++) {
+                a[k] = rnd.nextFloat();
+            }
+            return SimpleMemoryModel.asUpdatableFloatArray(a);
+        } else {
+            final double[] a = new double[length];
+            for (int k = 0; k < length; k++) {
+                a[k] = rnd.nextDouble();
+            }
+            return SimpleMemoryModel.asUpdatableDoubleArray(a);
+        }
+    }
+
+    private static void test(PArray array, BitArray mask, boolean multithreading) {
+        final ArrayMinMaxFinder.MinMax finder = ArrayMinMaxFinder.newInstance(multithreading).getMinMaxFinder();
+        final UniformHistogram256Finder histogramFinder = UniformHistogram256Finder.newInstance(multithreading);
+        final Arrays.MinMaxInfo info = new Arrays.MinMaxInfo();
+
+        long t1 = System.nanoTime();
+        Arrays.rangeOf(array, info);
+        long t2 = System.nanoTime();
+        finder.find(array);
+        long t3 = System.nanoTime();
+        check(finder.indexOfMin() == info.indexOfMin() && finder.indexOfMax() == info.indexOfMax(),
+                "Different min/max: " + finder.indexOfMin() + "/" + finder.indexOfMax() + " instead of " + info);
+        histogramFinder.find(array, null);
+        long t4 = System.nanoTime();
+        check(histogramFinder.cardinality() == array.length(), "Invalid histogram cardinality");
+        histogramFinder.find(array, mask);
+        long t5 = System.nanoTime();
+        check(histogramFinder.cardinality() == Arrays.cardinality(mask), "Invalid masked histogram cardinality");
+        System.out.printf("%s, %s: Arrays.rangeOf %.3f ms, ArrayMinMaxFinder %.3f ms, "
+                        + "histogram %.3f ms, masked histogram %.3f ms%n",
+                array.elementType(), multithreading ? "multithreading" : "single thread",
+                (t2 - t1) * 1e-6, (t3 - t2) * 1e-6, (t4 - t3) * 1e-6, (t5 - t4) * 1e-6);
+    }
+
+    public static void main(String[] args) {
+        final int length = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        final Random rnd = new Random(157);
+        final UpdatableBitArray mask = Arrays.SMM.newUnresizableBitArray(length);
+        for (int k = 0; k < length; k++) {
+            mask.setBit(k, rnd.nextInt(3) != 0);
+        }
+        for (Class<?> elementType : new Class<?>[]{byte.class, short.class, int.class, float.class, double.class}) {
+            final PArray array = newArray(elementType, length, rnd);
+            for (int iteration = 0; iteration < 5; iteration++) {
+                System.out.printf("%nTest %d:%n", iteration);
+                test(array, mask, false);
+                test(array, mask, true);
+            }
+        }
+    }
+}
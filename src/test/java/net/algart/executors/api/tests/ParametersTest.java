@@ -109,5 +109,41 @@ public class ParametersTest {
         for (String name : p.keySet()) {
             show(p, name);
         }
+
+        System.out.println();
+        System.out.println();
+        System.out.println("Testing cached parsing and snapshots:");
+        p = new Parameters();
+        p.setString("x", "17");
+        show(p, "x");
+        show(p, "x");
+        // - the second call uses cached parsed values
+        p.setString("x", "18.5");
+        if (p.getDouble("x") != 18.5 || p.getInteger("x", -1) != -1) {
+            throw new AssertionError("Obsolete cached value");
+        }
+        final Parameters snapshot = p.snapshot();
+        System.out.println(snapshot);
+        if (!snapshot.isImmutable() || snapshot.snapshot() != snapshot || !snapshot.equals(p)) {
+            throw new AssertionError();
+        }
+        try {
+            snapshot.setString("x", "1");
+            throw new AssertionError("Snapshot is modifiable");
+        } catch (UnsupportedOperationException e) {
+            System.out.printf("Snapshot cannot be modified: %s%n", e);
+        }
+        p.setString("x", "19");
+        if (snapshot.getDouble("x") != 18.5 || p.getDouble("x") != 19.0) {
+            throw new AssertionError("Snapshot depends on the source parameters");
+        }
+        other = new Parameters(snapshot);
+        if (other.isImmutable() || other.getDouble("x") != 18.5) {
+            throw new AssertionError();
+        }
+        other.setString("x", "20");
+        if (other.getDouble("x") != 20.0 || snapshot.getDouble("x") != 18.5) {
+            throw new AssertionError();
+        }
     }
 }
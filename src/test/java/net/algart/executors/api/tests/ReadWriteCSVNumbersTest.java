@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.api.tests;
+
+import net.algart.executors.api.data.SNumbers;
+import net.algart.executors.modules.core.numbers.io.ReadCSVNumbers;
+import net.algart.executors.modules.core.numbers.io.WriteCSVNumbers;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class ReadWriteCSVNumbersTest {
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        final int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        final int blockLength = 3;
+        final Random rnd = new Random(157);
+        final float[] values = new float[n * blockLength];
+        for (int k = 0; k < values.length; k++) {
+            values[k] = rnd.nextInt(2000) * 0.25f - 100.0f;
+        }
+        final SNumbers numbers = SNumbers.ofArray(values, blockLength);
+        final Path file = Files.createTempFile("numbers", ".csv");
+        try {
+            long t1 = System.nanoTime();
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                WriteCSVNumbers.getInstance().writeCSV(writer, numbers, new String[]{"x", "y"}, true);
+            }
+            long t2 = System.nanoTime();
+            final List<String> headers = new ArrayList<>();
+            final SNumbers read = ReadCSVNumbers.getInstance().readCSV(file, headers);
+            long t3 = System.nanoTime();
+            System.out.printf("Writing %d numbers: %.3f ms, reading: %.3f ms (%s)%n",
+                    values.length, (t2 - t1) * 1e-6, (t3 - t2) * 1e-6, read);
+            check(read.elementType() == float.class, "Invalid element type " + read.elementType());
+            check(read.getBlockLength() == blockLength, "Invalid block length " + read.getBlockLength());
+            check(headers.equals(List.of("x", "y", "float_3")), "Invalid headers " + headers);
+            check(java.util.Arrays.equals(read.toFloatArray(), values), "Invalid numbers");
+
+            Files.writeString(file, "1; 2,3\r\n4\t5\r6,7,\n");
+            final SNumbers simple = ReadCSVNumbers.getInstance().setElementType(int.class).readCSV(file, headers);
+            check(simple.getBlockLength() == 3 && headers.isEmpty(), "Invalid CSV without header: " + simple);
+            check(java.util.Arrays.equals(simple.toIntArray(), new int[]{1, 2, 3, 4, 5, 0, 6, 7, 0}),
+                    "Invalid numbers in CSV without header: " + java.util.Arrays.toString(simple.toIntArray()));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        System.out.println("O'k");
+    }
+}
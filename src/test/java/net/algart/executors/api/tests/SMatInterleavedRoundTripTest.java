@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.algart.executors.api.tests;
+
+import net.algart.arrays.*;
+import net.algart.executors.api.data.SMat;
+import net.algart.multimatrix.MultiMatrix;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts an interleaved BGR[A] buffer into {@link SMat}, then into a multi-matrix and back,
+ * and checks the order of channels and that the cached conversions are reused
+ * instead of interleaving/separating the channels again.
+ */
+public class SMatInterleavedRoundTripTest {
+    private static final int[] STANDARD_TO_BGRA = {2, 1, 0, 3};
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    private static int value(int bufferChannel, long x, long y) {
+        return (int) (bufferChannel * 60 + x * 7 + y * 3) & 0xFF;
+    }
+
+    private static Matrix<UpdatablePArray> newInterleavedBGR(int numberOfChannels, long dimX, long dimY) {
+        final Matrix<UpdatablePArray> result = BufferMemoryModel.getInstance().newMatrix(
+                UpdatablePArray.class, byte.class, numberOfChannels, dimX, dimY);
+        final UpdatablePArray array = result.array();
+        for (long y = 0; y < dimY; y++) {
+            for (long x = 0; x < dimX; x++) {
+                for (int c = 0; c < numberOfChannels; c++) {
+                    array.setInt(c + numberOfChannels * (x + dimX * y), value(c, x, y));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void checkChannels(MultiMatrix multiMatrix, boolean packedOrder, String message) {
+        final int n = multiMatrix.numberOfChannels();
+        for (int k = 0; k < n; k++) {
+            final int bufferChannel = packedOrder ? k : STANDARD_TO_BGRA[k];
+            final Matrix<? extends PArray> channel = multiMatrix.channel(k);
+            for (long y = 0; y < channel.dim(1); y++) {
+                for (long x = 0; x < channel.dim(0); x++) {
+                    final int v = channel.array().getInt(channel.index(x, y));
+                    check(v == value(bufferChannel, x, y), "Invalid channel #" + k + " at (" + x + ", " + y
+                            + "): " + v + " instead of " + value(bufferChannel, x, y) + ", " + message);
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        final long dimX = 37;
+        final long dimY = 21;
+        for (int numberOfChannels : new int[]{3, 4}) {
+            final String message = numberOfChannels + " channels";
+            final Matrix<UpdatablePArray> interleaved = newInterleavedBGR(numberOfChannels, dimX, dimY);
+            final ByteBuffer sourceBuffer = BufferMemoryModel.getByteBuffer(interleaved.array());
+            final byte[] sourceBytes = new byte[sourceBuffer.remaining()];
+            sourceBuffer.duplicate().get(sourceBytes);
+
+            final SMat mat = SMat.ofInterleavedBGR(interleaved);
+            final ByteBuffer matBuffer = mat.getByteBuffer();
+
+            final MultiMatrix multiMatrix = mat.toMultiMatrix();
+            check(multiMatrix.numberOfChannels() == numberOfChannels
+                            && multiMatrix.dim(0) == dimX && multiMatrix.dim(1) == dimY,
+                    "Invalid multi-matrix " + multiMatrix + ", " + message);
+            checkChannels(multiMatrix, false, message + ", standard order");
+            check(mat.toMultiMatrix() == multiMatrix, "Multi-matrix must be cached, " + message);
+
+            final MultiMatrix packed = mat.toMultiMatrix(SMat.ChannelOrder.ORDER_IN_PACKED_BYTE_BUFFER);
+            checkChannels(packed, true, message + ", packed order");
+            for (int k = 0; k < numberOfChannels; k++) {
+                check(packed.channel(k).array() == multiMatrix.channel(STANDARD_TO_BGRA[k]).array(),
+                        "Packed order must reuse the separated channels, channel #" + k + ", " + message);
+            }
+
+            // Back to SMat: the same multi-matrix with the origin must share the original buffer
+            final SMat back = new SMat().setTo(multiMatrix, mat);
+            check(back.getByteBuffer() == matBuffer,
+                    "Round trip with the origin must not interleave the channels again, " + message);
+            check(back.toMultiMatrix() == multiMatrix,
+                    "Round trip with the origin must share the cached multi-matrix, " + message);
+
+            // Another multi-matrix (even with equal content) must be interleaved in BGR[A] order
+            for (SMat other : new SMat[]{
+                    new SMat().setTo(multiMatrix),
+                    new SMat().setTo(multiMatrix.clone(), mat)}) {
+                final ByteBuffer otherBuffer = other.getByteBuffer();
+                check(otherBuffer != matBuffer, "New buffer expected for " + other + ", " + message);
+                check(java.util.Arrays.equals(other.getByteArray(), sourceBytes),
+                        "Interleaved channels differ from the source BGR[A] buffer, " + message);
+            }
+            System.out.printf("%s: O'k%n", message);
+        }
+        System.out.println("O'k");
+    }
+}
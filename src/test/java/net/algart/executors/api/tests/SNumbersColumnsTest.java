@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.api.tests;
+
+import net.algart.arrays.PNumberArray;
+import net.algart.executors.api.data.SNumbers;
+
+public class SNumbersColumnsTest {
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    public static void main(String[] args) {
+        final SNumbers table = SNumbers.ofColumns(new int[]{1, 2, 3}, new int[]{10, 20, 30}, new int[]{7, 8, 9});
+        System.out.println("Table: " + table.toString(true).replace("\n", "; "));
+        check(table.blockLength() == 3 && table.n() == 3, "invalid table dimensions");
+        check(table.getValue(1, 1) == 20.0 && table.getValue(2, 0) == 3.0, "invalid table content");
+
+        final PNumberArray column = table.columnView(1);
+        check(column.length() == 3 && column.getDouble(2) == 30.0, "invalid column view");
+        check(table.columnView(1).getDouble(0) == 10.0, "invalid cached column view");
+
+        final SNumbers shared = new SNumbers();
+        shared.setToShared(table);
+        check(shared.columnView(2).getDouble(1) == 8.0, "invalid column of shared numbers");
+        shared.setValue(1, 2, 100.0);
+        check(shared.columnView(2).getDouble(1) == 100.0, "column cache was not reset after modification");
+        check(table.columnView(2).getDouble(1) == 8.0, "source column was damaged by modifying shared copy");
+
+        final SNumbers extracted = table.column(0);
+        check(extracted.blockLength() == 1 && extracted.getValue(2) == 3.0, "invalid extracted column");
+        final Object[] columns = table.allColumnsArrays();
+        check(((int[]) columns[1])[2] == 30, "invalid columns arrays");
+        ((int[]) columns[1])[2] = -1;
+        check(table.columnView(1).getDouble(2) == 30.0, "cache was damaged via allColumnsArrays");
+
+        table.setBlockLength(1);
+        check(table.columnView(0).length() == 9, "column cache was not reset after changing block length");
+        System.out.println("O'k");
+    }
+}
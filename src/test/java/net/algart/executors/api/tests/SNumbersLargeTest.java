@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.api.tests;
+
+import net.algart.arrays.Arrays;
+import net.algart.arrays.BufferMemoryModel;
+import net.algart.arrays.PNumberArray;
+import net.algart.arrays.SimpleMemoryModel;
+import net.algart.executors.api.data.SNumbers;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public class SNumbersLargeTest {
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    public static void main(String[] args) {
+        final PNumberArray array = (PNumberArray) SimpleMemoryModel.asUpdatableArray(
+                new double[]{1, 2, 3, 4, 5, 6});
+        final SNumbers large = SNumbers.ofLarge(array, 2);
+        System.out.println("Large: " + large);
+        check(large.isLarge(), "large mode expected");
+        check(large.longN() == 3 && large.n() == 3, "invalid number of blocks");
+        check(large.asNumberArray() == array, "asNumberArray() should return the stored array");
+        check(large.getValue(2L, 1) == 6.0 && large.getValue(1, 0) == 3.0, "invalid values");
+        check(large.equals(SNumbers.ofArray(new double[]{1, 2, 3, 4, 5, 6}, 2)), "equals() failed");
+        check(large.hashCode() == SNumbers.ofArray(new double[]{1, 2, 3, 4, 5, 6}, 2).hashCode(),
+                "hashCode() is not compatible with usual numbers");
+
+        final SNumbers shared = new SNumbers();
+        shared.setToShared(large);
+        shared.setValue(0L, 0, 100.0);
+        check(shared.isLarge() && shared.getValue(0, 0) == 100.0, "shared was not modified");
+        check(large.getValue(0, 0) == 1.0, "large was damaged by modifying shared copy");
+
+        final SNumbers range = large.blockRange(1L, 2L);
+        check(!range.isLarge() && range.n() == 2 && range.getValue(0, 0) == 3.0, "invalid block range");
+
+        final SNumbers zeros = SNumbers.largeZeros(BufferMemoryModel.getInstance(), float.class, 1000, 3);
+        zeros.fillValue(2.5);
+        check(zeros.longArrayLength() == 3000 && zeros.getValue(999L, 2) == 2.5f, "invalid zeros");
+        final ByteBuffer buffer = zeros.toByteBuffer(ByteOrder.nativeOrder());
+        check(buffer.capacity() == 3000 * 4, "invalid byte buffer " + buffer);
+        zeros.setValue(0L, 0, 7.0);
+        check(buffer.order(ByteOrder.nativeOrder()).getFloat(0) == 7.0f,
+                "toByteBuffer() should return a view of BufferMemoryModel array");
+
+        final PNumberArray stored = zeros.asNumberArray();
+        final float[] floats = zeros.toFloatArray();
+        check(floats.length == 3000 && floats[0] == 7.0f, "conversion to Java array failed");
+        final double[] doubles = zeros.toDoubleArray();
+        check(doubles.length == 3000 && doubles[2999] == 2.5, "conversion to double[] failed");
+        final double[] block = zeros.getBlockDoubleValues(0, null);
+        check(block.length == 3 && block[0] == 7.0 && block[1] == 2.5, "invalid block values");
+        final float[] values = (float[]) zeros.getValues(2, 2, null);
+        check(values[0] == 2.5f && values[1] == 2.5f, "invalid values range");
+        check(zeros.min() == 2.5 && zeros.max() == 7.0 && zeros.maxAbsInColumnRange(1, 2, false) == 2.5,
+                "invalid min/max");
+        check(zeros.column(0).n() == 1000, "invalid column");
+        check(zeros.isLarge() && zeros.asNumberArray() == stored,
+                "read-only methods must not change the large storage");
+
+        zeros.setBlockDoubleValues(1, 1.0, 2.0, 3.0);
+        check(zeros.isLarge() && zeros.getValue(1L, 2) == 3.0f, "setBlockDoubleValues() failed");
+        zeros.arrayReference();
+        check(!zeros.isLarge(), "arrayReference() should convert to the usual storage");
+        System.out.println("Sum: " + Arrays.sumOf(zeros.asNumberArray()));
+        System.out.println("O'k");
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.algart.executors.api.tests;
+
+import net.algart.executors.api.data.SNumbers;
+
+public class SNumbersSharingTest {
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    public static void main(String[] args) {
+        final SNumbers source = SNumbers.ofArray(new float[]{1, 2, 3, 4, 5, 6}, 2);
+        final SNumbers a = new SNumbers();
+        final SNumbers b = new SNumbers();
+        final SNumbers c = new SNumbers();
+        a.setToShared(source);
+        b.setToShared(source);
+        c.setToShared(a);
+        System.out.println("Shared: " + source + ", " + a + ", " + b + ", " + c);
+        check(a.getValue(1, 1) == 4.0, "a is not equal to the source");
+
+        a.setValue(0, 0, 100.0);
+        check(a.getValue(0, 0) == 100.0, "a was not modified");
+        check(source.getValue(0, 0) == 1.0, "source was damaged by modifying a");
+        check(b.getValue(0, 0) == 1.0, "b was damaged by modifying a");
+        check(c.getValue(0, 0) == 1.0, "c was damaged by modifying a");
+
+        b.fillValue(-1.0);
+        check(source.getValue(2, 1) == 6.0, "source was damaged by modifying b");
+        check(c.getValue(2, 1) == 6.0, "c was damaged by modifying b");
+
+        final float[] reference = (float[]) c.arrayReference();
+        reference[5] = 1000.0f;
+        check(source.getValue(2, 1) == 6.0, "source was damaged by modifying c");
+
+        final float[] last = (float[]) source.arrayReference();
+        source.setValue(2, 1, 7.0);
+        check(last == source.arrayReference(), "the last owner should not clone the array");
+
+        final SNumbers d = new SNumbers();
+        d.setToShared(source);
+        final SNumbers e = new SNumbers();
+        e.exchange(d);
+        // - e is now the owner of shared array
+        e.setValue(0, 1, 200.0);
+        check(source.getValue(0, 1) == 2.0, "source was damaged by modifying e after exchange");
+        check(!d.isInitialized(), "d should be empty after exchange");
+        source.remove();
+        check(e.getValue(0, 1) == 200.0, "e was damaged by freeing source");
+
+        final SNumbers doubles = SNumbers.ofArray(new double[]{1, 2, 3, 4}, 1);
+        final SNumbers f = new SNumbers();
+        f.setToShared(doubles);
+        check(f.arrayReferenceForReading() == doubles.arrayReferenceForReading(),
+                "arrayReferenceForReading must not clone a shared array");
+        final double[] fArray = f.toDoubleArrayOrReference();
+        check(fArray != doubles.arrayReferenceForReading(),
+                "toDoubleArrayOrReference must not return a shared array");
+        fArray[0] = -1.0;
+        check(doubles.getValue(0) == 1.0, "doubles were damaged by modifying f");
+        final SNumbers ints = SNumbers.ofArray(new int[]{1, 2, 3, 4}, 2);
+        final SNumbers g = new SNumbers();
+        g.setToShared(ints);
+        g.toIntArrayOrReference()[3] = -1;
+        check(ints.getValue(3) == 4.0, "ints were damaged by modifying g");
+        System.out.println("Results: " + a + ", " + b + ", " + c + ", " + e);
+        System.out.println("O'k");
+    }
+}
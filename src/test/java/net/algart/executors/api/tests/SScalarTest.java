@@ -24,8 +24,11 @@
 
 package net.algart.executors.api.tests;
 
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
 import net.algart.executors.api.data.SMat;
 import net.algart.executors.api.data.SScalar;
+import net.algart.json.Jsons;
 
 import java.util.Arrays;
 import java.util.Date;
@@ -92,5 +95,24 @@ public class SScalarTest {
         } catch (Exception e) {
             System.out.println(e);
         }
+
+        final JsonObject json = Json.createObjectBuilder().add("a", 1).add("b", "text").build();
+        scalar.setToJson(json);
+        final SScalar copy = new SScalar().setTo(scalar);
+        if (copy.toJsonObject() != json) {
+            throw new AssertionError("JSON was not passed without parsing");
+        }
+        System.out.printf("%nJSON scalar: %s%n", copy.getValue());
+        if (!Jsons.toJson(copy.getValue()).equals(json)) {
+            throw new AssertionError("Invalid serialization of JSON");
+        }
+        scalar.setTo("{\"c\": 2}");
+        if (scalar.toJsonObject().getInt("c") != 2 || scalar.toJsonObject() != scalar.toJsonObject()) {
+            throw new AssertionError("Invalid parsing of JSON");
+        }
+        scalar.remove();
+        if (!scalar.toJsonObject().isEmpty()) {
+            throw new AssertionError("Non-empty JSON for non-initialized scalar");
+        }
     }
 }
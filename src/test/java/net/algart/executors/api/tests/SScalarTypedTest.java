@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package net.algart.executors.api.tests;
+
+import jakarta.json.Json;
+import net.algart.executors.api.data.SScalar;
+
+public class SScalarTypedTest {
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    public static void main(String[] args) {
+        final SScalar a = new SScalar().setTo(157L);
+        check(a.isInitialized() && a.toLong() == 157 && a.toInt() == 157, "invalid long scalar");
+        check(a.getValue().equals("157"), "invalid string form of long: " + a.getValue());
+
+        final SScalar b = new SScalar().setTo(2.5);
+        check(b.toDouble() == 2.5 && b.toCLikeBoolean() && b.toInt() == 3, "invalid double scalar");
+        check(b.getValue().equals("2.5"), "invalid string form of double: " + b.getValue());
+        check(new SScalar().setTo(3.0).getValue().equals("3"), "integer double must be formatted as long");
+
+        final SScalar c = new SScalar().setTo(false);
+        check(!c.toJavaLikeBoolean() && !c.toCommonBoolean() && c.toCLikeBoolean(), "invalid boolean scalar");
+        check(c.getValue().equals("false"), "invalid string form of boolean: " + c.getValue());
+
+        final SScalar d = new SScalar().setTo(new double[]{1.5, 2.0, -3.0});
+        final double[] doubles = d.toDoubles();
+        check(doubles.length == 3 && doubles[2] == -3.0, "invalid double[] scalar");
+        doubles[0] = 100.0;
+        check(d.toDoubles()[0] == 1.5, "cached double[] was damaged by the client");
+
+        final SScalar e = new SScalar("12");
+        check(e.toDouble() == 12.0 && e.toLong() == 12 && e.toInt() == 12, "invalid parsed scalar");
+        e.setTo("13");
+        check(e.toDouble() == 13.0, "cached value was not reset by setTo(String)");
+
+        final SScalar f = new SScalar();
+        f.setTo(a);
+        check(f.toLong() == 157, "typed value was not copied by setTo");
+        f.exchange(b);
+        check(f.toDouble() == 2.5 && b.toLong() == 157, "typed value was not exchanged");
+
+        final SScalar g = SScalar.ofJsonValue(Json.createValue(0.25));
+        check(g.toDouble() == 0.25 && g.getValue().equals("0.25"), "invalid JSON number scalar");
+        check(g.getJsonValue() != null, "JSON value was lost");
+        final SScalar h = SScalar.ofJsonValue(Json.createValue(25));
+        check(h.toLong() == 25 && h.toDouble() == 25.0 && h.toInts()[0] == 25, "invalid JSON integer scalar");
+        check(h.getJsonValue() != null, "JSON value was lost after toLong/toDouble/toInts");
+        check(new SScalar().toDoubleOrDefault(-1.0) == -1.0, "invalid default for non-initialized scalar");
+        System.out.println("O'k");
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.api.tests;
+
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+import net.algart.executors.api.chains.Chain;
+import net.algart.executors.api.chains.ChainPortType;
+import net.algart.executors.api.chains.ChainSpecification;
+import net.algart.executors.api.data.DataType;
+import net.algart.executors.api.system.ExecutorFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Builds small chains directly in Java code for tests: saved chain files are too large
+ * to be written by hand. Blocks are identified by short names; the ports are created on demand
+ * while adding links.
+ */
+final class SimpleChainBuilder {
+    static final String INPUT_SCALAR = "2645f8a7-b91b-4172-a090-b637f08a21bd";
+    static final String OUTPUT_SCALAR = "1b92dce9-38a3-434f-8f69-3cbcb635ab77";
+    static final String LINEAR_COMBINATION_OF_TWO_SCALARS = "6b37314e-fdbd-416d-8574-4f48853d60b2";
+    static final String IF_SCALAR_THEN_SCALAR = "118851b3-3c49-48cd-bd07-73a5a0cecbdf";
+    static final String INPUT_MATRIX = "f554f7db-f751-4114-b2dc-a694db78707d";
+    static final String OUTPUT_MATRIX = "e3d2bae4-54bf-4169-bcee-03fafc8219f6";
+
+    private final String name;
+    private final Map<String, ChainSpecification.Block> blocks = new LinkedHashMap<>();
+    private final Map<String, Map<String, ChainSpecification.Block.Port>> ports = new LinkedHashMap<>();
+    private final List<ChainSpecification.Link> links = new ArrayList<>();
+
+    SimpleChainBuilder(String name) {
+        this.name = Objects.requireNonNull(name, "Null name");
+    }
+
+    /**
+     * Adds a block with the given executor and parameters.
+     *
+     * @param blockName  short unique name of the block in this builder.
+     * @param executorId ID of the executor.
+     * @param parameters pairs "parameter name, value"; values may be <code>Boolean</code>,
+     *                   <code>Number</code> or <code>String</code>.
+     * @return a reference to this object.
+     */
+    SimpleChainBuilder block(String blockName, String executorId, Object... parameters) {
+        Objects.requireNonNull(blockName, "Null block name");
+        if (parameters.length % 2 != 0) {
+            throw new IllegalArgumentException("Parameters must be specified as name/value pairs");
+        }
+        final Map<String, ChainSpecification.Block.Parameter> parameterMap = new LinkedHashMap<>();
+        for (int k = 0; k < parameters.length; k += 2) {
+            final String parameterName = (String) parameters[k];
+            parameterMap.put(parameterName, new ChainSpecification.Block.Parameter()
+                    .setName(parameterName)
+                    .setValue(toJson(parameters[k + 1])));
+        }
+        final ChainSpecification.Block block = new ChainSpecification.Block()
+                .setUuid(UUID.randomUUID().toString())
+                .setExecutorId(executorId)
+                .setNameToParameterMap(parameterMap);
+        block.getSystem().setCaption(blockName);
+        if (blocks.putIfAbsent(blockName, block) != null) {
+            throw new IllegalArgumentException("Duplicate block " + blockName);
+        }
+        ports.put(blockName, new LinkedHashMap<>());
+        return this;
+    }
+
+    SimpleChainBuilder inputScalar(String systemName) {
+        block(systemName, INPUT_SCALAR);
+        blocks.get(systemName).getSystem().setName(systemName);
+        return this;
+    }
+
+    SimpleChainBuilder outputScalar(String systemName, String source) {
+        block(systemName, OUTPUT_SCALAR);
+        blocks.get(systemName).getSystem().setName(systemName);
+        return link(source, systemName + ".input");
+    }
+
+    SimpleChainBuilder inputMatrix(String systemName) {
+        block(systemName, INPUT_MATRIX);
+        blocks.get(systemName).getSystem().setName(systemName);
+        return this;
+    }
+
+    SimpleChainBuilder outputMatrix(String systemName, String source) {
+        block(systemName, OUTPUT_MATRIX);
+        blocks.get(systemName).getSystem().setName(systemName);
+        return link(source, systemName + ".input", DataType.MAT);
+    }
+
+    /**
+     * Links two scalar ports.
+     *
+     * @param source      "blockName.portName" of the output port.
+     * @param destination "blockName.portName" of the input port.
+     * @return a reference to this object.
+     */
+    SimpleChainBuilder link(String source, String destination) {
+        return link(source, destination, DataType.SCALAR);
+    }
+
+    SimpleChainBuilder link(String source, String destination, DataType dataType) {
+        final ChainSpecification.Link link = new ChainSpecification.Link()
+                .setUuid(UUID.randomUUID().toString())
+                .setSrcPortUuid(port(source, ChainPortType.OUTPUT_PORT, dataType))
+                .setDestPortUuid(port(destination, ChainPortType.INPUT_PORT, dataType));
+        links.add(link);
+        return this;
+    }
+
+    /**
+     * Declares the output port without links, so that it will have an ID in the built chain
+     * and can be linked later.
+     *
+     * @param blockAndPort "blockName.portName" of the output port.
+     * @return a reference to this object.
+     */
+    SimpleChainBuilder outputPort(String blockAndPort) {
+        port(blockAndPort, ChainPortType.OUTPUT_PORT, DataType.SCALAR);
+        return this;
+    }
+
+    String blockId(String blockName) {
+        final ChainSpecification.Block block = blocks.get(blockName);
+        if (block == null) {
+            throw new IllegalArgumentException("Unknown block " + blockName);
+        }
+        return block.getUuid();
+    }
+
+    ChainSpecification build() {
+        final ChainSpecification result = new ChainSpecification();
+        final ChainSpecification.Executor executor = new ChainSpecification.Executor()
+                .setId(UUID.randomUUID().toString())
+                .setCategory("tests", false)
+                .setName(name, false);
+        result.setExecutor(executor);
+        final List<ChainSpecification.Block> blockList = new ArrayList<>();
+        blocks.forEach((blockName, block) -> blockList.add(block.setUuidToPortMap(ports.get(blockName))));
+        result.setBlocks(blockList);
+        result.setLinks(new ArrayList<>(links));
+        return result;
+    }
+
+    Chain newChain(ExecutorFactory executorFactory) {
+        final Chain chain = Chain.of(null, executorFactory, build());
+        chain.reinitializeAll();
+        return chain;
+    }
+
+    private String port(String blockAndPort, ChainPortType portType, DataType dataType) {
+        final int p = blockAndPort.indexOf('.');
+        if (p == -1) {
+            throw new IllegalArgumentException("Port must be specified as \"block.port\": " + blockAndPort);
+        }
+        final String blockName = blockAndPort.substring(0, p);
+        final String portName = blockAndPort.substring(p + 1);
+        final Map<String, ChainSpecification.Block.Port> blockPorts = ports.get(blockName);
+        if (blockPorts == null) {
+            throw new IllegalArgumentException("Unknown block " + blockName);
+        }
+        for (ChainSpecification.Block.Port port : blockPorts.values()) {
+            if (port.getName().equals(portName) && port.getPortType() == portType) {
+                return port.getUuid();
+            }
+        }
+        final String uuid = UUID.randomUUID().toString();
+        blockPorts.put(uuid, new ChainSpecification.Block.Port()
+                .setUuid(uuid)
+                .setName(portName)
+                .setPortType(portType)
+                .setDataType(dataType));
+        return uuid;
+    }
+
+    private static JsonValue toJson(Object value) {
+        if (value instanceof Boolean b) {
+            return b ? JsonValue.TRUE : JsonValue.FALSE;
+        } else if (value instanceof Integer || value instanceof Long) {
+            return Json.createValue(((Number) value).longValue());
+        } else if (value instanceof Number n) {
+            return Json.createValue(n.doubleValue());
+        } else {
+            return Json.createValue(String.valueOf(value));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.executors.modules.core.numbers;
+
+import net.algart.arrays.PNumberArray;
+import net.algart.executors.api.data.SNumbers;
+import net.algart.executors.modules.core.numbers.io.ReadRawNumbers;
+import net.algart.executors.modules.core.numbers.io.WriteRawNumbers;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Checks streaming writing of raw numbers by {@link WriteRawNumbers}
+ * and reading a memory-mapped file by usual getters of {@link SNumbers} without loading it into Java heap.
+ */
+public final class RawNumbersMappingTest {
+    private static final int N = 10000;
+    private static final int BLOCK_LENGTH = 3;
+    private static final int HEADER_LENGTH = BLOCK_LENGTH * 8;
+    // - the header is one block of doubles: the whole file can be mapped as numbers
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    private static SNumbers createNumbers() {
+        final double[] values = new double[N * BLOCK_LENGTH];
+        for (int k = 0; k < values.length; k++) {
+            values[k] = k * 0.5 - 100.0;
+        }
+        return SNumbers.ofArray(values, BLOCK_LENGTH);
+    }
+
+    private static void testStreamWriting(Path file, SNumbers numbers) throws IOException {
+        final WriteRawNumbers writer = WriteRawNumbers.getInstance()
+                .setByteOrder(WriteRawNumbers.ByteOrder.LITTLE_ENDIAN);
+        try (FileOutputStream stream = new FileOutputStream(file.toFile())) {
+            stream.write(new byte[HEADER_LENGTH]);
+            writer.writeRaw(stream, numbers);
+            writer.writeRaw(stream, numbers);
+            // - the second array must be written after the first one, not over it
+            check(stream.getChannel().position() == HEADER_LENGTH + 2L * N * BLOCK_LENGTH * 8,
+                    "writeRaw(FileOutputStream, ...) did not advance the stream position: "
+                            + stream.getChannel().position());
+        }
+        check(Files.size(file) == HEADER_LENGTH + 2L * N * BLOCK_LENGTH * 8, "Invalid file size " + Files.size(file));
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            final long end = writer.writeRaw(channel, HEADER_LENGTH, numbers);
+            check(end == HEADER_LENGTH + (long) N * BLOCK_LENGTH * 8, "Invalid end position " + end);
+            check(channel.position() == 0, "Positional writeRaw must not change the channel position");
+        }
+        System.out.println("Streaming writing: O'k");
+    }
+
+    private static void testMappedReading(Path file, SNumbers numbers) throws IOException {
+        final Path dataFile = Files.createTempFile("mapped", ".raw");
+        try {
+            try (FileOutputStream stream = new FileOutputStream(dataFile.toFile())) {
+                WriteRawNumbers.getInstance().setByteOrder(WriteRawNumbers.ByteOrder.LITTLE_ENDIAN)
+                        .writeRaw(stream, numbers);
+            }
+            final SNumbers mapped = ReadRawNumbers.getInstance()
+                    .setFile(dataFile)
+                    .setElementType(double.class)
+                    .setBlockLength(BLOCK_LENGTH)
+                    .setByteOrder(WriteRawNumbers.ByteOrder.LITTLE_ENDIAN)
+                    .setReadMetadataFile(false)
+                    .setUseMemoryMapping(true)
+                    .readRaw();
+            check(mapped.isLarge(), "Mapped numbers must be large");
+            final PNumberArray storage = mapped.asNumberArray();
+
+            check(mapped.n() == N && mapped.getBlockLength() == BLOCK_LENGTH, "Invalid dimensions " + mapped);
+            check(mapped.getValue(5) == numbers.getValue(5), "Invalid getValue(int)");
+            check(mapped.getValue(N - 1, 2) == numbers.getValue(N - 1, 2), "Invalid getValue(int, int)");
+            check(java.util.Arrays.equals(mapped.getBlockDoubleValues(17, null),
+                    numbers.getBlockDoubleValues(17, null)), "Invalid getBlockDoubleValues");
+            check(java.util.Arrays.equals(mapped.toDoubleArray(), numbers.toDoubleArray()), "Invalid toDoubleArray");
+            check(mapped.min() == numbers.min() && mapped.max() == numbers.max(), "Invalid min/max");
+            check(mapped.column(1).equals(numbers.column(1)), "Invalid column");
+            check(mapped.equals(numbers), "Mapped numbers differ from the written ones");
+
+            check(mapped.isLarge() && mapped.asNumberArray() == storage,
+                    "Getters must not load the mapped file into Java memory");
+
+            final SNumbers whole = ReadRawNumbers.mapRaw(file, ByteOrder.LITTLE_ENDIAN, double.class, BLOCK_LENGTH);
+            check(whole.n() == 2 * N + 1, "Invalid mapped length " + whole);
+            check(whole.getValue(0, 0) == 0.0, "The header was overwritten");
+            check(whole.blockRange(1, N).equals(numbers), "The first written array is damaged");
+            check(whole.blockRange(N + 1, N).equals(numbers), "The second written array is damaged");
+        } finally {
+            Files.deleteIfExists(dataFile);
+        }
+        System.out.println("Mapped reading: O'k");
+    }
+
+    public static void main(String[] args) throws IOException {
+        final Path file = Files.createTempFile("raw-numbers", ".raw");
+        try {
+            final SNumbers numbers = createNumbers();
+            testStreamWriting(file, numbers);
+            testMappedReading(file, numbers);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        System.out.println("O'k");
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.graalvm.tests;
+
+import net.algart.graalvm.GraalPerformer;
+import net.algart.graalvm.GraalPerformerContainer;
+import net.algart.graalvm.GraalSourceContainer;
+import net.algart.graalvm.JSType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Checks that performers, acquired from the pool of {@link GraalPerformerContainer.Shared},
+ * never coincide with the primary performer and that the pool size is limited by the acquiring container.
+ */
+public class GraalPerformerPoolTest {
+    private static final String CONTEXT_ID = "GraalPerformerPoolTest";
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    private static void testPrimaryIsNotAcquired() {
+        final GraalPerformerContainer.Shared container = GraalPerformerContainer.getSharedPure()
+                .setMaxPooledPerformers(2);
+        try {
+            final GraalPerformer primary = container.performer(CONTEXT_ID);
+            primary.perform(GraalSourceContainer.newLiteralContainer()
+                    .setJS(JSType.COMMON, "var owner = 'primary'", "test"));
+            final GraalPerformer p1 = container.acquirePerformer(CONTEXT_ID);
+            final GraalPerformer p2 = container.acquirePerformer(CONTEXT_ID);
+            check(p1 != primary && p2 != primary, "Primary performer must not be acquired");
+            check(p1 != p2, "Two simultaneously acquired performers must be different");
+            check(p1.perform(GraalSourceContainer.newLiteralContainer()
+                            .setJS(JSType.COMMON, "typeof owner", "test")).asString().equals("undefined"),
+                    "Pooled performer must not share global variables with the primary one");
+            container.releasePerformer(primary);
+            // - must be ignored: the primary performer was not acquired
+            container.releasePerformer(p1);
+            container.releasePerformer(p2);
+            final Set<GraalPerformer> acquired = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int k = 0; k < 10; k++) {
+                final GraalPerformer p = container.acquirePerformer(CONTEXT_ID);
+                check(p != primary, "Primary performer was acquired after releasing it");
+                acquired.add(p);
+                container.releasePerformer(p);
+            }
+            check(acquired.size() <= 2, "Too many pooled performers: " + acquired.size());
+            check(container.performer(CONTEXT_ID) == primary, "Primary performer must not change");
+        } finally {
+            container.freeResources(true);
+        }
+        System.out.println("Primary performer is not acquired: O'k");
+    }
+
+    private static void testOwnLimit() throws InterruptedException {
+        final GraalPerformerContainer.Shared large = GraalPerformerContainer.getSharedPure()
+                .setMaxPooledPerformers(3);
+        final GraalPerformerContainer.Shared small = GraalPerformerContainer.getSharedPure()
+                .setMaxPooledPerformers(1);
+        try {
+            final GraalPerformer p1 = small.acquirePerformer(CONTEXT_ID);
+            final List<GraalPerformer> fromLarge = new ArrayList<>();
+            fromLarge.add(large.acquirePerformer(CONTEXT_ID));
+            fromLarge.add(large.acquirePerformer(CONTEXT_ID));
+            check(!fromLarge.contains(p1), "Busy performer was acquired again");
+            // - the large container creates new performers according to its own limit
+            final GraalPerformer[] fromSmall = new GraalPerformer[1];
+            final Thread thread = new Thread(() -> fromSmall[0] = small.acquirePerformer(CONTEXT_ID));
+            thread.start();
+            thread.join(500);
+            check(thread.isAlive(), "The small container must wait: its limit is already exceeded");
+            large.releasePerformer(fromLarge.get(0));
+            thread.join();
+            check(fromSmall[0] == fromLarge.get(0), "The small container must reuse the released performer");
+            small.releasePerformer(fromSmall[0]);
+            small.releasePerformer(p1);
+            large.releasePerformer(fromLarge.get(1));
+        } finally {
+            large.freeResources(true);
+            small.freeResources(true);
+        }
+        System.out.println("Own limit of every container: O'k");
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        testPrimaryIsNotAcquired();
+        testOwnLimit();
+        System.out.println("O'k");
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2026 Daniel Alievsky, AlgART Laboratory (http://algart.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package net.algart.graalvm.tests;
+
+import net.algart.graalvm.GraalPerformer;
+import net.algart.graalvm.GraalPerformerContainer;
+import net.algart.graalvm.GraalSharedEngine;
+import net.algart.graalvm.GraalSourceContainer;
+import net.algart.graalvm.JSType;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.Source;
+
+/**
+ * Checks that performer containers use the common {@link GraalSharedEngine} by default
+ * and that equal literal sources are replaced with the same cached {@link Source} object.
+ */
+public class GraalSharedEngineTest {
+    private static final String SCRIPT = "var a = 5; var b = 7; a * b";
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    private static Source literalSource(String script, String name) {
+        return GraalSourceContainer.newLiteralContainer().setJS(JSType.COMMON, script, name).source();
+    }
+
+    private static void testLiteralCache() {
+        final Source source1 = literalSource(SCRIPT, "test");
+        final Source source2 = literalSource(SCRIPT, "test");
+        check(source1 == source2, "Equal literal sources are not reused: " + source1 + ", " + source2);
+        check(literalSource(SCRIPT + ";", "test") != source1, "Different scripts must have different sources");
+        check(literalSource(SCRIPT, "another") != source1, "Sources with different names must be different");
+
+        for (int k = 0; k < GraalSourceContainer.MAX_CACHED_LITERAL_SOURCES; k++) {
+            literalSource(SCRIPT + " + " + k, "test");
+        }
+        final Source source3 = literalSource(SCRIPT, "test");
+        check(source3 != source1 && source3.equals(source1),
+                "The eldest source must be removed from the cache after "
+                        + GraalSourceContainer.MAX_CACHED_LITERAL_SOURCES + " other sources");
+        check(literalSource(SCRIPT, "test") == source3, "New source is not cached again");
+        System.out.println("Literal source cache: O'k");
+    }
+
+    private static Engine performAndGetEngine(GraalPerformerContainer.Local container) {
+        final GraalPerformer performer = container.performer();
+        final GraalSourceContainer source = GraalSourceContainer.newLiteralContainer()
+                .setJS(JSType.COMMON, SCRIPT, "test");
+        check(performer.perform(source).asInt() == 35, "Invalid result of " + SCRIPT);
+        return performer.context().getEngine();
+    }
+
+    private static void testSharedEngine() {
+        check(GraalSharedEngine.getInstance() == GraalSharedEngine.getInstance(), "Shared engine is not reused");
+        check(GraalSharedEngine.isCreated(), "Shared engine must be created");
+        final GraalPerformerContainer.Local container1 = GraalPerformerContainer.getLocalPure();
+        final GraalPerformerContainer.Local container2 = GraalPerformerContainer.getLocalPure();
+        final GraalPerformerContainer.Local private1 = GraalPerformerContainer.getLocalPure()
+                .setUseSharedEngine(false);
+        final GraalPerformerContainer.Local private2 = GraalPerformerContainer.getLocalPure()
+                .setUseSharedEngine(false);
+        try {
+            check(container1.isUseSharedEngine() == GraalSharedEngine.DEFAULT_USE_SHARED_ENGINE,
+                    "Invalid default useSharedEngine flag");
+            final Engine engine1 = performAndGetEngine(container1);
+            final Engine engine2 = performAndGetEngine(container2);
+            check(container1.performer() != container2.performer(), "Local containers must have own performers");
+            if (GraalSharedEngine.DEFAULT_USE_SHARED_ENGINE) {
+                check(engine1 == engine2, "Two containers do not share the engine: " + engine1 + ", " + engine2);
+                check(engine1 == GraalSharedEngine.getInstance(), "Containers do not use the shared engine");
+            }
+            final Engine privateEngine1 = performAndGetEngine(private1);
+            final Engine privateEngine2 = performAndGetEngine(private2);
+            check(privateEngine1 != privateEngine2, "Containers without shared engine must use different engines");
+            check(privateEngine1 != GraalSharedEngine.getInstance(), "Private engine must not be the shared one");
+
+            container1.freeResources();
+            final Engine engine3 = performAndGetEngine(container1);
+            // - new context after closing the previous one
+            if (GraalSharedEngine.DEFAULT_USE_SHARED_ENGINE) {
+                check(engine3 == engine2, "Shared engine must survive closing a context");
+            }
+        } finally {
+            container1.freeResources();
+            container2.freeResources();
+            private1.freeResources();
+            private2.freeResources();
+        }
+        System.out.println("Shared engine: O'k");
+    }
+
+    public static void main(String[] args) {
+        testLiteralCache();
+        testSharedEngine();
+        System.out.println("O'k");
+    }
+}